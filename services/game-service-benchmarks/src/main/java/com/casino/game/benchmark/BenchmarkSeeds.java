@@ -0,0 +1,12 @@
+package com.casino.game.benchmark;
+
+/**
+ * Client seed shared by all benchmarks
+ */
+final class BenchmarkSeeds {
+
+    static final String CLIENT_SEED = "benchmark-client-seed";
+
+    private BenchmarkSeeds() {
+    }
+}
@@ -0,0 +1,92 @@
+package com.casino.game.benchmark;
+
+import com.casino.game.dto.BlackjackResultData;
+import com.casino.game.dto.PokerResultData;
+import com.casino.game.dto.VideoPokerResultData;
+import com.casino.game.engine.PokerGameEngine;
+import com.casino.game.engine.cards.Cards;
+import com.casino.game.engine.cards.HandEvaluator;
+import com.casino.game.service.BlackjackEngine;
+import com.casino.game.service.RngService;
+import com.casino.game.service.VideoPokerEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card games: each invocation builds and shuffles a fresh 52-card deck
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CardGameBenchmark {
+
+    private static final BigDecimal BET = new BigDecimal("1.00");
+    private static final boolean[] HOLD_FIRST_TWO = {true, true, false, false, false};
+    private static final int HAND_COUNT = 1024;
+
+    private BlackjackEngine blackjackEngine;
+    private PokerGameEngine pokerGameEngine;
+    private VideoPokerEngine videoPokerEngine;
+    private String serverSeed;
+    private long nonce;
+    private byte[][] sevenCardHands;
+    private int handIndex;
+
+    @Setup
+    public void setUp() {
+        RngService rngService = new RngService();
+        blackjackEngine = new BlackjackEngine(rngService);
+        pokerGameEngine = new PokerGameEngine(rngService);
+        videoPokerEngine = new VideoPokerEngine(rngService);
+        serverSeed = rngService.generateServerSeed();
+
+        // Fixed set of random 7-card hands so the evaluator benchmark skips dealing
+        Random random = new Random(7);
+        sevenCardHands = new byte[HAND_COUNT][];
+        for (int h = 0; h < HAND_COUNT; h++) {
+            byte[] deck = new byte[Cards.DECK_SIZE];
+            for (int i = 0; i < deck.length; i++) {
+                deck[i] = (byte) i;
+            }
+            byte[] hand = new byte[7];
+            for (int i = 0; i < hand.length; i++) {
+                int j = i + random.nextInt(deck.length - i);
+                hand[i] = deck[j];
+                deck[j] = deck[i];
+            }
+            sevenCardHands[h] = hand;
+        }
+    }
+
+    @Benchmark
+    public BlackjackResultData blackjackStartGame() {
+        return blackjackEngine.startGame(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET);
+    }
+
+    @Benchmark
+    public PokerResultData pokerPlay() {
+        return pokerGameEngine.play(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET);
+    }
+
+    @Benchmark
+    public VideoPokerResultData videoPokerDeal() {
+        return videoPokerEngine.deal(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET);
+    }
+
+    @Benchmark
+    public VideoPokerResultData videoPokerDealAndDraw() {
+        VideoPokerResultData dealt = videoPokerEngine.deal(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET);
+        return videoPokerEngine.draw(dealt, HOLD_FIRST_TWO);
+    }
+
+    @Benchmark
+    public int evaluateSevenCards() {
+        return HandEvaluator.evaluate(sevenCardHands[handIndex++ & (HAND_COUNT - 1)]);
+    }
+}
@@ -0,0 +1,63 @@
+package com.casino.game.benchmark;
+
+import com.casino.game.dto.CrashGameResultData;
+import com.casino.game.dto.KenoResultData;
+import com.casino.game.dto.MinesGameResultData;
+import com.casino.game.engine.KenoGameEngine;
+import com.casino.game.service.CrashGameEngine;
+import com.casino.game.service.MinesGameEngine;
+import com.casino.game.service.RngService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-call instant games: keno draw, mines board generation and crash point
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class InstantGameBenchmark {
+
+    private static final BigDecimal BET = new BigDecimal("1.00");
+    private static final BigDecimal AUTO_CASHOUT = new BigDecimal("2.00");
+    private static final List<Integer> KENO_PICKS = List.of(3, 11, 17, 24, 38, 42, 56, 61, 70, 79);
+
+    @Param({"3", "10"})
+    private int mines;
+
+    private KenoGameEngine kenoGameEngine;
+    private MinesGameEngine minesGameEngine;
+    private CrashGameEngine crashGameEngine;
+    private String serverSeed;
+    private long nonce;
+
+    @Setup
+    public void setUp() {
+        RngService rngService = new RngService();
+        kenoGameEngine = new KenoGameEngine(rngService);
+        minesGameEngine = new MinesGameEngine(rngService);
+        crashGameEngine = new CrashGameEngine(rngService);
+        serverSeed = rngService.generateServerSeed();
+    }
+
+    @Benchmark
+    public KenoResultData kenoPlay() {
+        return kenoGameEngine.play(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, KENO_PICKS, BET);
+    }
+
+    @Benchmark
+    public MinesGameResultData minesStartGame() {
+        return minesGameEngine.startGame(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET, mines);
+    }
+
+    @Benchmark
+    public CrashGameResultData crashPlay() {
+        return crashGameEngine.play(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET, AUTO_CASHOUT);
+    }
+}
@@ -0,0 +1,206 @@
+package com.casino.game.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load on {@code POST /games/play} of a running game-service: each
+ * virtual user starts its own session, then plays rounds back to back until the end of
+ * the run. Prints throughput, latency percentiles and status counts of the measured
+ * period (after the warm-up).
+ * <p>
+ * Not a JMH benchmark; run it with
+ * {@code java -cp target/benchmarks.jar com.casino.game.benchmark.PlayRoundLoadTest --game <code>}
+ * and compare a run against the service with and without the virtual-threads profile,
+ * or against game-service-reactive ({@code --stack reactive}).
+ */
+public final class PlayRoundLoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // Default URL per deployment: game-service, game-service-reactive
+    private static final Map<String, String> STACK_URLS = Map.of(
+        "servlet", "http://localhost:8083",
+        "reactive", "http://localhost:8093"
+    );
+
+    private final URI baseUrl;
+    private final String gameCode;
+    private final BigDecimal betAmount;
+    private final HttpClient client;
+
+    private PlayRoundLoadTest(URI baseUrl, String gameCode, BigDecimal betAmount, int users) {
+        this.baseUrl = baseUrl;
+        this.gameCode = gameCode;
+        this.betAmount = betAmount;
+        this.client = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(Math.max(4, users / 8)))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        if (!options.containsKey("game")) {
+            System.err.println("Usage: PlayRoundLoadTest --game <gameCode> [--stack servlet|reactive]"
+                + " [--url http://localhost:8083] [--users 200] [--duration 60s] [--warmup 10s] [--bet 1.00]");
+            System.exit(2);
+        }
+        String stackUrl = STACK_URLS.get(options.getOrDefault("stack", "servlet"));
+        if (stackUrl == null) {
+            System.err.println("Unknown --stack " + options.get("stack") + ", expected one of " + STACK_URLS.keySet());
+            System.exit(2);
+        }
+        int users = Integer.parseInt(options.getOrDefault("users", "200"));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "60s"));
+        Duration warmup = Duration.parse("PT" + options.getOrDefault("warmup", "10s"));
+
+        PlayRoundLoadTest test = new PlayRoundLoadTest(
+            URI.create(options.getOrDefault("url", stackUrl)),
+            options.get("game"),
+            new BigDecimal(options.getOrDefault("bet", "1.00")),
+            users
+        );
+        test.run(users, warmup, duration).print(users, duration);
+        System.exit(0);
+    }
+
+    private Result run(int users, Duration warmup, Duration duration) throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        List<Future<UserStats>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String userId = "load-" + i;
+            futures.add(pool.submit(() -> play(userId, measureFrom, end)));
+        }
+
+        Result result = new Result();
+        for (Future<UserStats> future : futures) {
+            result.add(future.get());
+        }
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        return result;
+    }
+
+    private UserStats play(String userId, long measureFrom, long end) throws IOException, InterruptedException {
+        UserStats stats = new UserStats();
+        String sessionId = startSession(userId);
+        byte[] body = JSON.writeValueAsBytes(Map.of("sessionId", sessionId, "betAmount", betAmount, "clientSeed", userId));
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/games/play"))
+            .header("Content-Type", "application/json")
+            .header("X-User-Id", userId)
+            .timeout(Duration.ofSeconds(30))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= end) {
+                return stats;
+            }
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            }
+            if (started >= measureFrom) {
+                stats.record(status, System.nanoTime() - started);
+            }
+        }
+    }
+
+    private String startSession(String userId) throws IOException, InterruptedException {
+        byte[] body = JSON.writeValueAsBytes(Map.of(
+            "gameCode", gameCode,
+            "startingBalance", new BigDecimal("100000000"),
+            "balanceType", "VIRTUAL"
+        ));
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(baseUrl.resolve("/games/sessions/start"))
+            .header("Content-Type", "application/json")
+            .header("X-User-Id", userId)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Cannot start a session for " + userId + ": HTTP " + response.statusCode()
+                + " " + new String(response.body()));
+        }
+        JsonNode session = JSON.readTree(response.body());
+        return session.get("id").asText();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static final class UserStats {
+        long[] latencies = new long[1024];
+        int count;
+        final Map<Integer, Integer> statuses = new HashMap<>();
+
+        void record(int status, long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            statuses.merge(status, 1, Integer::sum);
+        }
+    }
+
+    private static final class Result {
+        long[] latencies = new long[0];
+        final Map<Integer, Integer> statuses = new HashMap<>();
+
+        void add(UserStats user) {
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + user.count);
+            System.arraycopy(user.latencies, 0, latencies, offset, user.count);
+            user.statuses.forEach((status, count) -> statuses.merge(status, count, Integer::sum));
+        }
+
+        void print(int users, Duration duration) {
+            Arrays.sort(latencies);
+            int ok = statuses.entrySet().stream()
+                .filter(e -> e.getKey() / 100 == 2)
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+            System.out.printf("users=%d duration=%ds requests=%d ok=%d throughput=%.1f/s%n",
+                users, duration.toSeconds(), latencies.length, ok, ok / (double) duration.toSeconds());
+            System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                percentile(0.50), percentile(0.90), percentile(0.99), percentile(0.999), percentile(1.0));
+            System.out.println("status counts (-1 = I/O error): " + statuses);
+        }
+
+        private double percentile(double p) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
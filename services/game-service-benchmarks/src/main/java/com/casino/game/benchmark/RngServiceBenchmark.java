@@ -0,0 +1,52 @@
+package com.casino.game.benchmark;
+
+import com.casino.game.service.RngService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw cost of the provably fair primitives every engine is built on
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RngServiceBenchmark {
+
+    private static final double[] WEIGHTS = {30, 25, 20, 12, 8, 4, 1};
+
+    private RngService rngService;
+    private String serverSeed;
+    private List<Integer> deck;
+    private long nonce;
+
+    @Setup
+    public void setUp() {
+        rngService = new RngService();
+        serverSeed = rngService.generateServerSeed();
+        deck = new ArrayList<>(52);
+        for (int i = 0; i < 52; i++) {
+            deck.add(i);
+        }
+    }
+
+    @Benchmark
+    public int generateRandomNumber() {
+        return rngService.generateRandomNumber(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, 37);
+    }
+
+    @Benchmark
+    public int generateWeightedRandom() {
+        return rngService.generateWeightedRandom(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, WEIGHTS);
+    }
+
+    @Benchmark
+    public List<Integer> shuffleDeck() {
+        return rngService.shuffle(deck, serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++);
+    }
+}
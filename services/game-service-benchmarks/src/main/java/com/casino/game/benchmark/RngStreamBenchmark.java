@@ -0,0 +1,52 @@
+package com.casino.game.benchmark;
+
+import com.casino.game.service.RngAlgorithm;
+import com.casino.game.service.RngService;
+import com.casino.game.service.WeightedSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-round outcome streams, compared across RNG algorithm versions
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RngStreamBenchmark {
+
+    @Param({"HMAC_SHA256_V1", "HMAC_SHA256_STREAM_V2"})
+    private RngAlgorithm algorithm;
+
+    private RngService rngService;
+    private String serverSeed;
+    private List<Integer> deck;
+    private WeightedSampler reelSampler;
+    private long nonce;
+
+    @Setup
+    public void setUp() {
+        rngService = new RngService();
+        serverSeed = rngService.generateServerSeed();
+        deck = new ArrayList<>(52);
+        for (int i = 0; i < 52; i++) {
+            deck.add(i);
+        }
+        reelSampler = WeightedSampler.of(2, 5, 10, 15, 20, 20, 20, 25, 25, 8);
+    }
+
+    @Benchmark
+    public List<Integer> shuffleDeck() {
+        return rngService.stream(algorithm, serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++).shuffle(deck);
+    }
+
+    @Benchmark
+    public int weightedReelDraw() {
+        return rngService.stream(algorithm, serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++).nextWeighted(reelSampler);
+    }
+}
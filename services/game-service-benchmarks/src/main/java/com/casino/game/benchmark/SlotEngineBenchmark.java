@@ -0,0 +1,57 @@
+package com.casino.game.benchmark;
+
+import com.casino.game.dto.SlotResultData;
+import com.casino.game.dto.SlotsResultData;
+import com.casino.game.engine.SlotsGameEngine;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.service.RngService;
+import com.casino.game.service.SlotGameEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full spin (reel generation plus payline evaluation) per invocation
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SlotEngineBenchmark {
+
+    private static final BigDecimal BET = new BigDecimal("1.00");
+
+    private SlotGameEngine slotGameEngine;
+    private SlotsGameEngine slotsGameEngine;
+    private GameConfig gameConfig;
+    private String serverSeed;
+    private long nonce;
+
+    @Setup
+    public void setUp() {
+        RngService rngService = new RngService();
+        slotGameEngine = new SlotGameEngine(rngService);
+        slotsGameEngine = new SlotsGameEngine(rngService);
+        gameConfig = GameConfig.builder()
+            .gameCode("benchmark-slots")
+            .gameType(GameConfig.GameType.SLOTS)
+            .reels(5)
+            .rows(3)
+            .paylines(20)
+            .build();
+        serverSeed = rngService.generateServerSeed();
+    }
+
+    @Benchmark
+    public SlotResultData slotGameEngineSpin() {
+        return slotGameEngine.spin(gameConfig, BET, serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++);
+    }
+
+    @Benchmark
+    public SlotsResultData slotsGameEngineSpin() {
+        return slotsGameEngine.spin(serverSeed, BenchmarkSeeds.CLIENT_SEED, nonce++, BET);
+    }
+}
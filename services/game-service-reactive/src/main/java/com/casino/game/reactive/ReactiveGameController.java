@@ -0,0 +1,57 @@
+package com.casino.game.reactive;
+
+import com.casino.game.dto.GameSessionDto;
+import com.casino.game.dto.PlayRoundRequest;
+import com.casino.game.dto.PlayRoundResponse;
+import com.casino.game.dto.StartSessionRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same paths, headers and bodies as the matching endpoints of game-service's GameController
+ */
+@Slf4j
+@RestController
+@RequestMapping("/games")
+@RequiredArgsConstructor
+public class ReactiveGameController {
+
+    private final ReactiveGameService gameService;
+
+    @PostMapping("/sessions/start")
+    public Mono<ResponseEntity<GameSessionDto>> startSession(
+        @RequestHeader("X-User-Id") String userId,
+        @Valid @RequestBody StartSessionRequest request
+    ) {
+        log.debug("POST /games/sessions/start - userId: {}, gameCode: {}", userId, request.getGameCode());
+        return gameService.startSession(userId, request).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/play")
+    public Mono<ResponseEntity<PlayRoundResponse>> playRound(
+        @RequestHeader("X-User-Id") String userId,
+        @Valid @RequestBody PlayRoundRequest request
+    ) {
+        log.debug("POST /games/play - userId: {}, sessionId: {}, betAmount: {}",
+            userId, request.getSessionId(), request.getBetAmount());
+        return gameService.playRound(userId, request).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/sessions/{sessionId}/end")
+    public Mono<ResponseEntity<Void>> endSession(
+        @PathVariable String sessionId,
+        @RequestHeader("X-User-Id") String userId
+    ) {
+        log.debug("POST /games/sessions/{}/end - userId: {}", sessionId, userId);
+        return gameService.endSession(sessionId, userId).thenReturn(ResponseEntity.noContent().build());
+    }
+}
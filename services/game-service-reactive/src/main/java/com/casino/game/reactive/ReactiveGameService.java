@@ -0,0 +1,498 @@
+package com.casino.game.reactive;
+
+import com.casino.game.codec.EncodedResult;
+import com.casino.game.codec.ResultCodecRegistry;
+import com.casino.game.dto.CoinFlipResultData;
+import com.casino.game.dto.CrashGameResultData;
+import com.casino.game.dto.DiceGameResultData;
+import com.casino.game.dto.GameSessionDto;
+import com.casino.game.dto.PlayRoundRequest;
+import com.casino.game.dto.PlayRoundResponse;
+import com.casino.game.dto.RouletteResultData;
+import com.casino.game.dto.SlotResultData;
+import com.casino.game.dto.StartSessionRequest;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.entity.GameResult;
+import com.casino.game.entity.GameSession;
+import com.casino.game.exception.GameNotFoundException;
+import com.casino.game.exception.InsufficientBalanceException;
+import com.casino.game.exception.InvalidBetException;
+import com.casino.game.exception.RoundConflictException;
+import com.casino.game.exception.SessionNotFoundException;
+import com.casino.game.service.CoinFlipEngine;
+import com.casino.game.service.CrashGameEngine;
+import com.casino.game.service.DiceGameEngine;
+import com.casino.game.service.RngService;
+import com.casino.game.service.RouletteEngine;
+import com.casino.game.service.SessionStatsDelta;
+import com.casino.game.service.SlotGameEngine;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Session and round logic of game-service's GameService on R2DBC: the same engines,
+ * codecs, tables and version-guarded session UPDATE, without blocking a thread on the
+ * database. Covers the single-request games (slots, dice, roulette, crash, coin flip);
+ * game-wide totals and round metrics are maintained by game-service only.
+ */
+@Slf4j
+@Service
+public class ReactiveGameService {
+
+    private static final String GAME_SQL = "SELECT game_code, game_type, active, min_bet, max_bet, "
+        + "config_json, reels, rows, paylines, rtp_percentage FROM game_configs WHERE game_code = :gameCode";
+
+    private static final String SESSION_SQL = "SELECT * FROM game_sessions WHERE id = :id AND user_id = :userId";
+
+    private static final String END_ACTIVE_SESSIONS_SQL = "UPDATE game_sessions SET status = 'COMPLETED', "
+        + "ended_at = :now, version = version + 1 WHERE user_id = :userId AND status = 'ACTIVE'";
+
+    private static final String INSERT_SESSION_SQL = "INSERT INTO game_sessions (id, user_id, game_code, status, "
+        + "starting_balance, current_balance, total_bet, total_won, net_profit, rounds_played, rounds_won, "
+        + "rounds_lost, last_round_number, version, started_at, last_activity_at, balance_type) "
+        + "VALUES (:id, :userId, :gameCode, 'ACTIVE', :balance, :balance, 0, 0, 0, 0, 0, 0, 0, 0, :now, :now, "
+        + ":balanceType)";
+
+    private static final String INSERT_RESULT_SQL = "INSERT INTO game_results (id, session_id, user_id, game_code, "
+        + "round_number, outcome, bet_amount, win_amount, net_profit, multiplier, balance_before, balance_after, "
+        + "result_json, result_data, result_format, server_seed, client_seed, nonce, rng_version, created_at) "
+        + "VALUES (:id, :sessionId, :userId, :gameCode, :roundNumber, :outcome, :betAmount, :winAmount, "
+        + ":netProfit, :multiplier, :balanceBefore, :balanceAfter, :resultJson, :resultData, :resultFormat, "
+        + ":serverSeed, :clientSeed, :nonce, :rngVersion, :createdAt)";
+
+    // GameSessionRepository.settleRounds in SQL
+    private static final String SETTLE_SQL = "UPDATE game_sessions SET "
+        + "current_balance = :balance, "
+        + "total_bet = total_bet + :betAmount, "
+        + "total_won = total_won + :winAmount, "
+        + "net_profit = net_profit + :netProfit, "
+        + "rounds_played = rounds_played + :rounds, "
+        + "rounds_won = rounds_won + :roundsWon, "
+        + "rounds_lost = rounds_lost + :roundsLost, "
+        + "biggest_win = CASE WHEN :biggestWin > COALESCE(biggest_win, 0) THEN :biggestWin ELSE biggest_win END, "
+        + "biggest_loss = CASE WHEN :biggestLoss > COALESCE(biggest_loss, 0) THEN :biggestLoss ELSE biggest_loss END, "
+        + "last_round_number = :lastRoundNumber, "
+        + "last_activity_at = :now, "
+        + "version = version + 1 "
+        + "WHERE id = :sessionId AND status = 'ACTIVE' AND version = :version "
+        + "AND (last_round_number = :settledRounds "
+        + "OR (last_round_number IS NULL AND rounds_played = :settledRoundsLegacy))";
+
+    private static final String END_SESSION_SQL = "UPDATE game_sessions SET status = 'COMPLETED', "
+        + "ended_at = :now, version = version + 1 WHERE id = :id";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final RngService rngService;
+    private final SlotGameEngine slotGameEngine;
+    private final DiceGameEngine diceGameEngine;
+    private final RouletteEngine rouletteEngine;
+    private final CrashGameEngine crashGameEngine;
+    private final CoinFlipEngine coinFlipEngine;
+    private final ResultCodecRegistry resultCodecRegistry;
+    private final Cache<String, GameConfig> games;
+
+    public ReactiveGameService(
+        DatabaseClient databaseClient,
+        TransactionalOperator transactionalOperator,
+        RngService rngService,
+        SlotGameEngine slotGameEngine,
+        DiceGameEngine diceGameEngine,
+        RouletteEngine rouletteEngine,
+        CrashGameEngine crashGameEngine,
+        CoinFlipEngine coinFlipEngine,
+        ResultCodecRegistry resultCodecRegistry,
+        @Value("${game.reactive.catalog-ttl:30s}") Duration catalogTtl
+    ) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.rngService = rngService;
+        this.slotGameEngine = slotGameEngine;
+        this.diceGameEngine = diceGameEngine;
+        this.rouletteEngine = rouletteEngine;
+        this.crashGameEngine = crashGameEngine;
+        this.coinFlipEngine = coinFlipEngine;
+        this.resultCodecRegistry = resultCodecRegistry;
+        this.games = Caffeine.newBuilder().expireAfterWrite(catalogTtl).build();
+    }
+
+    /**
+     * Start a new session, ending the user's active one
+     */
+    public Mono<GameSessionDto> startSession(String userId, StartSessionRequest request) {
+        return findGame(request.getGameCode())
+            .flatMap(game -> {
+                if (!game.getActive()) {
+                    return Mono.error(new GameNotFoundException("Game is not active: " + request.getGameCode()));
+                }
+                return endActiveSessions(userId).then(insertSession(userId, request));
+            })
+            .as(transactionalOperator::transactional)
+            .doOnNext(session -> log.info("Started session {} for user {} on game {}",
+                session.getId(), userId, request.getGameCode()))
+            .map(ReactiveGameService::toGameSessionDto);
+    }
+
+    /**
+     * Play a round: one result INSERT and one session UPDATE in a transaction, which
+     * fails with a conflict if another round settled on the session first
+     */
+    public Mono<PlayRoundResponse> playRound(String userId, PlayRoundRequest request) {
+        return findSession(request.getSessionId(), userId)
+            .switchIfEmpty(Mono.error(
+                () -> new SessionNotFoundException("Session not found or does not belong to user")))
+            .flatMap(session -> {
+                if (session.getStatus() != GameSession.SessionStatus.ACTIVE) {
+                    return Mono.error(new SessionNotFoundException("Session is not active"));
+                }
+                return findGame(session.getGameCode()).flatMap(game -> settle(session, play(session, game, request)));
+            })
+            .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * End a session; ending a completed one does nothing
+     */
+    public Mono<Void> endSession(String sessionId, String userId) {
+        return findSession(sessionId, userId)
+            .switchIfEmpty(Mono.error(() -> new SessionNotFoundException("Session not found")))
+            .filter(session -> session.getStatus() != GameSession.SessionStatus.COMPLETED)
+            .flatMap(session -> databaseClient.sql(END_SESSION_SQL)
+                .bind("id", sessionId)
+                .bind("now", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated())
+            .doOnNext(updated -> log.info("Session {} ended for user {}", sessionId, userId))
+            .then();
+    }
+
+    /**
+     * Run the engine of the session's game; engines are CPU-only and fast enough to
+     * run on the event loop
+     */
+    private Round play(GameSession session, GameConfig game, PlayRoundRequest request) {
+        BigDecimal betAmount = request.getBetAmount();
+        validateBet(betAmount, game, session);
+
+        String serverSeed = rngService.generateServerSeed();
+        long nonce = session.getSettledRounds() + 1;
+        String clientSeed = request.getClientSeed();
+
+        // Same bet options as GameService's single-round path
+        Object resultData;
+        BigDecimal winAmount;
+        BigDecimal multiplier;
+        GameResult.RoundOutcome outcome;
+        switch (game.getGameType()) {
+            case SLOTS -> {
+                SlotResultData slot = slotGameEngine.spin(game, betAmount, serverSeed, clientSeed, nonce);
+                winAmount = slotGameEngine.calculateTotalPayout(slot);
+                multiplier = winAmount.divide(betAmount, 2, RoundingMode.HALF_UP);
+                outcome = slot.isBonusTriggered() ? GameResult.RoundOutcome.BONUS_TRIGGERED : outcome(winAmount.signum() > 0);
+                resultData = slot;
+            }
+            case DICE -> {
+                DiceGameResultData dice = diceGameEngine.roll(serverSeed, clientSeed, nonce, betAmount, 50, true);
+                winAmount = dice.getPayout();
+                multiplier = dice.getMultiplier();
+                outcome = outcome(dice.getIsWin());
+                resultData = dice;
+            }
+            case ROULETTE -> {
+                RouletteResultData roulette = rouletteEngine.spin(serverSeed, clientSeed, nonce, betAmount, "red",
+                    RouletteEngine.RouletteType.EUROPEAN);
+                winAmount = roulette.getPayout();
+                multiplier = roulette.getMultiplier();
+                outcome = outcome(roulette.getIsWin());
+                resultData = roulette;
+            }
+            case CRASH -> {
+                CrashGameResultData crash = crashGameEngine.play(serverSeed, clientSeed, nonce, betAmount, null);
+                winAmount = crash.getPayout();
+                multiplier = crash.getCashedOutAt() != null ? crash.getCashedOutAt() : BigDecimal.ZERO;
+                outcome = outcome(crash.getIsWin());
+                resultData = crash;
+            }
+            case COIN_FLIP -> {
+                CoinFlipResultData coin = coinFlipEngine.flip(serverSeed, clientSeed, nonce, betAmount,
+                    CoinFlipEngine.CoinSide.HEADS);
+                winAmount = coin.getPayout();
+                multiplier = coin.getMultiplier();
+                outcome = outcome(coin.getIsWin());
+                resultData = coin;
+            }
+            default -> throw new InvalidBetException(
+                game.getGameType() + " is not available on the reactive service");
+        }
+
+        EncodedResult encoded = resultCodecRegistry.encode(resultData);
+        BigDecimal balanceBefore = session.getCurrentBalance();
+        BigDecimal netProfit = winAmount.subtract(betAmount);
+        GameResult result = GameResult.builder()
+            .id(UUID.randomUUID().toString())
+            .sessionId(session.getId())
+            .userId(session.getUserId())
+            .gameCode(session.getGameCode())
+            .roundNumber(nonce)
+            .outcome(outcome)
+            .betAmount(betAmount)
+            .winAmount(winAmount)
+            .netProfit(netProfit)
+            .multiplier(multiplier)
+            .balanceBefore(balanceBefore)
+            .balanceAfter(balanceBefore.add(netProfit))
+            .resultJson(encoded.getStoredJson())
+            .resultData(encoded.getData())
+            .resultFormat(encoded.getFormat().getId())
+            .serverSeed(serverSeed)
+            .clientSeed(clientSeed)
+            .nonce(nonce)
+            .rngVersion(rngService.getAlgorithm().getId())
+            .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+            .build();
+        return new Round(result, encoded);
+    }
+
+    private Mono<PlayRoundResponse> settle(GameSession session, Round round) {
+        GameResult result = round.result();
+        SessionStatsDelta delta = SessionStatsDelta.of(result.getBetAmount(), result.getWinAmount(), result.getOutcome());
+        long settledRounds = result.getRoundNumber() - 1;
+
+        Mono<Long> settled = databaseClient.sql(SETTLE_SQL)
+            .bind("balance", result.getBalanceAfter())
+            .bind("betAmount", delta.getTotalBet())
+            .bind("winAmount", delta.getTotalWon())
+            .bind("netProfit", delta.getNetProfit())
+            .bind("rounds", delta.getRounds())
+            .bind("roundsWon", delta.getRoundsWon())
+            .bind("roundsLost", delta.getRoundsLost())
+            .bind("biggestWin", delta.getBiggestWin())
+            .bind("biggestLoss", delta.getBiggestLoss())
+            .bind("lastRoundNumber", settledRounds + delta.getRounds())
+            .bind("now", LocalDateTime.now())
+            .bind("sessionId", session.getId())
+            .bind("version", session.getVersion())
+            .bind("settledRounds", settledRounds)
+            .bind("settledRoundsLegacy", (int) settledRounds)
+            .fetch()
+            .rowsUpdated();
+
+        return insertResult(result)
+            .then(settled)
+            .flatMap(updated -> updated == 0
+                ? Mono.error(new RoundConflictException(
+                    "Session " + session.getId() + " was modified by a concurrent round"))
+                : Mono.just(toPlayRoundResponse(result, round.encoded())));
+    }
+
+    private Mono<Long> insertResult(GameResult r) {
+        return databaseClient.sql(INSERT_RESULT_SQL)
+            .bind("id", r.getId())
+            .bind("sessionId", r.getSessionId())
+            .bind("userId", r.getUserId())
+            .bind("gameCode", r.getGameCode())
+            .bind("roundNumber", r.getRoundNumber())
+            .bind("outcome", r.getOutcome().name())
+            .bind("betAmount", r.getBetAmount())
+            .bind("winAmount", r.getWinAmount())
+            .bind("netProfit", r.getNetProfit())
+            .bind("multiplier", Parameter.fromOrEmpty(r.getMultiplier(), BigDecimal.class))
+            .bind("balanceBefore", r.getBalanceBefore())
+            .bind("balanceAfter", r.getBalanceAfter())
+            .bind("resultJson", Parameter.fromOrEmpty(r.getResultJson(), String.class))
+            .bind("resultData", Parameter.fromOrEmpty(r.getResultData(), byte[].class))
+            .bind("resultFormat", Parameter.fromOrEmpty(r.getResultFormat(), Integer.class))
+            .bind("serverSeed", r.getServerSeed())
+            .bind("clientSeed", Parameter.fromOrEmpty(r.getClientSeed(), String.class))
+            .bind("nonce", r.getNonce())
+            .bind("rngVersion", Parameter.fromOrEmpty(r.getRngVersion(), Integer.class))
+            .bind("createdAt", r.getCreatedAt())
+            .fetch()
+            .rowsUpdated();
+    }
+
+    private Mono<Long> endActiveSessions(String userId) {
+        return databaseClient.sql(END_ACTIVE_SESSIONS_SQL)
+            .bind("userId", userId)
+            .bind("now", LocalDateTime.now())
+            .fetch()
+            .rowsUpdated();
+    }
+
+    private Mono<GameSession> insertSession(String userId, StartSessionRequest request) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        GameSession session = GameSession.builder()
+            .id(UUID.randomUUID().toString())
+            .userId(userId)
+            .gameCode(request.getGameCode())
+            .status(GameSession.SessionStatus.ACTIVE)
+            .startingBalance(request.getStartingBalance())
+            .currentBalance(request.getStartingBalance())
+            .totalBet(BigDecimal.ZERO)
+            .totalWon(BigDecimal.ZERO)
+            .netProfit(BigDecimal.ZERO)
+            .roundsPlayed(0)
+            .roundsWon(0)
+            .roundsLost(0)
+            .lastRoundNumber(0L)
+            .version(0L)
+            .startedAt(now)
+            .lastActivityAt(now)
+            .balanceType(request.getBalanceType())
+            .build();
+        return databaseClient.sql(INSERT_SESSION_SQL)
+            .bind("id", session.getId())
+            .bind("userId", userId)
+            .bind("gameCode", session.getGameCode())
+            .bind("balance", session.getStartingBalance())
+            .bind("now", now)
+            .bind("balanceType", session.getBalanceType().name())
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(session);
+    }
+
+    private Mono<GameSession> findSession(String sessionId, String userId) {
+        return databaseClient.sql(SESSION_SQL)
+            .bind("id", sessionId)
+            .bind("userId", userId)
+            .map(ReactiveGameService::toGameSession)
+            .one();
+    }
+
+    /**
+     * A game's limits and reel config, cached for game.reactive.catalog-ttl
+     */
+    private Mono<GameConfig> findGame(String gameCode) {
+        GameConfig cached = games.getIfPresent(gameCode);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return databaseClient.sql(GAME_SQL)
+            .bind("gameCode", gameCode)
+            .map(ReactiveGameService::toGameConfig)
+            .one()
+            .switchIfEmpty(Mono.error(() -> new GameNotFoundException("Game not found: " + gameCode)))
+            .doOnNext(game -> games.put(gameCode, game));
+    }
+
+    private static void validateBet(BigDecimal betAmount, GameConfig game, GameSession session) {
+        if (betAmount.compareTo(game.getMinBet()) < 0) {
+            throw new InvalidBetException("Bet amount is below minimum: " + game.getMinBet());
+        }
+
+        if (betAmount.compareTo(game.getMaxBet()) > 0) {
+            throw new InvalidBetException("Bet amount exceeds maximum: " + game.getMaxBet());
+        }
+
+        if (betAmount.compareTo(session.getCurrentBalance()) > 0) {
+            throw new InsufficientBalanceException("Insufficient balance for bet");
+        }
+    }
+
+    private static GameResult.RoundOutcome outcome(Boolean isWin) {
+        return Boolean.TRUE.equals(isWin) ? GameResult.RoundOutcome.WIN : GameResult.RoundOutcome.LOSS;
+    }
+
+    private static GameConfig toGameConfig(Readable row) {
+        return GameConfig.builder()
+            .gameCode(row.get("game_code", String.class))
+            .gameType(GameConfig.GameType.valueOf(row.get("game_type", String.class)))
+            .active(row.get("active", Boolean.class))
+            .minBet(row.get("min_bet", BigDecimal.class))
+            .maxBet(row.get("max_bet", BigDecimal.class))
+            .configJson(row.get("config_json", String.class))
+            .reels(row.get("reels", Integer.class))
+            .rows(row.get("rows", Integer.class))
+            .paylines(row.get("paylines", Integer.class))
+            .rtpPercentage(row.get("rtp_percentage", BigDecimal.class))
+            .build();
+    }
+
+    private static GameSession toGameSession(Readable row) {
+        return GameSession.builder()
+            .id(row.get("id", String.class))
+            .userId(row.get("user_id", String.class))
+            .gameCode(row.get("game_code", String.class))
+            .status(GameSession.SessionStatus.valueOf(row.get("status", String.class)))
+            .startingBalance(row.get("starting_balance", BigDecimal.class))
+            .currentBalance(row.get("current_balance", BigDecimal.class))
+            .totalBet(row.get("total_bet", BigDecimal.class))
+            .totalWon(row.get("total_won", BigDecimal.class))
+            .netProfit(row.get("net_profit", BigDecimal.class))
+            .roundsPlayed(row.get("rounds_played", Integer.class))
+            .roundsWon(row.get("rounds_won", Integer.class))
+            .roundsLost(row.get("rounds_lost", Integer.class))
+            .biggestWin(row.get("biggest_win", BigDecimal.class))
+            .biggestLoss(row.get("biggest_loss", BigDecimal.class))
+            .lastRoundNumber(row.get("last_round_number", Long.class))
+            .version(row.get("version", Long.class))
+            .startedAt(row.get("started_at", LocalDateTime.class))
+            .endedAt(row.get("ended_at", LocalDateTime.class))
+            .durationSeconds(row.get("duration_seconds", Long.class))
+            .lastActivityAt(row.get("last_activity_at", LocalDateTime.class))
+            .balanceType(GameSession.BalanceType.valueOf(row.get("balance_type", String.class)))
+            .build();
+    }
+
+    private static PlayRoundResponse toPlayRoundResponse(GameResult result, EncodedResult encoded) {
+        return PlayRoundResponse.builder()
+            .resultId(result.getId())
+            .roundNumber(result.getRoundNumber())
+            .outcome(result.getOutcome())
+            .betAmount(result.getBetAmount())
+            .winAmount(result.getWinAmount())
+            .netProfit(result.getNetProfit())
+            .multiplier(result.getMultiplier())
+            .balanceBefore(result.getBalanceBefore())
+            .balanceAfter(result.getBalanceAfter())
+            .resultData(encoded.getJson())
+            .serverSeed(result.getServerSeed())
+            .nonce(result.getNonce())
+            .rngVersion(result.getRngVersion())
+            .isBigWin(result.isBigWin())
+            .isMegaWin(result.isMegaWin())
+            .build();
+    }
+
+    private static GameSessionDto toGameSessionDto(GameSession session) {
+        return GameSessionDto.builder()
+            .id(session.getId())
+            .userId(session.getUserId())
+            .gameCode(session.getGameCode())
+            .status(session.getStatus())
+            .startingBalance(session.getStartingBalance())
+            .currentBalance(session.getCurrentBalance())
+            .totalBet(session.getTotalBet())
+            .totalWon(session.getTotalWon())
+            .netProfit(session.getNetProfit())
+            .roundsPlayed(session.getRoundsPlayed())
+            .roundsWon(session.getRoundsWon())
+            .roundsLost(session.getRoundsLost())
+            .biggestWin(session.getBiggestWin())
+            .biggestLoss(session.getBiggestLoss())
+            .startedAt(session.getStartedAt())
+            .endedAt(session.getEndedAt())
+            .durationSeconds(session.getDurationSeconds())
+            .balanceType(session.getBalanceType())
+            .build();
+    }
+
+    private record Round(GameResult result, EncodedResult encoded) {
+    }
+}
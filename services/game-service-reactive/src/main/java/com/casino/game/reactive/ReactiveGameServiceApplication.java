@@ -0,0 +1,42 @@
+package com.casino.game.reactive;
+
+import com.casino.game.codec.BlackjackResultCodec;
+import com.casino.game.codec.ResultCodecRegistry;
+import com.casino.game.codec.SlotResultCodec;
+import com.casino.game.codec.VideoPokerResultCodec;
+import com.casino.game.exception.GlobalExceptionHandler;
+import com.casino.game.service.CoinFlipEngine;
+import com.casino.game.service.CrashGameEngine;
+import com.casino.game.service.DiceGameEngine;
+import com.casino.game.service.RngService;
+import com.casino.game.service.RouletteEngine;
+import com.casino.game.service.SlotGameEngine;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * WebFlux + R2DBC deployment of the session and round endpoints of game-service, for
+ * comparing the two stacks under the same load. Only this package is scanned: the
+ * engines and codecs are imported from game-service, its JPA and servlet beans are not.
+ */
+@SpringBootApplication
+@Import({
+    RngService.class,
+    SlotGameEngine.class,
+    DiceGameEngine.class,
+    RouletteEngine.class,
+    CoinFlipEngine.class,
+    CrashGameEngine.class,
+    ResultCodecRegistry.class,
+    SlotResultCodec.class,
+    BlackjackResultCodec.class,
+    VideoPokerResultCodec.class,
+    GlobalExceptionHandler.class
+})
+public class ReactiveGameServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveGameServiceApplication.class, args);
+    }
+}
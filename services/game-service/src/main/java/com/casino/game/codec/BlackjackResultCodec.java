@@ -0,0 +1,69 @@
+package com.casino.game.codec;
+
+import com.casino.game.dto.BlackjackResultData;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * BLACKJACK_V1: hands as card bytes plus the settled values.
+ * <pre>
+ * cards playerHand, dealerHand, dealerVisible
+ * optional playerValue, dealerValue, gameState
+ * decimal betAmount, payout
+ * booleans canHit, canStand, canDouble, canSplit
+ * </pre>
+ * The remaining deck is not part of a result and is not stored.
+ */
+@Component
+public class BlackjackResultCodec implements ResultCodec<BlackjackResultData> {
+
+    // Dictionary order is part of the format; append only
+    private static final List<String> GAME_STATES = List.of(
+        "PLAYING", "BLACKJACK", "WIN", "LOSE", "PUSH", "BUST", "DEALER_BLACKJACK"
+    );
+
+    @Override
+    public ResultFormat getFormat() {
+        return ResultFormat.BLACKJACK_V1;
+    }
+
+    @Override
+    public Class<BlackjackResultData> getType() {
+        return BlackjackResultData.class;
+    }
+
+    @Override
+    public void encode(BlackjackResultData result, ResultOutput out) {
+        out.writeCards(result.getPlayerHand());
+        out.writeCards(result.getDealerHand());
+        out.writeCards(result.getDealerVisible());
+        out.writeOptionalVarint(result.getPlayerValue());
+        out.writeOptionalVarint(result.getDealerValue());
+        out.writeDictionary(GAME_STATES, result.getGameState());
+        out.writeDecimal(result.getBetAmount());
+        out.writeDecimal(result.getPayout());
+        out.writeBooleans(result.getCanHit(), result.getCanStand(), result.getCanDouble(), result.getCanSplit());
+    }
+
+    @Override
+    public BlackjackResultData decode(ResultInput in) {
+        BlackjackResultData.BlackjackResultDataBuilder result = BlackjackResultData.builder()
+            .playerHand(in.readCards())
+            .dealerHand(in.readCards())
+            .dealerVisible(in.readCards())
+            .playerValue(in.readOptionalVarint())
+            .dealerValue(in.readOptionalVarint())
+            .gameState(in.readDictionary(GAME_STATES))
+            .betAmount(in.readDecimal())
+            .payout(in.readDecimal());
+
+        Boolean[] flags = in.readBooleans(4);
+        return result
+            .canHit(flags[0])
+            .canStand(flags[1])
+            .canDouble(flags[2])
+            .canSplit(flags[3])
+            .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.casino.game.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * An engine result encoded once for storage. The JSON view for the API response is
+ * produced on first use only, and never twice for the same round.
+ */
+public final class EncodedResult {
+
+    private final ResultFormat format;
+    private final byte[] data;
+    private final Object result;
+    private final ObjectMapper objectMapper;
+    private String json;
+
+    EncodedResult(ResultFormat format, byte[] data, String json, Object result, ObjectMapper objectMapper) {
+        this.format = format;
+        this.data = data;
+        this.json = json;
+        this.result = result;
+        this.objectMapper = objectMapper;
+    }
+
+    public ResultFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Binary payload, null for the JSON format
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * JSON as stored in resultJson: only set for the JSON format
+     */
+    public String getStoredJson() {
+        return format == ResultFormat.JSON ? json : null;
+    }
+
+    public String getJson() {
+        if (json == null) {
+            try {
+                json = objectMapper.writeValueAsString(result);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot convert result to JSON", e);
+            }
+        }
+        return json;
+    }
+}
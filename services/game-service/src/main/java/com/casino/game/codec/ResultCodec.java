@@ -0,0 +1,15 @@
+package com.casino.game.codec;
+
+/**
+ * Compact binary encoding of one engine result type
+ */
+public interface ResultCodec<T> {
+
+    ResultFormat getFormat();
+
+    Class<T> getType();
+
+    void encode(T result, ResultOutput out);
+
+    T decode(ResultInput in);
+}
@@ -0,0 +1,79 @@
+package com.casino.game.codec;
+
+import com.casino.game.entity.GameResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes engine results for GameResult and turns stored results back into JSON.
+ * Result types with a {@link ResultCodec} are stored in its binary format unless
+ * game.results.binary is false; everything else is stored as JSON text.
+ */
+@Slf4j
+@Component
+public class ResultCodecRegistry {
+
+    private final Map<Class<?>, ResultCodec<?>> codecsByType = new HashMap<>();
+    private final Map<ResultFormat, ResultCodec<?>> codecsByFormat = new EnumMap<>(ResultFormat.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean binaryEnabled;
+
+    public ResultCodecRegistry(
+        List<ResultCodec<?>> codecs,
+        @Value("${game.results.binary:true}") boolean binaryEnabled
+    ) {
+        for (ResultCodec<?> codec : codecs) {
+            codecsByType.put(codec.getType(), codec);
+            codecsByFormat.put(codec.getFormat(), codec);
+        }
+        this.binaryEnabled = binaryEnabled;
+    }
+
+    /**
+     * Encode a round result once; use the returned value for both the entity and the response
+     */
+    @SuppressWarnings("unchecked")
+    public EncodedResult encode(Object result) {
+        ResultCodec<Object> codec = (ResultCodec<Object>) codecsByType.get(result.getClass());
+        if (binaryEnabled && codec != null) {
+            ResultOutput out = new ResultOutput();
+            codec.encode(result, out);
+            return new EncodedResult(codec.getFormat(), out.toByteArray(), null, result, objectMapper);
+        }
+
+        try {
+            return new EncodedResult(ResultFormat.JSON, null, objectMapper.writeValueAsString(result), result, objectMapper);
+        } catch (JsonProcessingException e) {
+            log.error("Error converting result to JSON", e);
+            return new EncodedResult(ResultFormat.JSON, null, "{}", result, objectMapper);
+        }
+    }
+
+    /**
+     * Result data of a stored round as JSON, decoding binary formats on demand (history reads)
+     */
+    public String toJson(GameResult gameResult) {
+        ResultFormat format = ResultFormat.fromId(gameResult.getResultFormat());
+        if (format == ResultFormat.JSON) {
+            return gameResult.getResultJson();
+        }
+
+        ResultCodec<?> codec = codecsByFormat.get(format);
+        if (codec == null) {
+            throw new IllegalStateException("No codec for result format " + format);
+        }
+        try {
+            return objectMapper.writeValueAsString(codec.decode(new ResultInput(gameResult.getResultData())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot convert result " + gameResult.getId() + " to JSON", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.casino.game.codec;
+
+/**
+ * Storage format of GameResult.resultData, saved in GameResult.resultFormat.
+ * Ids are persisted: a changed layout gets a new id, existing ones never change.
+ */
+public enum ResultFormat {
+    JSON(0),
+    SLOT_V1(1),
+    BLACKJACK_V1(2),
+    VIDEO_POKER_V1(3);
+
+    private final int id;
+
+    ResultFormat(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Format for a stored id; rows saved before formats existed (null) are JSON
+     */
+    public static ResultFormat fromId(Integer id) {
+        if (id == null) {
+            return JSON;
+        }
+        for (ResultFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown result format: " + id);
+    }
+}
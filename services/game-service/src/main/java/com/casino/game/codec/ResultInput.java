@@ -0,0 +1,111 @@
+package com.casino.game.codec;
+
+import com.casino.game.engine.cards.Cards;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reader for the layout written by {@link ResultOutput}
+ */
+public final class ResultInput {
+
+    private final byte[] data;
+    private int position;
+
+    public ResultInput(byte[] data) {
+        this.data = data;
+    }
+
+    public int readByte() {
+        if (position >= data.length) {
+            throw new IllegalArgumentException("Truncated result data");
+        }
+        return data[position++] & 0xFF;
+    }
+
+    public byte[] readBytes() {
+        int length = readInt();
+        return readRaw(length);
+    }
+
+    public long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public int readInt() {
+        return Math.toIntExact(readVarint());
+    }
+
+    public long readSignedVarint() {
+        long value = readVarint();
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    public Integer readOptionalVarint() {
+        long value = readVarint();
+        return value == 0 ? null : Math.toIntExact(value - 1);
+    }
+
+    public String readString() {
+        int length = readInt();
+        if (length == 0) {
+            return null;
+        }
+        return new String(readRaw(length - 1), StandardCharsets.UTF_8);
+    }
+
+    public String readDictionary(List<String> dictionary) {
+        int code = readInt();
+        return switch (code) {
+            case 0 -> null;
+            case 1 -> readString();
+            default -> dictionary.get(code - 2);
+        };
+    }
+
+    public BigDecimal readDecimal() {
+        int scale = readInt();
+        if (scale == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(readSignedVarint(), scale - 1);
+    }
+
+    public Boolean[] readBooleans(int count) {
+        int packed = readInt();
+        Boolean[] values = new Boolean[count];
+        for (int i = 0; i < count; i++) {
+            int bits = packed >>> (2 * i) & 3;
+            values[i] = bits == 0 ? null : bits == 2;
+        }
+        return values;
+    }
+
+    public List<String> readCards() {
+        int length = readInt();
+        if (length == 0) {
+            return null;
+        }
+        return Cards.toStrings(readRaw(length - 1));
+    }
+
+    private byte[] readRaw(int length) {
+        if (position + length > data.length) {
+            throw new IllegalArgumentException("Truncated result data");
+        }
+        byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+        position += length;
+        return bytes;
+    }
+}
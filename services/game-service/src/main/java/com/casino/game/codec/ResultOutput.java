@@ -0,0 +1,125 @@
+package com.casino.game.codec;
+
+import com.casino.game.engine.cards.Cards;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable byte buffer with the primitives result codecs are built from:
+ * LEB128 varints, zigzag for signed values, and decimals as scale + unscaled value
+ */
+public final class ResultOutput {
+
+    private byte[] buffer = new byte[64];
+    private int size;
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeVarint(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    public void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    public void writeSignedVarint(long value) {
+        writeVarint(value << 1 ^ value >> 63);
+    }
+
+    /**
+     * Nullable: 0 is null, otherwise value + 1
+     */
+    public void writeOptionalVarint(Integer value) {
+        writeVarint(value == null ? 0 : value.longValue() + 1);
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    /**
+     * Index into a fixed dictionary, or an escape followed by the string itself
+     */
+    public void writeDictionary(List<String> dictionary, String value) {
+        int index = value == null ? -1 : dictionary.indexOf(value);
+        if (index >= 0) {
+            writeVarint(index + 2L);
+        } else if (value == null) {
+            writeVarint(0);
+        } else {
+            writeVarint(1);
+            writeString(value);
+        }
+    }
+
+    /**
+     * Nullable: the scale is stored + 1, 0 is null
+     */
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        BigDecimal decimal = value.scale() < 0 ? value.setScale(0) : value;
+        writeVarint(decimal.scale() + 1L);
+        writeSignedVarint(decimal.unscaledValue().longValueExact());
+    }
+
+    /**
+     * Nullable booleans, two bits each (0 null, 1 false, 2 true), up to 16 per call
+     */
+    public void writeBooleans(Boolean... values) {
+        int packed = 0;
+        for (int i = 0; i < values.length; i++) {
+            int bits = values[i] == null ? 0 : values[i] ? 2 : 1;
+            packed |= bits << (2 * i);
+        }
+        writeVarint(packed);
+    }
+
+    /**
+     * Card display names as one byte each (see engine.cards.Cards); null is length 0
+     */
+    public void writeCards(List<String> cards) {
+        if (cards == null) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(cards.size() + 1L);
+        for (String card : cards) {
+            writeByte(Cards.parse(card));
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
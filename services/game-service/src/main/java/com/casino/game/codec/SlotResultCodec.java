@@ -0,0 +1,91 @@
+package com.casino.game.codec;
+
+import com.casino.game.dto.SlotResultData;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SLOT_V1: reel grid as symbol indexes, then win lines.
+ * <pre>
+ * varint reels, per reel: varint rows, per row: symbol
+ * varint winLines, per line: signed lineNumber, symbol, optional count, decimal payout
+ * byte bonusTriggered, optional freeSpinsAwarded
+ * </pre>
+ * A 5x3 spin with no win is 24 bytes.
+ */
+@Component
+public class SlotResultCodec implements ResultCodec<SlotResultData> {
+
+    // Dictionary order is part of the format; append only
+    private static final List<String> SYMBOLS = List.of(
+        "SEVEN", "BAR", "CHERRY", "BELL", "LEMON", "ORANGE", "PLUM", "GRAPE", "WATERMELON", "STAR"
+    );
+
+    @Override
+    public ResultFormat getFormat() {
+        return ResultFormat.SLOT_V1;
+    }
+
+    @Override
+    public Class<SlotResultData> getType() {
+        return SlotResultData.class;
+    }
+
+    @Override
+    public void encode(SlotResultData result, ResultOutput out) {
+        List<List<String>> reels = result.getReels();
+        out.writeVarint(reels.size());
+        for (List<String> reel : reels) {
+            out.writeVarint(reel.size());
+            for (String symbol : reel) {
+                out.writeDictionary(SYMBOLS, symbol);
+            }
+        }
+
+        List<SlotResultData.WinLine> winLines = result.getWinLines();
+        out.writeVarint(winLines.size());
+        for (SlotResultData.WinLine line : winLines) {
+            out.writeSignedVarint(line.getLineNumber());
+            out.writeDictionary(SYMBOLS, line.getSymbol());
+            out.writeOptionalVarint(line.getCount());
+            out.writeDecimal(line.getPayout());
+        }
+
+        out.writeByte(result.isBonusTriggered() ? 1 : 0);
+        out.writeOptionalVarint(result.getFreeSpinsAwarded());
+    }
+
+    @Override
+    public SlotResultData decode(ResultInput in) {
+        int reelCount = in.readInt();
+        List<List<String>> reels = new ArrayList<>(reelCount);
+        for (int r = 0; r < reelCount; r++) {
+            int rows = in.readInt();
+            List<String> reel = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                reel.add(in.readDictionary(SYMBOLS));
+            }
+            reels.add(reel);
+        }
+
+        int lineCount = in.readInt();
+        List<SlotResultData.WinLine> winLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            winLines.add(SlotResultData.WinLine.builder()
+                .lineNumber((int) in.readSignedVarint())
+                .symbol(in.readDictionary(SYMBOLS))
+                .count(in.readOptionalVarint())
+                .payout(in.readDecimal())
+                .build());
+        }
+
+        return SlotResultData.builder()
+            .reels(reels)
+            .winLines(winLines)
+            .bonusTriggered(in.readByte() == 1)
+            .freeSpinsAwarded(in.readOptionalVarint())
+            .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.casino.game.codec;
+
+import com.casino.game.dto.VideoPokerResultData;
+import com.casino.game.service.VideoPokerEngine;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * VIDEO_POKER_V1: the hand as card bytes.
+ * <pre>
+ * cards hand
+ * varint heldCards: bit i set when card i is held, bit 7 when present, length from bit 8
+ * optional handRank ordinal (HandRank order is part of the format), decimal betAmount,
+ * decimal payout, gameState
+ * </pre>
+ */
+@Component
+public class VideoPokerResultCodec implements ResultCodec<VideoPokerResultData> {
+
+    private static final int HELD_PRESENT = 1 << 7;
+
+    // Dictionary order is part of the format; append only
+    private static final List<String> GAME_STATES = List.of("INITIAL_DEAL", "COMPLETE");
+
+    private static final VideoPokerEngine.HandRank[] HAND_RANKS = VideoPokerEngine.HandRank.values();
+
+    @Override
+    public ResultFormat getFormat() {
+        return ResultFormat.VIDEO_POKER_V1;
+    }
+
+    @Override
+    public Class<VideoPokerResultData> getType() {
+        return VideoPokerResultData.class;
+    }
+
+    @Override
+    public void encode(VideoPokerResultData result, ResultOutput out) {
+        out.writeCards(result.getHand());
+
+        boolean[] held = result.getHeldCards();
+        int heldBits = 0;
+        if (held != null) {
+            heldBits = HELD_PRESENT | held.length << 8;
+            for (int i = 0; i < held.length; i++) {
+                heldBits |= held[i] ? 1 << i : 0;
+            }
+        }
+        out.writeVarint(heldBits);
+
+        out.writeOptionalVarint(result.getHandRank() == null ? null : result.getHandRank().ordinal());
+        out.writeDecimal(result.getBetAmount());
+        out.writeDecimal(result.getPayout());
+        out.writeDictionary(GAME_STATES, result.getGameState());
+    }
+
+    @Override
+    public VideoPokerResultData decode(ResultInput in) {
+        VideoPokerResultData.VideoPokerResultDataBuilder result = VideoPokerResultData.builder()
+            .hand(in.readCards());
+
+        int heldBits = in.readInt();
+        if ((heldBits & HELD_PRESENT) != 0) {
+            boolean[] held = new boolean[heldBits >>> 8];
+            for (int i = 0; i < held.length; i++) {
+                held[i] = (heldBits & 1 << i) != 0;
+            }
+            result.heldCards(held);
+        }
+
+        Integer handRank = in.readOptionalVarint();
+        return result
+            .handRank(handRank == null ? null : HAND_RANKS[handRank])
+            .betAmount(in.readDecimal())
+            .payout(in.readDecimal())
+            .gameState(in.readDictionary(GAME_STATES))
+            .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.casino.game.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+
+/**
+ * Optional wrappers around the pooled DataSource:
+ * <ul>
+ *   <li>game.datasource.max-concurrent-connections: a ConnectionLimitingDataSource in
+ *   front of the pool</li>
+ *   <li>game.datasource.lazy-connections: a LazyConnectionDataSourceProxy, so a
+ *   transaction borrows its connection at its first statement instead of when it
+ *   begins. A round reads its session and game from memory, so the connection (and
+ *   the permit) is only held for the result insert, the session UPDATE and the commit,
+ *   not while the engine runs.</li>
+ * </ul>
+ * The lazy proxy is the outer one, so a permit is only taken for a real connection.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor gameDataSourcePostProcessor(Environment environment) {
+        Integer permits = environment.getProperty("game.datasource.max-concurrent-connections", Integer.class);
+        Duration acquireTimeout = environment.getProperty(
+            "game.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+        boolean lazy = environment.getProperty("game.datasource.lazy-connections", Boolean.class, false);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                    || bean instanceof ConnectionLimitingDataSource
+                    || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                if (permits != null) {
+                    dataSource = new ConnectionLimitingDataSource(dataSource, permits, acquireTimeout);
+                }
+                return lazy ? new LazyConnectionDataSourceProxy(dataSource) : dataSource;
+            }
+        };
+    }
+}
@@ -1,6 +1,11 @@
 package com.casino.game.config;
 
-import com.casino.game.service.GameService;
+import com.casino.game.crash.CrashTableManager;
+import com.casino.game.partition.ResultPartitionManager;
+import com.casino.game.service.AbandonedSessionSweeper;
+import com.casino.game.service.GameCatalog;
+import com.casino.game.service.GameConfigStatsAggregator;
+import com.casino.game.service.GameResultWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,14 +16,60 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ScheduledTasks {
 
-    private final GameService gameService;
+    private final AbandonedSessionSweeper abandonedSessionSweeper;
+    private final GameConfigStatsAggregator gameConfigStatsAggregator;
+    private final GameResultWriter gameResultWriter;
+    private final CrashTableManager crashTableManager;
+    private final GameCatalog gameCatalog;
+    private final ResultPartitionManager resultPartitionManager;
 
     /**
-     * Clean up abandoned sessions every 10 minutes
+     * Close sessions that timed out as abandoned
      */
-    @Scheduled(fixedRate = 600000) // 10 minutes
+    @Scheduled(fixedDelayString = "${game.session-sweeper.interval-ms:60000}")
     public void cleanupAbandonedSessions() {
         log.debug("Running scheduled task: cleanup abandoned sessions");
-        gameService.cleanupAbandonedSessions();
+        abandonedSessionSweeper.sweep();
+    }
+
+    /**
+     * Write buffered GameConfig counters to the database
+     */
+    @Scheduled(fixedDelayString = "${game.stats.flush-interval-ms:5000}")
+    public void flushGameConfigCounters() {
+        gameConfigStatsAggregator.flush();
+    }
+
+    /**
+     * Write journaled round results to the database (no-op for the direct writer)
+     */
+    @Scheduled(fixedDelayString = "${game.results.journal.drain-interval-ms:200}")
+    public void drainResultJournal() {
+        gameResultWriter.flush();
+    }
+
+    /**
+     * Generate crash tables' next hash chains before the current ones run out
+     */
+    @Scheduled(fixedDelayString = "${game.crash.chain.prepare-interval-ms:60000}")
+    public void prepareCrashChains() {
+        crashTableManager.prepareChains();
+    }
+
+    /**
+     * Rebuild the game catalog so it shows the flushed play counters and changes
+     * made on other instances
+     */
+    @Scheduled(fixedDelayString = "${game.catalog.refresh-interval-ms:30000}")
+    public void refreshGameCatalog() {
+        gameCatalog.refresh();
+    }
+
+    /**
+     * Create the coming months' result partitions and archive the expired ones
+     */
+    @Scheduled(cron = "${game.results.partitioning.cron:0 15 3 * * *}")
+    public void maintainResultPartitions() {
+        resultPartitionManager.maintain();
     }
 }
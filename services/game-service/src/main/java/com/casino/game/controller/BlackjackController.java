@@ -2,7 +2,9 @@ package com.casino.game.controller;
 
 import com.casino.game.dto.BlackjackResultData;
 import com.casino.game.service.BlackjackEngine;
+import com.casino.game.service.GameStateStore;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @RestController
@@ -19,6 +22,7 @@ import java.math.BigDecimal;
 public class BlackjackController {
 
     private final BlackjackEngine blackjackEngine;
+    private final GameStateStore gameStateStore;
 
     @PostMapping("/start")
     public ResponseEntity<BlackjackResultData> startGame(
@@ -34,7 +38,11 @@ public class BlackjackController {
             request.getBetAmount()
         );
 
-        return ResponseEntity.ok(result);
+        if (!isPlaying(result)) {
+            return ResponseEntity.ok(result);
+        }
+        String stateId = gameStateStore.create(userId, result);
+        return ResponseEntity.ok(forPlayer(result, stateId));
     }
 
     @PostMapping("/hit")
@@ -44,9 +52,7 @@ public class BlackjackController {
     ) {
         log.info("POST /games/blackjack/hit - userId: {}", userId);
 
-        BlackjackResultData result = blackjackEngine.hit(request.getCurrentGame());
-
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(act(userId, request.getStateId(), blackjackEngine::hit));
     }
 
     @PostMapping("/stand")
@@ -56,9 +62,7 @@ public class BlackjackController {
     ) {
         log.info("POST /games/blackjack/stand - userId: {}", userId);
 
-        BlackjackResultData result = blackjackEngine.stand(request.getCurrentGame());
-
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(act(userId, request.getStateId(), blackjackEngine::stand));
     }
 
     @PostMapping("/double")
@@ -68,9 +72,27 @@ public class BlackjackController {
     ) {
         log.info("POST /games/blackjack/double - userId: {}", userId);
 
-        BlackjackResultData result = blackjackEngine.doubleDown(request.getCurrentGame());
+        return ResponseEntity.ok(act(userId, request.getStateId(), blackjackEngine::doubleDown));
+    }
+
+    private BlackjackResultData act(String userId, String stateId, UnaryOperator<BlackjackResultData> action) {
+        BlackjackResultData result = gameStateStore.advance(
+            userId, stateId, BlackjackResultData.class, action, this::isPlaying);
+        return isPlaying(result) ? forPlayer(result, stateId) : result;
+    }
+
+    private boolean isPlaying(BlackjackResultData game) {
+        return "PLAYING".equals(game.getGameState());
+    }
 
-        return ResponseEntity.ok(result);
+    /**
+     * Response view of a game in progress: the dealer's hole card stays hidden
+     */
+    private BlackjackResultData forPlayer(BlackjackResultData game, String stateId) {
+        return game.toBuilder()
+            .stateId(stateId)
+            .dealerHand(game.getDealerVisible())
+            .build();
     }
 
     @Data
@@ -90,7 +112,7 @@ public class BlackjackController {
 
     @Data
     public static class BlackjackActionRequest {
-        @NotNull
-        private BlackjackResultData currentGame;
+        @NotBlank
+        private String stateId;
     }
 }
@@ -2,6 +2,7 @@ package com.casino.game.controller;
 
 import com.casino.game.dto.CoinFlipResultData;
 import com.casino.game.service.CoinFlipEngine;
+import com.casino.game.service.RngAlgorithm;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -46,6 +47,7 @@ public class CoinFlipController {
         log.info("POST /games/coin-flip/verify - nonce: {}", request.getNonce());
 
         boolean isValid = coinFlipEngine.verifyResult(
+            RngAlgorithm.fromId(request.getRngVersion()),
             request.getServerSeed(),
             request.getClientSeed(),
             request.getNonce(),
@@ -111,6 +113,8 @@ public class CoinFlipController {
 
         @NotNull
         private String expectedResult; // "HEADS" or "TAILS"
+
+        private Integer rngVersion; // GameResult.rngVersion of the round, V1 when absent
     }
 
     @Data
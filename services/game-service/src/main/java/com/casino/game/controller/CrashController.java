@@ -2,8 +2,11 @@ package com.casino.game.controller;
 
 import com.casino.game.dto.CrashGameResultData;
 import com.casino.game.service.CrashGameEngine;
+import com.casino.game.service.GameStateStore;
+import com.casino.game.service.RngAlgorithm;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,7 @@ import java.math.BigDecimal;
 public class CrashController {
 
     private final CrashGameEngine crashGameEngine;
+    private final GameStateStore gameStateStore;
 
     @PostMapping("/play")
     public ResponseEntity<CrashGameResultData> play(
@@ -37,7 +41,20 @@ public class CrashController {
             request.getAutoCashoutAt()
         );
 
-        return ResponseEntity.ok(result);
+        if (request.getAutoCashoutAt() != null) {
+            return ResponseEntity.ok(result);
+        }
+
+        // Manual round: the crash point stays on the server until the player cashes out
+        String stateId = gameStateStore.create(userId, result);
+        return ResponseEntity.ok(result.toBuilder()
+            .stateId(stateId)
+            .crashPoint(null)
+            .isWin(null)
+            .payout(null)
+            .netProfit(null)
+            .gameState("RUNNING")
+            .build());
     }
 
     @PostMapping("/cashout")
@@ -48,10 +65,13 @@ public class CrashController {
         log.info("POST /games/crash/cashout - userId: {}, cashoutAt: {}",
             userId, request.getCashoutMultiplier());
 
-        CrashGameResultData result = crashGameEngine.cashout(
-            request.getCurrentGame(),
-            request.getCashoutMultiplier()
-        );
+        // Taken, not peeked: a cashout above the crash point settles the round as lost
+        CrashGameResultData game = gameStateStore.take(userId, request.getStateId(), CrashGameResultData.class);
+        if (request.getCashoutMultiplier().compareTo(game.getCrashPoint()) > 0) {
+            return ResponseEntity.ok(game);
+        }
+
+        CrashGameResultData result = crashGameEngine.cashout(game, request.getCashoutMultiplier());
 
         return ResponseEntity.ok(result);
     }
@@ -63,6 +83,7 @@ public class CrashController {
         log.info("POST /games/crash/verify - nonce: {}", request.getNonce());
 
         boolean isValid = crashGameEngine.verifyResult(
+            RngAlgorithm.fromId(request.getRngVersion()),
             request.getServerSeed(),
             request.getClientSeed(),
             request.getNonce(),
@@ -110,8 +131,8 @@ public class CrashController {
 
     @Data
     public static class CashoutCrashRequest {
-        @NotNull
-        private CrashGameResultData currentGame;
+        @NotBlank
+        private String stateId;
 
         @NotNull
         @DecimalMin("1.00")
@@ -131,6 +152,8 @@ public class CrashController {
 
         @NotNull
         private BigDecimal expectedCrashPoint;
+
+        private Integer rngVersion; // GameResult.rngVersion of the round, V1 when absent
     }
 
     @Data
@@ -0,0 +1,129 @@
+package com.casino.game.controller;
+
+import com.casino.game.crash.CrashHashChain;
+import com.casino.game.crash.CrashTableManager;
+import com.casino.game.dto.CrashChainRound;
+import com.casino.game.dto.CrashTableBet;
+import com.casino.game.dto.CrashTableEvent;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Shared crash tables: one server-driven round per table for all players.
+ * Bets and cashouts are answered on the table's next tick.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/games/crash/tables")
+@RequiredArgsConstructor
+public class CrashTableController {
+
+    private final CrashTableManager crashTableManager;
+
+    @GetMapping
+    public ResponseEntity<List<String>> getTables() {
+        return ResponseEntity.ok(crashTableManager.getTableIds());
+    }
+
+    /**
+     * Latest frame of the table's current round
+     */
+    @GetMapping("/{tableId}")
+    public ResponseEntity<CrashTableEvent> getTable(@PathVariable String tableId) {
+        return ResponseEntity.ok(crashTableManager.getTable(tableId).getLastEvent());
+    }
+
+    /**
+     * Recently crashed rounds with their revealed hashes
+     */
+    @GetMapping("/{tableId}/history")
+    public ResponseEntity<List<CrashTableEvent>> getHistory(@PathVariable String tableId) {
+        return ResponseEntity.ok(crashTableManager.getTable(tableId).getHistory());
+    }
+
+    /**
+     * Commitment of the table's current hash chain and the rounds left in it
+     */
+    @GetMapping("/{tableId}/chain")
+    public ResponseEntity<ChainResponse> getChain(@PathVariable String tableId) {
+        CrashHashChain chain = crashTableManager.getTable(tableId).getHashChain();
+        return ResponseEntity.ok(new ChainResponse(chain.getTerminalHash(), chain.getRemaining()));
+    }
+
+    /**
+     * Recompute a revealed round and the rounds before it from its hash alone
+     */
+    @GetMapping("/verify")
+    public ResponseEntity<List<CrashChainRound>> verify(
+        @RequestParam @Pattern(regexp = "[0-9a-fA-F]{64}") String hash,
+        @RequestParam(defaultValue = "100") @Min(1) @Max(10000) int rounds
+    ) {
+        log.info("GET /games/crash/tables/verify - rounds: {}", rounds);
+
+        return ResponseEntity.ok(crashTableManager.verify(hash, rounds));
+    }
+
+    @GetMapping(value = "/{tableId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String tableId) {
+        return crashTableManager.getTable(tableId).subscribe();
+    }
+
+    @PostMapping("/{tableId}/bet")
+    public CompletableFuture<ResponseEntity<CrashTableBet>> bet(
+        @RequestHeader("X-User-Id") String userId,
+        @PathVariable String tableId,
+        @Valid @RequestBody TableBetRequest request
+    ) {
+        log.info("POST /games/crash/tables/{}/bet - userId: {}, betAmount: {}, autoCashout: {}",
+            tableId, userId, request.getBetAmount(), request.getAutoCashoutAt());
+
+        return crashTableManager.getTable(tableId)
+            .bet(userId, request.getBetAmount(), request.getAutoCashoutAt())
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{tableId}/cashout")
+    public CompletableFuture<ResponseEntity<CrashTableBet>> cashout(
+        @RequestHeader("X-User-Id") String userId,
+        @PathVariable String tableId
+    ) {
+        log.info("POST /games/crash/tables/{}/cashout - userId: {}", tableId, userId);
+
+        return crashTableManager.getTable(tableId)
+            .cashout(userId)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @Data
+    public static class TableBetRequest {
+        @NotNull
+        @DecimalMin("0.01")
+        private BigDecimal betAmount;
+
+        @DecimalMin("1.01")
+        @Digits(integer = 7, fraction = 2)
+        private BigDecimal autoCashoutAt; // Optional
+    }
+
+    @Data
+    public static class ChainResponse {
+        private final String terminalHash;
+        private final int remainingRounds;
+    }
+}
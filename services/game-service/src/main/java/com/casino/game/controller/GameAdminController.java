@@ -0,0 +1,68 @@
+package com.casino.game.controller;
+
+import com.casino.game.dto.GameConfigDto;
+import com.casino.game.dto.GameConfigUpdateRequest;
+import com.casino.game.event.GameCatalogChangedEvent;
+import com.casino.game.exception.GameNotFoundException;
+import com.casino.game.service.GameCatalog;
+import com.casino.game.service.GameService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin changes to game settings and the game catalog built from them
+ */
+@Slf4j
+@RestController
+@RequestMapping("/games/admin")
+@RequiredArgsConstructor
+public class GameAdminController {
+
+    private final GameService gameService;
+    private final GameCatalog gameCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PatchMapping("/games/{gameCode}")
+    public ResponseEntity<GameConfigDto> updateGame(
+        @RequestHeader("X-Admin-Id") String adminId,
+        @PathVariable String gameCode,
+        @Valid @RequestBody GameConfigUpdateRequest request
+    ) {
+        log.info("PATCH /games/admin/games/{} - adminId: {}, request: {}", gameCode, adminId, request);
+
+        gameService.updateGame(gameCode, request);
+        return ResponseEntity.ok(gameCatalog.snapshot().getGame(gameCode)
+            .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameCode)));
+    }
+
+    /**
+     * Version and ETag of the catalog this instance serves
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<Map<String, Object>> getCatalog() {
+        GameCatalog.Snapshot catalog = gameCatalog.snapshot();
+        return ResponseEntity.ok(Map.of(
+            "version", catalog.getVersion(),
+            "etag", catalog.getEtag(),
+            "builtAt", catalog.getBuiltAt(),
+            "games", catalog.getGames().size()
+        ));
+    }
+
+    /**
+     * Reload the catalog on every instance, after games were changed in the database directly
+     */
+    @PostMapping("/catalog/refresh")
+    public ResponseEntity<Map<String, Object>> refreshCatalog(@RequestHeader("X-Admin-Id") String adminId) {
+        log.info("POST /games/admin/catalog/refresh - adminId: {}", adminId);
+
+        eventPublisher.publishEvent(new GameCatalogChangedEvent(null));
+        return getCatalog();
+    }
+}
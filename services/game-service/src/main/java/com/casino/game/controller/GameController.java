@@ -2,15 +2,26 @@ package com.casino.game.controller;
 
 import com.casino.game.dto.*;
 import com.casino.game.entity.GameConfig;
+import com.casino.game.entity.GameResult;
+import com.casino.game.exception.GameNotFoundException;
+import com.casino.game.service.GameCatalog;
 import com.casino.game.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 @RestController
@@ -18,34 +29,39 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GameController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final GameService gameService;
+    private final GameCatalog gameCatalog;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<GameConfigDto>> getAllGames() {
+    public ResponseEntity<List<GameConfigDto>> getAllGames(WebRequest webRequest) {
         log.info("GET /games - Fetching all available games");
-        List<GameConfigDto> games = gameService.getAllGames();
-        return ResponseEntity.ok(games);
+        return fromCatalog(webRequest, GameCatalog.Snapshot::getActiveGames);
     }
 
     @GetMapping("/type/{gameType}")
-    public ResponseEntity<List<GameConfigDto>> getGamesByType(@PathVariable GameConfig.GameType gameType) {
+    public ResponseEntity<List<GameConfigDto>> getGamesByType(
+        @PathVariable GameConfig.GameType gameType,
+        WebRequest webRequest
+    ) {
         log.info("GET /games/type/{} - Fetching games by type", gameType);
-        List<GameConfigDto> games = gameService.getGamesByType(gameType);
-        return ResponseEntity.ok(games);
+        return fromCatalog(webRequest, catalog -> catalog.getActiveGames(gameType));
     }
 
     @GetMapping("/popular")
-    public ResponseEntity<List<GameConfigDto>> getMostPopularGames() {
+    public ResponseEntity<List<GameConfigDto>> getMostPopularGames(WebRequest webRequest) {
         log.info("GET /games/popular - Fetching most popular games");
-        List<GameConfigDto> games = gameService.getMostPopularGames();
-        return ResponseEntity.ok(games);
+        return fromCatalog(webRequest, GameCatalog.Snapshot::getPopularGames);
     }
 
     @GetMapping("/{gameCode}")
-    public ResponseEntity<GameConfigDto> getGame(@PathVariable String gameCode) {
+    public ResponseEntity<GameConfigDto> getGame(@PathVariable String gameCode, WebRequest webRequest) {
         log.info("GET /games/{} - Fetching game details", gameCode);
-        GameConfigDto game = gameService.getGame(gameCode);
-        return ResponseEntity.ok(game);
+        return fromCatalog(webRequest, catalog -> catalog.getGame(gameCode)
+            .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameCode)));
     }
 
     @PostMapping("/sessions/start")
@@ -65,11 +81,78 @@ public class GameController {
         return ResponseEntity.ok(session);
     }
 
+    /**
+     * Sessions newest first, one page per call; the next page's cursor is in X-Next-Cursor
+     */
     @GetMapping("/sessions/history")
-    public ResponseEntity<List<GameSessionDto>> getSessionHistory(@RequestHeader("X-User-Id") String userId) {
-        log.info("GET /games/sessions/history - userId: {}", userId);
-        List<GameSessionDto> sessions = gameService.getSessionHistory(userId);
-        return ResponseEntity.ok(sessions);
+    public ResponseEntity<List<GameSessionDto>> getSessionHistory(
+        @RequestHeader("X-User-Id") String userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int limit
+    ) {
+        log.info("GET /games/sessions/history - userId: {}, limit: {}", userId, limit);
+        return page(gameService.getSessionHistory(userId, cursor, limit));
+    }
+
+    /**
+     * Rounds of a session in round order, one page per call; see getSessionHistory
+     */
+    @GetMapping("/sessions/{sessionId}/rounds")
+    public ResponseEntity<List<PlayRoundResponse>> getSessionRounds(
+        @PathVariable String sessionId,
+        @RequestHeader("X-User-Id") String userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "100") @Min(1) @Max(MAX_PAGE_SIZE) int limit
+    ) {
+        log.info("GET /games/sessions/{}/rounds - userId: {}, limit: {}", sessionId, userId, limit);
+        return page(gameService.getSessionRounds(sessionId, userId, cursor, limit));
+    }
+
+    /**
+     * Rounds across sessions newest first, optionally of one game or outcome; see getSessionHistory
+     */
+    @GetMapping("/rounds/history")
+    public ResponseEntity<List<RoundHistoryEntry>> getRoundHistory(
+        @RequestHeader("X-User-Id") String userId,
+        @RequestParam(required = false) String gameCode,
+        @RequestParam(required = false) GameResult.RoundOutcome outcome,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int limit
+    ) {
+        log.info("GET /games/rounds/history - userId: {}, gameCode: {}, outcome: {}, limit: {}",
+            userId, gameCode, outcome, limit);
+        return page(gameService.getRoundHistory(userId, gameCode, outcome, cursor, limit));
+    }
+
+    /**
+     * The whole round history as newline-delimited JSON, newest first. Read page by
+     * page while writing, so the export never holds more than one page.
+     */
+    @GetMapping(value = "/rounds/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRounds(
+        @RequestHeader("X-User-Id") String userId,
+        @RequestParam(required = false) String gameCode,
+        @RequestParam(required = false) GameResult.RoundOutcome outcome
+    ) {
+        log.info("GET /games/rounds/export - userId: {}, gameCode: {}, outcome: {}", userId, gameCode, outcome);
+
+        StreamingResponseBody body = out -> {
+            String cursor = null;
+            do {
+                HistoryPage<RoundHistoryEntry> page =
+                    gameService.getRoundHistory(userId, gameCode, outcome, cursor, MAX_PAGE_SIZE);
+                for (RoundHistoryEntry entry : page.getItems()) {
+                    out.write(objectMapper.writeValueAsBytes(entry));
+                    out.write('\n');
+                }
+                out.flush();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"rounds.ndjson\"")
+            .body(body);
     }
 
     @PostMapping("/sessions/{sessionId}/end")
@@ -98,8 +181,71 @@ public class GameController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Consecutive rounds of an instant game in one transaction; see AutoBetRequest
+     */
+    @PostMapping("/autobet")
+    public ResponseEntity<AutoBetResponse> autoBet(
+        @RequestHeader("X-User-Id") String userId,
+        @Valid @RequestBody AutoBetRequest request
+    ) {
+        log.info("POST /games/autobet - userId: {}, sessionId: {}, betAmount: {}, count: {}, strategy: {}",
+            userId, request.getSessionId(), request.getBetAmount(), request.getCount(), request.getBetStrategy());
+
+        return ResponseEntity.ok(gameService.autoBet(userId, request));
+    }
+
+    /**
+     * Same as /autobet, answered as newline-delimited JSON: one line per round, then
+     * the summary
+     */
+    @PostMapping(value = "/autobet/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> autoBetStream(
+        @RequestHeader("X-User-Id") String userId,
+        @Valid @RequestBody AutoBetRequest request
+    ) {
+        log.info("POST /games/autobet/stream - userId: {}, sessionId: {}, betAmount: {}, count: {}, strategy: {}",
+            userId, request.getSessionId(), request.getBetAmount(), request.getCount(), request.getBetStrategy());
+
+        request.setIncludeRounds(true);
+        AutoBetResponse response = gameService.autoBet(userId, request);
+        List<AutoBetResponse.Round> rounds = response.getRounds();
+        response.setRounds(null);
+
+        StreamingResponseBody body = out -> {
+            for (AutoBetResponse.Round round : rounds) {
+                out.write(objectMapper.writeValueAsBytes(round));
+                out.write('\n');
+            }
+            out.write(objectMapper.writeValueAsBytes(response));
+            out.write('\n');
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Game Service is running");
     }
+
+    /**
+     * A view of the game catalog, tagged with the catalog's ETag; 304 when the client
+     * already has this version of the catalog
+     */
+    private <T> ResponseEntity<T> fromCatalog(WebRequest webRequest, Function<GameCatalog.Snapshot, T> view) {
+        GameCatalog.Snapshot catalog = gameCatalog.snapshot();
+        T body = view.apply(catalog);
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.getEtag()).build();
+        }
+        return ResponseEntity.ok().eTag(catalog.getEtag()).body(body);
+    }
+
+    private static <T> ResponseEntity<List<T>> page(HistoryPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
 }
@@ -1,11 +1,15 @@
 package com.casino.game.controller;
 
 import com.casino.game.dto.MinesGameResultData;
+import com.casino.game.service.GameStateStore;
 import com.casino.game.service.MinesGameEngine;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @RestController
@@ -22,6 +28,7 @@ import java.util.Map;
 public class MinesController {
 
     private final MinesGameEngine minesGameEngine;
+    private final GameStateStore gameStateStore;
 
     @PostMapping("/start")
     public ResponseEntity<MinesGameResultData> startGame(
@@ -38,8 +45,9 @@ public class MinesController {
             request.getBetAmount(),
             request.getNumberOfMines()
         );
+        String stateId = gameStateStore.create(userId, result);
 
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(forPlayer(result, stateId));
     }
 
     @PostMapping("/reveal")
@@ -49,12 +57,24 @@ public class MinesController {
     ) {
         log.info("POST /games/mines/reveal - userId: {}, position: {}", userId, request.getPosition());
 
-        MinesGameResultData result = minesGameEngine.revealTile(
-            request.getCurrentGame(),
-            request.getPosition()
-        );
+        return ResponseEntity.ok(act(userId, request.getStateId(),
+            game -> minesGameEngine.revealTile(game, request.getPosition())));
+    }
+
+    /**
+     * Reveal several tiles in one call, in order, and optionally cash out if no mine
+     * was hit
+     */
+    @PostMapping("/autoplay")
+    public ResponseEntity<MinesGameResultData> autoplay(
+        @RequestHeader("X-User-Id") String userId,
+        @Valid @RequestBody AutoplayRequest request
+    ) {
+        log.info("POST /games/mines/autoplay - userId: {}, positions: {}, cashout: {}",
+            userId, request.getPositions(), request.isCashout());
 
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(act(userId, request.getStateId(),
+            game -> minesGameEngine.revealTiles(game, request.getPositions(), request.isCashout())));
     }
 
     @PostMapping("/cashout")
@@ -64,9 +84,7 @@ public class MinesController {
     ) {
         log.info("POST /games/mines/cashout - userId: {}", userId);
 
-        MinesGameResultData result = minesGameEngine.cashout(request.getCurrentGame());
-
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(act(userId, request.getStateId(), minesGameEngine::cashout));
     }
 
     @GetMapping("/multipliers/{numberOfMines}")
@@ -80,6 +98,26 @@ public class MinesController {
         return ResponseEntity.ok(table);
     }
 
+    private MinesGameResultData act(String userId, String stateId, UnaryOperator<MinesGameResultData> action) {
+        MinesGameResultData result = gameStateStore.advance(
+            userId, stateId, MinesGameResultData.class, action, this::isPlaying);
+        return isPlaying(result) ? forPlayer(result, stateId) : result;
+    }
+
+    private boolean isPlaying(MinesGameResultData game) {
+        return "PLAYING".equals(game.getGameState());
+    }
+
+    /**
+     * Response view of a game in progress: mine positions are only revealed once it ends
+     */
+    private MinesGameResultData forPlayer(MinesGameResultData game, String stateId) {
+        return game.toBuilder()
+            .stateId(stateId)
+            .mineMask(null)
+            .build();
+    }
+
     @Data
     public static class StartMinesRequest {
         @NotNull
@@ -102,8 +140,8 @@ public class MinesController {
 
     @Data
     public static class RevealTileRequest {
-        @NotNull
-        private MinesGameResultData currentGame;
+        @NotBlank
+        private String stateId;
 
         @NotNull
         @Min(0)
@@ -111,9 +149,21 @@ public class MinesController {
         private Integer position;
     }
 
+    @Data
+    public static class AutoplayRequest {
+        @NotBlank
+        private String stateId;
+
+        @NotEmpty
+        @Size(max = 24)
+        private List<@NotNull @Min(0) @Max(24) Integer> positions;
+
+        private boolean cashout;
+    }
+
     @Data
     public static class CashoutRequest {
-        @NotNull
-        private MinesGameResultData currentGame;
+        @NotBlank
+        private String stateId;
     }
 }
@@ -0,0 +1,48 @@
+package com.casino.game.controller;
+
+import com.casino.game.dto.SlotRtpReport;
+import com.casino.game.engine.SlotsGameEngine;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.exception.GameNotFoundException;
+import com.casino.game.service.GameCatalog;
+import com.casino.game.service.SlotGameEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin view of the exact return of slot paytables, per symbol and per line
+ */
+@Slf4j
+@RestController
+@RequestMapping("/games/admin/paytables")
+@RequiredArgsConstructor
+public class PaytableController {
+
+    private final SlotGameEngine slotGameEngine;
+    private final SlotsGameEngine slotsGameEngine;
+    private final GameCatalog gameCatalog;
+
+    /**
+     * The classic 5-line slots, which have a fixed paytable
+     */
+    @GetMapping("/classic-slots")
+    public ResponseEntity<SlotRtpReport> getClassicSlots() {
+        return ResponseEntity.ok(slotsGameEngine.calculateExactRtp());
+    }
+
+    /**
+     * A configured slot game, with the weights from its configJson
+     */
+    @GetMapping("/{gameCode}")
+    public ResponseEntity<SlotRtpReport> getSlotGame(@PathVariable String gameCode) {
+        GameConfig game = gameCatalog.findGame(gameCode)
+            .filter(config -> config.getGameType() == GameConfig.GameType.SLOTS)
+            .orElseThrow(() -> new GameNotFoundException("Slot game not found: " + gameCode));
+        return ResponseEntity.ok(slotGameEngine.calculateExactRtp(game));
+    }
+}
@@ -0,0 +1,69 @@
+package com.casino.game.controller;
+
+import com.casino.game.dto.SimulationReport;
+import com.casino.game.dto.SimulationRequest;
+import com.casino.game.simulation.SimulationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Admin endpoints for Monte Carlo RTP simulations of the game engines
+ */
+@Slf4j
+@RestController
+@RequestMapping("/games/admin/simulations")
+@RequiredArgsConstructor
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    /**
+     * Start a simulation; the returned report is updated until it completes
+     */
+    @PostMapping
+    public ResponseEntity<SimulationReport> start(
+        @RequestHeader("X-Admin-Id") String adminId,
+        @Valid @RequestBody SimulationRequest request
+    ) {
+        log.info("POST /games/admin/simulations - adminId: {}, game: {}, rounds: {}",
+            adminId, request.getGame(), request.getRounds());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(simulationService.start(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SimulationReport>> getSimulations() {
+        return ResponseEntity.ok(simulationService.getReports());
+    }
+
+    @GetMapping("/{simulationId}")
+    public ResponseEntity<SimulationReport> getSimulation(@PathVariable String simulationId) {
+        return ResponseEntity.ok(simulationService.getReport(simulationId));
+    }
+
+    /**
+     * Progress reports until the simulation finishes
+     */
+    @GetMapping(value = "/{simulationId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String simulationId) {
+        return simulationService.subscribe(simulationId);
+    }
+
+    @DeleteMapping("/{simulationId}")
+    public ResponseEntity<SimulationReport> cancel(
+        @RequestHeader("X-Admin-Id") String adminId,
+        @PathVariable String simulationId
+    ) {
+        log.info("DELETE /games/admin/simulations/{} - adminId: {}", simulationId, adminId);
+
+        return ResponseEntity.ok(simulationService.cancel(simulationId));
+    }
+}
@@ -1,8 +1,10 @@
 package com.casino.game.controller;
 
 import com.casino.game.dto.VideoPokerResultData;
+import com.casino.game.service.GameStateStore;
 import com.casino.game.service.VideoPokerEngine;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -20,6 +22,7 @@ import java.math.BigDecimal;
 public class VideoPokerController {
 
     private final VideoPokerEngine videoPokerEngine;
+    private final GameStateStore gameStateStore;
 
     @PostMapping("/deal")
     public ResponseEntity<VideoPokerResultData> dealInitialHand(
@@ -29,12 +32,13 @@ public class VideoPokerController {
         log.info("POST /games/video-poker/deal - userId: {}, betAmount: {}",
             userId, request.getBetAmount());
 
-        VideoPokerResultData result = videoPokerEngine.dealInitialHand(
+        VideoPokerResultData result = videoPokerEngine.deal(
             request.getServerSeed(),
             request.getClientSeed(),
             request.getNonce(),
             request.getBetAmount()
         );
+        result.setStateId(gameStateStore.create(userId, result));
 
         return ResponseEntity.ok(result);
     }
@@ -46,9 +50,13 @@ public class VideoPokerController {
     ) {
         log.info("POST /games/video-poker/draw - userId: {}", userId);
 
-        VideoPokerResultData result = videoPokerEngine.drawCards(
-            request.getCurrentGame(),
-            request.getHeldCards()
+        // The draw always ends the game, so the state is not stored again
+        VideoPokerResultData result = gameStateStore.advance(
+            userId,
+            request.getStateId(),
+            VideoPokerResultData.class,
+            game -> videoPokerEngine.draw(game, request.getHeldCards()),
+            game -> false
         );
 
         return ResponseEntity.ok(result);
@@ -91,8 +99,8 @@ public class VideoPokerController {
 
     @Data
     public static class DrawCardsRequest {
-        @NotNull
-        private VideoPokerResultData currentGame;
+        @NotBlank
+        private String stateId;
 
         @NotNull
         @Size(min = 5, max = 5)
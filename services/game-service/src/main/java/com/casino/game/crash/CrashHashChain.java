@@ -0,0 +1,293 @@
+package com.casino.game.crash;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reverse SHA-256 hash chain for shared crash rounds, precomputed into memory-mapped
+ * chain files.
+ * <p>
+ * hash[0] is a random secret and hash[i + 1] = SHA-256(hash[i]); rounds use the chain
+ * from the end, so once a round's hash is revealed anyone can check that it hashes to
+ * the previous round's hash, and the terminal hash commits to every round in advance.
+ * <p>
+ * File layout: a 16 byte header (magic, version, length, next index) followed by the
+ * 32 byte hashes in order, so a round's hash is read at {@code 16 + 32 * index}. The
+ * next index is forced to disk after each round, so a restart never reuses a hash.
+ * Chains are generated into a temporary file and renamed, and the following chain is
+ * generated in the background ({@link #prepareNext()}) before the current one runs out.
+ */
+@Slf4j
+public final class CrashHashChain implements AutoCloseable {
+
+    private static final int MAGIC = 0x43484149; // "CHAI"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int LENGTH_OFFSET = 8;
+    private static final int NEXT_OFFSET = 12;
+    private static final int HASH_SIZE = 32;
+    private static final int MAX_LENGTH = (Integer.MAX_VALUE - HEADER_SIZE) / HASH_SIZE;
+
+    private final Path directory;
+    private final int length;
+    private final SecureRandom random = new SecureRandom();
+
+    private ChainFile current;
+    private ChainFile next;
+    private boolean generating;
+
+    public CrashHashChain(Path directory, int length) {
+        if (length < 2 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Chain length must be between 2 and " + MAX_LENGTH);
+        }
+        this.directory = directory;
+        this.length = length;
+        open();
+    }
+
+    /**
+     * Hash of the next round: a read from the mapped chain, no hashing
+     */
+    public synchronized byte[] next() {
+        if (current.next < 0) {
+            ChainFile exhausted = current;
+            current = ensureNext();
+            next = null;
+            exhausted.delete();
+            log.info("Crash chain {} exhausted, switched to {} (commitment {})",
+                exhausted.file.getFileName(), current.file.getFileName(), getTerminalHash());
+        }
+        byte[] hash = current.hash(current.next);
+        current.advance();
+        return hash;
+    }
+
+    /**
+     * Published commitment of the current chain
+     */
+    public synchronized String getTerminalHash() {
+        return toHex(current.hash(current.length - 1));
+    }
+
+    /**
+     * Rounds left in the current chain
+     */
+    public synchronized int getRemaining() {
+        return current.next + 1;
+    }
+
+    /**
+     * Generate the following chain file if the current one is running low (below a
+     * tenth of its length). Called from a background job; slow for long chains, so the
+     * hashing runs without holding the chain's lock.
+     */
+    public void prepareNext() {
+        long sequence;
+        synchronized (this) {
+            if (next != null || generating || current.next + 1 > current.length / 10) {
+                return;
+            }
+            generating = true;
+            sequence = sequenceAfter(current);
+        }
+        ChainFile generated = null;
+        try {
+            generated = generate(sequence);
+        } finally {
+            synchronized (this) {
+                next = generated;
+                generating = false;
+                notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        current.buffer.force();
+    }
+
+    /**
+     * A revealed round hash followed by the hashes of the {@code count - 1} rounds
+     * before it (each the SHA-256 of the one before in the list)
+     */
+    public static List<byte[]> walk(byte[] roundHash, int count) {
+        MessageDigest digest = sha256();
+        List<byte[]> hashes = new ArrayList<>(count);
+        byte[] hash = roundHash;
+        for (int i = 0; i < count; i++) {
+            hashes.add(hash);
+            hash = digest.digest(hash);
+        }
+        return hashes;
+    }
+
+    public static byte[] sha256(byte[] input) {
+        return sha256().digest(input);
+    }
+
+    public static String toHex(byte[] hash) {
+        return HexFormat.of().formatHex(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Continue the oldest chain file with hashes left; later files are pre-generated
+     * chains, exhausted ones are removed
+     */
+    private void open() {
+        List<Path> files;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(f -> f.getFileName().toString().matches("chain-\\d{8}\\.bin")).sorted().toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open crash chain directory " + directory, e);
+        }
+
+        for (Path file : files) {
+            ChainFile chain = ChainFile.map(file);
+            if (chain.next < 0) {
+                chain.delete();
+            } else if (current == null) {
+                current = chain;
+            } else if (next == null) {
+                next = chain;
+            }
+        }
+        if (current == null) {
+            current = generate(1);
+        }
+        log.info("Crash chain {}: {} rounds left, commitment {}", current.file, getRemaining(), getTerminalHash());
+    }
+
+    /**
+     * The pre-generated chain, waiting for a background generation in progress or
+     * generating one here if there is none
+     */
+    private ChainFile ensureNext() {
+        while (generating) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for the next crash chain", e);
+            }
+        }
+        if (next == null) {
+            log.warn("No pre-generated crash chain in {}, generating one now", directory);
+            next = generate(sequenceAfter(current));
+        }
+        return next;
+    }
+
+    private ChainFile generate(long sequence) {
+        Path file = directory.resolve(String.format("chain-%08d.bin", sequence));
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        long started = System.nanoTime();
+        int size = HEADER_SIZE + length * HASH_SIZE;
+        try {
+            try (RandomAccessFile raf = new RandomAccessFile(temp.toFile(), "rw")) {
+                raf.setLength(size);
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+                byte[] hash = new byte[HASH_SIZE];
+                random.nextBytes(hash);
+                MessageDigest digest = sha256();
+                for (int i = 0; i < length; i++) {
+                    buffer.put(HEADER_SIZE + i * HASH_SIZE, hash);
+                    digest.update(hash);
+                    digest.digest(hash, 0, HASH_SIZE);
+                }
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(LENGTH_OFFSET, length);
+                // The terminal hash is the commitment, the first round uses the one before it
+                buffer.putInt(NEXT_OFFSET, length - 2);
+                buffer.force();
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot generate crash chain " + file, e);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+        log.info("Generated crash chain {} of {} rounds in {}ms",
+            file, length, (System.nanoTime() - started) / 1_000_000);
+        return ChainFile.map(file);
+    }
+
+    private static long sequenceAfter(ChainFile chain) {
+        String name = chain.file.getFileName().toString();
+        return Long.parseLong(name.substring(6, 14)) + 1;
+    }
+
+    private static final class ChainFile {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private final int length;
+        private int next;
+
+        private ChainFile(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+            this.length = buffer.getInt(LENGTH_OFFSET);
+            this.next = buffer.getInt(NEXT_OFFSET);
+        }
+
+        static ChainFile map(Path file) {
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IllegalStateException("Not a crash chain file: " + file);
+                }
+                return new ChainFile(file, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot map crash chain " + file, e);
+            }
+        }
+
+        byte[] hash(int index) {
+            byte[] hash = new byte[HASH_SIZE];
+            buffer.get(HEADER_SIZE + index * HASH_SIZE, hash);
+            return hash;
+        }
+
+        void advance() {
+            next--;
+            buffer.putInt(NEXT_OFFSET, next);
+            buffer.force(NEXT_OFFSET, 4);
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete crash chain {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package com.casino.game.crash;
+
+import com.casino.game.dto.CrashTableBet;
+import com.casino.game.dto.CrashTableEvent;
+import com.casino.game.exception.InvalidBetException;
+import com.casino.game.service.CrashGameEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One shared crash table: every player bets on the same round and sees the same
+ * multiplier. A single tick thread owns all round state:
+ * <ul>
+ *   <li>bets and cashouts arrive on lock-free queues and are drained once per tick, so
+ *       request threads never touch round state and need no locks</li>
+ *   <li>the multiplier is computed once per tick (e^(rate * t), floored to cents);
+ *       cashouts are paid at the tick's multiplier, never a client-supplied one</li>
+ *   <li>auto cashouts wait in a priority queue by target, so a tick only touches the
+ *       bets that actually cash out</li>
+ *   <li>each tick produces one frame, serialized once and written to all subscribers
+ *       by a separate broadcast thread, so slow clients cannot delay the round</li>
+ * </ul>
+ * Rounds run BETTING -> RUNNING -> CRASHED (cooldown) -> BETTING. Bets placed outside
+ * the betting window are queued for the next round.
+ */
+@Slf4j
+public class CrashTable {
+
+    // Multiplier growth per millisecond: 2x after ~11.5s, 10x after ~38s
+    private static final double GROWTH_RATE = 0.00006;
+    private static final int HISTORY_SIZE = 20;
+
+    private enum Phase { BETTING, RUNNING, CRASHED }
+
+    private final String tableId;
+    private final CrashGameEngine crashGameEngine;
+    private final CrashHashChain hashChain;
+    private final ObjectMapper objectMapper;
+    private final long tickMs;
+    private final long bettingMs;
+    private final long cooldownMs;
+    private final long emitterTimeoutMs;
+
+    private final Queue<BetCommand> betQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<CashoutCommand> cashoutQueue = new ConcurrentLinkedQueue<>();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService broadcaster;
+
+    // Round state, tick thread only
+    private Phase phase = Phase.CRASHED;
+    private long phaseStartedAt = System.currentTimeMillis();
+    private long roundId;
+    private byte[] roundHash;
+    private BigDecimal crashPoint;
+    private long crashPointCents;
+    private final Map<String, PlayerBet> bets = new HashMap<>();
+    private final List<PlayerBet> nextRoundBets = new ArrayList<>();
+    private final PriorityQueue<PlayerBet> autoCashouts =
+        new PriorityQueue<>(Comparator.comparing(PlayerBet::autoCashoutAt));
+
+    // Published for readers on other threads
+    private volatile CrashTableEvent lastEvent;
+    private final Deque<CrashTableEvent> history = new ArrayDeque<>();
+
+    public CrashTable(
+        String tableId,
+        CrashGameEngine crashGameEngine,
+        CrashHashChain hashChain,
+        ObjectMapper objectMapper,
+        long tickMs,
+        long bettingMs,
+        long cooldownMs,
+        long emitterTimeoutMs
+    ) {
+        this.tableId = tableId;
+        this.crashGameEngine = crashGameEngine;
+        this.hashChain = hashChain;
+        this.objectMapper = objectMapper;
+        this.tickMs = tickMs;
+        this.bettingMs = bettingMs;
+        this.cooldownMs = cooldownMs;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "crash-table-" + tableId));
+        this.broadcaster = Executors.newSingleThreadExecutor(r -> new Thread(r, "crash-table-" + tableId + "-broadcast"));
+    }
+
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tickSafely, 0, tickMs, TimeUnit.MILLISECONDS);
+        log.info("Crash table {} started, tick {}ms, chain commitment {}", tableId, tickMs, hashChain.getTerminalHash());
+    }
+
+    public void stop() {
+        ticker.shutdownNow();
+        broadcaster.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        hashChain.close();
+    }
+
+    public String getTableId() {
+        return tableId;
+    }
+
+    public CrashHashChain getHashChain() {
+        return hashChain;
+    }
+
+    public CrashTableEvent getLastEvent() {
+        return lastEvent;
+    }
+
+    public List<CrashTableEvent> getHistory() {
+        synchronized (history) {
+            return List.copyOf(history);
+        }
+    }
+
+    /**
+     * Bet on the current round if it is taking bets, otherwise on the next one.
+     * Completes on the next tick.
+     */
+    public CompletableFuture<CrashTableBet> bet(String userId, BigDecimal betAmount, BigDecimal autoCashoutAt) {
+        BetCommand command = new BetCommand(userId, betAmount, autoCashoutAt, new CompletableFuture<>());
+        betQueue.add(command);
+        return command.result;
+    }
+
+    /**
+     * Cash out at the multiplier of the tick that processes the request
+     */
+    public CompletableFuture<CrashTableBet> cashout(String userId) {
+        CashoutCommand command = new CashoutCommand(userId, new CompletableFuture<>());
+        cashoutQueue.add(command);
+        return command.result;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        return emitter;
+    }
+
+    private void tickSafely() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (Exception e) {
+            // An exception would cancel the schedule and stop the table
+            log.error("Crash table {} tick failed", tableId, e);
+        }
+    }
+
+    void tick(long now) {
+        long elapsed = now - phaseStartedAt;
+        switch (phase) {
+            case BETTING -> {
+                List<CrashTableBet> placed = drainBets();
+                if (elapsed >= bettingMs) {
+                    startRound(now, placed);
+                } else {
+                    rejectCashouts("Round " + roundId + " has not started");
+                    if (!placed.isEmpty()) {
+                        publish(event("BETTING").bettingEndsInMs(bettingMs - elapsed).bets(placed).build());
+                    }
+                }
+            }
+            case RUNNING -> runningTick(elapsed);
+            case CRASHED -> {
+                rejectCashouts("Round " + roundId + " has crashed");
+                if (elapsed >= cooldownMs) {
+                    openBetting(now);
+                } else {
+                    List<CrashTableBet> queued = drainBets();
+                    if (!queued.isEmpty()) {
+                        publish(event("CRASHED").bets(queued).build());
+                    }
+                }
+            }
+        }
+    }
+
+    private void openBetting(long now) {
+        roundId++;
+        roundHash = hashChain.next();
+        crashPoint = crashGameEngine.crashPointForHash(roundHash);
+        crashPointCents = crashPoint.movePointRight(2).longValueExact();
+        bets.clear();
+        autoCashouts.clear();
+        phase = Phase.BETTING;
+        phaseStartedAt = now;
+
+        List<CrashTableBet> placed = new ArrayList<>();
+        for (PlayerBet bet : nextRoundBets) {
+            placed.add(place(bet));
+        }
+        nextRoundBets.clear();
+        placed.addAll(drainBets());
+        publish(event("BETTING").bettingEndsInMs(bettingMs).bets(placed).build());
+    }
+
+    private void startRound(long now, List<CrashTableBet> placed) {
+        phase = Phase.RUNNING;
+        phaseStartedAt = now;
+        rejectCashouts("Round " + roundId + " has not started");
+        publish(event("STARTED").multiplier(BigDecimal.ONE.setScale(2)).elapsedMs(0L).bets(placed).build());
+    }
+
+    private void runningTick(long elapsed) {
+        long multiplierCents = Math.max(100, (long) Math.floor(100 * Math.exp(GROWTH_RATE * elapsed)));
+        boolean crashed = multiplierCents >= crashPointCents;
+        long reachedCents = crashed ? crashPointCents : multiplierCents;
+        List<CrashTableBet> settled = new ArrayList<>(drainBets());
+
+        // Auto cashouts at or below the reached multiplier pay out at their own target
+        while (!autoCashouts.isEmpty()
+            && autoCashouts.peek().autoCashoutAt().movePointRight(2).longValueExact() <= reachedCents) {
+            PlayerBet bet = autoCashouts.poll();
+            if (bet.status == BetStatus.PLACED) {
+                settled.add(cashOut(bet, bet.autoCashoutAt()));
+            }
+        }
+
+        if (crashed) {
+            rejectCashouts("Round " + roundId + " has crashed");
+            for (PlayerBet bet : bets.values()) {
+                if (bet.status == BetStatus.PLACED) {
+                    bet.status = BetStatus.LOST;
+                    settled.add(bet.view(tableId, roundId));
+                }
+            }
+            phase = Phase.CRASHED;
+            phaseStartedAt += elapsed;
+            CrashTableEvent crashedEvent = event("CRASHED")
+                .multiplier(crashPoint)
+                .elapsedMs(elapsed)
+                .crashPoint(crashPoint)
+                .roundHash(CrashHashChain.toHex(roundHash))
+                .bets(settled)
+                .build();
+            remember(crashedEvent);
+            publish(crashedEvent);
+            return;
+        }
+
+        BigDecimal multiplier = BigDecimal.valueOf(multiplierCents, 2);
+        CashoutCommand command;
+        while ((command = cashoutQueue.poll()) != null) {
+            PlayerBet bet = bets.get(command.userId);
+            if (bet == null || bet.status != BetStatus.PLACED) {
+                command.result.completeExceptionally(
+                    new InvalidBetException("No open bet in round " + roundId));
+                continue;
+            }
+            CrashTableBet view = cashOut(bet, multiplier);
+            command.result.complete(view);
+            settled.add(view);
+        }
+
+        publish(event("TICK").multiplier(multiplier).elapsedMs(elapsed).bets(settled).build());
+    }
+
+    /**
+     * Accept queued bets: into the current round while it takes bets, otherwise held
+     * for the next one. Returns the accepted bets for the tick's frame.
+     */
+    private List<CrashTableBet> drainBets() {
+        List<CrashTableBet> accepted = new ArrayList<>();
+        BetCommand command;
+        while ((command = betQueue.poll()) != null) {
+            if (command.betAmount.signum() <= 0) {
+                command.result.completeExceptionally(new InvalidBetException("Bet amount must be positive"));
+                continue;
+            }
+            // Auto cashouts trigger on whole cents and pay the requested multiplier
+            if (command.autoCashoutAt != null && (command.autoCashoutAt.compareTo(BigDecimal.ONE) <= 0
+                || command.autoCashoutAt.stripTrailingZeros().scale() > 2)) {
+                command.result.completeExceptionally(
+                    new InvalidBetException("Auto cashout must be above 1.00x with at most two decimals"));
+                continue;
+            }
+            String userId = command.userId;
+            PlayerBet bet = new PlayerBet(userId, command.betAmount, command.autoCashoutAt);
+            if (phase == Phase.BETTING) {
+                if (bets.containsKey(userId)) {
+                    command.result.completeExceptionally(
+                        new InvalidBetException("Already betting in round " + roundId));
+                    continue;
+                }
+                CrashTableBet view = place(bet);
+                command.result.complete(view);
+                accepted.add(view);
+            } else {
+                if (nextRoundBets.stream().anyMatch(b -> b.userId.equals(userId))) {
+                    command.result.completeExceptionally(
+                        new InvalidBetException("Already betting in the next round"));
+                    continue;
+                }
+                nextRoundBets.add(bet);
+                CrashTableBet view = bet.view(tableId, null);
+                command.result.complete(view);
+                accepted.add(view);
+            }
+        }
+        return accepted;
+    }
+
+    private CrashTableBet place(PlayerBet bet) {
+        bet.status = BetStatus.PLACED;
+        bets.put(bet.userId, bet);
+        if (bet.autoCashoutAt != null) {
+            autoCashouts.add(bet);
+        }
+        return bet.view(tableId, roundId);
+    }
+
+    private CrashTableBet cashOut(PlayerBet bet, BigDecimal multiplier) {
+        bet.status = BetStatus.CASHED_OUT;
+        bet.cashedOutAt = multiplier;
+        return bet.view(tableId, roundId);
+    }
+
+    private void rejectCashouts(String reason) {
+        CashoutCommand command;
+        while ((command = cashoutQueue.poll()) != null) {
+            command.result.completeExceptionally(new InvalidBetException(reason));
+        }
+    }
+
+    private CrashTableEvent.CrashTableEventBuilder event(String type) {
+        return CrashTableEvent.builder()
+            .type(type)
+            .tableId(tableId)
+            .roundId(roundId)
+            .players(bets.size());
+    }
+
+    private void remember(CrashTableEvent crashed) {
+        CrashTableEvent summary = crashed.toBuilder().bets(null).build();
+        synchronized (history) {
+            history.addFirst(summary);
+            if (history.size() > HISTORY_SIZE) {
+                history.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Serialize the frame once and hand it to the broadcast thread
+     */
+    private void publish(CrashTableEvent event) {
+        lastEvent = event;
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String frame;
+        try {
+            frame = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize crash table event", e);
+            return;
+        }
+        broadcaster.execute(() -> {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event().name(event.getType()).data(frame, MediaType.APPLICATION_JSON));
+                } catch (Exception e) {
+                    subscribers.remove(emitter);
+                    emitter.completeWithError(e);
+                }
+            }
+        });
+    }
+
+    private enum BetStatus { PLACED, CASHED_OUT, LOST }
+
+    private static final class PlayerBet {
+        private final String userId;
+        private final BigDecimal betAmount;
+        private final BigDecimal autoCashoutAt;
+        private BetStatus status;
+        private BigDecimal cashedOutAt;
+
+        PlayerBet(String userId, BigDecimal betAmount, BigDecimal autoCashoutAt) {
+            this.userId = userId;
+            this.betAmount = betAmount;
+            this.autoCashoutAt = autoCashoutAt;
+        }
+
+        BigDecimal autoCashoutAt() {
+            return autoCashoutAt;
+        }
+
+        CrashTableBet view(String tableId, Long roundId) {
+            return CrashTableBet.builder()
+                .tableId(tableId)
+                .roundId(roundId)
+                .userId(userId)
+                .betAmount(betAmount)
+                .autoCashoutAt(autoCashoutAt)
+                .cashedOutAt(cashedOutAt)
+                .payout(status == BetStatus.CASHED_OUT ? betAmount.multiply(cashedOutAt)
+                    : status == BetStatus.LOST ? BigDecimal.ZERO : null)
+                .status(status == null ? "QUEUED" : status.name())
+                .build();
+        }
+    }
+
+    private record BetCommand(
+        String userId,
+        BigDecimal betAmount,
+        BigDecimal autoCashoutAt,
+        CompletableFuture<CrashTableBet> result
+    ) {
+    }
+
+    private record CashoutCommand(String userId, CompletableFuture<CrashTableBet> result) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.casino.game.crash;
+
+import com.casino.game.dto.CrashChainRound;
+import com.casino.game.exception.GameNotFoundException;
+import com.casino.game.service.CrashGameEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the shared crash tables listed in game.crash.tables, one tick thread each
+ */
+@Component
+public class CrashTableManager {
+
+    private final CrashGameEngine crashGameEngine;
+    private final Map<String, CrashTable> tables = new LinkedHashMap<>();
+
+    public CrashTableManager(
+        CrashGameEngine crashGameEngine,
+        ObjectMapper objectMapper,
+        @Value("${game.crash.tables:main}") List<String> tableIds,
+        @Value("${game.crash.tick:100ms}") Duration tick,
+        @Value("${game.crash.betting-window:5s}") Duration bettingWindow,
+        @Value("${game.crash.cooldown:3s}") Duration cooldown,
+        @Value("${game.crash.chain.dir:data/crash-chains}") Path chainDirectory,
+        @Value("${game.crash.chain.length:1000000}") int chainLength,
+        @Value("${game.crash.stream-timeout:30m}") Duration streamTimeout
+    ) {
+        this.crashGameEngine = crashGameEngine;
+        for (String tableId : tableIds) {
+            tables.put(tableId, new CrashTable(
+                tableId,
+                crashGameEngine,
+                new CrashHashChain(chainDirectory.resolve(tableId), chainLength),
+                objectMapper,
+                tick.toMillis(),
+                bettingWindow.toMillis(),
+                cooldown.toMillis(),
+                streamTimeout.toMillis()
+            ));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        tables.values().forEach(CrashTable::start);
+    }
+
+    @PreDestroy
+    public void stop() {
+        tables.values().forEach(CrashTable::stop);
+    }
+
+    /**
+     * Pre-generate the next hash chain of tables whose current chain is running low
+     */
+    public void prepareChains() {
+        tables.values().forEach(table -> table.getHashChain().prepareNext());
+    }
+
+    /**
+     * Recompute a revealed round and the {@code rounds - 1} rounds before it: each hash
+     * is the SHA-256 of the one after it, and each crash point follows from its hash
+     */
+    public List<CrashChainRound> verify(String roundHash, int rounds) {
+        byte[] hash = HexFormat.of().parseHex(roundHash);
+        return CrashHashChain.walk(hash, rounds).stream()
+            .map(h -> CrashChainRound.builder()
+                .roundHash(CrashHashChain.toHex(h))
+                .crashPoint(crashGameEngine.crashPointForHash(h))
+                .build())
+            .toList();
+    }
+
+    public CrashTable getTable(String tableId) {
+        CrashTable table = tables.get(tableId);
+        if (table == null) {
+            throw new GameNotFoundException("Crash table not found: " + tableId);
+        }
+        return table;
+    }
+
+    public List<String> getTableIds() {
+        return List.copyOf(tables.keySet());
+    }
+}
@@ -0,0 +1,74 @@
+package com.casino.game.dto;
+
+import com.casino.game.service.CoinFlipEngine;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Consecutive rounds of an instant game (dice, coin flip, keno, slots) played in one
+ * call. Stops early on the profit or loss limits, or when the next bet is not allowed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutoBetRequest {
+
+    @NotBlank(message = "Session ID is required")
+    private String sessionId;
+
+    @NotNull(message = "Bet amount is required")
+    @DecimalMin(value = "0.01", message = "Bet amount must be at least 0.01")
+    private BigDecimal betAmount; // First bet; later bets follow the strategy
+
+    @NotNull(message = "Round count is required")
+    @Min(value = 1, message = "At least one round is required")
+    private Integer count; // Capped by game.autobet.max-rounds
+
+    @DecimalMin(value = "0.01", message = "Stop on profit must be positive")
+    private BigDecimal stopOnProfit; // Optional: stop once net profit reaches this
+
+    @DecimalMin(value = "0.01", message = "Stop on loss must be positive")
+    private BigDecimal stopOnLoss; // Optional: stop once net loss reaches this
+
+    @Builder.Default
+    private BetStrategy betStrategy = BetStrategy.FLAT;
+
+    // Optional client seed for provably fair gaming
+    private String clientSeed;
+
+    // Dice
+    @Min(2)
+    @Max(98)
+    private Integer target;
+    private Boolean rollOver;
+
+    // Coin flip
+    private CoinFlipEngine.CoinSide side;
+
+    // Keno
+    @Size(min = 1, max = 10)
+    private List<Integer> picks;
+
+    /**
+     * Stream each round as a line of the response (application/x-ndjson) before the summary
+     */
+    private boolean includeRounds;
+
+    public enum BetStrategy {
+        FLAT,       // Same bet every round
+        MARTINGALE, // Double after a loss, back to the first bet after a win
+        PAROLI      // Double after a win, back to the first bet after a loss
+    }
+}
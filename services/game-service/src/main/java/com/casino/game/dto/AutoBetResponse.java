@@ -0,0 +1,48 @@
+package com.casino.game.dto;
+
+import com.casino.game.entity.GameResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Summary of an auto-bet run
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AutoBetResponse {
+    private String sessionId;
+    private int roundsPlayed;
+    private Long firstRound;
+    private Long lastRound;
+    private int roundsWon;
+    private BigDecimal totalBet;
+    private BigDecimal totalWon;
+    private BigDecimal netProfit;
+    private BigDecimal biggestWin;
+    private BigDecimal balanceAfter;
+    private String stopReason; // COUNT, PROFIT, LOSS, BALANCE, BET_LIMIT
+    private List<Round> rounds; // Only with includeRounds
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Round {
+        private Long roundNumber;
+        private GameResult.RoundOutcome outcome;
+        private BigDecimal betAmount;
+        private BigDecimal winAmount;
+        private BigDecimal multiplier;
+        private BigDecimal balanceAfter;
+        private String serverSeed;
+    }
+}
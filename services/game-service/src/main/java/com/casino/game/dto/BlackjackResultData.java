@@ -1,6 +1,6 @@
 package com.casino.game.dto;
 
-import com.casino.game.service.BlackjackEngine;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,8 +12,9 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BlackjackResultData {
+    private String stateId; // Handle for the next action (see GameStateStore)
     private List<String> playerHand;
     private List<String> dealerHand;
     private List<String> dealerVisible; // Only dealer's visible cards
@@ -27,6 +28,13 @@ public class BlackjackResultData {
     private Boolean canDouble;
     private Boolean canSplit;
 
-    // For continuing the game (not sent to client)
-    private List<BlackjackEngine.Card> deck;
+    // For continuing the game (not sent to client): byte-encoded cards, see engine.cards.Cards
+    @JsonIgnore
+    private byte[] playerCards;
+    @JsonIgnore
+    private byte[] dealerCards;
+    @JsonIgnore
+    private byte[] deck;
+    @JsonIgnore
+    private Integer deckPosition;
 }
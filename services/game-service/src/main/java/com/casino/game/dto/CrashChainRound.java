@@ -0,0 +1,20 @@
+package com.casino.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A crash table round recomputed from the hash chain
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrashChainRound {
+    private String roundHash;
+    private BigDecimal crashPoint;
+}
@@ -10,8 +10,9 @@ import java.math.BigDecimal;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CrashGameResultData {
+    private String stateId; // Handle for a manual cashout (see GameStateStore)
     private BigDecimal crashPoint; // Where the game crashed (e.g., 2.45x)
     private BigDecimal betAmount;
     private BigDecimal autoCashoutAt; // Auto cashout multiplier (optional)
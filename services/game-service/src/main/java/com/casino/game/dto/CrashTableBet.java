@@ -0,0 +1,26 @@
+package com.casino.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A player's bet on a shared crash table round
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class CrashTableBet {
+    private String tableId;
+    private Long roundId; // Null while queued for the next round
+    private String userId;
+    private BigDecimal betAmount;
+    private BigDecimal autoCashoutAt; // Optional
+    private BigDecimal cashedOutAt;
+    private BigDecimal payout;
+    private String status; // QUEUED, PLACED, CASHED_OUT, LOST
+}
@@ -0,0 +1,30 @@
+package com.casino.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Frame broadcast to a crash table's subscribers, once per tick or phase change.
+ * Everything that happened on the table during the tick travels in the same frame.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class CrashTableEvent {
+    private String type; // BETTING, STARTED, TICK, CRASHED
+    private String tableId;
+    private Long roundId;
+    private BigDecimal multiplier;
+    private Long elapsedMs;
+    private Long bettingEndsInMs; // BETTING only
+    private Integer players;
+    private List<CrashTableBet> bets; // Bets placed, cashed out or lost during the tick
+    private BigDecimal crashPoint; // CRASHED only
+    private String roundHash; // CRASHED only: SHA-256 of it is the previous round's hash
+}
@@ -0,0 +1,29 @@
+package com.casino.game.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Admin change to a game's settings; fields left null are not changed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameConfigUpdateRequest {
+
+    private Boolean active;
+
+    @DecimalMin(value = "0.01", message = "Minimum bet must be at least 0.01")
+    private BigDecimal minBet;
+
+    @DecimalMin(value = "0.01", message = "Maximum bet must be at least 0.01")
+    private BigDecimal maxBet;
+
+    private String imageUrl;
+}
@@ -0,0 +1,16 @@
+package com.casino.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated history; nextCursor is null on the last page
+ */
+@Data
+@AllArgsConstructor
+public class HistoryPage<T> {
+    private List<T> items;
+    private String nextCursor;
+}
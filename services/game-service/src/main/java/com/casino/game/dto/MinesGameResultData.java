@@ -7,16 +7,22 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.Set;
+import java.util.TreeSet;
 
+/**
+ * Mines game state. The 5x5 grid is held in two bit masks (bit i is tile i);
+ * minePositions and revealedPositions are views of them for the API.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class MinesGameResultData {
+    private String stateId; // Handle for the next action (see GameStateStore)
     private BigDecimal betAmount;
     private Integer numberOfMines;
-    private Set<Integer> minePositions; // Positions of mines (hidden until game ends)
-    private Set<Integer> revealedPositions; // Positions revealed by player
+    private Integer mineMask; // Mines (hidden until game ends)
+    private Integer revealedMask; // Tiles revealed by player
     private Integer gemsFound;
     private BigDecimal currentMultiplier;
     private BigDecimal currentPayout;
@@ -24,4 +30,36 @@ public class MinesGameResultData {
     private Boolean canCashout;
     private String serverSeed;
     private Long nonce;
+
+    public Set<Integer> getMinePositions() {
+        return mineMask == null ? null : positions(mineMask);
+    }
+
+    public void setMinePositions(Set<Integer> positions) {
+        mineMask = positions == null ? null : mask(positions);
+    }
+
+    public Set<Integer> getRevealedPositions() {
+        return revealedMask == null ? null : positions(revealedMask);
+    }
+
+    public void setRevealedPositions(Set<Integer> positions) {
+        revealedMask = positions == null ? null : mask(positions);
+    }
+
+    private static Set<Integer> positions(int mask) {
+        Set<Integer> positions = new TreeSet<>();
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            positions.add(Integer.numberOfTrailingZeros(bits));
+        }
+        return positions;
+    }
+
+    private static int mask(Set<Integer> positions) {
+        int mask = 0;
+        for (int position : positions) {
+            mask |= 1 << position;
+        }
+        return mask;
+    }
 }
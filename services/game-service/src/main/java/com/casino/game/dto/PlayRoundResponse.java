@@ -25,6 +25,7 @@ public class PlayRoundResponse {
     private String resultData; // JSON string with game-specific data
     private String serverSeed;
     private Long nonce;
+    private Integer rngVersion;
     private boolean isBigWin;
     private boolean isMegaWin;
 }
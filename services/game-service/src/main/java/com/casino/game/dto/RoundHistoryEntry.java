@@ -0,0 +1,36 @@
+package com.casino.game.dto;
+
+import com.casino.game.entity.GameResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A settled round in a player's history, across sessions and games
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoundHistoryEntry {
+    private String resultId;
+    private String sessionId;
+    private String gameCode;
+    private Long roundNumber;
+    private GameResult.RoundOutcome outcome;
+    private BigDecimal betAmount;
+    private BigDecimal winAmount;
+    private BigDecimal netProfit;
+    private BigDecimal multiplier;
+    private BigDecimal balanceAfter;
+    private String resultData; // JSON string with game-specific data
+    private String serverSeed;
+    private String clientSeed;
+    private Long nonce;
+    private Integer rngVersion;
+    private LocalDateTime createdAt;
+}
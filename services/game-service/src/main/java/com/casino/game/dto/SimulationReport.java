@@ -0,0 +1,44 @@
+package com.casino.game.dto;
+
+import com.casino.game.simulation.SimulatedGame;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Aggregate results of a simulation, complete or in progress
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationReport {
+    private String id;
+    private SimulatedGame game;
+    private Map<String, String> params;
+    private BigDecimal betAmount;
+    private String serverSeed;
+    private String clientSeed;
+    private String status; // RUNNING, COMPLETED, CANCELLED, FAILED
+    private String error;
+
+    private long roundsRequested;
+    private long roundsCompleted;
+    private BigDecimal totalBet;
+    private BigDecimal totalWon;
+
+    private double rtp;
+    private double rtpLower; // 95% confidence interval
+    private double rtpUpper;
+    private double hitFrequency;
+    private double volatility; // Standard deviation of the win multiple per round
+    private double maxMultiple;
+    private Map<String, Long> histogram; // Rounds per win multiple bucket
+
+    private long elapsedMs;
+    private long roundsPerSecond;
+}
@@ -0,0 +1,44 @@
+package com.casino.game.dto;
+
+import com.casino.game.simulation.SimulatedGame;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationRequest {
+
+    @NotNull(message = "Game is required")
+    private SimulatedGame game;
+
+    @Min(value = 1, message = "At least one round is required")
+    @Max(value = 1_000_000_000, message = "At most 1000000000 rounds")
+    private long rounds;
+
+    @Builder.Default
+    @DecimalMin(value = "0.01", message = "Bet amount must be at least 0.01")
+    private BigDecimal betAmount = BigDecimal.ONE;
+
+    private String serverSeed; // Optional, generated when missing
+
+    @Builder.Default
+    private String clientSeed = "simulation";
+
+    /**
+     * Game specific bet, e.g. picks=1,2,3 for KENO or betType=red for ROULETTE
+     */
+    @Builder.Default
+    private Map<String, String> params = new HashMap<>();
+}
@@ -0,0 +1,51 @@
+package com.casino.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact expected return of a slot paytable, per unit bet, computed from the symbol
+ * probabilities instead of sampled spins
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotRtpReport {
+    private String game;
+    private double rtp;
+    private double lineRtp;
+    private double scatterRtp;
+    private BigDecimal configuredRtpPercentage; // GameConfig.rtpPercentage, when there is one
+    private double bonusProbability; // Chance a spin awards free spins (not part of the RTP)
+    private double expectedFreeSpins;
+    private List<SymbolContribution> symbols;
+    private List<LineContribution> lines;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SymbolContribution {
+        private String symbol;
+        private double probability; // Per reel position
+        private Map<Integer, Double> hitProbabilities; // Paying count -> expected hits per spin, over all lines
+        private double rtp;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LineContribution {
+        private int lineNumber;
+        private int[] rows;
+        private double rtp;
+    }
+}
@@ -1,6 +1,7 @@
 package com.casino.game.dto;
 
 import com.casino.game.service.VideoPokerEngine;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +15,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class VideoPokerResultData {
+    private String stateId; // Handle for the draw (see GameStateStore)
     private List<String> hand; // 5 cards
     private boolean[] heldCards; // which cards to hold
     private VideoPokerEngine.HandRank handRank;
@@ -21,6 +23,11 @@ public class VideoPokerResultData {
     private BigDecimal payout;
     private String gameState; // INITIAL_DEAL, COMPLETE
 
-    // For continuing the game (not sent to client)
-    private List<VideoPokerEngine.Card> deck;
+    // For continuing the game (not sent to client): byte-encoded cards, see engine.cards.Cards
+    @JsonIgnore
+    private byte[] handCards;
+    @JsonIgnore
+    private byte[] deck;
+    @JsonIgnore
+    private Integer deckPosition;
 }
@@ -1,15 +1,17 @@
 package com.casino.game.engine;
 
 import com.casino.game.dto.BaccaratResultData;
+import com.casino.game.engine.cards.Cards;
+import com.casino.game.engine.cards.DeckOrder;
 import com.casino.game.service.RngService;
+import com.casino.game.service.RngStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Baccarat Game Engine
@@ -26,9 +28,8 @@ public class BaccaratGameEngine {
     private static final double HOUSE_EDGE_PLAYER = 0.0124; // 1.24% on player
     private static final double HOUSE_EDGE_TIE = 0.1436;    // 14.36% on tie
 
-    // Card ranks (1-13 representing A, 2-10, J, Q, K)
-    private static final String[] RANKS = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
-    private static final String[] SUITS = {"♠", "♥", "♦", "♣"};
+    // Cards are drawn from an infinite shoe: each draw is an index into the A..K, suit by suit order
+    private static final DeckOrder SHOE_ORDER = DeckOrder.ACE_FIRST;
 
     public enum BetType {
         PLAYER,
@@ -48,19 +49,20 @@ public class BaccaratGameEngine {
     public BaccaratResultData play(String serverSeed, String clientSeed, long nonce,
                                     BetType betType, BigDecimal betAmount) {
 
-        // Deal initial cards (2 to player, 2 to banker)
-        List<Card> playerCards = new ArrayList<>();
-        List<Card> bankerCards = new ArrayList<>();
+        // Deal initial cards (2 to player, 2 to banker); at most 3 each
+        RngStream rng = rngService.stream(serverSeed, clientSeed, nonce);
+        byte[] playerCards = new byte[3];
+        byte[] bankerCards = new byte[3];
 
-        playerCards.add(drawCard(serverSeed, clientSeed, nonce));
-        bankerCards.add(drawCard(serverSeed, clientSeed, nonce + 1));
-        playerCards.add(drawCard(serverSeed, clientSeed, nonce + 2));
-        bankerCards.add(drawCard(serverSeed, clientSeed, nonce + 3));
+        playerCards[0] = drawCard(rng);
+        bankerCards[0] = drawCard(rng);
+        playerCards[1] = drawCard(rng);
+        bankerCards[1] = drawCard(rng);
+        int playerCount = 2;
+        int bankerCount = 2;
 
-        int playerScore = calculateScore(playerCards);
-        int bankerScore = calculateScore(bankerCards);
-
-        long cardNonce = nonce + 4;
+        int playerScore = calculateScore(playerCards, playerCount);
+        int bankerScore = calculateScore(bankerCards, bankerCount);
 
         // Natural check (8 or 9)
         boolean playerNatural = playerScore >= 8;
@@ -69,21 +71,21 @@ public class BaccaratGameEngine {
         if (!playerNatural && !bankerNatural) {
             // Player's third card rule
             if (playerScore <= 5) {
-                Card playerThirdCard = drawCard(serverSeed, clientSeed, cardNonce++);
-                playerCards.add(playerThirdCard);
-                playerScore = calculateScore(playerCards);
+                byte playerThirdCard = drawCard(rng);
+                playerCards[playerCount++] = playerThirdCard;
+                playerScore = calculateScore(playerCards, playerCount);
 
                 // Banker's third card rule (depends on player's third card)
                 int playerThirdValue = getCardValue(playerThirdCard);
                 if (shouldBankerDrawThirdCard(bankerScore, playerThirdValue)) {
-                    bankerCards.add(drawCard(serverSeed, clientSeed, cardNonce++));
-                    bankerScore = calculateScore(bankerCards);
+                    bankerCards[bankerCount++] = drawCard(rng);
+                    bankerScore = calculateScore(bankerCards, bankerCount);
                 }
             } else {
                 // Player stands, banker draws on 0-5
                 if (bankerScore <= 5) {
-                    bankerCards.add(drawCard(serverSeed, clientSeed, cardNonce++));
-                    bankerScore = calculateScore(bankerCards);
+                    bankerCards[bankerCount++] = drawCard(rng);
+                    bankerScore = calculateScore(bankerCards, bankerCount);
                 }
             }
         }
@@ -104,8 +106,8 @@ public class BaccaratGameEngine {
         boolean isWin = payout.compareTo(betAmount) > 0;
 
         return BaccaratResultData.builder()
-            .playerCards(convertCardsToString(playerCards))
-            .bankerCards(convertCardsToString(bankerCards))
+            .playerCards(Cards.toStrings(Arrays.copyOf(playerCards, playerCount)))
+            .bankerCards(Cards.toStrings(Arrays.copyOf(bankerCards, bankerCount)))
             .playerScore(playerScore)
             .bankerScore(bankerScore)
             .winner(winner)
@@ -122,21 +124,17 @@ public class BaccaratGameEngine {
     /**
      * Draw a random card
      */
-    private Card drawCard(String serverSeed, String clientSeed, long nonce) {
-        int cardIndex = rngService.generateRandomNumber(serverSeed, clientSeed, nonce, 52);
-        int rankIndex = cardIndex % 13;
-        int suitIndex = cardIndex / 13;
-
-        return new Card(RANKS[rankIndex], SUITS[suitIndex]);
+    private byte drawCard(RngStream rng) {
+        return SHOE_ORDER.cardAt(rng.nextInt(Cards.DECK_SIZE));
     }
 
     /**
      * Calculate baccarat score (0-9)
      */
-    private int calculateScore(List<Card> cards) {
+    private int calculateScore(byte[] cards, int count) {
         int total = 0;
-        for (Card card : cards) {
-            total += getCardValue(card);
+        for (int i = 0; i < count; i++) {
+            total += getCardValue(cards[i]);
         }
         return total % 10; // Only last digit counts
     }
@@ -144,19 +142,12 @@ public class BaccaratGameEngine {
     /**
      * Get card value in baccarat (A=1, 2-9=face, 10/J/Q/K=0)
      */
-    private int getCardValue(Card card) {
-        switch (card.rank) {
-            case "A": return 1;
-            case "2": return 2;
-            case "3": return 3;
-            case "4": return 4;
-            case "5": return 5;
-            case "6": return 6;
-            case "7": return 7;
-            case "8": return 8;
-            case "9": return 9;
-            default: return 0; // 10, J, Q, K
+    private int getCardValue(byte card) {
+        int rank = Cards.rank(card);
+        if (rank == Cards.ACE) {
+            return 1;
         }
+        return rank < Cards.TEN ? rank + 2 : 0; // 10, J, Q, K
     }
 
     /**
@@ -203,25 +194,4 @@ public class BaccaratGameEngine {
             return BigDecimal.ZERO;
         }
     }
-
-    /**
-     * Convert cards to display strings
-     */
-    private List<String> convertCardsToString(List<Card> cards) {
-        List<String> result = new ArrayList<>();
-        for (Card card : cards) {
-            result.add(card.rank + card.suit);
-        }
-        return result;
-    }
-
-    /**
-     * Card representation
-     */
-    @lombok.Data
-    @lombok.AllArgsConstructor
-    private static class Card {
-        private String rank;
-        private String suit;
-    }
 }
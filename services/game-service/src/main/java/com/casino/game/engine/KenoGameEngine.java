@@ -2,6 +2,7 @@ package com.casino.game.engine;
 
 import com.casino.game.dto.KenoResultData;
 import com.casino.game.service.RngService;
+import com.casino.game.service.RngStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -77,19 +78,12 @@ public class KenoGameEngine {
             }
         }
 
-        // Draw 20 random numbers
+        // Draw 20 random numbers; a duplicate is redrawn from the next outcome
+        // (redrawing with the same nonce would return the same number forever)
         Set<Integer> drawnNumbers = new HashSet<>();
-        for (int i = 0; i < DRAW_COUNT; i++) {
-            int randomNum;
-            do {
-                randomNum = rngService.generateRandomNumber(
-                    serverSeed,
-                    clientSeed,
-                    nonce + i,
-                    MAX_NUMBER
-                ) + 1; // +1 because we want 1-80, not 0-79
-            } while (drawnNumbers.contains(randomNum));
-            drawnNumbers.add(randomNum);
+        RngStream rng = rngService.stream(serverSeed, clientSeed, nonce);
+        while (drawnNumbers.size() < DRAW_COUNT) {
+            drawnNumbers.add(rng.nextInt(MAX_NUMBER) + 1); // +1 because we want 1-80, not 0-79
         }
 
         // Count matches
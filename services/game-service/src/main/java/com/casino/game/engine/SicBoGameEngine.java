@@ -2,6 +2,7 @@ package com.casino.game.engine;
 
 import com.casino.game.dto.SicBoResultData;
 import com.casino.game.service.RngService;
+import com.casino.game.service.RngStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -104,9 +105,10 @@ public class SicBoGameEngine {
         }
 
         // Roll three dice
-        int die1 = rngService.generateRandomNumber(serverSeed, clientSeed, nonce, 6) + 1;
-        int die2 = rngService.generateRandomNumber(serverSeed, clientSeed, nonce + 1, 6) + 1;
-        int die3 = rngService.generateRandomNumber(serverSeed, clientSeed, nonce + 2, 6) + 1;
+        RngStream rng = rngService.stream(serverSeed, clientSeed, nonce);
+        int die1 = rng.nextInt(6) + 1;
+        int die2 = rng.nextInt(6) + 1;
+        int die3 = rng.nextInt(6) + 1;
 
         List<Integer> dice = Arrays.asList(die1, die2, die3);
         int total = die1 + die2 + die3;
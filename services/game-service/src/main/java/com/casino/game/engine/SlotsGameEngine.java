@@ -1,7 +1,12 @@
 package com.casino.game.engine;
 
+import com.casino.game.dto.SlotRtpReport;
 import com.casino.game.dto.SlotsResultData;
+import com.casino.game.service.PaylineOdds;
 import com.casino.game.service.RngService;
+import com.casino.game.service.RngAlgorithm;
+import com.casino.game.service.RngStream;
+import com.casino.game.service.WeightedSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -47,9 +52,25 @@ public class SlotsGameEngine {
         }
     }
 
+    // Define 25 paylines (simplified - showing first 5)
+    private static final int[][] PAYLINES = {
+        {1, 1, 1, 1, 1}, // Middle row
+        {0, 0, 0, 0, 0}, // Top row
+        {2, 2, 2, 2, 2}, // Bottom row
+        {0, 1, 2, 1, 0}, // V shape
+        {2, 1, 0, 1, 2}, // Inverted V
+        // ... 20 more paylines
+    };
+
     // Reel configuration (weighted probabilities)
     private static final List<Symbol> REEL_SYMBOLS = createReelStrip();
 
+    // Same weights as the strip, as an alias table for V2 streams
+    private static final Symbol[] SYMBOLS = Symbol.values();
+    private static final WeightedSampler SYMBOL_SAMPLER = WeightedSampler.of(
+        Arrays.stream(SYMBOLS).mapToInt(symbol -> symbol.weight).toArray()
+    );
+
     private static List<Symbol> createReelStrip() {
         List<Symbol> symbols = new ArrayList<>();
         for (Symbol symbol : Symbol.values()) {
@@ -60,22 +81,28 @@ public class SlotsGameEngine {
         return symbols;
     }
 
+    /**
+     * Draw one reel position. V1 rounds keep the original strip lookup so they still verify;
+     * both give every symbol probability weight / total weight
+     */
+    private Symbol nextSymbol(RngStream rng) {
+        if (rng.getAlgorithm() == RngAlgorithm.HMAC_SHA256_V1) {
+            return REEL_SYMBOLS.get(rng.nextInt(REEL_SYMBOLS.size()));
+        }
+        return SYMBOLS[rng.nextWeighted(SYMBOL_SAMPLER)];
+    }
+
     /**
      * Spin the slots
      */
     public SlotsResultData spin(String serverSeed, String clientSeed, long nonce, BigDecimal betAmount) {
         // Generate 5 reels x 3 rows = 15 symbols
         Symbol[][] reels = new Symbol[5][3];
+        RngStream rng = rngService.stream(serverSeed, clientSeed, nonce);
 
         for (int reel = 0; reel < 5; reel++) {
             for (int row = 0; row < 3; row++) {
-                int index = rngService.generateRandomNumber(
-                    serverSeed,
-                    clientSeed,
-                    nonce + (reel * 3 + row),
-                    REEL_SYMBOLS.size()
-                );
-                reels[reel][row] = REEL_SYMBOLS.get(index);
+                reels[reel][row] = nextSymbol(rng);
             }
         }
 
@@ -118,18 +145,8 @@ public class SlotsGameEngine {
     private List<WinLine> checkWinLines(Symbol[][] reels) {
         List<WinLine> winLines = new ArrayList<>();
 
-        // Define 25 paylines (simplified - showing first 5)
-        int[][] paylines = {
-            {1, 1, 1, 1, 1}, // Middle row
-            {0, 0, 0, 0, 0}, // Top row
-            {2, 2, 2, 2, 2}, // Bottom row
-            {0, 1, 2, 1, 0}, // V shape
-            {2, 1, 0, 1, 2}, // Inverted V
-            // ... 20 more paylines
-        };
-
-        for (int lineIndex = 0; lineIndex < paylines.length && lineIndex < 5; lineIndex++) {
-            int[] payline = paylines[lineIndex];
+        for (int lineIndex = 0; lineIndex < PAYLINES.length && lineIndex < 5; lineIndex++) {
+            int[] payline = PAYLINES[lineIndex];
             WinLine winLine = checkPayline(reels, payline, lineIndex + 1);
             if (winLine != null) {
                 winLines.add(winLine);
@@ -191,6 +208,80 @@ public class SlotsGameEngine {
         }
     }
 
+    /**
+     * Exact expected return per unit bet: reel positions are independent with
+     * probability weight / total weight, wilds extend a line but only pay as a run of
+     * their own, and scatters award free spins without paying. Each line pays the full
+     * bet times its multiplier, as in {@link #spin}.
+     */
+    public SlotRtpReport calculateExactRtp() {
+        double totalWeight = Arrays.stream(SYMBOLS).mapToInt(symbol -> symbol.weight).sum();
+        double wild = Symbol.WILD.weight / totalWeight;
+        int lineCount = Math.min(PAYLINES.length, 5);
+
+        List<SlotRtpReport.SymbolContribution> symbols = new ArrayList<>();
+        double lineRtp = 0;
+        for (Symbol symbol : SYMBOLS) {
+            double probability = symbol.weight / totalWeight;
+            Map<Integer, Double> hits = new TreeMap<>();
+            double symbolRtp = 0;
+            if (symbol != Symbol.SCATTER) {
+                double match = symbol == Symbol.WILD ? wild : probability + wild;
+                double[] runs = PaylineOdds.leftRuns(probability, match, 5);
+                for (int count = 3; count <= 5; count++) {
+                    hits.put(count, runs[count] * lineCount);
+                    symbolRtp += runs[count] * calculateMultiplier(symbol, count) * lineCount;
+                }
+            }
+            lineRtp += symbolRtp;
+            symbols.add(SlotRtpReport.SymbolContribution.builder()
+                .symbol(symbol.name())
+                .probability(probability)
+                .hitProbabilities(hits)
+                .rtp(symbolRtp)
+                .build());
+        }
+
+        // Every line covers one position per reel, so all lines return the same
+        List<SlotRtpReport.LineContribution> lines = new ArrayList<>();
+        for (int line = 0; line < lineCount; line++) {
+            lines.add(SlotRtpReport.LineContribution.builder()
+                .lineNumber(line + 1)
+                .rows(PAYLINES[line].clone())
+                .rtp(lineRtp / lineCount)
+                .build());
+        }
+
+        double[] scatterCounts = PaylineOdds.counts(15, Symbol.SCATTER.weight / totalWeight);
+        double bonusProbability = 0;
+        double expectedFreeSpins = 0;
+        for (int count = 0; count < scatterCounts.length; count++) {
+            int freeSpins = calculateFreeSpins(count);
+            if (freeSpins > 0) {
+                bonusProbability += scatterCounts[count];
+                expectedFreeSpins += scatterCounts[count] * freeSpins;
+            }
+        }
+
+        return SlotRtpReport.builder()
+            .game("slots")
+            .rtp(lineRtp)
+            .lineRtp(lineRtp)
+            .scatterRtp(0)
+            .bonusProbability(bonusProbability)
+            .expectedFreeSpins(expectedFreeSpins)
+            .symbols(symbols)
+            .lines(lines)
+            .build();
+    }
+
+    /**
+     * Configured target return, checked against {@link #calculateExactRtp()} at startup
+     */
+    public double getTargetRtp() {
+        return RTP;
+    }
+
     /**
      * Count scatter symbols
      */
@@ -0,0 +1,98 @@
+package com.casino.game.engine.cards;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Byte-encoded playing cards: {@code rank << 2 | suit}, so a full deck fits in 52 bytes.
+ * Ranks 0-12 are 2..A, suits 0-3 are ♠ ♥ ♦ ♣. Display names are precomputed.
+ */
+public final class Cards {
+
+    public static final int RANK_COUNT = 13;
+    public static final int SUIT_COUNT = 4;
+    public static final int DECK_SIZE = RANK_COUNT * SUIT_COUNT;
+
+    // Rank indexes
+    public static final int TWO = 0;
+    public static final int FIVE = 3;
+    public static final int TEN = 8;
+    public static final int JACK = 9;
+    public static final int QUEEN = 10;
+    public static final int KING = 11;
+    public static final int ACE = 12;
+
+    private static final String[] RANK_NAMES = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+    private static final String[] SUIT_NAMES = {"♠", "♥", "♦", "♣"};
+    private static final String[] CARD_NAMES = new String[DECK_SIZE];
+
+    static {
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            for (int suit = 0; suit < SUIT_COUNT; suit++) {
+                CARD_NAMES[of(rank, suit)] = RANK_NAMES[rank] + SUIT_NAMES[suit];
+            }
+        }
+    }
+
+    private Cards() {
+    }
+
+    public static byte of(int rank, int suit) {
+        return (byte) (rank << 2 | suit);
+    }
+
+    public static int rank(byte card) {
+        return card >> 2;
+    }
+
+    public static int suit(byte card) {
+        return card & 3;
+    }
+
+    public static String rankName(byte card) {
+        return RANK_NAMES[rank(card)];
+    }
+
+    /**
+     * Display name, e.g. "10♥" (the format results have always used)
+     */
+    public static String toString(byte card) {
+        return CARD_NAMES[card];
+    }
+
+    public static List<String> toStrings(byte[] cards) {
+        List<String> names = new ArrayList<>(cards.length);
+        for (byte card : cards) {
+            names.add(CARD_NAMES[card]);
+        }
+        return names;
+    }
+
+    /**
+     * Parse a display name back into a card
+     */
+    public static byte parse(String name) {
+        String rankName = name.substring(0, name.length() - 1);
+        String suitName = name.substring(name.length() - 1);
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            if (RANK_NAMES[rank].equals(rankName)) {
+                for (int suit = 0; suit < SUIT_COUNT; suit++) {
+                    if (SUIT_NAMES[suit].equals(suitName)) {
+                        return of(rank, suit);
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid card: " + name);
+    }
+
+    /**
+     * Copy of a hand with one more card
+     */
+    public static byte[] append(byte[] hand, byte card) {
+        byte[] result = Arrays.copyOf(hand, hand.length + 1);
+        result[hand.length] = card;
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.casino.game.engine.cards;
+
+import com.casino.game.service.RngStream;
+
+/**
+ * 52 byte-encoded cards with a draw cursor. Drawing is O(1) and allocation-free;
+ * the array and position are what a game stores to continue later.
+ */
+public final class Deck {
+
+    private final byte[] cards;
+    private int position;
+
+    private Deck(byte[] cards, int position) {
+        this.cards = cards;
+        this.position = position;
+    }
+
+    /**
+     * New deck in the given order, shuffled in place with the round's stream
+     */
+    public static Deck shuffled(DeckOrder order, RngStream rng) {
+        byte[] cards = order.newDeck();
+        rng.shuffle(cards);
+        return new Deck(cards, 0);
+    }
+
+    /**
+     * Continue a stored deck
+     */
+    public static Deck restore(byte[] cards, int position) {
+        if (cards == null || position < 0 || position > cards.length) {
+            throw new IllegalArgumentException("Invalid deck state");
+        }
+        return new Deck(cards, position);
+    }
+
+    public byte draw() {
+        if (position == cards.length) {
+            throw new IllegalStateException("Deck is empty");
+        }
+        return cards[position++];
+    }
+
+    public int remaining() {
+        return cards.length - position;
+    }
+
+    /**
+     * Backing array (not copied), for storing the deck state with the game
+     */
+    public byte[] getCards() {
+        return cards;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,46 @@
+package com.casino.game.engine.cards;
+
+/**
+ * Unshuffled deck layouts. Shuffles are deterministic permutations of this starting
+ * order, so each engine keeps the order it has always used and past rounds still verify.
+ */
+public enum DeckOrder {
+
+    /**
+     * Suit by suit, A 2 .. K (blackjack, baccarat)
+     */
+    ACE_FIRST(true),
+
+    /**
+     * Suit by suit, 2 .. K A (poker, video poker)
+     */
+    ACE_LAST(false);
+
+    private final byte[] cards = new byte[Cards.DECK_SIZE];
+
+    DeckOrder(boolean aceFirst) {
+        int i = 0;
+        for (int suit = 0; suit < Cards.SUIT_COUNT; suit++) {
+            if (aceFirst) {
+                cards[i++] = Cards.of(Cards.ACE, suit);
+            }
+            for (int rank = Cards.TWO; rank < Cards.ACE; rank++) {
+                cards[i++] = Cards.of(rank, suit);
+            }
+            if (!aceFirst) {
+                cards[i++] = Cards.of(Cards.ACE, suit);
+            }
+        }
+    }
+
+    /**
+     * Card at a position of the unshuffled order
+     */
+    public byte cardAt(int index) {
+        return cards[index];
+    }
+
+    byte[] newDeck() {
+        return cards.clone();
+    }
+}
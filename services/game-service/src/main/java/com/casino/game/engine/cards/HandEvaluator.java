@@ -0,0 +1,264 @@
+package com.casino.game.engine.cards;
+
+/**
+ * Table-driven poker hand evaluator for 5, 6 or 7 cards (Cactus Kev style).
+ * Both tables are built once when the class loads:
+ * <ul>
+ *   <li>flush table: 13-bit rank mask of the suit holding five or more cards -> best
+ *       flush or straight flush. With five suited cards out of seven no full house or
+ *       quads is possible, so a flush always decides the hand.</li>
+ *   <li>rank table: product of one prime per card rank (unique per rank multiset, up to
+ *       41^4 * 37^3 so kept as a long) -> best non-flush hand, in an open-addressing
+ *       hash table</li>
+ * </ul>
+ * A hand therefore costs one pass over its cards plus one or two array lookups.
+ * <p>
+ * The returned strength compares with plain int comparison (higher wins, equal ties):
+ * {@code category << 20} followed by up to five 4-bit rank indexes, the ranks that decide
+ * the category first (e.g. pair rank, then kickers). There are 7462 distinct strengths.
+ */
+public final class HandEvaluator {
+
+    public enum Category {
+        HIGH_CARD,
+        PAIR,
+        TWO_PAIR,
+        THREE_OF_A_KIND,
+        STRAIGHT,
+        FLUSH,
+        FULL_HOUSE,
+        FOUR_OF_A_KIND,
+        STRAIGHT_FLUSH
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int WHEEL_MASK = 1 << Cards.ACE | 0b1111;
+
+    private static final int[] FLUSH_TABLE = new int[1 << Cards.RANK_COUNT];
+
+    // 73,775 rank multisets of 5-7 cards; 2^17 slots keeps probes short
+    private static final int RANK_TABLE_BITS = 17;
+    private static final int RANK_TABLE_MASK = (1 << RANK_TABLE_BITS) - 1;
+    private static final long[] RANK_KEYS = new long[1 << RANK_TABLE_BITS];
+    private static final int[] RANK_VALUES = new int[1 << RANK_TABLE_BITS];
+
+    static {
+        for (int mask = 0; mask < FLUSH_TABLE.length; mask++) {
+            if (Integer.bitCount(mask) >= 5) {
+                FLUSH_TABLE[mask] = flushStrength(mask);
+            }
+        }
+        fillRankTable(new int[Cards.RANK_COUNT], 0, 0);
+    }
+
+    private HandEvaluator() {
+    }
+
+    /**
+     * Strength of the best 5-card hand among 5 to 7 cards
+     */
+    public static int evaluate(byte[] cards) {
+        if (cards.length < 5 || cards.length > 7) {
+            throw new IllegalArgumentException("Expected 5 to 7 cards, got " + cards.length);
+        }
+
+        // One 16-bit rank mask per suit, packed so evaluation allocates nothing
+        long suitMasks = 0;
+        long product = 1;
+        for (byte card : cards) {
+            int rank = Cards.rank(card);
+            suitMasks |= 1L << (Cards.suit(card) << 4 | rank);
+            product *= PRIMES[rank];
+        }
+
+        for (int suit = 0; suit < Cards.SUIT_COUNT; suit++) {
+            int suitMask = (int) (suitMasks >>> (suit << 4)) & 0xFFFF;
+            if (Integer.bitCount(suitMask) >= 5) {
+                return FLUSH_TABLE[suitMask];
+            }
+        }
+        return RANK_VALUES[slot(product)];
+    }
+
+    /**
+     * The five cards making the best hand, in the given order.
+     * Of several equal combinations the first in lexicographic order is returned.
+     */
+    public static byte[] bestFive(byte[] cards) {
+        int strength = evaluate(cards);
+        if (cards.length == 5) {
+            return cards.clone();
+        }
+
+        byte[] combination = new byte[5];
+        for (int a = 0; a < cards.length; a++) {
+            for (int b = a + 1; b < cards.length; b++) {
+                for (int c = b + 1; c < cards.length; c++) {
+                    for (int d = c + 1; d < cards.length; d++) {
+                        for (int e = d + 1; e < cards.length; e++) {
+                            combination[0] = cards[a];
+                            combination[1] = cards[b];
+                            combination[2] = cards[c];
+                            combination[3] = cards[d];
+                            combination[4] = cards[e];
+                            if (evaluate(combination) == strength) {
+                                return combination;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No combination matches strength " + strength);
+    }
+
+    public static Category category(int strength) {
+        return CATEGORIES[strength >>> 20];
+    }
+
+    /**
+     * Rank index that defines the category: the pair, trips or quads rank, the higher
+     * pair of two pair, or the top card of a straight, flush or high card hand
+     */
+    public static int primaryRank(int strength) {
+        return strength >>> 16 & 0xF;
+    }
+
+    private static int slot(long product) {
+        int slot = hash(product);
+        while (RANK_KEYS[slot] != product) {
+            slot = (slot + 1) & RANK_TABLE_MASK;
+        }
+        return slot;
+    }
+
+    private static int hash(long product) {
+        return (int) ((product * 0x9E3779B97F4A7C15L) >>> (64 - RANK_TABLE_BITS));
+    }
+
+    /**
+     * Enumerate every rank multiset of up to 7 cards (at most 4 per rank) and store
+     * the best non-flush hand of those with 5 or more cards
+     */
+    private static void fillRankTable(int[] counts, int rank, int cardCount) {
+        if (rank == Cards.RANK_COUNT) {
+            if (cardCount >= 5) {
+                long product = 1;
+                for (int r = 0; r < Cards.RANK_COUNT; r++) {
+                    for (int i = 0; i < counts[r]; i++) {
+                        product *= PRIMES[r];
+                    }
+                }
+                int slot = hash(product);
+                while (RANK_KEYS[slot] != 0) {
+                    slot = (slot + 1) & RANK_TABLE_MASK;
+                }
+                RANK_KEYS[slot] = product;
+                RANK_VALUES[slot] = rankStrength(counts);
+            }
+            return;
+        }
+        for (int count = 0; count <= 4 && cardCount + count <= 7; count++) {
+            counts[rank] = count;
+            fillRankTable(counts, rank + 1, cardCount + count);
+        }
+        counts[rank] = 0;
+    }
+
+    private static int flushStrength(int mask) {
+        int straightHigh = straightHigh(mask);
+        if (straightHigh >= 0) {
+            return strength(Category.STRAIGHT_FLUSH, 1, straightHigh);
+        }
+        return strength(Category.FLUSH, 5, topRanks(mask, 5));
+    }
+
+    /**
+     * Best hand from rank counts alone, checked from the highest category down
+     */
+    private static int rankStrength(int[] counts) {
+        int mask = 0;
+        int quads = -1;
+        int trips = -1;
+        int secondTrips = -1;
+        int highPair = -1;
+        int lowPair = -1;
+        for (int rank = Cards.ACE; rank >= 0; rank--) {
+            int count = counts[rank];
+            if (count > 0) {
+                mask |= 1 << rank;
+            }
+            if (count == 4) {
+                quads = rank;
+            } else if (count == 3) {
+                if (trips < 0) {
+                    trips = rank;
+                } else if (secondTrips < 0) {
+                    secondTrips = rank;
+                }
+            } else if (count == 2) {
+                if (highPair < 0) {
+                    highPair = rank;
+                } else if (lowPair < 0) {
+                    lowPair = rank;
+                }
+            }
+        }
+
+        if (quads >= 0) {
+            return strength(Category.FOUR_OF_A_KIND, 2, quads << 4 | topRanks(mask & ~(1 << quads), 1));
+        }
+        if (trips >= 0 && (secondTrips >= 0 || highPair >= 0)) {
+            return strength(Category.FULL_HOUSE, 2, trips << 4 | Math.max(secondTrips, highPair));
+        }
+        int straightHigh = straightHigh(mask);
+        if (straightHigh >= 0) {
+            return strength(Category.STRAIGHT, 1, straightHigh);
+        }
+        if (trips >= 0) {
+            return strength(Category.THREE_OF_A_KIND, 3, trips << 8 | topRanks(mask & ~(1 << trips), 2));
+        }
+        if (lowPair >= 0) {
+            int kickers = mask & ~(1 << highPair) & ~(1 << lowPair);
+            return strength(Category.TWO_PAIR, 3, highPair << 8 | lowPair << 4 | topRanks(kickers, 1));
+        }
+        if (highPair >= 0) {
+            return strength(Category.PAIR, 4, highPair << 12 | topRanks(mask & ~(1 << highPair), 3));
+        }
+        return strength(Category.HIGH_CARD, 5, topRanks(mask, 5));
+    }
+
+    /**
+     * Top card of the highest straight in the mask (a wheel counts as five high), or -1
+     */
+    private static int straightHigh(int mask) {
+        for (int high = Cards.ACE; high >= Cards.FIVE + 1; high--) {
+            int straight = 0b11111 << (high - 4);
+            if ((mask & straight) == straight) {
+                return high;
+            }
+        }
+        return (mask & WHEEL_MASK) == WHEEL_MASK ? Cards.FIVE : -1;
+    }
+
+    /**
+     * The n highest ranks of the mask, packed 4 bits each, highest first
+     */
+    private static int topRanks(int mask, int n) {
+        int packed = 0;
+        for (int i = 0; i < n; i++) {
+            int rank = 31 - Integer.numberOfLeadingZeros(mask);
+            packed = packed << 4 | rank;
+            mask &= ~(1 << rank);
+        }
+        return packed;
+    }
+
+    /**
+     * Category followed by the deciding ranks, left-aligned in the 20 low bits
+     */
+    private static int strength(Category category, int nibbles, int ranks) {
+        return category.ordinal() << 20 | ranks << (4 * (5 - nibbles));
+    }
+}
@@ -96,6 +96,8 @@ public class GameConfig {
         updatedAt = LocalDateTime.now();
     }
 
+    // Stored as text behind a CHECK constraint: a new value needs
+    // db/game_configs_game_type_check.sql on existing databases
     public enum GameType {
         SLOTS,
         BLACKJACK,
@@ -105,6 +107,7 @@ public class GameConfig {
         CRAPS,
         SIC_BO,
         BACCARAT,
+        KENO,
         DICE,
         MINES,
         CRASH,
@@ -8,13 +8,17 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "game_results", indexes = {
-    @Index(name = "idx_session_id", columnList = "sessionId"),
-    @Index(name = "idx_user_id", columnList = "userId"),
-    @Index(name = "idx_game_code", columnList = "gameCode"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_results_session_id", columnList = "sessionId"),
+    @Index(name = "idx_results_game_code", columnList = "gameCode"),
+    @Index(name = "idx_results_created_at", columnList = "createdAt"),
+    // Keyset pagination of a user's history, across games and per game; also serve
+    // lookups by userId alone. Same names as in db/game_results_partitioning.sql.
+    @Index(name = "idx_user_created_at", columnList = "userId, createdAt"),
+    @Index(name = "idx_user_game_created_at", columnList = "userId, gameCode, createdAt")
 })
 @Data
 @NoArgsConstructor
@@ -63,10 +67,17 @@ public class GameResult {
     @Column(precision = 19, scale = 2, nullable = false)
     private BigDecimal balanceAfter;
 
-    // Game-specific result data (JSON stored as text)
-    @Column(columnDefinition = "TEXT", nullable = false)
+    // Game-specific result data: JSON text, or a compact binary format in resultData.
+    // Read it through ResultCodecRegistry.toJson, which handles both.
+    @Column(columnDefinition = "TEXT")
     private String resultJson;
 
+    @Column(length = 4096)
+    private byte[] resultData;
+
+    // codec.ResultFormat id; null for rows saved before formats existed (JSON)
+    private Integer resultFormat;
+
     // For verification and provably fair gaming
     @Column(nullable = false)
     private String serverSeed;
@@ -76,13 +87,18 @@ public class GameResult {
     @Column(nullable = false)
     private Long nonce;
 
+    // RngAlgorithm id the round was played with, for offline verification; null for
+    // rounds saved before versioning, which used HMAC_SHA256_V1
+    private Integer rngVersion;
+
     // Timestamp
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // The database keeps microseconds; history cursors compare against this value
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (netProfit == null) {
             netProfit = winAmount.subtract(betAmount);
         }
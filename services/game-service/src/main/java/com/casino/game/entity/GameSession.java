@@ -8,18 +8,21 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "game_sessions", indexes = {
     @Index(name = "idx_user_id", columnList = "userId"),
     @Index(name = "idx_game_code", columnList = "gameCode"),
     @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_status_last_activity", columnList = "status, lastActivityAt, id"),
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_user_started_at", columnList = "userId, startedAt")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class GameSession {
 
     @Id
@@ -68,6 +71,15 @@ public class GameSession {
     @Column(precision = 19, scale = 2)
     private BigDecimal biggestLoss;
 
+    // Round counter; the next round's nonce is lastRoundNumber + 1
+    private Long lastRoundNumber;
+
+    // Bumped by every write, including the bulk UPDATEs in GameSessionRepository, so a
+    // cached copy (see GameSessionCache) can tell when the row changed underneath it
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // Session timing
     @Column(nullable = false)
     private LocalDateTime startedAt;
@@ -86,7 +98,8 @@ public class GameSession {
 
     @PrePersist
     protected void onCreate() {
-        LocalDateTime now = LocalDateTime.now();
+        // The database keeps microseconds; history cursors compare against startedAt
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         startedAt = now;
         lastActivityAt = now;
         if (status == null) status = SessionStatus.ACTIVE;
@@ -96,6 +109,7 @@ public class GameSession {
         if (roundsPlayed == null) roundsPlayed = 0;
         if (roundsWon == null) roundsWon = 0;
         if (roundsLost == null) roundsLost = 0;
+        if (lastRoundNumber == null) lastRoundNumber = 0L;
     }
 
     @PreUpdate
@@ -106,6 +120,13 @@ public class GameSession {
         }
     }
 
+    // Sessions created before the round counter existed fall back to rounds played,
+    // which the old MAX(roundNumber) lookup always matched
+    public long getSettledRounds() {
+        if (lastRoundNumber != null) return lastRoundNumber;
+        return roundsPlayed != null ? roundsPlayed : 0L;
+    }
+
     public enum SessionStatus {
         ACTIVE,
         COMPLETED,
@@ -0,0 +1,8 @@
+package com.casino.game.event;
+
+/**
+ * A game's configuration was changed by an admin; the catalog is rebuilt once the
+ * change commits, on this instance and (with game.catalog.sync=redis) on the others.
+ * {@code gameCode} is null when the whole catalog was reloaded.
+ */
+public record GameCatalogChangedEvent(String gameCode) {}
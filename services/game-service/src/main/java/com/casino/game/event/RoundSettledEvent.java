@@ -0,0 +1,18 @@
+package com.casino.game.event;
+
+import com.casino.game.entity.GameConfig;
+
+import java.math.BigDecimal;
+
+/**
+ * Published once a player's round(s) have been settled on the session.
+ * Game-wide counters are applied from this event, outside the player's transaction.
+ */
+public record RoundSettledEvent(
+    String gameCode,
+    GameConfig.GameType gameType,
+    int rounds,
+    int roundsWon,
+    BigDecimal wagered,
+    BigDecimal paidOut
+) {}
@@ -0,0 +1,7 @@
+package com.casino.game.exception;
+
+public class GameStateNotFoundException extends RuntimeException {
+    public GameStateNotFoundException(String message) {
+        super(message);
+    }
+}
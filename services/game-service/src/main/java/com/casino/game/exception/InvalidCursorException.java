@@ -0,0 +1,7 @@
+package com.casino.game.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.casino.game.exception;
+
+public class RoundConflictException extends RuntimeException {
+    public RoundConflictException(String message) {
+        super(message);
+    }
+}
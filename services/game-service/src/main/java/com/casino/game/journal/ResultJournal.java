@@ -0,0 +1,329 @@
+package com.casino.game.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only record log in memory-mapped segment files.
+ * <p>
+ * Segment layout: a 16 byte header (magic, version, drained offset) followed by records
+ * of {@code length:int, crc32:int, status:byte, payload}. Zero length marks the end of
+ * the written data, {@link #END_OF_SEGMENT} a segment that was closed early. The length
+ * is written last, so a record is either fully visible or not at all; after an OS crash
+ * the CRC catches torn records, which are cut off on {@link #open()}.
+ * <p>
+ * Positions are {@code segment << 32 | offset}. The status byte is the only part of a
+ * record that changes after the append ({@link #setStatus}). Records before the drained
+ * position belong to the consumer; segments it has passed are deleted.
+ */
+@Slf4j
+public class ResultJournal implements AutoCloseable {
+
+    public static final byte PENDING = 1;
+    public static final byte COMMITTED = 2;
+    public static final byte ROLLED_BACK = 3;
+
+    private static final int MAGIC = 0x474A524E; // "GJRN"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int DRAINED_OFFSET = 8;
+    private static final int RECORD_HEADER_SIZE = 9;
+    private static final int END_OF_SEGMENT = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean force;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+    private Segment writeSegment;
+    private int writeOffset;
+    private long drainedPosition;
+    private long undrainedRecords;
+
+    public ResultJournal(Path directory, int segmentSize, boolean force) {
+        if (segmentSize <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.force = force;
+    }
+
+    /**
+     * Map the existing segments, find the end of the written data and return the write
+     * position: records before it were appended by a previous run
+     */
+    public synchronized long open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(ResultJournal::isSegmentFile).toList()) {
+                    long sequence = Long.parseLong(file.getFileName().toString().substring(8, 24));
+                    segments.put(sequence, Segment.map(file, sequence, segmentSize, false));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open result journal in " + directory, e);
+        }
+
+        if (segments.isEmpty()) {
+            writeSegment = createSegment(0);
+            writeOffset = HEADER_SIZE;
+            drainedPosition = position(writeSegment.sequence, HEADER_SIZE);
+            return drainedPosition;
+        }
+
+        Segment first = segments.firstEntry().getValue();
+        drainedPosition = position(first.sequence, first.buffer.getInt(DRAINED_OFFSET));
+
+        // Count what is left to drain; the scan ends at the write position of the last segment
+        long position = drainedPosition;
+        while (true) {
+            Segment segment = segments.get(segmentOf(position));
+            int offset = offsetOf(position);
+            int length = lengthAt(segment, offset);
+            if (length == END_OF_SEGMENT) {
+                position = nextSegmentStart(segment);
+                if (position < 0) {
+                    break;
+                }
+                continue;
+            }
+            if (length == 0) {
+                break;
+            }
+            if (!isValid(segment, offset, length)) {
+                log.warn("Result journal segment {} has a torn record at offset {}, truncating", segment.sequence, offset);
+                int end = Math.min(segmentSize, offset + RECORD_HEADER_SIZE + Math.max(0, length));
+                for (int i = offset; i < end; i++) {
+                    segment.buffer.put(i, (byte) 0);
+                }
+                break;
+            }
+            undrainedRecords++;
+            position = position(segment.sequence, offset + RECORD_HEADER_SIZE + length);
+        }
+
+        writeSegment = segments.get(segmentOf(position));
+        writeOffset = offsetOf(position);
+        if (writeSegment != segments.lastEntry().getValue()) {
+            throw new IllegalStateException("Result journal data ends before its last segment " + segments.lastKey());
+        }
+        log.info("Opened result journal in {}: {} records to drain", directory, undrainedRecords);
+        return position;
+    }
+
+    /**
+     * Append a record and return its position
+     */
+    public synchronized long append(byte[] payload, byte status) {
+        int size = RECORD_HEADER_SIZE + payload.length;
+        if (size > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds the segment size");
+        }
+        if (writeOffset + size > segmentSize) {
+            if (writeOffset + 4 <= segmentSize) {
+                writeSegment.buffer.putInt(writeOffset, END_OF_SEGMENT);
+            }
+            writeSegment = createSegment(writeSegment.sequence + 1);
+            writeOffset = HEADER_SIZE;
+        }
+
+        MappedByteBuffer buffer = writeSegment.buffer;
+        int offset = writeOffset;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.put(offset + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.put(offset + 8, status);
+        buffer.putInt(offset, payload.length);
+        if (force) {
+            buffer.force(offset, size);
+        }
+
+        writeOffset += size;
+        undrainedRecords++;
+        return position(writeSegment.sequence, offset);
+    }
+
+    public synchronized void setStatus(long position, byte status) {
+        Segment segment = segments.get(segmentOf(position));
+        if (segment != null) {
+            segment.buffer.put(offsetOf(position) + 8, status);
+        }
+    }
+
+    /**
+     * Up to {@code max} records from the drained position on. With {@code stopAtPending}
+     * the read ends before the first record whose transaction has not completed, so
+     * records are always drained in append order.
+     */
+    public synchronized List<Entry> read(int max, boolean stopAtPending) {
+        List<Entry> entries = new ArrayList<>();
+        long position = drainedPosition;
+        while (entries.size() < max) {
+            Segment segment = segments.get(segmentOf(position));
+            int offset = offsetOf(position);
+            int length = lengthAt(segment, offset);
+            if (length == END_OF_SEGMENT) {
+                position = nextSegmentStart(segment);
+                if (position < 0) {
+                    break;
+                }
+                continue;
+            }
+            if (length == 0) {
+                break;
+            }
+            if (!isValid(segment, offset, length)) {
+                throw new IllegalStateException("Corrupt result journal record at segment "
+                    + segment.sequence + " offset " + offset);
+            }
+            byte status = segment.buffer.get(offset + 8);
+            if (stopAtPending && status == PENDING) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            segment.buffer.get(offset + RECORD_HEADER_SIZE, payload);
+            long next = position(segment.sequence, offset + RECORD_HEADER_SIZE + length);
+            entries.add(new Entry(position, next, status, payload));
+            position = next;
+        }
+        return entries;
+    }
+
+    /**
+     * Hand the records before {@code position} over to the consumer: persist the new
+     * drained offset and delete the segments before it
+     */
+    public synchronized void markDrained(long position, int records) {
+        long sequence = segmentOf(position);
+        for (Map.Entry<Long, Segment> entry : new ArrayList<>(segments.headMap(sequence).entrySet())) {
+            entry.getValue().delete();
+            segments.remove(entry.getKey());
+        }
+        Segment segment = segments.get(sequence);
+        segment.buffer.putInt(DRAINED_OFFSET, offsetOf(position));
+        if (force) {
+            segment.buffer.force(0, HEADER_SIZE);
+        }
+        drainedPosition = position;
+        undrainedRecords -= records;
+    }
+
+    public synchronized long getUndrainedRecords() {
+        return undrainedRecords;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+        }
+        segments.clear();
+    }
+
+    private Segment createSegment(long sequence) {
+        Path file = directory.resolve(String.format("results-%016d.journal", sequence));
+        try {
+            Segment segment = Segment.map(file, sequence, segmentSize, true);
+            segment.buffer.putInt(0, MAGIC);
+            segment.buffer.putInt(4, VERSION);
+            segment.buffer.putInt(DRAINED_OFFSET, HEADER_SIZE);
+            segment.buffer.force();
+            segments.put(sequence, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create result journal segment " + file, e);
+        }
+    }
+
+    private int lengthAt(Segment segment, int offset) {
+        if (offset + RECORD_HEADER_SIZE > segmentSize) {
+            return END_OF_SEGMENT;
+        }
+        return segment.buffer.getInt(offset);
+    }
+
+    private boolean isValid(Segment segment, int offset, int length) {
+        if (length < 0 || offset + RECORD_HEADER_SIZE + length > segmentSize) {
+            return false;
+        }
+        byte[] payload = new byte[length];
+        segment.buffer.get(offset + RECORD_HEADER_SIZE, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue() == segment.buffer.getInt(offset + 4);
+    }
+
+    private long nextSegmentStart(Segment segment) {
+        Long next = segments.higherKey(segment.sequence);
+        return next == null ? -1 : position(next, HEADER_SIZE);
+    }
+
+    private static boolean isSegmentFile(Path file) {
+        return file.getFileName().toString().matches("results-\\d{16}\\.journal");
+    }
+
+    private static long position(long sequence, int offset) {
+        return sequence << 32 | offset;
+    }
+
+    private static long segmentOf(long position) {
+        return position >>> 32;
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    /**
+     * A record read from the journal; {@code next} is the position after it
+     */
+    public record Entry(long position, long next, byte status, byte[] payload) {
+    }
+
+    private record Segment(Path file, long sequence, MappedByteBuffer buffer) {
+
+        static Segment map(Path file, long sequence, int size, boolean create) throws IOException {
+            // The mapping stays valid after the file is closed
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                if (create) {
+                    raf.setLength(size);
+                } else if (raf.length() != size) {
+                    throw new IOException("Segment " + file + " has size " + raf.length() + ", expected " + size);
+                }
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (!create && buffer.getInt(0) != MAGIC) {
+                    throw new IOException("Not a result journal segment: " + file);
+                }
+                return new Segment(file, sequence, buffer);
+            }
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete drained result journal segment {}", file, e);
+            }
+        }
+    }
+}
@@ -1,91 +1,160 @@
 package com.casino.game.metrics;
 
+import com.casino.game.entity.GameConfig;
+import com.casino.game.event.RoundSettledEvent;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Custom metrics for Game Service
  * Exposes business metrics to Prometheus
+ * <p>
+ * Meters are registered once and their handles kept, per game type in EnumMaps or per
+ * key in concurrent maps, so recording never builds a meter id on the round path.
+ * Settled rounds are counted from RoundSettledEvent after commit; rolled back rounds
+ * are not counted. The bet, payout and profit summaries take one sample per settlement,
+ * so an auto-bet adds its totals as a single sample; their _sum stays exact. Summaries
+ * drop negative samples, so the player's profit is split by result: net profit is
+ * game_profit{result=win} minus game_profit{result=loss}.
  */
 @Component
-@RequiredArgsConstructor
 public class GameMetrics {
 
+    // SLO buckets of the round latency histogram
+    private static final Duration[] ROUND_LATENCY_SLOS = {
+        Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+        Duration.ofMillis(2500)
+    };
+
     private final MeterRegistry meterRegistry;
+    private final Duration rtpWindow;
+    private final int rtpBuckets;
+
+    private final Map<GameConfig.GameType, Counter> wins = new EnumMap<>(GameConfig.GameType.class);
+    private final Map<GameConfig.GameType, Counter> losses = new EnumMap<>(GameConfig.GameType.class);
+    private final Map<GameConfig.GameType, Counter> winResults = new EnumMap<>(GameConfig.GameType.class);
+    private final Map<GameConfig.GameType, Counter> lossResults = new EnumMap<>(GameConfig.GameType.class);
+    private final Map<GameConfig.GameType, Timer> committedRounds = new EnumMap<>(GameConfig.GameType.class);
+    private final Map<GameConfig.GameType, Timer> failedRounds = new EnumMap<>(GameConfig.GameType.class);
+    private final Map<String, RollingRtp> rtpByGame = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> activePlayers = new ConcurrentHashMap<>();
+    private final Counter rngSuccesses;
+    private final Counter rngFailures;
+    private final Counter rngFailuresTotal;
+    private final DistributionSummary betAmount;
+    private final DistributionSummary payoutAmount;
+    private final DistributionSummary profitWon;
+    private final DistributionSummary profitLost;
+    private final Timer sessionDuration;
+    private final DistributionSummary sessionGamesPlayed;
+
+    public GameMetrics(
+        MeterRegistry meterRegistry,
+        @Value("${game.metrics.rtp-window:1h}") Duration rtpWindow,
+        @Value("${game.metrics.rtp-buckets:60}") int rtpBuckets
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.rtpWindow = rtpWindow;
+        this.rtpBuckets = rtpBuckets;
+
+        for (GameConfig.GameType type : GameConfig.GameType.values()) {
+            wins.put(type, playsCounter(type, "win"));
+            losses.put(type, playsCounter(type, "loss"));
+            winResults.put(type, resultsCounter(type, "win"));
+            lossResults.put(type, resultsCounter(type, "loss"));
+            committedRounds.put(type, roundTimer(type, "committed"));
+            failedRounds.put(type, roundTimer(type, "rolled_back"));
+        }
+
+        this.rngSuccesses = Counter.builder("game_rng_generation_total")
+            .tag("result", "success")
+            .description("RNG generation attempts")
+            .register(meterRegistry);
+        this.rngFailures = Counter.builder("game_rng_generation_total")
+            .tag("result", "failure")
+            .description("RNG generation attempts")
+            .register(meterRegistry);
+        this.rngFailuresTotal = Counter.builder("game_rng_generation_failures_total")
+            .description("RNG generation failures")
+            .register(meterRegistry);
+        this.betAmount = meterRegistry.summary("game_bet_amount");
+        this.payoutAmount = meterRegistry.summary("game_payout_amount");
+        this.profitWon = meterRegistry.summary("game_profit", "result", "win");
+        this.profitLost = meterRegistry.summary("game_profit", "result", "loss");
+        this.sessionDuration = Timer.builder("game_session_duration_seconds")
+            .description("Game session duration")
+            .register(meterRegistry);
+        this.sessionGamesPlayed = meterRegistry.summary("game_session_games_played");
+    }
 
     /**
-     * Record game played
+     * Count settled rounds and feed the game's rolling RTP once the round commits
      */
-    public void recordGamePlayed(String gameType, String userId, boolean isWin, BigDecimal betAmount, BigDecimal payout) {
-        // Total games counter
-        Counter.builder("game_plays_total")
-            .tag("game_type", gameType)
-            .tag("result", isWin ? "win" : "loss")
-            .description("Total number of games played")
-            .register(meterRegistry)
-            .increment();
-
-        // Win/loss counters
-        Counter.builder("game_results_total")
-            .tag("game_type", gameType)
-            .tag("result", isWin ? "win" : "loss")
-            .description("Game results")
-            .register(meterRegistry)
-            .increment();
-
-        // Bet amount
-        meterRegistry.summary("game_bet_amount")
-            .record(betAmount.doubleValue());
-
-        // Payout amount
-        meterRegistry.summary("game_payout_amount")
-            .record(payout.doubleValue());
-
-        // Profit/Loss
-        BigDecimal profit = payout.subtract(betAmount);
-        meterRegistry.summary("game_profit")
-            .record(profit.doubleValue());
-
-        // Calculate house edge
-        if (betAmount.compareTo(BigDecimal.ZERO) > 0) {
-            double houseEdge = profit.negate().divide(betAmount, 4, BigDecimal.ROUND_HALF_UP).doubleValue();
-            meterRegistry.gauge("game_house_edge", houseEdge);
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoundSettled(RoundSettledEvent event) {
+        if (event.gameType() != null) {
+            wins.get(event.gameType()).increment(event.roundsWon());
+            losses.get(event.gameType()).increment(event.rounds() - event.roundsWon());
+            winResults.get(event.gameType()).increment(event.roundsWon());
+            lossResults.get(event.gameType()).increment(event.rounds() - event.roundsWon());
         }
+        betAmount.record(event.wagered().doubleValue());
+        payoutAmount.record(event.paidOut().doubleValue());
+        double profit = event.paidOut().subtract(event.wagered()).doubleValue();
+        (profit >= 0 ? profitWon : profitLost).record(Math.abs(profit));
+        rtpByGame.computeIfAbsent(event.gameCode(), this::registerRtp)
+            .record(toCents(event.wagered()), toCents(event.paidOut()));
     }
 
     /**
-     * Record game duration
+     * Time a round from {@code startedNanos} to the end of the current transaction,
+     * so the commit is included; outside a transaction it is recorded right away
      */
-    public void recordGameDuration(String gameType, Duration duration) {
-        Timer.builder("game_duration_seconds")
-            .tag("game_type", gameType)
-            .description("Game duration in seconds")
-            .register(meterRegistry)
-            .record(duration.toMillis(), TimeUnit.MILLISECONDS);
+    public void recordRoundLatency(GameConfig.GameType gameType, long startedNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committedRounds.get(gameType).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Timer timer = status == STATUS_COMMITTED ? committedRounds.get(gameType) : failedRounds.get(gameType);
+                timer.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+            }
+        });
     }
 
     /**
      * Record RNG generation
      */
     public void recordRngGeneration(boolean success) {
-        Counter.builder("game_rng_generation_total")
-            .tag("result", success ? "success" : "failure")
-            .description("RNG generation attempts")
-            .register(meterRegistry)
-            .increment();
-
-        if (!success) {
-            Counter.builder("game_rng_generation_failures_total")
-                .description("RNG generation failures")
-                .register(meterRegistry)
-                .increment();
+        if (success) {
+            rngSuccesses.increment();
+        } else {
+            rngFailures.increment();
+            rngFailuresTotal.increment();
         }
     }
 
@@ -93,31 +162,19 @@ public class GameMetrics {
      * Record jackpot win
      */
     public void recordJackpotWin(String gameType, BigDecimal amount) {
-        Counter.builder("game_jackpot_wins_total")
-            .tag("game_type", gameType)
-            .description("Total jackpot wins")
-            .register(meterRegistry)
-            .increment();
-
-        meterRegistry.summary("game_jackpot_amount")
-            .record(amount.doubleValue());
+        counter("game_jackpot_wins_total", gameType, "Total jackpot wins").increment();
+        summary("game_jackpot_amount").record(amount.doubleValue());
     }
 
     /**
      * Record big win (10x+ multiplier)
      */
     public void recordBigWin(String gameType, BigDecimal betAmount, BigDecimal payout) {
-        BigDecimal multiplier = payout.divide(betAmount, 2, BigDecimal.ROUND_HALF_UP);
+        BigDecimal multiplier = payout.divide(betAmount, 2, RoundingMode.HALF_UP);
 
         if (multiplier.compareTo(BigDecimal.valueOf(10)) >= 0) {
-            Counter.builder("game_big_wins_total")
-                .tag("game_type", gameType)
-                .description("Wins with 10x+ multiplier")
-                .register(meterRegistry)
-                .increment();
-
-            meterRegistry.summary("game_big_win_multiplier")
-                .record(multiplier.doubleValue());
+            counter("game_big_wins_total", gameType, "Wins with 10x+ multiplier").increment();
+            summary("game_big_win_multiplier").record(multiplier.doubleValue());
         }
     }
 
@@ -125,20 +182,22 @@ public class GameMetrics {
      * Record active players
      */
     public void recordActivePlayers(String gameType, int count) {
-        meterRegistry.gauge("game_active_players", count);
+        activePlayers.computeIfAbsent(gameType, type -> {
+            AtomicInteger value = new AtomicInteger();
+            Gauge.builder("game_active_players", value, AtomicInteger::get)
+                .tag("game_type", type)
+                .description("Players with an active session")
+                .register(meterRegistry);
+            return value;
+        }).set(count);
     }
 
     /**
      * Record game session
      */
     public void recordGameSession(String userId, Duration sessionDuration, int gamesPlayed) {
-        Timer.builder("game_session_duration_seconds")
-            .description("Game session duration")
-            .register(meterRegistry)
-            .record(sessionDuration.toMillis(), TimeUnit.MILLISECONDS);
-
-        meterRegistry.summary("game_session_games_played")
-            .record(gamesPlayed);
+        this.sessionDuration.record(sessionDuration);
+        sessionGamesPlayed.record(gamesPlayed);
     }
 
     /**
@@ -146,14 +205,8 @@ public class GameMetrics {
      */
     public void recordBonusRound(String gameType, boolean triggered, BigDecimal bonusPayout) {
         if (triggered) {
-            Counter.builder("game_bonus_rounds_total")
-                .tag("game_type", gameType)
-                .description("Bonus rounds triggered")
-                .register(meterRegistry)
-                .increment();
-
-            meterRegistry.summary("game_bonus_payout")
-                .record(bonusPayout.doubleValue());
+            counter("game_bonus_rounds_total", gameType, "Bonus rounds triggered").increment();
+            summary("game_bonus_payout").record(bonusPayout.doubleValue());
         }
     }
 
@@ -161,10 +214,121 @@ public class GameMetrics {
      * Record tournament participation
      */
     public void recordTournamentMetric(String metricType, String tournamentId, int value) {
-        Counter.builder("tournament_" + metricType + "_total")
-            .tag("tournament_id", tournamentId)
-            .description("Tournament " + metricType)
-            .register(meterRegistry)
+        String name = "tournament_" + metricType + "_total";
+        counters.computeIfAbsent(name + '|' + tournamentId, key -> Counter.builder(name)
+                .tag("tournament_id", tournamentId)
+                .description("Tournament " + metricType)
+                .register(meterRegistry))
             .increment(value);
     }
+
+    private Counter playsCounter(GameConfig.GameType type, String result) {
+        return Counter.builder("game_plays_total")
+            .tag("game_type", type.name())
+            .tag("result", result)
+            .description("Total number of games played")
+            .register(meterRegistry);
+    }
+
+    private Counter resultsCounter(GameConfig.GameType type, String result) {
+        return Counter.builder("game_results_total")
+            .tag("game_type", type.name())
+            .tag("result", result)
+            .description("Game results")
+            .register(meterRegistry);
+    }
+
+    private Timer roundTimer(GameConfig.GameType type, String status) {
+        return Timer.builder("game_round_duration_seconds")
+            .tag("game_type", type.name())
+            .tag("status", status)
+            .serviceLevelObjectives(ROUND_LATENCY_SLOS)
+            .description("Time to play and settle a round, commit included")
+            .register(meterRegistry);
+    }
+
+    private RollingRtp registerRtp(String gameCode) {
+        RollingRtp rtp = new RollingRtp(rtpWindow.toMillis() / rtpBuckets, rtpBuckets);
+        Gauge.builder("game_rtp_ratio", rtp, RollingRtp::rtp)
+            .tag("game_code", gameCode)
+            .description("Paid out / wagered over the rolling window")
+            .register(meterRegistry);
+        Gauge.builder("game_house_edge", rtp, r -> 1 - r.rtp())
+            .tag("game_code", gameCode)
+            .description("1 - RTP over the rolling window")
+            .register(meterRegistry);
+        return rtp;
+    }
+
+    private Counter counter(String name, String gameType, String description) {
+        return counters.computeIfAbsent(name + '|' + gameType, key -> Counter.builder(name)
+            .tag("game_type", gameType)
+            .description(description)
+            .register(meterRegistry));
+    }
+
+    private DistributionSummary summary(String name) {
+        return summaries.computeIfAbsent(name, meterRegistry::summary);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Wagered and paid-out cents in a ring of time buckets covering the window. A bucket
+     * is cleared when the ring comes back to it; a round racing with that clear may land
+     * in the new bucket, which is fine for a monitoring gauge.
+     */
+    static final class RollingRtp {
+
+        private final long bucketMillis;
+        private final Bucket[] buckets;
+
+        RollingRtp(long bucketMillis, int buckets) {
+            this.bucketMillis = Math.max(1, bucketMillis);
+            this.buckets = new Bucket[buckets];
+            for (int i = 0; i < buckets; i++) {
+                this.buckets[i] = new Bucket();
+            }
+        }
+
+        void record(long wageredCents, long paidOutCents) {
+            long slot = System.currentTimeMillis() / bucketMillis;
+            Bucket bucket = buckets[(int) (slot % buckets.length)];
+            if (bucket.slot != slot) {
+                synchronized (bucket) {
+                    if (bucket.slot != slot) {
+                        bucket.wageredCents.reset();
+                        bucket.paidOutCents.reset();
+                        bucket.slot = slot;
+                    }
+                }
+            }
+            bucket.wageredCents.add(wageredCents);
+            bucket.paidOutCents.add(paidOutCents);
+        }
+
+        /**
+         * NaN while nothing was wagered in the window
+         */
+        double rtp() {
+            long oldest = System.currentTimeMillis() / bucketMillis - buckets.length;
+            long wagered = 0;
+            long paidOut = 0;
+            for (Bucket bucket : buckets) {
+                if (bucket.slot > oldest) {
+                    wagered += bucket.wageredCents.sum();
+                    paidOut += bucket.paidOutCents.sum();
+                }
+            }
+            return wagered == 0 ? Double.NaN : (double) paidOut / wagered;
+        }
+
+        private static final class Bucket {
+            volatile long slot = -1;
+            final LongAdder wageredCents = new LongAdder();
+            final LongAdder paidOutCents = new LongAdder();
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.casino.game.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes each round span as one line of OTLP/JSON (a resourceSpans document with a
+ * playRound span and one child span per stage) to the round-spans logger. Route that
+ * logger to a file read by a local collector (e.g. the OpenTelemetry Collector's
+ * filelog receiver) to get the spans into a tracing backend.
+ */
+@Component
+@ConditionalOnProperty(name = "game.tracing.exporter", havingValue = "log")
+public class LoggingRoundSpanExporter implements RoundSpanExporter {
+
+    private static final Logger SPANS = LoggerFactory.getLogger("round-spans");
+
+    private final ObjectMapper objectMapper;
+
+    public LoggingRoundSpanExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void export(RoundSpan span) {
+        if (!SPANS.isInfoEnabled() || span.stages().length == 0) {
+            return;
+        }
+        String traceId = randomId(16);
+        String rootId = randomId(8);
+        long start = span.startEpochNanos();
+        long end = start + span.endOffsetsNanos()[span.endOffsetsNanos().length - 1];
+
+        List<Map<String, Object>> spans = new ArrayList<>();
+        spans.add(otlpSpan(traceId, rootId, null, "playRound", start, end,
+            List.of(attribute("game.type", span.gameType().name()))));
+        long stageStart = start;
+        for (int i = 0; i < span.stages().length; i++) {
+            long stageEnd = start + span.endOffsetsNanos()[i];
+            spans.add(otlpSpan(traceId, randomId(8), rootId, span.stages()[i].name().toLowerCase(),
+                stageStart, stageEnd, List.of()));
+            stageStart = stageEnd;
+        }
+
+        Map<String, Object> document = Map.of("resourceSpans", List.of(Map.of(
+            "resource", Map.of("attributes", List.of(attribute("service.name", "game-service"))),
+            "scopeSpans", List.of(Map.of(
+                "scope", Map.of("name", RoundStageTimer.class.getName()),
+                "spans", spans
+            ))
+        )));
+        try {
+            SPANS.info(objectMapper.writeValueAsString(document));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> otlpSpan(
+        String traceId, String spanId, String parentSpanId, String name, long start, long end,
+        List<Map<String, Object>> attributes
+    ) {
+        Map<String, Object> span = new LinkedHashMap<>();
+        span.put("traceId", traceId);
+        span.put("spanId", spanId);
+        if (parentSpanId != null) {
+            span.put("parentSpanId", parentSpanId);
+        }
+        span.put("name", name);
+        span.put("kind", parentSpanId == null ? 2 : 1); // SERVER, INTERNAL
+        span.put("startTimeUnixNano", Long.toString(start));
+        span.put("endTimeUnixNano", Long.toString(end));
+        span.put("attributes", attributes);
+        return span;
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        return Map.of("key", key, "value", Map.of("stringValue", value));
+    }
+
+    private static String randomId(int bytes) {
+        byte[] id = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(id);
+        return HexFormat.of().formatHex(id);
+    }
+}
@@ -0,0 +1,17 @@
+package com.casino.game.metrics;
+
+import com.casino.game.entity.GameConfig;
+
+/**
+ * Receives the spans of rounds traced by RoundStageTimer (game.tracing.spans).
+ */
+public interface RoundSpanExporter {
+
+    void export(RoundSpan span);
+
+    /**
+     * A traced round: its wall-clock start and each stage's end as an offset from it,
+     * in stage order
+     */
+    record RoundSpan(GameConfig.GameType gameType, long startEpochNanos, RoundStageTimer.Stage[] stages, long[] endOffsetsNanos) {}
+}
@@ -0,0 +1,223 @@
+package com.casino.game.metrics;
+
+import com.casino.game.entity.GameConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits playRound latency into stages (game_round_stage_seconds per game type and
+ * stage). The round path calls {@link #mark} at the end of each stage; a stage lasts
+ * from the previous checkpoint to its own. Checkpoints go into a per-thread ring of
+ * nanoTime values that is reused round after round, so tracing a round allocates
+ * nothing but its transaction synchronization, and a disabled timer costs one
+ * volatile read per checkpoint.
+ * <p>
+ * Stages are recorded once the round commits, together with the commit itself.
+ * Switched at runtime with the roundstages actuator endpoint; with a
+ * {@link RoundSpanExporter} present each traced round can also be exported as a span.
+ */
+@Component
+public class RoundStageTimer {
+
+    public enum Stage {
+        /** Session, game and bet checks */
+        LOAD,
+        /** Server seed */
+        RNG,
+        /** Game engine */
+        ENGINE,
+        /** Result encoding */
+        ENCODE,
+        /** Result insert and response */
+        INSERT,
+        /** Session UPDATE */
+        SETTLE,
+        /** Transaction commit */
+        COMMIT
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private static final Duration[] STAGE_SLOS = {
+        Duration.ofNanos(100_000), Duration.ofNanos(250_000), Duration.ofNanos(500_000), Duration.ofMillis(1),
+        Duration.ofMillis(2), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+        Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500)
+    };
+
+    private final Timer[][] timers;
+    private final RoundSpanExporter spanExporter;
+    private final ThreadLocal<Trace> traces = ThreadLocal.withInitial(Trace::new);
+
+    private volatile boolean enabled;
+    private volatile boolean spans;
+
+    public RoundStageTimer(
+        MeterRegistry meterRegistry,
+        ObjectProvider<RoundSpanExporter> spanExporter,
+        @Value("${game.tracing.stages:false}") boolean enabled,
+        @Value("${game.tracing.spans:false}") boolean spans
+    ) {
+        this.spanExporter = spanExporter.getIfAvailable();
+        this.enabled = enabled;
+        this.spans = spans && this.spanExporter != null;
+
+        GameConfig.GameType[] types = GameConfig.GameType.values();
+        this.timers = new Timer[types.length][STAGES.length];
+        for (GameConfig.GameType type : types) {
+            for (Stage stage : STAGES) {
+                timers[type.ordinal()][stage.ordinal()] = Timer.builder("game_round_stage_seconds")
+                    .tag("game_type", type.name())
+                    .tag("stage", stage.name())
+                    .serviceLevelObjectives(STAGE_SLOS)
+                    .description("Time spent in one stage of a round")
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Start tracing a round on this thread
+     */
+    public void begin() {
+        if (enabled) {
+            traces.get().begin(spans);
+        }
+    }
+
+    /**
+     * The given stage of the current round ends now
+     */
+    public void mark(Stage stage) {
+        if (enabled) {
+            traces.get().mark(stage);
+        }
+    }
+
+    /**
+     * End the round's last stage before commit; its stages are recorded once the
+     * transaction commits, or right away outside one
+     */
+    public void finish(GameConfig.GameType gameType) {
+        if (!enabled) {
+            return;
+        }
+        Trace trace = traces.get();
+        if (!trace.active) {
+            return;
+        }
+        trace.mark(Stage.SETTLE);
+        trace.gameType = gameType;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(trace);
+        } else {
+            record(trace);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSpans() {
+        return spans;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Export spans of traced rounds; ignored without a RoundSpanExporter
+     */
+    public void setSpans(boolean spans) {
+        this.spans = spans && spanExporter != null;
+    }
+
+    private void record(Trace trace) {
+        Timer[] byStage = timers[trace.gameType.ordinal()];
+        // Once the ring wrapped, the oldest kept mark only serves as the first start
+        boolean wrapped = trace.size == Trace.CAPACITY;
+        long previous = wrapped ? trace.nanos[trace.index(0)] : trace.startNanos;
+        for (int i = wrapped ? 1 : 0; i < trace.size; i++) {
+            int index = trace.index(i);
+            byStage[trace.stages[index]].record(trace.nanos[index] - previous, TimeUnit.NANOSECONDS);
+            previous = trace.nanos[index];
+        }
+        if (trace.exportSpan && spanExporter != null) {
+            spanExporter.export(trace.toSpan());
+        }
+        trace.active = false;
+    }
+
+    /**
+     * Checkpoints of the round in progress on one thread. Marks past the capacity
+     * overwrite the oldest ones.
+     */
+    private final class Trace implements TransactionSynchronization {
+
+        private static final int CAPACITY = 16;
+
+        final long[] nanos = new long[CAPACITY];
+        final int[] stages = new int[CAPACITY];
+        int size;
+        int next;
+        boolean active;
+        boolean exportSpan;
+        long startNanos;
+        long startEpochNanos;
+        GameConfig.GameType gameType;
+
+        void begin(boolean exportSpan) {
+            this.size = 0;
+            this.next = 0;
+            this.active = true;
+            this.exportSpan = exportSpan;
+            this.startNanos = System.nanoTime();
+            this.startEpochNanos = exportSpan ? TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) : 0;
+        }
+
+        void mark(Stage stage) {
+            if (!active) {
+                return;
+            }
+            nanos[next] = System.nanoTime();
+            stages[next] = stage.ordinal();
+            next = (next + 1) % CAPACITY;
+            size = Math.min(size + 1, CAPACITY);
+        }
+
+        // Position of the i-th oldest kept mark
+        int index(int i) {
+            return size == CAPACITY ? (next + i) % CAPACITY : i;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                mark(Stage.COMMIT);
+                record(this);
+            } else {
+                active = false;
+            }
+        }
+
+        RoundSpanExporter.RoundSpan toSpan() {
+            Stage[] spanStages = new Stage[size];
+            long[] offsets = new long[size];
+            for (int i = 0; i < size; i++) {
+                int index = index(i);
+                spanStages[i] = STAGES[stages[index]];
+                offsets[i] = nanos[index] - startNanos;
+            }
+            return new RoundSpanExporter.RoundSpan(gameType, startEpochNanos, spanStages, offsets);
+        }
+    }
+}
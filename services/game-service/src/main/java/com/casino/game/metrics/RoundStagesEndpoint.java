@@ -0,0 +1,40 @@
+package com.casino.game.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/roundstages: shows and switches RoundStageTimer at runtime, e.g.
+ * POST {"enabled": true, "spans": true}
+ */
+@Component
+@Endpoint(id = "roundstages")
+public class RoundStagesEndpoint {
+
+    private final RoundStageTimer roundStageTimer;
+
+    public RoundStagesEndpoint(RoundStageTimer roundStageTimer) {
+        this.roundStageTimer = roundStageTimer;
+    }
+
+    @ReadOperation
+    public Map<String, Boolean> status() {
+        return Map.of("enabled", roundStageTimer.isEnabled(), "spans", roundStageTimer.isSpans());
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> configure(@Nullable Boolean enabled, @Nullable Boolean spans) {
+        if (enabled != null) {
+            roundStageTimer.setEnabled(enabled);
+        }
+        if (spans != null) {
+            roundStageTimer.setSpans(spans);
+        }
+        return status();
+    }
+}
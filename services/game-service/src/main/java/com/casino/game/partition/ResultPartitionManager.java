@@ -0,0 +1,233 @@
+package com.casino.game.partition;
+
+import com.casino.game.service.LeaderLock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly partitions of game_results (game.results.partitioning.enabled, after running
+ * db/game_results_partitioning.sql).
+ * <p>
+ * Each run creates the partitions of the current month and the months ahead, then
+ * detaches partitions older than the retention, archives them with
+ * {@link PartitionArchiver} and drops them. Expired rounds leave with their partition
+ * instead of through DELETE, so the live tables never accumulate dead tuples and their
+ * indexes stay the size of the retained months. A detached partition that could not be
+ * archived stays in the database and is retried on the next run.
+ * <p>
+ * Runs on every instance at startup and on the cron; a {@link LeaderLock} (a Postgres
+ * advisory lock by default) lets one instance at a time do the DDL and archiving.
+ * <p>
+ * game_results_default_rows counts the rows that fell outside every monthly partition.
+ * It should stay 0: rows there block creating the partition of their month.
+ */
+@Slf4j
+@Component
+public class ResultPartitionManager {
+
+    private static final String TABLE = "game_results";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LEGACY_PARTITION = TABLE + "_legacy";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    // Upper bound of the legacy partition, as printed by pg_get_expr
+    private static final Pattern LEGACY_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2}-\\d{2})");
+    private static final String LOCK_NAME = "game:result-partitions:lease";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionArchiver archiver;
+    private final LeaderLock leaderLock;
+    private final boolean enabled;
+    private final int premadeMonths;
+    private final int retentionMonths;
+    private final AtomicLong defaultRows = new AtomicLong();
+
+    public ResultPartitionManager(
+        JdbcTemplate jdbcTemplate,
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        ObjectProvider<StringRedisTemplate> redisTemplate,
+        @Value("${game.results.partitioning.enabled:false}") boolean enabled,
+        @Value("${game.results.partitioning.premade-months:2}") int premadeMonths,
+        @Value("${game.results.partitioning.retention-months:12}") int retentionMonths,
+        @Value("${game.results.partitioning.archive-dir:data/result-archive}") Path archiveDirectory,
+        @Value("${game.results.partitioning.lock:postgres}") String lock,
+        @Value("${game.results.partitioning.lease:1h}") Duration lease
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiver = new PartitionArchiver(dataSource, objectMapper, archiveDirectory);
+        this.leaderLock = new LeaderLock(LOCK_NAME, lock, lease, jdbcTemplate, redisTemplate);
+        this.enabled = enabled;
+        this.premadeMonths = premadeMonths;
+        this.retentionMonths = retentionMonths;
+
+        Gauge.builder("game_results_default_rows", defaultRows, AtomicLong::get)
+            .description("Rows in the default partition of game_results, outside every month")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Make sure this month's partition exists before the first round is inserted
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        if (!leaderLock.runExclusively(this::maintainPartitions)) {
+            log.debug("Result partitions are being maintained by another instance");
+        }
+    }
+
+    private void maintainPartitions() {
+        if (!isPartitioned()) {
+            log.error("game.results.partitioning is enabled but {} is not partitioned; "
+                + "run db/game_results_partitioning.sql first", TABLE);
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        Optional<LocalDate> legacyEnd = legacyEnd();
+        for (int i = 0; i <= premadeMonths; i++) {
+            createPartition(current.plusMonths(i), legacyEnd);
+        }
+        defaultRows.set(countDefaultRows());
+
+        YearMonth oldestRetained = current.minusMonths(retentionMonths);
+        for (String partition : attachedPartitions()) {
+            if (isExpired(partition, oldestRetained)) {
+                detach(partition);
+            }
+        }
+        // Includes partitions detached by earlier runs whose archiving failed
+        Set<String> attached = new HashSet<>(attachedPartitions());
+        for (String partition : partitionTables()) {
+            if (!attached.contains(partition) && isExpired(partition, oldestRetained)) {
+                archiveAndDrop(partition, month(partition).orElseThrow());
+            }
+        }
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)", Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    private void createPartition(YearMonth month, Optional<LocalDate> legacyEnd) {
+        String partition = PARTITION_PREFIX + month.format(MONTH);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + start(month) + "') TO ('" + start(month.plusMonths(1)) + "')");
+        } catch (DataAccessException e) {
+            if (legacyEnd.filter(end -> start(month).isBefore(end)).isPresent()) {
+                log.debug("Partition {} not created, the month is in {}: {}", partition, LEGACY_PARTITION, e.getMessage());
+            } else {
+                // Most likely rows of the month already sit in the default partition; they
+                // must be moved out by hand, and new rows of the month keep landing there
+                log.error("Partition {} not created: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    private Optional<LocalDate> legacyEnd() {
+        List<String> bounds = jdbcTemplate.queryForList(
+            "SELECT pg_get_expr(relpartbound, oid) FROM pg_class WHERE oid = to_regclass(?) AND relispartition",
+            String.class, LEGACY_PARTITION);
+        return bounds.stream()
+            .map(LEGACY_BOUND::matcher)
+            .filter(Matcher::find)
+            .map(matcher -> LocalDate.parse(matcher.group(1)))
+            .findFirst();
+    }
+
+    private long countDefaultRows() {
+        String exists = jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, DEFAULT_PARTITION);
+        if (exists == null) {
+            return 0;
+        }
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + DEFAULT_PARTITION, Long.class);
+        if (count != null && count > 0) {
+            log.warn("{} holds {} rows outside every monthly partition", DEFAULT_PARTITION, count);
+        }
+        return count != null ? count : 0;
+    }
+
+    private void detach(String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+        log.info("Detached expired partition {}", partition);
+    }
+
+    private void archiveAndDrop(String partition, YearMonth month) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                archiver.archive(partition, start(month).toString(), start(month.plusMonths(1)).toString()));
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Dropped archived partition {}", partition);
+        } catch (RuntimeException e) {
+            log.error("Archiving partition {} failed, it stays detached until the next run", partition, e);
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = to_regclass(?)", String.class, TABLE);
+    }
+
+    // Monthly partition tables, attached or not
+    private List<String> partitionTables() {
+        return jdbcTemplate.queryForList(
+            "SELECT tablename FROM pg_tables WHERE schemaname = current_schema() AND tablename LIKE ?",
+            String.class, PARTITION_PREFIX.replace("_", "\\_") + "%");
+    }
+
+    private static boolean isExpired(String partition, YearMonth oldestRetained) {
+        return month(partition).filter(month -> month.isBefore(oldestRetained)).isPresent();
+    }
+
+    private static Optional<YearMonth> month(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        return matcher.matches() ? Optional.of(YearMonth.parse(matcher.group(1), MONTH)) : Optional.empty();
+    }
+
+    private static LocalDate start(YearMonth month) {
+        return month.atDay(1);
+    }
+}
@@ -20,7 +20,7 @@ public interface GameConfigRepository extends JpaRepository<GameConfig, String>
 
     List<GameConfig> findByGameType(GameConfig.GameType gameType);
 
-    List<GameConfig> findByGameTypeAndActiveTrue(GameConfig.GameType gameType, boolean active);
+    List<GameConfig> findByGameTypeAndActiveTrue(GameConfig.GameType gameType);
 
     @Query("SELECT gc FROM GameConfig gc WHERE gc.active = true ORDER BY gc.totalPlays DESC")
     List<GameConfig> findMostPopular();
@@ -28,25 +28,25 @@ public interface GameConfigRepository extends JpaRepository<GameConfig, String>
     @Query("SELECT gc FROM GameConfig gc WHERE gc.active = true ORDER BY gc.createdAt DESC")
     List<GameConfig> findNewest();
 
+    /**
+     * Apply accumulated counter deltas (see GameConfigStatsAggregator).
+     * activePlayers never goes below zero.
+     */
     @Modifying
-    @Query("UPDATE GameConfig gc SET gc.totalPlays = gc.totalPlays + 1, " +
-           "gc.activePlayers = gc.activePlayers + 1 WHERE gc.gameCode = :gameCode")
-    int incrementPlayCount(@Param("gameCode") String gameCode);
-
-    @Modifying
-    @Query("UPDATE GameConfig gc SET gc.activePlayers = gc.activePlayers - 1 " +
-           "WHERE gc.gameCode = :gameCode AND gc.activePlayers > 0")
-    int decrementActiveCount(@Param("gameCode") String gameCode);
-
-    @Modifying
-    @Query("UPDATE GameConfig gc SET gc.totalWagered = gc.totalWagered + :amount " +
-           "WHERE gc.gameCode = :gameCode")
-    int addToTotalWagered(@Param("gameCode") String gameCode, @Param("amount") BigDecimal amount);
-
-    @Modifying
-    @Query("UPDATE GameConfig gc SET gc.totalPaidOut = gc.totalPaidOut + :amount " +
+    @Query("UPDATE GameConfig gc SET " +
+           "gc.totalPlays = gc.totalPlays + :plays, " +
+           "gc.activePlayers = CASE WHEN gc.activePlayers + :activePlayers < 0 THEN 0 " +
+           "ELSE gc.activePlayers + :activePlayers END, " +
+           "gc.totalWagered = gc.totalWagered + :wagered, " +
+           "gc.totalPaidOut = gc.totalPaidOut + :paidOut " +
            "WHERE gc.gameCode = :gameCode")
-    int addToTotalPaidOut(@Param("gameCode") String gameCode, @Param("amount") BigDecimal amount);
+    int applyCounterDeltas(
+        @Param("gameCode") String gameCode,
+        @Param("plays") long plays,
+        @Param("activePlayers") long activePlayers,
+        @Param("wagered") BigDecimal wagered,
+        @Param("paidOut") BigDecimal paidOut
+    );
 
     boolean existsByGameCode(String gameCode);
 }
@@ -15,17 +15,65 @@ import java.util.List;
 @Repository
 public interface GameResultRepository extends JpaRepository<GameResult, String> {
 
-    List<GameResult> findBySessionIdOrderByRoundNumberAsc(String sessionId);
+    /**
+     * Whether any row holds this round of the session. No round is older than its
+     * session, so the startedAt bound limits the search to the partitions since then.
+     */
+    @Query("SELECT COUNT(gr) > 0 FROM GameResult gr WHERE gr.sessionId = :sessionId " +
+           "AND gr.createdAt >= :startedAt AND gr.roundNumber = :roundNumber")
+    boolean existsSessionRound(
+        @Param("sessionId") String sessionId,
+        @Param("startedAt") LocalDateTime startedAt,
+        @Param("roundNumber") long roundNumber
+    );
 
     Page<GameResult> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
 
-    List<GameResult> findByUserIdAndGameCodeOrderByCreatedAtDesc(String userId, String gameCode);
+    /**
+     * Next page of a session's rounds after the given round number. No round is older
+     * than its session, so the startedAt bound limits the search to the partitions
+     * since the session started.
+     */
+    @Query("SELECT gr FROM GameResult gr WHERE gr.sessionId = :sessionId " +
+           "AND gr.createdAt >= :startedAt AND gr.roundNumber > :roundNumber " +
+           "ORDER BY gr.roundNumber ASC")
+    List<GameResult> findSessionRoundsPage(
+        @Param("sessionId") String sessionId,
+        @Param("startedAt") LocalDateTime startedAt,
+        @Param("roundNumber") long roundNumber,
+        Pageable pageable
+    );
 
+    /**
+     * Next page of a user's rounds, newest first, after the (createdAt, id) of the
+     * previous page's last row. Served by the (userId, createdAt) index.
+     */
     @Query("SELECT gr FROM GameResult gr WHERE gr.userId = :userId " +
-           "AND gr.outcome = :outcome ORDER BY gr.createdAt DESC")
-    List<GameResult> findByUserIdAndOutcome(
+           "AND (:outcome IS NULL OR gr.outcome = :outcome) " +
+           "AND (gr.createdAt < :createdAt OR (gr.createdAt = :createdAt AND gr.id < :id)) " +
+           "ORDER BY gr.createdAt DESC, gr.id DESC")
+    List<GameResult> findUserHistoryPage(
         @Param("userId") String userId,
-        @Param("outcome") GameResult.RoundOutcome outcome
+        @Param("outcome") GameResult.RoundOutcome outcome,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") String id,
+        Pageable pageable
+    );
+
+    /**
+     * Same as findUserHistoryPage for one game, served by the (userId, gameCode, createdAt) index
+     */
+    @Query("SELECT gr FROM GameResult gr WHERE gr.userId = :userId AND gr.gameCode = :gameCode " +
+           "AND (:outcome IS NULL OR gr.outcome = :outcome) " +
+           "AND (gr.createdAt < :createdAt OR (gr.createdAt = :createdAt AND gr.id < :id)) " +
+           "ORDER BY gr.createdAt DESC, gr.id DESC")
+    List<GameResult> findUserGameHistoryPage(
+        @Param("userId") String userId,
+        @Param("gameCode") String gameCode,
+        @Param("outcome") GameResult.RoundOutcome outcome,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") String id,
+        Pageable pageable
     );
 
     @Query("SELECT gr FROM GameResult gr WHERE gr.userId = :userId " +
@@ -66,7 +114,4 @@ public interface GameResultRepository extends JpaRepository<GameResult, String>
     @Query("SELECT AVG(gr.multiplier) FROM GameResult gr WHERE gr.gameCode = :gameCode " +
            "AND gr.outcome = 'WIN'")
     BigDecimal getAverageMultiplierForGame(@Param("gameCode") String gameCode);
-
-    @Query("SELECT MAX(gr.roundNumber) FROM GameResult gr WHERE gr.sessionId = :sessionId")
-    Long getLastRoundNumber(@Param("sessionId") String sessionId);
 }
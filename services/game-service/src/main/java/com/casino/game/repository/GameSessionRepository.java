@@ -1,6 +1,7 @@
 package com.casino.game.repository;
 
 import com.casino.game.entity.GameSession;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,52 +23,70 @@ public interface GameSessionRepository extends JpaRepository<GameSession, String
         GameSession.SessionStatus status
     );
 
-    List<GameSession> findByUserIdOrderByStartedAtDesc(String userId);
+    /**
+     * Next page of a user's sessions, newest first, after the (startedAt, id) of the
+     * previous page's last row
+     */
+    @Query("SELECT gs FROM GameSession gs WHERE gs.userId = :userId " +
+           "AND (gs.startedAt < :startedAt OR (gs.startedAt = :startedAt AND gs.id < :id)) " +
+           "ORDER BY gs.startedAt DESC, gs.id DESC")
+    List<GameSession> findUserSessionPage(
+        @Param("userId") String userId,
+        @Param("startedAt") LocalDateTime startedAt,
+        @Param("id") String id,
+        Pageable pageable
+    );
 
     List<GameSession> findByUserIdAndGameCodeOrderByStartedAtDesc(String userId, String gameCode);
 
     List<GameSession> findByStatus(GameSession.SessionStatus status);
 
-    @Query("SELECT gs FROM GameSession gs WHERE gs.status = :status " +
-           "AND gs.lastActivityAt < :cutoffTime")
-    List<GameSession> findInactiveSessions(
-        @Param("status") GameSession.SessionStatus status,
-        @Param("cutoffTime") LocalDateTime cutoffTime
-    );
-
-    @Modifying
-    @Query("UPDATE GameSession gs SET gs.currentBalance = :balance, " +
-           "gs.lastActivityAt = :now WHERE gs.id = :sessionId")
-    int updateBalance(
-        @Param("sessionId") String sessionId,
-        @Param("balance") BigDecimal balance,
-        @Param("now") LocalDateTime now
-    );
-
+    /**
+     * Apply the balance and statistics of settled rounds in a single UPDATE.
+     * Guarded by the round counter so two concurrent rounds on one session cannot
+     * both settle with the same nonce, and by the version the round was played
+     * against so a stale cached session cannot overwrite a newer balance; returns 0
+     * when a guard does not match.
+     */
     @Modifying
     @Query("UPDATE GameSession gs SET " +
+           "gs.currentBalance = :balance, " +
            "gs.totalBet = gs.totalBet + :betAmount, " +
            "gs.totalWon = gs.totalWon + :winAmount, " +
            "gs.netProfit = gs.netProfit + :netProfit, " +
-           "gs.roundsPlayed = gs.roundsPlayed + 1, " +
-           "gs.roundsWon = CASE WHEN :isWin = true THEN gs.roundsWon + 1 ELSE gs.roundsWon END, " +
-           "gs.roundsLost = CASE WHEN :isWin = false THEN gs.roundsLost + 1 ELSE gs.roundsLost END, " +
-           "gs.biggestWin = CASE WHEN :winAmount > COALESCE(gs.biggestWin, 0) THEN :winAmount ELSE gs.biggestWin END, " +
-           "gs.biggestLoss = CASE WHEN :betAmount > COALESCE(gs.biggestLoss, 0) AND :winAmount = 0 THEN :betAmount ELSE gs.biggestLoss END, " +
-           "gs.lastActivityAt = :now " +
-           "WHERE gs.id = :sessionId")
-    int updateSessionStats(
+           "gs.roundsPlayed = gs.roundsPlayed + :rounds, " +
+           "gs.roundsWon = gs.roundsWon + :roundsWon, " +
+           "gs.roundsLost = gs.roundsLost + :roundsLost, " +
+           "gs.biggestWin = CASE WHEN :biggestWin > COALESCE(gs.biggestWin, 0) THEN :biggestWin ELSE gs.biggestWin END, " +
+           "gs.biggestLoss = CASE WHEN :biggestLoss > COALESCE(gs.biggestLoss, 0) THEN :biggestLoss ELSE gs.biggestLoss END, " +
+           "gs.lastRoundNumber = :lastRoundNumber, " +
+           "gs.lastActivityAt = :now, " +
+           "gs.version = gs.version + 1 " +
+           "WHERE gs.id = :sessionId AND gs.status = :status AND gs.version = :version " +
+           "AND (gs.lastRoundNumber = :settledRounds " +
+           "OR (gs.lastRoundNumber IS NULL AND gs.roundsPlayed = :settledRoundsLegacy))")
+    int settleRounds(
         @Param("sessionId") String sessionId,
+        @Param("status") GameSession.SessionStatus status,
+        @Param("version") Long version,
+        @Param("settledRounds") Long settledRounds,
+        @Param("settledRoundsLegacy") Integer settledRoundsLegacy,
+        @Param("lastRoundNumber") Long lastRoundNumber,
+        @Param("balance") BigDecimal balance,
         @Param("betAmount") BigDecimal betAmount,
         @Param("winAmount") BigDecimal winAmount,
         @Param("netProfit") BigDecimal netProfit,
-        @Param("isWin") boolean isWin,
+        @Param("rounds") int rounds,
+        @Param("roundsWon") int roundsWon,
+        @Param("roundsLost") int roundsLost,
+        @Param("biggestWin") BigDecimal biggestWin,
+        @Param("biggestLoss") BigDecimal biggestLoss,
         @Param("now") LocalDateTime now
     );
 
     @Modifying
-    @Query("UPDATE GameSession gs SET gs.status = :status, gs.endedAt = :endedAt " +
-           "WHERE gs.id = :sessionId")
+    @Query("UPDATE GameSession gs SET gs.status = :status, gs.endedAt = :endedAt, " +
+           "gs.version = gs.version + 1 WHERE gs.id = :sessionId")
     int endSession(
         @Param("sessionId") String sessionId,
         @Param("status") GameSession.SessionStatus status,
@@ -0,0 +1,174 @@
+package com.casino.game.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Closes sessions without activity for longer than the timeout as ABANDONED.
+ * <p>
+ * Each chunk is one short transaction with a single UPDATE ... RETURNING over at most
+ * batch-size sessions, taken in (last_activity_at, id) order after the previous chunk,
+ * so a backlog after an outage is worked off in bounded steps. Rows locked by a round
+ * in progress are skipped rather than waited for; that session is active again anyway.
+ * The active-player decrements of a chunk are handed to the stats aggregator once per
+ * game. A {@link LeaderLock} (a Postgres advisory lock by default) makes sure only one
+ * instance sweeps at a time; with {@code lock: none} instances sweeping concurrently
+ * still never close a session twice.
+ */
+@Slf4j
+@Component
+public class AbandonedSessionSweeper {
+
+    private static final String SWEEP_SQL =
+        "UPDATE game_sessions gs SET status = 'ABANDONED', ended_at = ?, version = gs.version + 1 " +
+        "WHERE gs.id IN (" +
+        "  SELECT id FROM game_sessions " +
+        "  WHERE status = 'ACTIVE' AND last_activity_at < ? AND (last_activity_at, id) > (?, ?) " +
+        "  ORDER BY last_activity_at, id LIMIT ? FOR UPDATE SKIP LOCKED" +
+        ") RETURNING gs.id, gs.game_code, gs.last_activity_at";
+
+    private static final String OLDEST_EXPIRED_SQL =
+        "SELECT min(last_activity_at) FROM game_sessions WHERE status = 'ACTIVE' AND last_activity_at < ?";
+
+    static final String LOCK_NAME = "game:session-sweeper:lease";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GameSessionCache gameSessionCache;
+    private final GameConfigStatsAggregator gameConfigStatsAggregator;
+    private final LeaderLock leaderLock;
+    private final Duration timeout;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final DistributionSummary batchSizes;
+    private final Counter abandoned;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public AbandonedSessionSweeper(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        GameSessionCache gameSessionCache,
+        GameConfigStatsAggregator gameConfigStatsAggregator,
+        ObjectProvider<StringRedisTemplate> redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${game.session-sweeper.timeout:30m}") Duration timeout,
+        @Value("${game.session-sweeper.batch-size:1000}") int batchSize,
+        @Value("${game.session-sweeper.max-batches:100}") int maxBatches,
+        @Value("${game.session-sweeper.lock:postgres}") String lock,
+        @Value("${game.session-sweeper.lease:5m}") Duration lease
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gameSessionCache = gameSessionCache;
+        this.gameConfigStatsAggregator = gameConfigStatsAggregator;
+        this.leaderLock = new LeaderLock(LOCK_NAME, lock, lease, jdbcTemplate, redisTemplate);
+        this.timeout = timeout;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+
+        this.batchSizes = DistributionSummary.builder("game_session_sweep_batch_size")
+            .description("Sessions closed per sweeper chunk")
+            .register(meterRegistry);
+        this.abandoned = Counter.builder("game_sessions_abandoned_total")
+            .description("Sessions closed as abandoned by the sweeper")
+            .register(meterRegistry);
+        Gauge.builder("game_session_sweep_lag_seconds", lagSeconds, AtomicLong::get)
+            .description("How long the oldest expired session still open after the last sweep has been past its timeout")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Run one sweep; returns the number of sessions closed
+     */
+    public int sweep() {
+        return leaderLock.callExclusively(this::sweepChunks).orElse(0);
+    }
+
+    private int sweepChunks() {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(timeout);
+        LocalDateTime afterActivity = LocalDateTime.of(1970, 1, 1, 0, 0);
+        String afterId = "";
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Swept> swept = sweepChunk(cutoff, afterActivity, afterId);
+            batchSizes.record(swept.size());
+            if (swept.isEmpty()) {
+                break;
+            }
+            total += swept.size();
+            abandoned.increment(swept.size());
+            swept.forEach(s -> gameSessionCache.evict(s.id()));
+
+            // RETURNING is unordered; a tie broken differently than the database only
+            // means a skipped row is picked up by the next run
+            Swept last = swept.stream()
+                .max(Comparator.comparing(Swept::lastActivityAt).thenComparing(Swept::id))
+                .orElseThrow();
+            afterActivity = last.lastActivityAt();
+            afterId = last.id();
+
+            // Keep well inside an expiring lease so another instance never sweeps alongside
+            if (leaderLock.getLease().filter(lease -> System.nanoTime() - started > lease.toNanos() / 2).isPresent()) {
+                break;
+            }
+        }
+
+        updateLag(cutoff);
+        if (total > 0) {
+            log.info("Closed {} abandoned sessions in {} ms", total,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+        return total;
+    }
+
+    private List<Swept> sweepChunk(LocalDateTime cutoff, LocalDateTime afterActivity, String afterId) {
+        return transactionTemplate.execute(status -> {
+            List<Swept> swept = jdbcTemplate.query(SWEEP_SQL,
+                (rs, rowNum) -> new Swept(
+                    rs.getString("id"),
+                    rs.getString("game_code"),
+                    rs.getTimestamp("last_activity_at").toLocalDateTime()),
+                Timestamp.valueOf(LocalDateTime.now()),
+                Timestamp.valueOf(cutoff),
+                Timestamp.valueOf(afterActivity),
+                afterId,
+                batchSize);
+
+            Map<String, Long> endedPerGame = swept.stream()
+                .collect(Collectors.groupingBy(Swept::gameCode, Collectors.counting()));
+            endedPerGame.forEach(gameConfigStatsAggregator::recordSessionsEnded);
+            return swept;
+        });
+    }
+
+    private void updateLag(LocalDateTime cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_EXPIRED_SQL, Timestamp.class, Timestamp.valueOf(cutoff));
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest.toLocalDateTime(), cutoff).toSeconds());
+    }
+
+    private record Swept(String id, String gameCode, LocalDateTime lastActivityAt) {}
+}
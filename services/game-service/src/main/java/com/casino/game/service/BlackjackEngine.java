@@ -1,14 +1,15 @@
 package com.casino.game.service;
 
 import com.casino.game.dto.BlackjackResultData;
+import com.casino.game.engine.cards.Cards;
+import com.casino.game.engine.cards.Deck;
+import com.casino.game.engine.cards.DeckOrder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -17,9 +18,6 @@ public class BlackjackEngine {
 
     private final RngService rngService;
 
-    private static final String[] RANKS = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
-    private static final String[] SUITS = {"♠", "♥", "♦", "♣"};
-
     /**
      * Start a new Blackjack game
      */
@@ -30,24 +28,23 @@ public class BlackjackEngine {
         BigDecimal betAmount
     ) {
         // Create and shuffle deck
-        List<Card> deck = createDeck();
-        deck = shuffleDeck(deck, serverSeed, clientSeed, nonce);
+        Deck deck = Deck.shuffled(DeckOrder.ACE_FIRST, rngService.stream(serverSeed, clientSeed, nonce));
 
         // Deal initial cards
-        List<Card> playerHand = new ArrayList<>();
-        List<Card> dealerHand = new ArrayList<>();
+        byte[] playerHand = new byte[2];
+        byte[] dealerHand = new byte[2];
 
-        playerHand.add(deck.remove(0));
-        dealerHand.add(deck.remove(0));
-        playerHand.add(deck.remove(0));
-        dealerHand.add(deck.remove(0));
+        playerHand[0] = deck.draw();
+        dealerHand[0] = deck.draw();
+        playerHand[1] = deck.draw();
+        dealerHand[1] = deck.draw();
 
         int playerValue = calculateHandValue(playerHand);
         int dealerValue = calculateHandValue(dealerHand);
 
         // Check for natural blackjack
-        boolean playerBlackjack = playerValue == 21 && playerHand.size() == 2;
-        boolean dealerBlackjack = dealerValue == 21 && dealerHand.size() == 2;
+        boolean playerBlackjack = playerValue == 21;
+        boolean dealerBlackjack = dealerValue == 21;
 
         String gameState;
         BigDecimal payout = BigDecimal.ZERO;
@@ -66,18 +63,21 @@ public class BlackjackEngine {
         }
 
         return BlackjackResultData.builder()
-            .playerHand(cardsToString(playerHand))
-            .dealerHand(cardsToString(dealerHand))
-            .dealerVisible(List.of(cardToString(dealerHand.get(0)))) // Only first card visible
+            .playerHand(Cards.toStrings(playerHand))
+            .dealerHand(Cards.toStrings(dealerHand))
+            .dealerVisible(List.of(Cards.toString(dealerHand[0]))) // Only first card visible
             .playerValue(playerValue)
-            .dealerValue(calculateHandValue(List.of(dealerHand.get(0))))
+            .dealerValue(cardValue(dealerHand[0]))
             .gameState(gameState)
-            .deck(deck)
+            .playerCards(playerHand)
+            .dealerCards(dealerHand)
+            .deck(deck.getCards())
+            .deckPosition(deck.getPosition())
             .betAmount(betAmount)
             .payout(payout)
             .canHit(gameState.equals("PLAYING"))
             .canStand(gameState.equals("PLAYING"))
-            .canDouble(gameState.equals("PLAYING") && playerHand.size() == 2)
+            .canDouble(gameState.equals("PLAYING"))
             .canSplit(gameState.equals("PLAYING") && canSplit(playerHand))
             .build();
     }
@@ -86,12 +86,11 @@ public class BlackjackEngine {
      * Player hits (takes another card)
      */
     public BlackjackResultData hit(BlackjackResultData currentGame) {
-        List<Card> playerHand = stringToCards(currentGame.getPlayerHand());
-        List<Card> dealerHand = stringToCards(currentGame.getDealerHand());
-        List<Card> deck = currentGame.getDeck();
+        byte[] dealerHand = currentGame.getDealerCards();
+        Deck deck = restoreDeck(currentGame);
 
         // Deal one card to player
-        playerHand.add(deck.remove(0));
+        byte[] playerHand = Cards.append(currentGame.getPlayerCards(), deck.draw());
 
         int playerValue = calculateHandValue(playerHand);
         String gameState = currentGame.getGameState();
@@ -104,13 +103,16 @@ public class BlackjackEngine {
         }
 
         return BlackjackResultData.builder()
-            .playerHand(cardsToString(playerHand))
-            .dealerHand(cardsToString(dealerHand))
+            .playerHand(Cards.toStrings(playerHand))
+            .dealerHand(currentGame.getDealerHand())
             .dealerVisible(currentGame.getDealerVisible())
             .playerValue(playerValue)
             .dealerValue(currentGame.getDealerValue())
             .gameState(gameState)
-            .deck(deck)
+            .playerCards(playerHand)
+            .dealerCards(dealerHand)
+            .deck(deck.getCards())
+            .deckPosition(deck.getPosition())
             .betAmount(currentGame.getBetAmount())
             .payout(payout)
             .canHit(!gameState.equals("BUST"))
@@ -124,16 +126,13 @@ public class BlackjackEngine {
      * Player stands (dealer plays)
      */
     public BlackjackResultData stand(BlackjackResultData currentGame) {
-        List<Card> playerHand = stringToCards(currentGame.getPlayerHand());
-        List<Card> dealerHand = stringToCards(currentGame.getDealerHand());
-        List<Card> deck = currentGame.getDeck();
+        byte[] playerHand = currentGame.getPlayerCards();
+        Deck deck = restoreDeck(currentGame);
 
         int playerValue = calculateHandValue(playerHand);
 
         // Dealer plays (hits until 17+)
-        while (calculateHandValue(dealerHand) < 17) {
-            dealerHand.add(deck.remove(0));
-        }
+        byte[] dealerHand = playDealer(currentGame.getDealerCards(), deck);
 
         int dealerValue = calculateHandValue(dealerHand);
 
@@ -155,14 +154,18 @@ public class BlackjackEngine {
             payout = currentGame.getBetAmount();
         }
 
+        List<String> dealerCards = Cards.toStrings(dealerHand);
         return BlackjackResultData.builder()
-            .playerHand(cardsToString(playerHand))
-            .dealerHand(cardsToString(dealerHand))
-            .dealerVisible(cardsToString(dealerHand))
+            .playerHand(currentGame.getPlayerHand())
+            .dealerHand(dealerCards)
+            .dealerVisible(dealerCards)
             .playerValue(playerValue)
             .dealerValue(dealerValue)
             .gameState(gameState)
-            .deck(deck)
+            .playerCards(playerHand)
+            .dealerCards(dealerHand)
+            .deck(deck.getCards())
+            .deckPosition(deck.getPosition())
             .betAmount(currentGame.getBetAmount())
             .payout(payout)
             .canHit(false)
@@ -176,28 +179,30 @@ public class BlackjackEngine {
      * Player doubles down
      */
     public BlackjackResultData doubleDown(BlackjackResultData currentGame) {
-        List<Card> playerHand = stringToCards(currentGame.getPlayerHand());
-        List<Card> dealerHand = stringToCards(currentGame.getDealerHand());
-        List<Card> deck = currentGame.getDeck();
+        Deck deck = restoreDeck(currentGame);
 
         // Double the bet
         BigDecimal newBet = currentGame.getBetAmount().multiply(BigDecimal.valueOf(2));
 
         // Deal one card to player
-        playerHand.add(deck.remove(0));
+        byte[] playerHand = Cards.append(currentGame.getPlayerCards(), deck.draw());
+        List<String> playerCards = Cards.toStrings(playerHand);
 
         int playerValue = calculateHandValue(playerHand);
 
         // Check for bust
         if (playerValue > 21) {
             return BlackjackResultData.builder()
-                .playerHand(cardsToString(playerHand))
-                .dealerHand(cardsToString(dealerHand))
+                .playerHand(playerCards)
+                .dealerHand(currentGame.getDealerHand())
                 .dealerVisible(currentGame.getDealerVisible())
                 .playerValue(playerValue)
                 .dealerValue(currentGame.getDealerValue())
                 .gameState("BUST")
-                .deck(deck)
+                .playerCards(playerHand)
+                .dealerCards(currentGame.getDealerCards())
+                .deck(deck.getCards())
+                .deckPosition(deck.getPosition())
                 .betAmount(newBet)
                 .payout(BigDecimal.ZERO)
                 .canHit(false)
@@ -208,9 +213,7 @@ public class BlackjackEngine {
         }
 
         // Dealer plays
-        while (calculateHandValue(dealerHand) < 17) {
-            dealerHand.add(deck.remove(0));
-        }
+        byte[] dealerHand = playDealer(currentGame.getDealerCards(), deck);
 
         int dealerValue = calculateHandValue(dealerHand);
 
@@ -229,14 +232,18 @@ public class BlackjackEngine {
             payout = newBet;
         }
 
+        List<String> dealerCards = Cards.toStrings(dealerHand);
         return BlackjackResultData.builder()
-            .playerHand(cardsToString(playerHand))
-            .dealerHand(cardsToString(dealerHand))
-            .dealerVisible(cardsToString(dealerHand))
+            .playerHand(playerCards)
+            .dealerHand(dealerCards)
+            .dealerVisible(dealerCards)
             .playerValue(playerValue)
             .dealerValue(dealerValue)
             .gameState(gameState)
-            .deck(deck)
+            .playerCards(playerHand)
+            .dealerCards(dealerHand)
+            .deck(deck.getCards())
+            .deckPosition(deck.getPosition())
             .betAmount(newBet)
             .payout(payout)
             .canHit(false)
@@ -248,34 +255,39 @@ public class BlackjackEngine {
 
     // Helper methods
 
-    private List<Card> createDeck() {
-        List<Card> deck = new ArrayList<>();
-        for (String suit : SUITS) {
-            for (String rank : RANKS) {
-                deck.add(new Card(rank, suit));
-            }
+    private Deck restoreDeck(BlackjackResultData currentGame) {
+        int position = currentGame.getDeckPosition() != null ? currentGame.getDeckPosition() : 0;
+        return Deck.restore(currentGame.getDeck(), position);
+    }
+
+    /**
+     * Dealer hits until 17+
+     */
+    private byte[] playDealer(byte[] dealerHand, Deck deck) {
+        byte[] hand = dealerHand;
+        while (calculateHandValue(hand) < 17) {
+            hand = Cards.append(hand, deck.draw());
         }
-        return deck;
+        return hand;
     }
 
-    private List<Card> shuffleDeck(List<Card> deck, String serverSeed, String clientSeed, long nonce) {
-        return rngService.shuffle(deck, serverSeed, clientSeed, nonce);
+    private int cardValue(byte card) {
+        int rank = Cards.rank(card);
+        if (rank == Cards.ACE) {
+            return 11;
+        }
+        return rank >= Cards.TEN ? 10 : rank + 2;
     }
 
-    private int calculateHandValue(List<Card> hand) {
+    private int calculateHandValue(byte[] hand) {
         int value = 0;
         int aces = 0;
 
-        for (Card card : hand) {
-            String rank = card.getRank();
-            if (rank.equals("A")) {
+        for (byte card : hand) {
+            if (Cards.rank(card) == Cards.ACE) {
                 aces++;
-                value += 11;
-            } else if (rank.equals("J") || rank.equals("Q") || rank.equals("K")) {
-                value += 10;
-            } else {
-                value += Integer.parseInt(rank);
             }
+            value += cardValue(card);
         }
 
         // Adjust for aces
@@ -287,54 +299,7 @@ public class BlackjackEngine {
         return value;
     }
 
-    private boolean canSplit(List<Card> hand) {
-        if (hand.size() != 2) return false;
-        Card card1 = hand.get(0);
-        Card card2 = hand.get(1);
-        return card1.getRank().equals(card2.getRank());
-    }
-
-    private List<String> cardsToString(List<Card> cards) {
-        return cards.stream()
-            .map(this::cardToString)
-            .collect(Collectors.toList());
-    }
-
-    private String cardToString(Card card) {
-        return card.getRank() + card.getSuit();
-    }
-
-    private List<Card> stringToCards(List<String> strings) {
-        return strings.stream()
-            .map(s -> {
-                String rank = s.substring(0, s.length() - 1);
-                String suit = s.substring(s.length() - 1);
-                return new Card(rank, suit);
-            })
-            .collect(Collectors.toList());
-    }
-
-    // Inner class for Card
-    public static class Card {
-        private final String rank;
-        private final String suit;
-
-        public Card(String rank, String suit) {
-            this.rank = rank;
-            this.suit = suit;
-        }
-
-        public String getRank() {
-            return rank;
-        }
-
-        public String getSuit() {
-            return suit;
-        }
-
-        @Override
-        public String toString() {
-            return rank + suit;
-        }
+    private boolean canSplit(byte[] hand) {
+        return hand.length == 2 && Cards.rank(hand[0]) == Cards.rank(hand[1]);
     }
 }
@@ -34,8 +34,7 @@ public class CoinFlipEngine {
         CoinSide playerChoice
     ) {
         // Generate result (0 or 1, then map to HEADS/TAILS)
-        int randomValue = rngService.generateRandomNumber(serverSeed, clientSeed, nonce, 2);
-        CoinSide result = randomValue == 0 ? CoinSide.HEADS : CoinSide.TAILS;
+        CoinSide result = toss(rngService.stream(serverSeed, clientSeed, nonce));
 
         // Check if player wins
         boolean isWin = result == playerChoice;
@@ -71,16 +70,20 @@ public class CoinFlipEngine {
     }
 
     /**
-     * Verify a coin flip result
+     * Verify a coin flip result with the algorithm the round was played with
      */
     public boolean verifyResult(
+        RngAlgorithm algorithm,
         String serverSeed,
         String clientSeed,
         long nonce,
         String expectedResult
     ) {
-        int randomValue = rngService.generateRandomNumber(serverSeed, clientSeed, nonce, 2);
-        CoinSide calculatedResult = randomValue == 0 ? CoinSide.HEADS : CoinSide.TAILS;
+        CoinSide calculatedResult = toss(rngService.stream(algorithm, serverSeed, clientSeed, nonce));
         return calculatedResult.name().equals(expectedResult);
     }
+
+    private static CoinSide toss(RngStream rng) {
+        return rng.nextInt(2) == 0 ? CoinSide.HEADS : CoinSide.TAILS;
+    }
 }
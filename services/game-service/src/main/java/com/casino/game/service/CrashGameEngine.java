@@ -41,7 +41,7 @@ public class CrashGameEngine {
         }
 
         // Generate crash point
-        BigDecimal crashPoint = generateCrashPoint(serverSeed, clientSeed, nonce);
+        BigDecimal crashPoint = generateCrashPoint(rngService.getAlgorithm(), serverSeed, clientSeed, nonce);
 
         // Generate game hash for verification
         String gameHash = generateGameHash(serverSeed, clientSeed, nonce);
@@ -118,10 +118,25 @@ public class CrashGameEngine {
      * Generate crash point using provably fair algorithm
      * Uses exponential distribution with house edge
      */
-    private BigDecimal generateCrashPoint(String serverSeed, String clientSeed, long nonce) {
+    private BigDecimal generateCrashPoint(RngAlgorithm algorithm, String serverSeed, String clientSeed, long nonce) {
         // Get random float between 0.0 and 1.0
-        double random = rngService.generateRandomDecimal(serverSeed, clientSeed, nonce);
+        double random = rngService.stream(algorithm, serverSeed, clientSeed, nonce).nextDouble();
+        return crashPoint(random);
+    }
+
+    /**
+     * Crash point of a shared table round: the first 52 bits of the round's chain hash
+     * as a uniform value in [0, 1), through the same distribution as single-player rounds
+     */
+    public BigDecimal crashPointForHash(byte[] roundHash) {
+        long bits = 0;
+        for (int i = 0; i < 7; i++) {
+            bits = bits << 8 | (roundHash[i] & 0xFF);
+        }
+        return crashPoint((bits >>> 4) / (double) (1L << 52));
+    }
 
+    private BigDecimal crashPoint(double random) {
         // Apply house edge
         double houseEdgeAdjusted = random * (1.0 - HOUSE_EDGE);
 
@@ -178,16 +193,17 @@ public class CrashGameEngine {
     }
 
     /**
-     * Verify a game result
+     * Verify a game result with the algorithm the round was played with
      * Players can use this to verify the crash point was fair
      */
     public boolean verifyResult(
+        RngAlgorithm algorithm,
         String serverSeed,
         String clientSeed,
         long nonce,
         BigDecimal expectedCrashPoint
     ) {
-        BigDecimal calculatedCrashPoint = generateCrashPoint(serverSeed, clientSeed, nonce);
+        BigDecimal calculatedCrashPoint = generateCrashPoint(algorithm, serverSeed, clientSeed, nonce);
         return calculatedCrashPoint.compareTo(expectedCrashPoint) == 0;
     }
 
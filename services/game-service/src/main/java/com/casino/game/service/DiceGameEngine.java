@@ -35,7 +35,7 @@ public class DiceGameEngine {
         }
 
         // Generate dice result (0-99, display as 0.00-99.99)
-        int result = rngService.generateRandomNumber(serverSeed, clientSeed, nonce, MAX_DICE_VALUE);
+        int result = rngService.stream(serverSeed, clientSeed, nonce).nextInt(MAX_DICE_VALUE);
 
         // Check if player wins
         boolean isWin = rollOver ? (result > targetNumber) : (result < targetNumber);
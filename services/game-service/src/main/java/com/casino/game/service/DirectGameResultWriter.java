@@ -0,0 +1,33 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameResult;
+import com.casino.game.repository.GameResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Inserts each result in the round's own transaction (default)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.results.writer", havingValue = "direct", matchIfMissing = true)
+public class DirectGameResultWriter implements GameResultWriter {
+
+    private final GameResultRepository gameResultRepository;
+
+    @Override
+    public GameResult write(GameResult result) {
+        return gameResultRepository.save(result);
+    }
+
+    /**
+     * One JDBC batch (hibernate.jdbc.batch_size), sent as multi-row INSERTs
+     */
+    @Override
+    public List<GameResult> writeAll(List<GameResult> results) {
+        return gameResultRepository.saveAll(results);
+    }
+}
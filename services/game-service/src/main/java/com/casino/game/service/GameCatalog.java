@@ -0,0 +1,217 @@
+package com.casino.game.service;
+
+import com.casino.game.dto.GameConfigDto;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.event.GameCatalogChangedEvent;
+import com.casino.game.repository.GameConfigRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable in-memory snapshot of all game configurations, with the lobby views
+ * (active games, games per type, most popular) precomputed.
+ * <p>
+ * The snapshot is replaced as a whole: on admin changes (see GameCatalogChangedEvent),
+ * on the scheduled refresh that picks up the written-behind play counters, and when a
+ * game code is missing from it. Its ETag is a hash of the configuration and the
+ * popularity ranking, so every instance serving the same catalog answers with the same
+ * ETag; counters alone do not move it, or every flush would invalidate every client's
+ * copy. The GameConfig objects are shared by all readers and must not be modified.
+ */
+@Slf4j
+@Component
+public class GameCatalog {
+
+    private static final int POPULAR_LIMIT = 10;
+    private static final int UNKNOWN_CODES_LIMIT = 1000;
+
+    private final GameConfigRepository gameConfigRepository;
+    private final ObjectMapper objectMapper;
+
+    // A lock rather than synchronized: a virtual thread blocked on JDBC inside a monitor pins its carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    // Codes the database did not have either, answered without a query until the next refresh
+    private final Set<String> unknownCodes = ConcurrentHashMap.newKeySet();
+
+    public GameCatalog(GameConfigRepository gameConfigRepository, ObjectMapper objectMapper) {
+        this.gameConfigRepository = gameConfigRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The current snapshot, loaded on first use
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * A game's configuration, reading through to the database for a code the
+     * snapshot does not know yet (a game added since the last refresh)
+     */
+    public Optional<GameConfig> findGame(String gameCode) {
+        GameConfig game = snapshot().getGames().get(gameCode);
+        if (game != null) {
+            return Optional.of(game);
+        }
+        if (unknownCodes.contains(gameCode)) {
+            return Optional.empty();
+        }
+        if (!gameConfigRepository.existsByGameCode(gameCode)) {
+            if (unknownCodes.size() < UNKNOWN_CODES_LIMIT) {
+                unknownCodes.add(gameCode);
+            }
+            return Optional.empty();
+        }
+        return Optional.ofNullable(refresh().getGames().get(gameCode));
+    }
+
+    /**
+     * Rebuild the snapshot from the database. The version only moves when the
+     * ETag does.
+     */
+    public Snapshot refresh() {
+        refreshLock.lock();
+        try {
+            return rebuild();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot rebuild() {
+        unknownCodes.clear();
+        List<GameConfig> games = gameConfigRepository.findAll().stream()
+            .sorted(Comparator.comparing(GameConfig::getGameCode))
+            .toList();
+        List<GameConfigDto> dtos = games.stream().map(GameCatalog::toDto).toList();
+        String etag = etag(dtos);
+
+        // Replaced even when the ETag is unchanged, for the current counters
+        Snapshot current = snapshot;
+        boolean changed = current == null || !current.getEtag().equals(etag);
+        long version = current == null ? 1 : changed ? current.getVersion() + 1 : current.getVersion();
+        Snapshot rebuilt = new Snapshot(version, etag, games, dtos);
+        snapshot = rebuilt;
+        if (changed) {
+            log.info("Game catalog version {}: {} games, etag {}", version, games.size(), etag);
+        }
+        return rebuilt;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameCatalogChanged(GameCatalogChangedEvent event) {
+        refresh();
+    }
+
+    private String etag(List<GameConfigDto> dtos) {
+        List<GameConfigDto> configs = dtos.stream()
+            .map(dto -> dto.toBuilder().totalPlays(null).activePlayers(null).build())
+            .toList();
+        List<String> ranking = popular(dtos).stream().map(GameConfigDto::getGameCode).toList();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                objectMapper.writeValueAsString(List.of(configs, ranking)).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash the game catalog", e);
+        }
+    }
+
+    private static List<GameConfigDto> popular(List<GameConfigDto> dtos) {
+        return dtos.stream()
+            .filter(dto -> Boolean.TRUE.equals(dto.getActive()))
+            .sorted(Comparator.comparing(GameConfigDto::getTotalPlays, Comparator.nullsLast(Comparator.reverseOrder())))
+            .limit(POPULAR_LIMIT)
+            .toList();
+    }
+
+    private static GameConfigDto toDto(GameConfig game) {
+        return GameConfigDto.builder()
+            .id(game.getId())
+            .gameCode(game.getGameCode())
+            .gameName(game.getGameName())
+            .gameType(game.getGameType())
+            .description(game.getDescription())
+            .imageUrl(game.getImageUrl())
+            .active(game.getActive())
+            .rtpPercentage(game.getRtpPercentage())
+            .minBet(game.getMinBet())
+            .maxBet(game.getMaxBet())
+            .reels(game.getReels())
+            .rows(game.getRows())
+            .paylines(game.getPaylines())
+            .totalPlays(game.getTotalPlays())
+            .activePlayers(game.getActivePlayers())
+            .build();
+    }
+
+    @Getter
+    public static final class Snapshot {
+        private final long version;
+        private final String etag;
+        private final Instant builtAt = Instant.now();
+        private final Map<String, GameConfig> games;
+        private final Map<String, GameConfigDto> dtos;
+        private final List<GameConfigDto> activeGames;
+        private final Map<GameConfig.GameType, List<GameConfigDto>> activeGamesByType;
+        private final List<GameConfigDto> popularGames;
+
+        private Snapshot(long version, String etag, List<GameConfig> games, List<GameConfigDto> dtos) {
+            this.version = version;
+            this.etag = etag;
+
+            Map<String, GameConfig> gamesByCode = new LinkedHashMap<>();
+            Map<String, GameConfigDto> dtosByCode = new LinkedHashMap<>();
+            for (int i = 0; i < games.size(); i++) {
+                gamesByCode.put(games.get(i).getGameCode(), games.get(i));
+                dtosByCode.put(dtos.get(i).getGameCode(), dtos.get(i));
+            }
+            this.games = Map.copyOf(gamesByCode);
+            this.dtos = Map.copyOf(dtosByCode);
+
+            this.activeGames = dtos.stream().filter(dto -> Boolean.TRUE.equals(dto.getActive())).toList();
+
+            Map<GameConfig.GameType, List<GameConfigDto>> byType = new EnumMap<>(GameConfig.GameType.class);
+            for (GameConfig.GameType type : GameConfig.GameType.values()) {
+                byType.put(type, activeGames.stream().filter(dto -> dto.getGameType() == type).toList());
+            }
+            this.activeGamesByType = Collections.unmodifiableMap(byType);
+
+            this.popularGames = popular(dtos);
+        }
+
+        public Optional<GameConfigDto> getGame(String gameCode) {
+            return Optional.ofNullable(dtos.get(gameCode));
+        }
+
+        public List<GameConfigDto> getActiveGames(GameConfig.GameType gameType) {
+            return activeGamesByType.get(gameType);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.casino.game.service;
+
+import com.casino.game.repository.GameConfigRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Write-behind accumulator for the GameConfig popularity counters.
+ * Every round of a game used to UPDATE the same game_configs row, serializing all
+ * players of that game on one row lock. Deltas are now striped in memory per game
+ * (LongAdder, amounts in cents) and applied in one transaction by {@link #flush()}.
+ * Counters are informational; a hard crash loses at most one flush interval.
+ */
+@Slf4j
+@Component
+public class GameConfigStatsAggregator {
+
+    private final GameConfigRepository gameConfigRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushFailures;
+    private final Map<String, GameCounters> counters = new ConcurrentHashMap<>();
+    // Scheduled flushes run on virtual threads in that mode, so no monitor around the UPDATEs
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public GameConfigStatsAggregator(
+        GameConfigRepository gameConfigRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.gameConfigRepository = gameConfigRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        registerUnflushedGauge(meterRegistry, "plays", c -> c.plays.sum());
+        registerUnflushedGauge(meterRegistry, "active_players", c -> c.activePlayers.sum());
+        registerUnflushedGauge(meterRegistry, "wagered_cents", c -> c.wageredCents.sum());
+        registerUnflushedGauge(meterRegistry, "paid_out_cents", c -> c.paidOutCents.sum());
+
+        this.flushFailures = Counter.builder("game_config_flush_failures_total")
+            .description("Failed flushes of GameConfig counters")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Record a started session (totalPlays + 1, activePlayers + 1) once the caller commits
+     */
+    public void recordSessionStarted(String gameCode) {
+        afterCommit(() -> {
+            GameCounters c = countersFor(gameCode);
+            c.plays.increment();
+            c.activePlayers.increment();
+        });
+    }
+
+    /**
+     * Record an ended or abandoned session (activePlayers - 1) once the caller commits
+     */
+    public void recordSessionEnded(String gameCode) {
+        afterCommit(() -> countersFor(gameCode).activePlayers.decrement());
+    }
+
+    /**
+     * Record {@code count} ended sessions of one game once the caller commits
+     */
+    public void recordSessionsEnded(String gameCode, long count) {
+        afterCommit(() -> countersFor(gameCode).activePlayers.add(-count));
+    }
+
+    /**
+     * Record the wagered/paid-out totals of settled rounds
+     */
+    public void recordRounds(String gameCode, BigDecimal wagered, BigDecimal paidOut) {
+        GameCounters c = countersFor(gameCode);
+        c.wageredCents.add(toCents(wagered));
+        c.paidOutCents.add(toCents(paidOut));
+    }
+
+    /**
+     * Apply all pending deltas to the database in one transaction.
+     * Deltas are taken with sum() and subtracted, never reset, so increments racing
+     * with the flush are kept for the next one. On failure they are added back.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            applyPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void applyPending() {
+        List<Pending> batch = new ArrayList<>();
+        counters.forEach((gameCode, c) -> {
+            Pending p = c.drain(gameCode);
+            if (!p.isEmpty()) {
+                batch.add(p);
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(p ->
+                gameConfigRepository.applyCounterDeltas(
+                    p.gameCode,
+                    p.plays,
+                    p.activePlayers,
+                    BigDecimal.valueOf(p.wageredCents, 2),
+                    BigDecimal.valueOf(p.paidOutCents, 2)
+                )
+            ));
+            log.debug("Flushed counters for {} games", batch.size());
+        } catch (Exception e) {
+            batch.forEach(p -> countersFor(p.gameCode).restore(p));
+            flushFailures.increment();
+            log.error("Failed to flush game counters, {} games kept for retry: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing game counters before shutdown");
+        flush();
+    }
+
+    private GameCounters countersFor(String gameCode) {
+        return counters.computeIfAbsent(gameCode, code -> new GameCounters());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void registerUnflushedGauge(MeterRegistry meterRegistry, String counter, ToLongFunction<GameCounters> value) {
+        Gauge.builder("game_config_unflushed_deltas", counters,
+                map -> map.values().stream().mapToLong(c -> Math.abs(value.applyAsLong(c))).sum())
+            .tag("counter", counter)
+            .description("GameConfig counter deltas not yet written to the database")
+            .register(meterRegistry);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static final class GameCounters {
+        final LongAdder plays = new LongAdder();
+        final LongAdder activePlayers = new LongAdder();
+        final LongAdder wageredCents = new LongAdder();
+        final LongAdder paidOutCents = new LongAdder();
+
+        Pending drain(String gameCode) {
+            Pending p = new Pending(gameCode, plays.sum(), activePlayers.sum(), wageredCents.sum(), paidOutCents.sum());
+            plays.add(-p.plays);
+            activePlayers.add(-p.activePlayers);
+            wageredCents.add(-p.wageredCents);
+            paidOutCents.add(-p.paidOutCents);
+            return p;
+        }
+
+        void restore(Pending p) {
+            plays.add(p.plays);
+            activePlayers.add(p.activePlayers);
+            wageredCents.add(p.wageredCents);
+            paidOutCents.add(p.paidOutCents);
+        }
+    }
+
+    private record Pending(String gameCode, long plays, long activePlayers, long wageredCents, long paidOutCents) {
+        boolean isEmpty() {
+            return plays == 0 && activePlayers == 0 && wageredCents == 0 && paidOutCents == 0;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.casino.game.service;
+
+import com.casino.game.event.RoundSettledEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Records per-game wagered/paid-out totals after the player's round has committed.
+ * The totals are written behind by GameConfigStatsAggregator, so the shared
+ * GameConfig row is never locked on the round path.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameConfigStatsListener {
+
+    private final GameConfigStatsAggregator gameConfigStatsAggregator;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoundSettled(RoundSettledEvent event) {
+        gameConfigStatsAggregator.recordRounds(event.gameCode(), event.wagered(), event.paidOut());
+    }
+}
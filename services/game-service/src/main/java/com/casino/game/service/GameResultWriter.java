@@ -0,0 +1,31 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameResult;
+
+import java.util.List;
+
+/**
+ * Persists round results. The backend is picked with game.results.writer:
+ * direct (an INSERT in the round's transaction) or journal (a local journal drained
+ * to the database in batches, see {@link JournalGameResultWriter}).
+ */
+public interface GameResultWriter {
+
+    /**
+     * Persist a result of the current round and return it with its id assigned
+     */
+    GameResult write(GameResult result);
+
+    /**
+     * Persist results of the current transaction together, in order
+     */
+    default List<GameResult> writeAll(List<GameResult> results) {
+        return results.stream().map(this::write).toList();
+    }
+
+    /**
+     * Write out anything buffered; called on game.results.journal.drain-interval-ms
+     */
+    default void flush() {
+    }
+}
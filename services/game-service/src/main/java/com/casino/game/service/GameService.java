@@ -1,27 +1,40 @@
 package com.casino.game.service;
 
+import com.casino.game.codec.EncodedResult;
+import com.casino.game.codec.ResultCodecRegistry;
 import com.casino.game.dto.*;
+import com.casino.game.engine.KenoGameEngine;
 import com.casino.game.entity.GameConfig;
 import com.casino.game.entity.GameResult;
 import com.casino.game.entity.GameSession;
+import com.casino.game.event.GameCatalogChangedEvent;
+import com.casino.game.event.RoundSettledEvent;
 import com.casino.game.exception.GameNotFoundException;
 import com.casino.game.exception.InsufficientBalanceException;
 import com.casino.game.exception.InvalidBetException;
+import com.casino.game.exception.RoundConflictException;
 import com.casino.game.exception.SessionNotFoundException;
+import com.casino.game.metrics.GameMetrics;
+import com.casino.game.metrics.RoundStageTimer;
 import com.casino.game.repository.GameConfigRepository;
 import com.casino.game.repository.GameResultRepository;
 import com.casino.game.repository.GameSessionRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -29,8 +42,11 @@ import java.util.stream.Collectors;
 public class GameService {
 
     private final GameConfigRepository gameConfigRepository;
+    private final GameCatalog gameCatalog;
     private final GameSessionRepository gameSessionRepository;
+    private final GameSessionCache gameSessionCache;
     private final GameResultRepository gameResultRepository;
+    private final GameResultWriter gameResultWriter;
     private final RngService rngService;
     private final SlotGameEngine slotGameEngine;
     private final BlackjackEngine blackjackEngine;
@@ -40,46 +56,52 @@ public class GameService {
     private final MinesGameEngine minesGameEngine;
     private final CrashGameEngine crashGameEngine;
     private final CoinFlipEngine coinFlipEngine;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    // Session timeout in minutes
-    private static final int SESSION_TIMEOUT_MINUTES = 30;
+    private final KenoGameEngine kenoGameEngine;
+    private final GameConfigStatsAggregator gameConfigStatsAggregator;
+    private final ResultCodecRegistry resultCodecRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameMetrics gameMetrics;
+    private final RoundStageTimer roundStageTimer;
+
+    // Games whose rounds settle in a single action, so they can be auto-bet
+    private static final Set<GameConfig.GameType> AUTO_BET_GAMES = EnumSet.of(
+        GameConfig.GameType.DICE,
+        GameConfig.GameType.COIN_FLIP,
+        GameConfig.GameType.KENO,
+        GameConfig.GameType.SLOTS
+    );
+
+    @Value("${game.autobet.max-rounds:1000}")
+    private int autoBetMaxRounds;
 
     /**
-     * Get all available games
+     * Change a game's settings (admin). The catalog is rebuilt once this commits.
      */
-    public List<GameConfigDto> getAllGames() {
-        return gameConfigRepository.findByActiveTrue().stream()
-            .map(this::toGameConfigDto)
-            .collect(Collectors.toList());
-    }
+    @Transactional
+    public void updateGame(String gameCode, GameConfigUpdateRequest request) {
+        GameConfig game = gameConfigRepository.findByGameCode(gameCode)
+            .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameCode));
 
-    /**
-     * Get games by type
-     */
-    public List<GameConfigDto> getGamesByType(GameConfig.GameType gameType) {
-        return gameConfigRepository.findByGameTypeAndActiveTrue(gameType, true).stream()
-            .map(this::toGameConfigDto)
-            .collect(Collectors.toList());
-    }
+        if (request.getActive() != null) {
+            game.setActive(request.getActive());
+        }
+        if (request.getMinBet() != null) {
+            game.setMinBet(request.getMinBet());
+        }
+        if (request.getMaxBet() != null) {
+            game.setMaxBet(request.getMaxBet());
+        }
+        if (request.getImageUrl() != null) {
+            game.setImageUrl(request.getImageUrl());
+        }
+        if (game.getMinBet().compareTo(game.getMaxBet()) > 0) {
+            throw new InvalidBetException("Minimum bet must not exceed maximum bet");
+        }
 
-    /**
-     * Get most popular games
-     */
-    public List<GameConfigDto> getMostPopularGames() {
-        return gameConfigRepository.findMostPopular().stream()
-            .limit(10)
-            .map(this::toGameConfigDto)
-            .collect(Collectors.toList());
-    }
+        gameConfigRepository.save(game);
+        eventPublisher.publishEvent(new GameCatalogChangedEvent(gameCode));
 
-    /**
-     * Get a specific game by code
-     */
-    public GameConfigDto getGame(String gameCode) {
-        GameConfig game = gameConfigRepository.findByGameCode(gameCode)
-            .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameCode));
-        return toGameConfigDto(game);
+        log.info("Game {} updated: {}", gameCode, request);
     }
 
     /**
@@ -88,7 +110,7 @@ public class GameService {
     @Transactional
     public GameSessionDto startSession(String userId, StartSessionRequest request) {
         // Verify game exists
-        GameConfig game = gameConfigRepository.findByGameCode(request.getGameCode())
+        GameConfig game = gameCatalog.findGame(request.getGameCode())
             .orElseThrow(() -> new GameNotFoundException("Game not found: " + request.getGameCode()));
 
         if (!game.getActive()) {
@@ -116,8 +138,8 @@ public class GameService {
 
         session = gameSessionRepository.save(session);
 
-        // Update game statistics
-        gameConfigRepository.incrementPlayCount(request.getGameCode());
+        // Update game statistics (written behind, see GameConfigStatsAggregator)
+        gameConfigStatsAggregator.recordSessionStarted(request.getGameCode());
 
         log.info("Started session {} for user {} on game {}", session.getId(), userId, request.getGameCode());
 
@@ -125,12 +147,18 @@ public class GameService {
     }
 
     /**
-     * Play a round in a game session
+     * Play a round in a game session.
+     * Reads the session from GameSessionCache and the game once, inserts the result once and settles the
+     * session balance and statistics with a single UPDATE. Game-wide totals and
+     * metrics are applied after commit (see GameConfigStatsListener, GameMetrics).
      */
     @Transactional
     public PlayRoundResponse playRound(String userId, PlayRoundRequest request) {
+        long started = System.nanoTime();
+        roundStageTimer.begin();
+
         // Get the session
-        GameSession session = gameSessionRepository.findByIdAndUserId(request.getSessionId(), userId)
+        GameSession session = gameSessionCache.get(request.getSessionId(), userId)
             .orElseThrow(() -> new SessionNotFoundException("Session not found or does not belong to user"));
 
         if (session.getStatus() != GameSession.SessionStatus.ACTIVE) {
@@ -138,17 +166,19 @@ public class GameService {
         }
 
         // Get game config
-        GameConfig game = gameConfigRepository.findByGameCode(session.getGameCode())
+        GameConfig game = gameCatalog.findGame(session.getGameCode())
             .orElseThrow(() -> new GameNotFoundException("Game not found: " + session.getGameCode()));
+        gameMetrics.recordRoundLatency(game.getGameType(), started);
 
         // Validate bet amount
         validateBet(request.getBetAmount(), game, session);
+        roundStageTimer.mark(RoundStageTimer.Stage.LOAD);
 
-        // Generate server seed and nonce
+        // Generate server seed; the nonce comes from the session's round counter
         String serverSeed = rngService.generateServerSeed();
-        Long nonce = (gameResultRepository.getLastRoundNumber(session.getId()) != null)
-            ? gameResultRepository.getLastRoundNumber(session.getId()) + 1
-            : 1L;
+        roundStageTimer.mark(RoundStageTimer.Stage.RNG);
+        long settledRounds = session.getSettledRounds();
+        Long nonce = settledRounds + 1;
 
         // Play the round based on game type
         PlayRoundResponse response = switch (game.getGameType()) {
@@ -165,28 +195,16 @@ public class GameService {
             );
         };
 
-        // Update session balance
-        gameSessionRepository.updateBalance(
-            session.getId(),
-            response.getBalanceAfter(),
-            LocalDateTime.now()
-        );
+        roundStageTimer.mark(RoundStageTimer.Stage.INSERT);
 
-        // Update session statistics
-        gameSessionRepository.updateSessionStats(
-            session.getId(),
+        // Update session balance and statistics in one statement
+        SessionStatsDelta delta = SessionStatsDelta.of(
             request.getBetAmount(),
             response.getWinAmount(),
-            response.getNetProfit(),
-            response.getOutcome() == GameResult.RoundOutcome.WIN,
-            LocalDateTime.now()
+            response.getOutcome()
         );
-
-        // Update game statistics
-        gameConfigRepository.addToTotalWagered(game.getGameCode(), request.getBetAmount());
-        if (response.getWinAmount().compareTo(BigDecimal.ZERO) > 0) {
-            gameConfigRepository.addToTotalPaidOut(game.getGameCode(), response.getWinAmount());
-        }
+        settleSession(session, game, settledRounds, delta, response.getBalanceAfter());
+        roundStageTimer.finish(game.getGameType());
 
         log.info("Round {} completed for session {}. Outcome: {}, Win: {}",
             response.getRoundNumber(), session.getId(), response.getOutcome(), response.getWinAmount());
@@ -194,6 +212,225 @@ public class GameService {
         return response;
     }
 
+    /**
+     * Play up to {@code count} rounds of an instant game in one transaction: consecutive
+     * nonces, one batch of result inserts and one session UPDATE. Stops once the profit
+     * or loss limit is reached, or before a bet the balance or the game's limits do not
+     * allow; only the first bet must be valid.
+     */
+    @Transactional
+    public AutoBetResponse autoBet(String userId, AutoBetRequest request) {
+        GameSession session = gameSessionCache.get(request.getSessionId(), userId)
+            .orElseThrow(() -> new SessionNotFoundException("Session not found or does not belong to user"));
+
+        if (session.getStatus() != GameSession.SessionStatus.ACTIVE) {
+            throw new SessionNotFoundException("Session is not active");
+        }
+
+        GameConfig game = gameCatalog.findGame(session.getGameCode())
+            .orElseThrow(() -> new GameNotFoundException("Game not found: " + session.getGameCode()));
+
+        if (!AUTO_BET_GAMES.contains(game.getGameType())) {
+            throw new InvalidBetException("Auto-bet is not available for " + game.getGameType());
+        }
+        if (request.getCount() > autoBetMaxRounds) {
+            throw new InvalidBetException("At most " + autoBetMaxRounds + " rounds per auto-bet");
+        }
+        validateBet(request.getBetAmount(), game, session);
+
+        long settledRounds = session.getSettledRounds();
+        BigDecimal balance = session.getCurrentBalance();
+        BigDecimal betAmount = request.getBetAmount();
+        SessionStatsDelta delta = new SessionStatsDelta();
+        List<GameResult> results = new ArrayList<>();
+        String stopReason = "COUNT";
+
+        for (int i = 0; i < request.getCount(); i++) {
+            String limit = betLimit(betAmount, game, balance);
+            if (limit != null) {
+                stopReason = limit;
+                break;
+            }
+
+            long nonce = settledRounds + 1 + i;
+            String serverSeed = rngService.generateServerSeed();
+            InstantRound round = playInstantRound(game, request, betAmount, serverSeed, nonce);
+
+            BigDecimal netProfit = round.winAmount().subtract(betAmount);
+            BigDecimal balanceAfter = balance.add(netProfit);
+            results.add(newGameResult(
+                session, serverSeed, request.getClientSeed(), nonce,
+                betAmount, round.winAmount(), netProfit, round.multiplier(),
+                balance, balanceAfter, round.outcome(),
+                resultCodecRegistry.encode(round.resultData())
+            ));
+            delta.add(betAmount, round.winAmount(), round.outcome());
+            balance = balanceAfter;
+
+            if (request.getStopOnProfit() != null && delta.getNetProfit().compareTo(request.getStopOnProfit()) >= 0) {
+                stopReason = "PROFIT";
+                break;
+            }
+            if (request.getStopOnLoss() != null && delta.getNetProfit().negate().compareTo(request.getStopOnLoss()) >= 0) {
+                stopReason = "LOSS";
+                break;
+            }
+            betAmount = nextBet(request, betAmount, netProfit.signum() > 0);
+        }
+
+        results = gameResultWriter.writeAll(results);
+        settleSession(session, game, settledRounds, delta, balance);
+
+        log.info("Auto-bet on session {}: {} rounds, net {}, stopped on {}",
+            session.getId(), delta.getRounds(), delta.getNetProfit(), stopReason);
+
+        return AutoBetResponse.builder()
+            .sessionId(session.getId())
+            .roundsPlayed(delta.getRounds())
+            .firstRound(settledRounds + 1)
+            .lastRound(settledRounds + delta.getRounds())
+            .roundsWon(delta.getRoundsWon())
+            .totalBet(delta.getTotalBet())
+            .totalWon(delta.getTotalWon())
+            .netProfit(delta.getNetProfit())
+            .biggestWin(delta.getBiggestWin())
+            .balanceAfter(balance)
+            .stopReason(stopReason)
+            .rounds(request.isIncludeRounds() ? results.stream().map(this::toAutoBetRound).toList() : null)
+            .build();
+    }
+
+    /**
+     * One round of an auto-bet game, with the bet options of the request
+     */
+    private InstantRound playInstantRound(
+        GameConfig game,
+        AutoBetRequest request,
+        BigDecimal betAmount,
+        String serverSeed,
+        long nonce
+    ) {
+        String clientSeed = request.getClientSeed();
+        try {
+            return switch (game.getGameType()) {
+                case DICE -> {
+                    DiceGameResultData dice = diceGameEngine.roll(
+                        serverSeed, clientSeed, nonce, betAmount,
+                        request.getTarget() != null ? request.getTarget() : 50,
+                        !Boolean.FALSE.equals(request.getRollOver())
+                    );
+                    yield new InstantRound(dice, dice.getPayout(), dice.getMultiplier(), outcome(dice.getIsWin()));
+                }
+                case COIN_FLIP -> {
+                    CoinFlipResultData coin = coinFlipEngine.flip(
+                        serverSeed, clientSeed, nonce, betAmount,
+                        request.getSide() != null ? request.getSide() : CoinFlipEngine.CoinSide.HEADS
+                    );
+                    yield new InstantRound(coin, coin.getPayout(), coin.getMultiplier(), outcome(coin.getIsWin()));
+                }
+                case KENO -> {
+                    if (request.getPicks() == null) {
+                        throw new InvalidBetException("Keno auto-bet needs picks");
+                    }
+                    KenoResultData keno = kenoGameEngine.play(serverSeed, clientSeed, nonce, request.getPicks(), betAmount);
+                    yield new InstantRound(keno, keno.getPayout(),
+                        BigDecimal.valueOf(keno.getMultiplier()), outcome(keno.getIsWin()));
+                }
+                case SLOTS -> {
+                    SlotResultData slot = slotGameEngine.spin(game, betAmount, serverSeed, clientSeed, nonce);
+                    BigDecimal winAmount = slotGameEngine.calculateTotalPayout(slot);
+                    GameResult.RoundOutcome outcome = slot.isBonusTriggered()
+                        ? GameResult.RoundOutcome.BONUS_TRIGGERED
+                        : outcome(winAmount.signum() > 0);
+                    yield new InstantRound(slot, winAmount, winAmount.divide(betAmount, 2, RoundingMode.HALF_UP), outcome);
+                }
+                default -> throw new InvalidBetException("Auto-bet is not available for " + game.getGameType());
+            };
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBetException(e.getMessage());
+        }
+    }
+
+    private static GameResult.RoundOutcome outcome(Boolean isWin) {
+        return Boolean.TRUE.equals(isWin) ? GameResult.RoundOutcome.WIN : GameResult.RoundOutcome.LOSS;
+    }
+
+    private static BigDecimal nextBet(AutoBetRequest request, BigDecimal betAmount, boolean won) {
+        return switch (request.getBetStrategy()) {
+            case FLAT -> betAmount;
+            case MARTINGALE -> won ? request.getBetAmount() : betAmount.multiply(BigDecimal.valueOf(2));
+            case PAROLI -> won ? betAmount.multiply(BigDecimal.valueOf(2)) : request.getBetAmount();
+        };
+    }
+
+    private AutoBetResponse.Round toAutoBetRound(GameResult result) {
+        return AutoBetResponse.Round.builder()
+            .roundNumber(result.getRoundNumber())
+            .outcome(result.getOutcome())
+            .betAmount(result.getBetAmount())
+            .winAmount(result.getWinAmount())
+            .multiplier(result.getMultiplier())
+            .balanceAfter(result.getBalanceAfter())
+            .serverSeed(result.getServerSeed())
+            .build();
+    }
+
+    private record InstantRound(
+        Object resultData,
+        BigDecimal winAmount,
+        BigDecimal multiplier,
+        GameResult.RoundOutcome outcome
+    ) {
+    }
+
+    /**
+     * Write settled rounds to the session row and publish the game-wide totals.
+     * Fails the transaction if another round settled on the session concurrently.
+     */
+    private void settleSession(
+        GameSession session,
+        GameConfig game,
+        long settledRounds,
+        SessionStatsDelta delta,
+        BigDecimal balanceAfter
+    ) {
+        int updated = gameSessionRepository.settleRounds(
+            session.getId(),
+            GameSession.SessionStatus.ACTIVE,
+            session.getVersion(),
+            settledRounds,
+            (int) settledRounds,
+            settledRounds + delta.getRounds(),
+            balanceAfter,
+            delta.getTotalBet(),
+            delta.getTotalWon(),
+            delta.getNetProfit(),
+            delta.getRounds(),
+            delta.getRoundsWon(),
+            delta.getRoundsLost(),
+            delta.getBiggestWin(),
+            delta.getBiggestLoss(),
+            LocalDateTime.now()
+        );
+
+        if (updated == 0) {
+            gameSessionCache.evict(session.getId());
+            throw new RoundConflictException("Session " + session.getId() + " was modified by a concurrent round");
+        }
+        gameSessionCache.settled(session, settledRounds + delta.getRounds(), balanceAfter);
+
+        // The session is left untouched: when it is managed, dirty-checking it would
+        // write the stale statistics back over the UPDATE above
+        eventPublisher.publishEvent(new RoundSettledEvent(
+            session.getGameCode(),
+            game.getGameType(),
+            delta.getRounds(),
+            delta.getRoundsWon(),
+            delta.getTotalBet(),
+            delta.getTotalWon()
+        ));
+    }
+
     /**
      * Play a slot machine round
      */
@@ -237,7 +474,8 @@ public class GameService {
             multiplier = winAmount.divide(betAmount, 2, RoundingMode.HALF_UP);
         }
 
-        // Save result
+        // Save result; encoded once for both the entity and the response
+        EncodedResult encoded = encode(slotResult);
         GameResult result = GameResult.builder()
             .sessionId(session.getId())
             .userId(session.getUserId())
@@ -250,16 +488,16 @@ public class GameService {
             .multiplier(multiplier)
             .balanceBefore(balanceBefore)
             .balanceAfter(balanceAfter)
-            .resultJson(slotGameEngine.toJson(slotResult))
+            .resultJson(encoded.getStoredJson())
+            .resultData(encoded.getData())
+            .resultFormat(encoded.getFormat().getId())
             .serverSeed(serverSeed)
             .clientSeed(request.getClientSeed())
             .nonce(nonce)
+            .rngVersion(rngService.getAlgorithm().getId())
             .build();
 
-        result = gameResultRepository.save(result);
-
-        // Update session current balance
-        session.setCurrentBalance(balanceAfter);
+        result = gameResultWriter.write(result);
 
         return PlayRoundResponse.builder()
             .resultId(result.getId())
@@ -271,9 +509,10 @@ public class GameService {
             .multiplier(multiplier)
             .balanceBefore(balanceBefore)
             .balanceAfter(balanceAfter)
-            .resultData(slotGameEngine.toJson(slotResult))
+            .resultData(encoded.getJson())
             .serverSeed(serverSeed)
             .nonce(nonce)
+            .rngVersion(result.getRngVersion())
             .isBigWin(result.isBigWin())
             .isMegaWin(result.isMegaWin())
             .build();
@@ -317,14 +556,15 @@ public class GameService {
         BigDecimal multiplier = betAmount.compareTo(BigDecimal.ZERO) > 0 ?
             winAmount.divide(betAmount, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
 
+        EncodedResult encoded = encode(blackjackResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(blackjackResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(blackjackResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
     }
 
     /**
@@ -363,14 +603,15 @@ public class GameService {
 
         BigDecimal multiplier = rouletteResult.getMultiplier();
 
+        EncodedResult encoded = encode(rouletteResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(rouletteResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(rouletteResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
     }
 
     /**
@@ -405,14 +646,15 @@ public class GameService {
         BigDecimal multiplier = betAmount.compareTo(BigDecimal.ZERO) > 0 ?
             winAmount.divide(betAmount, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
 
+        EncodedResult encoded = encode(pokerResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(pokerResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(pokerResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
     }
 
     /**
@@ -451,14 +693,15 @@ public class GameService {
 
         BigDecimal multiplier = diceResult.getMultiplier();
 
+        EncodedResult encoded = encode(diceResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(diceResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(diceResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
     }
 
     /**
@@ -494,14 +737,15 @@ public class GameService {
 
         BigDecimal multiplier = minesResult.getCurrentMultiplier();
 
+        EncodedResult encoded = encode(minesResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(minesResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(minesResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
     }
 
     /**
@@ -539,14 +783,15 @@ public class GameService {
         BigDecimal multiplier = crashResult.getCashedOutAt() != null ?
             crashResult.getCashedOutAt() : BigDecimal.ZERO;
 
+        EncodedResult encoded = encode(crashResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(crashResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(crashResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
     }
 
     /**
@@ -583,14 +828,25 @@ public class GameService {
 
         BigDecimal multiplier = coinResult.getMultiplier();
 
+        EncodedResult encoded = encode(coinResult);
         GameResult result = saveGameResult(
             session, serverSeed, request.getClientSeed(), nonce,
             betAmount, winAmount, netProfit, multiplier,
             balanceBefore, balanceAfter, outcome,
-            toJson(coinResult)
+            encoded
         );
 
-        return buildPlayRoundResponse(result, serverSeed, nonce, toJson(coinResult));
+        return buildPlayRoundResponse(result, serverSeed, nonce, encoded.getJson());
+    }
+
+    /**
+     * Encode a round's result data; the engine stage of a traced round ends here
+     */
+    private EncodedResult encode(Object resultData) {
+        roundStageTimer.mark(RoundStageTimer.Stage.ENGINE);
+        EncodedResult encoded = resultCodecRegistry.encode(resultData);
+        roundStageTimer.mark(RoundStageTimer.Stage.ENCODE);
+        return encoded;
     }
 
     /**
@@ -608,9 +864,31 @@ public class GameService {
         BigDecimal balanceBefore,
         BigDecimal balanceAfter,
         GameResult.RoundOutcome outcome,
-        String resultJson
+        EncodedResult encoded
     ) {
-        GameResult result = GameResult.builder()
+        return gameResultWriter.write(newGameResult(
+            session, serverSeed, clientSeed, nonce,
+            betAmount, winAmount, netProfit, multiplier,
+            balanceBefore, balanceAfter, outcome,
+            encoded
+        ));
+    }
+
+    private GameResult newGameResult(
+        GameSession session,
+        String serverSeed,
+        String clientSeed,
+        Long nonce,
+        BigDecimal betAmount,
+        BigDecimal winAmount,
+        BigDecimal netProfit,
+        BigDecimal multiplier,
+        BigDecimal balanceBefore,
+        BigDecimal balanceAfter,
+        GameResult.RoundOutcome outcome,
+        EncodedResult encoded
+    ) {
+        return GameResult.builder()
             .sessionId(session.getId())
             .userId(session.getUserId())
             .gameCode(session.getGameCode())
@@ -622,13 +900,14 @@ public class GameService {
             .multiplier(multiplier)
             .balanceBefore(balanceBefore)
             .balanceAfter(balanceAfter)
-            .resultJson(resultJson)
+            .resultJson(encoded.getStoredJson())
+            .resultData(encoded.getData())
+            .resultFormat(encoded.getFormat().getId())
             .serverSeed(serverSeed)
             .clientSeed(clientSeed)
             .nonce(nonce)
+            .rngVersion(rngService.getAlgorithm().getId())
             .build();
-
-        return gameResultRepository.save(result);
     }
 
     /**
@@ -653,21 +932,52 @@ public class GameService {
             .resultData(resultData)
             .serverSeed(serverSeed)
             .nonce(nonce)
+            .rngVersion(result.getRngVersion())
             .isBigWin(result.isBigWin())
             .isMegaWin(result.isMegaWin())
             .build();
     }
 
     /**
-     * Convert object to JSON string
+     * Rounds of one of the user's sessions in round order, one page after the cursor;
+     * stored result data is decoded to JSON here
      */
-    private String toJson(Object obj) {
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (Exception e) {
-            log.error("Error converting to JSON", e);
-            return "{}";
-        }
+    public HistoryPage<PlayRoundResponse> getSessionRounds(String sessionId, String userId, String cursor, int limit) {
+        GameSession session = gameSessionRepository.findByIdAndUserId(sessionId, userId)
+            .orElseThrow(() -> new SessionNotFoundException("Session not found"));
+
+        List<GameResult> results = gameResultRepository.findSessionRoundsPage(
+            sessionId, session.getStartedAt(), HistoryCursor.roundNumber(HistoryCursor.decode(cursor)),
+            PageRequest.of(0, limit + 1));
+
+        return page(results, limit,
+            result -> buildPlayRoundResponse(
+                result, result.getServerSeed(), result.getNonce(), resultCodecRegistry.toJson(result)),
+            result -> HistoryCursor.after(result.getRoundNumber()));
+    }
+
+    /**
+     * The user's settled rounds across sessions, newest first, optionally of one game
+     * or outcome; one page after the cursor
+     */
+    public HistoryPage<RoundHistoryEntry> getRoundHistory(
+        String userId,
+        String gameCode,
+        GameResult.RoundOutcome outcome,
+        String cursor,
+        int limit
+    ) {
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        LocalDateTime createdAt = HistoryCursor.time(after);
+        String id = HistoryCursor.id(after);
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+        List<GameResult> results = gameCode == null
+            ? gameResultRepository.findUserHistoryPage(userId, outcome, createdAt, id, pageRequest)
+            : gameResultRepository.findUserGameHistoryPage(userId, gameCode, outcome, createdAt, id, pageRequest);
+
+        return page(results, limit, this::toRoundHistoryEntry,
+            result -> HistoryCursor.after(result.getCreatedAt(), result.getId()));
     }
 
     /**
@@ -682,12 +992,15 @@ public class GameService {
     }
 
     /**
-     * Get session history for a user
+     * The user's sessions, newest first; one page after the cursor
      */
-    public List<GameSessionDto> getSessionHistory(String userId) {
-        return gameSessionRepository.findByUserIdOrderByStartedAtDesc(userId).stream()
-            .map(this::toGameSessionDto)
-            .collect(Collectors.toList());
+    public HistoryPage<GameSessionDto> getSessionHistory(String userId, String cursor, int limit) {
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        List<GameSession> sessions = gameSessionRepository.findUserSessionPage(
+            userId, HistoryCursor.time(after), HistoryCursor.id(after), PageRequest.of(0, limit + 1));
+
+        return page(sessions, limit, this::toGameSessionDto,
+            session -> HistoryCursor.after(session.getStartedAt(), session.getId()));
     }
 
     /**
@@ -707,38 +1020,14 @@ public class GameService {
             GameSession.SessionStatus.COMPLETED,
             LocalDateTime.now()
         );
+        gameSessionCache.evict(sessionId);
 
         // Decrement active player count
-        gameConfigRepository.decrementActiveCount(session.getGameCode());
+        gameConfigStatsAggregator.recordSessionEnded(session.getGameCode());
 
         log.info("Session {} ended for user {}", sessionId, userId);
     }
 
-    /**
-     * Clean up abandoned sessions
-     */
-    @Transactional
-    public void cleanupAbandonedSessions() {
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(SESSION_TIMEOUT_MINUTES);
-        List<GameSession> abandonedSessions = gameSessionRepository.findInactiveSessions(
-            GameSession.SessionStatus.ACTIVE,
-            cutoff
-        );
-
-        for (GameSession session : abandonedSessions) {
-            gameSessionRepository.endSession(
-                session.getId(),
-                GameSession.SessionStatus.ABANDONED,
-                LocalDateTime.now()
-            );
-            gameConfigRepository.decrementActiveCount(session.getGameCode());
-        }
-
-        if (!abandonedSessions.isEmpty()) {
-            log.info("Cleaned up {} abandoned sessions", abandonedSessions.size());
-        }
-    }
-
     /**
      * Validate bet amount
      */
@@ -756,25 +1045,55 @@ public class GameService {
         }
     }
 
+    /**
+     * Why an auto-bet stops before this bet, or null if it is allowed
+     */
+    private static String betLimit(BigDecimal betAmount, GameConfig game, BigDecimal balance) {
+        if (betAmount.compareTo(game.getMinBet()) < 0 || betAmount.compareTo(game.getMaxBet()) > 0) {
+            return "BET_LIMIT";
+        }
+        if (betAmount.compareTo(balance) > 0) {
+            return "BALANCE";
+        }
+        return null;
+    }
+
     // DTO Converters
 
-    private GameConfigDto toGameConfigDto(GameConfig game) {
-        return GameConfigDto.builder()
-            .id(game.getId())
-            .gameCode(game.getGameCode())
-            .gameName(game.getGameName())
-            .gameType(game.getGameType())
-            .description(game.getDescription())
-            .imageUrl(game.getImageUrl())
-            .active(game.getActive())
-            .rtpPercentage(game.getRtpPercentage())
-            .minBet(game.getMinBet())
-            .maxBet(game.getMaxBet())
-            .reels(game.getReels())
-            .rows(game.getRows())
-            .paylines(game.getPaylines())
-            .totalPlays(game.getTotalPlays())
-            .activePlayers(game.getActivePlayers())
+    /**
+     * A page of at most {@code limit} rows from a query that fetched one more, which
+     * tells whether there is a next page
+     */
+    private static <T, R> HistoryPage<R> page(
+        List<T> rows,
+        int limit,
+        Function<T, R> mapper,
+        Function<T, HistoryCursor> cursor
+    ) {
+        boolean hasMore = rows.size() > limit;
+        List<T> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursor.apply(page.get(page.size() - 1)).encode() : null;
+        return new HistoryPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    private RoundHistoryEntry toRoundHistoryEntry(GameResult result) {
+        return RoundHistoryEntry.builder()
+            .resultId(result.getId())
+            .sessionId(result.getSessionId())
+            .gameCode(result.getGameCode())
+            .roundNumber(result.getRoundNumber())
+            .outcome(result.getOutcome())
+            .betAmount(result.getBetAmount())
+            .winAmount(result.getWinAmount())
+            .netProfit(result.getNetProfit())
+            .multiplier(result.getMultiplier())
+            .balanceAfter(result.getBalanceAfter())
+            .resultData(resultCodecRegistry.toJson(result))
+            .serverSeed(result.getServerSeed())
+            .clientSeed(result.getClientSeed())
+            .nonce(result.getNonce())
+            .rngVersion(result.getRngVersion())
+            .createdAt(result.getCreatedAt())
             .build();
     }
 
@@ -0,0 +1,111 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameSession;
+import com.casino.game.repository.GameSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * In-process copies of active sessions, so a round reads its session from memory
+ * instead of selecting the row first.
+ * <p>
+ * Copies are detached and never written back: a round settles with the delta UPDATE
+ * of {@link GameSessionRepository#settleRounds}, guarded by the copy's version, and the
+ * copy is replaced once that commits. A copy made stale by another instance fails the
+ * guard, is evicted and the round is rejected as a conflict, so correctness never
+ * depends on routing; sticky sessions only keep the hit rate up.
+ */
+@Component
+public class GameSessionCache {
+
+    private final GameSessionRepository gameSessionRepository;
+    private final boolean enabled;
+    private final Cache<String, GameSession> sessions;
+
+    public GameSessionCache(
+        GameSessionRepository gameSessionRepository,
+        @Value("${game.session-cache.enabled:true}") boolean enabled,
+        @Value("${game.session-cache.ttl:30m}") Duration ttl,
+        @Value("${game.session-cache.max-entries:100000}") long maxEntries
+    ) {
+        this.gameSessionRepository = gameSessionRepository;
+        this.enabled = enabled;
+        this.sessions = Caffeine.newBuilder()
+            .expireAfterAccess(ttl)
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    /**
+     * The user's session, from memory when cached. Only active sessions are cached.
+     */
+    public Optional<GameSession> get(String sessionId, String userId) {
+        if (!enabled) {
+            return gameSessionRepository.findByIdAndUserId(sessionId, userId);
+        }
+        GameSession cached = sessions.getIfPresent(sessionId);
+        if (cached != null) {
+            return cached.getUserId().equals(userId) ? Optional.of(cached) : Optional.empty();
+        }
+        return gameSessionRepository.findByIdAndUserId(sessionId, userId).map(session -> {
+            GameSession copy = session.toBuilder().build();
+            if (copy.getStatus() == GameSession.SessionStatus.ACTIVE) {
+                sessions.asMap().merge(sessionId, copy, GameSessionCache::newer);
+            }
+            return copy;
+        });
+    }
+
+    /**
+     * Advance the cached copy to the state {@code settleRounds} wrote, once the caller
+     * commits; a rollback drops it instead. Statistics are not tracked in the copy.
+     */
+    public void settled(GameSession session, long lastRoundNumber, BigDecimal balanceAfter) {
+        if (!enabled) {
+            return;
+        }
+        GameSession settled = session.toBuilder()
+            .currentBalance(balanceAfter)
+            .lastRoundNumber(lastRoundNumber)
+            .version(session.getVersion() + 1)
+            .lastActivityAt(LocalDateTime.now())
+            .build();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sessions.asMap().merge(session.getId(), settled, GameSessionCache::newer);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    sessions.asMap().merge(session.getId(), settled, GameSessionCache::newer);
+                } else {
+                    evict(session.getId());
+                }
+            }
+        });
+    }
+
+    public void evict(String sessionId) {
+        sessions.invalidate(sessionId);
+    }
+
+    public long size() {
+        return sessions.estimatedSize();
+    }
+
+    // Commits can finish out of order; never replace a copy with an older one
+    private static GameSession newer(GameSession current, GameSession candidate) {
+        return candidate.getVersion() > current.getVersion() ? candidate : current;
+    }
+}
@@ -0,0 +1,51 @@
+package com.casino.game.service;
+
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Server-side state of multi-step games (blackjack, video poker, mines, manual crash).
+ * Clients only hold the handle returned by {@link #create}; the deck, mine positions and
+ * crash point never leave the server. States are scoped to the user and expire after
+ * game.state.ttl. The backend is picked with game.state.store (memory or redis).
+ */
+public interface GameStateStore {
+
+    /**
+     * Store the state of a new game and return its handle
+     */
+    String create(String userId, Object state);
+
+    /**
+     * Remove and return a state, so two concurrent actions cannot both use it
+     *
+     * @throws com.casino.game.exception.GameStateNotFoundException if missing or expired
+     */
+    <T> T take(String userId, String stateId, Class<T> type);
+
+    /**
+     * Store a state under an existing handle, restarting its expiry
+     */
+    void put(String userId, String stateId, Object state);
+
+    /**
+     * Apply one action to a stored game. The result is stored again while the game is
+     * in progress and dropped once it is finished. If the action fails the previous
+     * state is put back.
+     */
+    default <T> T advance(String userId, String stateId, Class<T> type,
+                          UnaryOperator<T> action, Predicate<T> inProgress) {
+        T current = take(userId, stateId, type);
+        T next;
+        try {
+            next = action.apply(current);
+        } catch (RuntimeException e) {
+            put(userId, stateId, current);
+            throw e;
+        }
+        if (inProgress.test(next)) {
+            put(userId, stateId, next);
+        }
+        return next;
+    }
+}
@@ -0,0 +1,82 @@
+package com.casino.game.service;
+
+import com.casino.game.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated history: the sort key and id of the last row of the
+ * previous page. Clients get it as an opaque string and send it back unchanged.
+ */
+public record HistoryCursor(String sortKey, String id) {
+
+    // Later than any stored timestamp, so the first page needs no separate query
+    private static final LocalDateTime FIRST_PAGE_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    public static HistoryCursor after(LocalDateTime time, String id) {
+        return new HistoryCursor(time.toString(), id);
+    }
+
+    public static HistoryCursor after(long roundNumber) {
+        return new HistoryCursor(Long.toString(roundNumber), "");
+    }
+
+    /**
+     * The cursor sent by a client; null or blank means the first page
+     */
+    public static HistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return new HistoryCursor(decoded.substring(0, separator), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((sortKey + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Timestamp of a (time, id) cursor; null cursors start before the newest row
+     */
+    public static LocalDateTime time(HistoryCursor cursor) {
+        if (cursor == null) {
+            return FIRST_PAGE_TIME;
+        }
+        try {
+            return LocalDateTime.parse(cursor.sortKey());
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor position: " + cursor.sortKey());
+        }
+    }
+
+    public static String id(HistoryCursor cursor) {
+        return cursor == null ? "" : cursor.id();
+    }
+
+    /**
+     * Round number of a session rounds cursor; null cursors start before round 1
+     */
+    public static long roundNumber(HistoryCursor cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor.sortKey());
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid cursor position: " + cursor.sortKey());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.casino.game.service;
+
+import com.casino.game.exception.GameStateNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * In-process game state store (default). States are kept as objects, so an action costs
+ * no serialization at all. Only valid when a user's requests reach the same instance.
+ */
+@Component
+@ConditionalOnProperty(name = "game.state.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryGameStateStore implements GameStateStore {
+
+    private final Cache<String, Object> states;
+
+    public InMemoryGameStateStore(
+        @Value("${game.state.ttl:30m}") Duration ttl,
+        @Value("${game.state.max-entries:100000}") long maxEntries
+    ) {
+        this.states = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    @Override
+    public String create(String userId, Object state) {
+        String stateId = UUID.randomUUID().toString();
+        put(userId, stateId, state);
+        return stateId;
+    }
+
+    @Override
+    public <T> T take(String userId, String stateId, Class<T> type) {
+        String key = key(userId, stateId);
+        Object state = states.getIfPresent(key);
+        // remove(key, state) fails if a concurrent action took it first
+        if (!type.isInstance(state) || !states.asMap().remove(key, state)) {
+            throw new GameStateNotFoundException("Game state not found or expired: " + stateId);
+        }
+        return type.cast(state);
+    }
+
+    @Override
+    public void put(String userId, String stateId, Object state) {
+        states.put(key(userId, stateId), state);
+    }
+
+    private static String key(String userId, String stateId) {
+        return userId + ":" + stateId;
+    }
+}
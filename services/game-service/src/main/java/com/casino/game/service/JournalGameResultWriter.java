@@ -0,0 +1,394 @@
+package com.casino.game.service;
+
+import com.casino.game.codec.ResultInput;
+import com.casino.game.codec.ResultOutput;
+import com.casino.game.entity.GameResult;
+import com.casino.game.entity.GameSession;
+import com.casino.game.journal.ResultJournal;
+import com.casino.game.repository.GameResultRepository;
+import com.casino.game.repository.GameSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Journaled result persistence (game.results.writer=journal).
+ * <p>
+ * The round's transaction still settles the session balance; the result row is appended
+ * to a local {@link ResultJournal} just before that transaction commits, and marked
+ * committed or rolled back once it completes. {@link #flush()} drains committed records
+ * in append order with batched multi-row INSERTs (reWriteBatchedInserts on the JDBC URL),
+ * so the database takes one statement per batch instead of one per round.
+ * <p>
+ * Recovery: records left by a previous run are drained again on startup. Ids are
+ * assigned here, so rows already inserted before the checkpoint was written are
+ * skipped. A record whose transaction outcome was not recorded counts as committed
+ * if its session has settled that round and no other record claims it (a round number
+ * settles at most once per session, see GameService.settleSession). The same rule
+ * decides, on the next drain, a record whose transaction ended with an unknown outcome
+ * (a commit that failed without saying whether it applied).
+ * <p>
+ * Results are visible to queries once drained (game.results.journal.drain-interval-ms).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.results.writer", havingValue = "journal")
+public class JournalGameResultWriter implements GameResultWriter {
+
+    private static final int RECORD_VERSION = 1;
+    private static final String INSERT_SQL = "INSERT INTO game_results (id, session_id, user_id, game_code, "
+        + "round_number, outcome, bet_amount, win_amount, net_profit, multiplier, balance_before, balance_after, "
+        + "result_json, result_data, result_format, server_seed, client_seed, nonce, rng_version, created_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ResultJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GameSessionRepository gameSessionRepository;
+    private final GameResultRepository gameResultRepository;
+    private final int batchSize;
+    private final Counter drainedRows;
+    private final Counter drainFailures;
+    // Held across the JDBC batches of a drain; unlike a monitor it does not pin a virtual thread
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    // Records before this position were appended by a previous run
+    private long recoveryEnd;
+    // Pending records of this run whose transaction outcome is unknown
+    private final Set<Long> unknownOutcomes = ConcurrentHashMap.newKeySet();
+    private boolean recovered;
+
+    public JournalGameResultWriter(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        GameSessionRepository gameSessionRepository,
+        GameResultRepository gameResultRepository,
+        MeterRegistry meterRegistry,
+        @Value("${game.results.journal.dir:data/result-journal}") Path directory,
+        @Value("${game.results.journal.segment-size:64MB}") DataSize segmentSize,
+        @Value("${game.results.journal.fsync:true}") boolean fsync,
+        @Value("${game.results.journal.batch-size:500}") int batchSize
+    ) {
+        this.journal = new ResultJournal(directory, Math.toIntExact(segmentSize.toBytes()), fsync);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gameSessionRepository = gameSessionRepository;
+        this.gameResultRepository = gameResultRepository;
+        this.batchSize = batchSize;
+
+        Gauge.builder("game_result_journal_backlog", journal, ResultJournal::getUndrainedRecords)
+            .description("Result journal records not yet written to the database")
+            .register(meterRegistry);
+        Gauge.builder("game_result_journal_segments", journal, ResultJournal::getSegmentCount)
+            .description("Result journal segment files on disk")
+            .register(meterRegistry);
+        this.drainedRows = Counter.builder("game_result_journal_drained_total")
+            .description("Result rows inserted from the journal")
+            .register(meterRegistry);
+        this.drainFailures = Counter.builder("game_result_journal_drain_failures_total")
+            .description("Failed result journal drains")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() {
+        recoveryEnd = journal.open();
+    }
+
+    @Override
+    public GameResult write(GameResult result) {
+        // Filled here for the response; the INSERT bypasses @PrePersist.
+        // Microseconds, as the column stores them
+        result.setId(UUID.randomUUID().toString());
+        result.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        if (result.getNetProfit() == null) {
+            result.setNetProfit(result.getWinAmount().subtract(result.getBetAmount()));
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal.append(encode(result), ResultJournal.COMMITTED);
+            return result;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new JournalAppend(result));
+        return result;
+    }
+
+    /**
+     * Drain committed records to the database, a batch per transaction. A failed batch
+     * stays in the journal and is retried on the next call.
+     */
+    @Override
+    public void flush() {
+        drainLock.lock();
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void drain() {
+        try {
+            if (!recovered) {
+                resolvePendingRecords(entry -> entry.position() < recoveryEnd);
+                recovered = true;
+            }
+            if (!unknownOutcomes.isEmpty()) {
+                Set<Long> unknown = Set.copyOf(unknownOutcomes);
+                resolvePendingRecords(entry -> unknown.contains(entry.position()));
+                unknownOutcomes.removeAll(unknown);
+            }
+
+            List<ResultJournal.Entry> entries;
+            do {
+                entries = journal.read(batchSize, true);
+                if (entries.isEmpty()) {
+                    return;
+                }
+
+                List<GameResult> rows = new ArrayList<>(entries.size());
+                for (ResultJournal.Entry entry : entries) {
+                    if (entry.status() == ResultJournal.COMMITTED) {
+                        rows.add(decode(entry.payload()));
+                    }
+                }
+                if (entries.get(0).position() < recoveryEnd) {
+                    rows = withoutExistingRows(rows);
+                }
+
+                List<GameResult> batch = rows;
+                if (!batch.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> insert(batch));
+                }
+                journal.markDrained(entries.get(entries.size() - 1).next(), entries.size());
+                drainedRows.increment(batch.size());
+            } while (entries.size() == batchSize);
+        } catch (Exception e) {
+            drainFailures.increment();
+            log.error("Failed to drain result journal, {} records kept for retry: {}",
+                journal.getUndrainedRecords(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Draining result journal before shutdown");
+        flush();
+        journal.close();
+    }
+
+    /**
+     * Decide pending records whose outcome was not recorded: committed if the session
+     * settled that round and no committed record or stored row already has it
+     */
+    private void resolvePendingRecords(Predicate<ResultJournal.Entry> undecided) {
+        List<ResultJournal.Entry> entries = journal.read(Integer.MAX_VALUE, false);
+
+        Set<String> committedRounds = new HashSet<>();
+        for (ResultJournal.Entry entry : entries) {
+            if (entry.status() == ResultJournal.COMMITTED) {
+                committedRounds.add(roundKey(decode(entry.payload())));
+            }
+        }
+
+        for (ResultJournal.Entry entry : entries) {
+            if (entry.status() != ResultJournal.PENDING || !undecided.test(entry)) {
+                continue;
+            }
+            GameResult result = decode(entry.payload());
+            // Any stored row of the round counts, not only this record's: a rolled back
+            // round replayed with the same nonce was drained under another record
+            boolean committed = !committedRounds.contains(roundKey(result))
+                && gameSessionRepository.findById(result.getSessionId())
+                    .filter(session -> session.getSettledRounds() >= result.getRoundNumber())
+                    .filter(session -> !gameResultRepository.existsSessionRound(
+                        session.getId(), session.getStartedAt(), result.getRoundNumber()))
+                    .isPresent();
+            if (committed) {
+                committedRounds.add(roundKey(result));
+            }
+            journal.setStatus(entry.position(), committed ? ResultJournal.COMMITTED : ResultJournal.ROLLED_BACK);
+            log.warn("Resolved pending result {} of session {} round {} as {}", result.getId(), result.getSessionId(),
+                result.getRoundNumber(), committed ? "committed" : "rolled back");
+        }
+    }
+
+    /**
+     * Rows a previous run inserted before it could record the drained position
+     */
+    private List<GameResult> withoutExistingRows(List<GameResult> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        // The createdAt range keeps the lookup to the partitions the rows belong to
+        String placeholders = String.join(", ", Collections.nCopies(rows.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        rows.forEach(row -> args.add(row.getId()));
+        args.add(Timestamp.valueOf(rows.stream().map(GameResult::getCreatedAt).min(Comparator.naturalOrder()).orElseThrow()));
+        args.add(Timestamp.valueOf(rows.stream().map(GameResult::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow()));
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT id FROM game_results WHERE id IN (" + placeholders + ") AND created_at BETWEEN ? AND ?",
+            String.class,
+            args.toArray()
+        ));
+        return rows.stream().filter(row -> !existing.contains(row.getId())).toList();
+    }
+
+    private void insert(List<GameResult> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), JournalGameResultWriter::bind);
+    }
+
+    private static void bind(PreparedStatement ps, GameResult r) throws SQLException {
+        ps.setString(1, r.getId());
+        ps.setString(2, r.getSessionId());
+        ps.setString(3, r.getUserId());
+        ps.setString(4, r.getGameCode());
+        ps.setLong(5, r.getRoundNumber());
+        ps.setString(6, r.getOutcome().name());
+        ps.setBigDecimal(7, r.getBetAmount());
+        ps.setBigDecimal(8, r.getWinAmount());
+        ps.setBigDecimal(9, r.getNetProfit());
+        ps.setBigDecimal(10, r.getMultiplier());
+        ps.setBigDecimal(11, r.getBalanceBefore());
+        ps.setBigDecimal(12, r.getBalanceAfter());
+        ps.setString(13, r.getResultJson());
+        ps.setBytes(14, r.getResultData());
+        ps.setObject(15, r.getResultFormat(), Types.INTEGER);
+        ps.setString(16, r.getServerSeed());
+        ps.setString(17, r.getClientSeed());
+        ps.setLong(18, r.getNonce());
+        ps.setObject(19, r.getRngVersion(), Types.INTEGER);
+        ps.setTimestamp(20, Timestamp.valueOf(r.getCreatedAt()));
+    }
+
+    private static String roundKey(GameResult result) {
+        return result.getSessionId() + ":" + result.getRoundNumber();
+    }
+
+    static byte[] encode(GameResult r) {
+        ResultOutput out = new ResultOutput();
+        out.writeVarint(RECORD_VERSION);
+        out.writeString(r.getId());
+        out.writeString(r.getSessionId());
+        out.writeString(r.getUserId());
+        out.writeString(r.getGameCode());
+        out.writeVarint(r.getRoundNumber());
+        out.writeString(r.getOutcome().name());
+        out.writeDecimal(r.getBetAmount());
+        out.writeDecimal(r.getWinAmount());
+        out.writeDecimal(r.getNetProfit());
+        out.writeDecimal(r.getMultiplier());
+        out.writeDecimal(r.getBalanceBefore());
+        out.writeDecimal(r.getBalanceAfter());
+        out.writeString(r.getResultJson());
+        out.writeBooleans(r.getResultData() != null);
+        if (r.getResultData() != null) {
+            out.writeBytes(r.getResultData());
+        }
+        out.writeOptionalVarint(r.getResultFormat());
+        out.writeString(r.getServerSeed());
+        out.writeString(r.getClientSeed());
+        out.writeVarint(r.getNonce());
+        out.writeOptionalVarint(r.getRngVersion());
+        out.writeSignedVarint(r.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        out.writeVarint(r.getCreatedAt().getNano());
+        return out.toByteArray();
+    }
+
+    static GameResult decode(byte[] payload) {
+        ResultInput in = new ResultInput(payload);
+        int version = in.readInt();
+        if (version != RECORD_VERSION) {
+            throw new IllegalStateException("Unsupported result journal record version " + version);
+        }
+        GameResult.GameResultBuilder r = GameResult.builder()
+            .id(in.readString())
+            .sessionId(in.readString())
+            .userId(in.readString())
+            .gameCode(in.readString())
+            .roundNumber(in.readVarint())
+            .outcome(GameResult.RoundOutcome.valueOf(in.readString()))
+            .betAmount(in.readDecimal())
+            .winAmount(in.readDecimal())
+            .netProfit(in.readDecimal())
+            .multiplier(in.readDecimal())
+            .balanceBefore(in.readDecimal())
+            .balanceAfter(in.readDecimal())
+            .resultJson(in.readString());
+        if (in.readBooleans(1)[0]) {
+            r.resultData(in.readBytes());
+        }
+        return r
+            .resultFormat(in.readOptionalVarint())
+            .serverSeed(in.readString())
+            .clientSeed(in.readString())
+            .nonce(in.readVarint())
+            .rngVersion(in.readOptionalVarint())
+            .createdAt(LocalDateTime.ofEpochSecond(in.readSignedVarint(), in.readInt(), ZoneOffset.UTC))
+            .build();
+    }
+
+    /**
+     * Appends the result once the transaction is about to commit (a round that fails
+     * earlier never reaches the journal) and records how the transaction ended.
+     * If the append fails the transaction rolls back with it.
+     */
+    private final class JournalAppend implements TransactionSynchronization {
+
+        private final GameResult result;
+        private long position = -1;
+
+        JournalAppend(GameResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            position = journal.append(encode(result), ResultJournal.PENDING);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (position < 0) {
+                return;
+            }
+            if (status == STATUS_UNKNOWN) {
+                // Stays pending, which holds the drain back until it is resolved
+                unknownOutcomes.add(position);
+                return;
+            }
+            journal.setStatus(position, status == STATUS_COMMITTED ? ResultJournal.COMMITTED : ResultJournal.ROLLED_BACK);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.casino.game.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Lets a single instance at a time run a scheduled job.
+ * <ul>
+ *   <li>{@code postgres}: a session advisory lock on a connection held for the run, so
+ *       it is released with the connection if the instance dies</li>
+ *   <li>{@code redis}: a lease with a TTL, deleted only by the instance that holds it</li>
+ *   <li>{@code none}: every instance runs the job</li>
+ * </ul>
+ * When the lock is held elsewhere, or cannot be taken, the run is skipped.
+ */
+@Slf4j
+public class LeaderLock {
+
+    public enum Mode { NONE, POSTGRES, REDIS }
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(hashtext(?))";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext(?))";
+
+    // Delete the lease only while this instance still holds it
+    static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final String name;
+    private final Mode mode;
+    private final Duration lease;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public LeaderLock(
+        String name,
+        String mode,
+        Duration lease,
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<StringRedisTemplate> redisTemplate
+    ) {
+        this.name = name;
+        this.mode = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        this.lease = lease;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * How long a run may take before another instance can take over, if the lock expires
+     */
+    public Optional<Duration> getLease() {
+        return mode == Mode.REDIS ? Optional.of(lease) : Optional.empty();
+    }
+
+    /**
+     * Run the task if this instance gets the lock; empty when the run was skipped
+     */
+    public <T> Optional<T> callExclusively(Supplier<T> task) {
+        return switch (mode) {
+            case NONE -> Optional.of(task.get());
+            case POSTGRES -> withAdvisoryLock(task);
+            case REDIS -> withLease(task);
+        };
+    }
+
+    public boolean runExclusively(Runnable task) {
+        return callExclusively(() -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    private <T> Optional<T> withAdvisoryLock(Supplier<T> task) {
+        AtomicBoolean locked = new AtomicBoolean();
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+                if (!advisory(connection, TRY_LOCK_SQL)) {
+                    log.debug("Lock {} held by another instance", name);
+                    return Optional.empty();
+                }
+                locked.set(true);
+                try {
+                    return Optional.of(task.get());
+                } finally {
+                    advisory(connection, UNLOCK_SQL);
+                }
+            });
+        } catch (DataAccessException e) {
+            if (locked.get()) {
+                throw e;
+            }
+            log.warn("Cannot take lock {}, skipping this run: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean advisory(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private <T> Optional<T> withLease(Supplier<T> task) {
+        if (!acquireLease()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(task.get());
+        } finally {
+            releaseLease();
+        }
+    }
+
+    private boolean acquireLease() {
+        try {
+            boolean acquired = Boolean.TRUE.equals(
+                redisTemplate.getObject().opsForValue().setIfAbsent(name, instanceId, lease));
+            if (!acquired) {
+                log.debug("Lease {} held by another instance", name);
+            }
+            return acquired;
+        } catch (RuntimeException e) {
+            log.warn("Cannot take lease {}, skipping this run: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLease() {
+        try {
+            redisTemplate.getObject().execute(RELEASE_SCRIPT, List.of(name), instanceId);
+        } catch (RuntimeException e) {
+            // Expires on its own
+            log.warn("Cannot release lease {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -19,6 +19,22 @@ public class MinesGameEngine {
     private static final int GRID_SIZE = 25; // 5x5 grid
     private static final double HOUSE_EDGE = 0.01; // 1%
 
+    /**
+     * Payout multiplier by mines and gems found, house edge included:
+     * MULTIPLIERS[mines][gems] = (1 - house edge) / P(gems safe picks in a row)
+     */
+    private static final BigDecimal[][] MULTIPLIERS = createMultiplierTable();
+
+    private static BigDecimal[][] createMultiplierTable() {
+        BigDecimal[][] table = new BigDecimal[GRID_SIZE][GRID_SIZE];
+        for (int mines = 1; mines < GRID_SIZE; mines++) {
+            for (int gems = 0; gems <= GRID_SIZE - mines; gems++) {
+                table[mines][gems] = calculateMultiplier(mines, gems);
+            }
+        }
+        return table;
+    }
+
     /**
      * Start a new Mines game
      */
@@ -34,14 +50,11 @@ public class MinesGameEngine {
             throw new IllegalArgumentException("Number of mines must be between 1 and 24");
         }
 
-        // Generate mine positions
-        Set<Integer> minePositions = generateMinePositions(serverSeed, clientSeed, nonce, numberOfMines);
-
         return MinesGameResultData.builder()
             .betAmount(betAmount)
             .numberOfMines(numberOfMines)
-            .minePositions(minePositions)
-            .revealedPositions(new HashSet<>())
+            .mineMask(generateMineMask(serverSeed, clientSeed, nonce, numberOfMines))
+            .revealedMask(0)
             .gemsFound(0)
             .currentMultiplier(BigDecimal.ONE)
             .currentPayout(betAmount)
@@ -56,114 +69,106 @@ public class MinesGameEngine {
      * Reveal a tile
      */
     public MinesGameResultData revealTile(MinesGameResultData currentGame, int position) {
-        // Validate position
-        if (position < 0 || position >= GRID_SIZE) {
-            throw new IllegalArgumentException("Invalid position");
-        }
-
-        // Check if already revealed
-        if (currentGame.getRevealedPositions().contains(position)) {
-            throw new IllegalArgumentException("Position already revealed");
-        }
+        return revealTiles(currentGame, List.of(position), false);
+    }
 
+    /**
+     * Reveal tiles in order, stopping at the first mine, and optionally cash out if
+     * none was hit. Validated up front, so an invalid list reveals nothing.
+     */
+    public MinesGameResultData revealTiles(MinesGameResultData currentGame, List<Integer> positions, boolean cashout) {
         // Check if game is still playing
         if (!currentGame.getGameState().equals("PLAYING")) {
             throw new IllegalArgumentException("Game is not in playing state");
         }
 
-        Set<Integer> revealedPositions = new HashSet<>(currentGame.getRevealedPositions());
-        revealedPositions.add(position);
-
-        // Check if mine
-        if (currentGame.getMinePositions().contains(position)) {
-            return MinesGameResultData.builder()
-                .betAmount(currentGame.getBetAmount())
-                .numberOfMines(currentGame.getNumberOfMines())
-                .minePositions(currentGame.getMinePositions())
-                .revealedPositions(revealedPositions)
-                .gemsFound(currentGame.getGemsFound())
-                .currentMultiplier(currentGame.getCurrentMultiplier())
-                .currentPayout(BigDecimal.ZERO)
-                .gameState("BUSTED")
-                .canCashout(false)
-                .serverSeed(currentGame.getServerSeed())
-                .nonce(currentGame.getNonce())
-                .build();
+        int revealed = currentGame.getRevealedMask();
+        int picks = 0;
+        for (int position : positions) {
+            // Validate position
+            if (position < 0 || position >= GRID_SIZE) {
+                throw new IllegalArgumentException("Invalid position");
+            }
+            // Check if already revealed
+            int tile = 1 << position;
+            if (((revealed | picks) & tile) != 0) {
+                throw new IllegalArgumentException("Position already revealed");
+            }
+            picks |= tile;
         }
 
-        // Found a gem
-        int gemsFound = currentGame.getGemsFound() + 1;
-        BigDecimal multiplier = calculateMultiplier(
-            currentGame.getNumberOfMines(),
-            gemsFound
-        );
+        int mines = currentGame.getMineMask();
+        for (int position : positions) {
+            int tile = 1 << position;
+            revealed |= tile;
+
+            // Check if mine
+            if ((mines & tile) != 0) {
+                return currentGame.toBuilder()
+                    .revealedMask(revealed)
+                    .currentPayout(BigDecimal.ZERO)
+                    .gameState("BUSTED")
+                    .canCashout(false)
+                    .build();
+            }
+        }
 
-        BigDecimal payout = currentGame.getBetAmount().multiply(multiplier);
+        // Found only gems
+        int gemsFound = Integer.bitCount(revealed & ~mines);
+        BigDecimal multiplier = MULTIPLIERS[currentGame.getNumberOfMines()][gemsFound];
 
-        return MinesGameResultData.builder()
-            .betAmount(currentGame.getBetAmount())
-            .numberOfMines(currentGame.getNumberOfMines())
-            .minePositions(currentGame.getMinePositions())
-            .revealedPositions(revealedPositions)
+        MinesGameResultData game = currentGame.toBuilder()
+            .revealedMask(revealed)
             .gemsFound(gemsFound)
             .currentMultiplier(multiplier)
-            .currentPayout(payout)
-            .gameState("PLAYING")
-            .canCashout(true)
-            .serverSeed(currentGame.getServerSeed())
-            .nonce(currentGame.getNonce())
+            .currentPayout(currentGame.getBetAmount().multiply(multiplier))
+            .canCashout(gemsFound > 0)
             .build();
+        return cashout ? cashout(game) : game;
     }
 
     /**
      * Cash out current winnings
      */
     public MinesGameResultData cashout(MinesGameResultData currentGame) {
-        if (!currentGame.canCashout()) {
+        if (!Boolean.TRUE.equals(currentGame.getCanCashout())) {
             throw new IllegalArgumentException("Cannot cashout in current state");
         }
 
-        return MinesGameResultData.builder()
-            .betAmount(currentGame.getBetAmount())
-            .numberOfMines(currentGame.getNumberOfMines())
-            .minePositions(currentGame.getMinePositions())
-            .revealedPositions(currentGame.getRevealedPositions())
-            .gemsFound(currentGame.getGemsFound())
-            .currentMultiplier(currentGame.getCurrentMultiplier())
-            .currentPayout(currentGame.getCurrentPayout())
+        return currentGame.toBuilder()
             .gameState("CASHED_OUT")
             .canCashout(false)
-            .serverSeed(currentGame.getServerSeed())
-            .nonce(currentGame.getNonce())
             .build();
     }
 
     /**
-     * Generate mine positions
+     * Generate the mine mask: the first mines of a shuffled grid
      */
-    private Set<Integer> generateMinePositions(
+    private int generateMineMask(
         String serverSeed,
         String clientSeed,
         long nonce,
         int numberOfMines
     ) {
-        // Create list of all positions
-        List<Integer> positions = new ArrayList<>();
+        byte[] positions = new byte[GRID_SIZE];
         for (int i = 0; i < GRID_SIZE; i++) {
-            positions.add(i);
+            positions[i] = (byte) i;
         }
 
-        // Shuffle positions
-        positions = rngService.shuffle(positions, serverSeed, clientSeed, nonce);
+        // Same permutation as shuffling the list of positions
+        rngService.stream(serverSeed, clientSeed, nonce).shuffle(positions);
 
-        // Take first N positions as mines
-        return new HashSet<>(positions.subList(0, numberOfMines));
+        int mask = 0;
+        for (int i = 0; i < numberOfMines; i++) {
+            mask |= 1 << positions[i];
+        }
+        return mask;
     }
 
     /**
      * Calculate multiplier based on mines and gems found
      */
-    private BigDecimal calculateMultiplier(int numberOfMines, int gemsFound) {
+    private static BigDecimal calculateMultiplier(int numberOfMines, int gemsFound) {
         int totalTiles = GRID_SIZE;
         int safeTiles = totalTiles - numberOfMines;
 
@@ -189,7 +194,7 @@ public class MinesGameEngine {
         int maxGems = GRID_SIZE - numberOfMines;
 
         for (int gems = 1; gems <= maxGems; gems++) {
-            table.put(gems, calculateMultiplier(numberOfMines, gems));
+            table.put(gems, MULTIPLIERS[numberOfMines][gems]);
         }
 
         return table;
@@ -0,0 +1,43 @@
+package com.casino.game.service;
+
+/**
+ * Outcome probabilities of independently drawn reel positions, for exact slot RTP
+ * calculations
+ */
+public final class PaylineOdds {
+
+    private PaylineOdds() {
+    }
+
+    /**
+     * Chance that a line of {@code length} positions starts with a given symbol and
+     * matches it on exactly {@code k} positions from the left, indexed by k (index 0
+     * unused).
+     *
+     * @param first chance of the symbol on the first position
+     * @param match chance that a later position matches it (the symbol or a substitute)
+     */
+    public static double[] leftRuns(double first, double match, int length) {
+        double[] runs = new double[length + 1];
+        double prefix = first;
+        for (int k = 1; k <= length; k++) {
+            runs[k] = k < length ? prefix * (1 - match) : prefix;
+            prefix *= match;
+        }
+        return runs;
+    }
+
+    /**
+     * Binomial distribution of a symbol's count over {@code positions} reel positions,
+     * indexed by count
+     */
+    public static double[] counts(int positions, double probability) {
+        double[] counts = new double[positions + 1];
+        double coefficient = 1;
+        for (int k = 0; k <= positions; k++) {
+            counts[k] = coefficient * Math.pow(probability, k) * Math.pow(1 - probability, positions - k);
+            coefficient = coefficient * (positions - k) / (k + 1);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,79 @@
+package com.casino.game.service;
+
+import com.casino.game.event.GameCatalogChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Keeps the game catalogs of all instances in sync: committed catalog changes are
+ * announced on a Redis channel and every other instance rebuilds its snapshot.
+ * Without it each instance only picks up other instances' changes on its scheduled
+ * refresh.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.catalog.sync", havingValue = "redis")
+public class RedisGameCatalogSync {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("game:catalog:changed");
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final GameCatalog gameCatalog;
+    private final RedisMessageListenerContainer container;
+
+    public RedisGameCatalogSync(
+        StringRedisTemplate redisTemplate,
+        RedisConnectionFactory connectionFactory,
+        GameCatalog gameCatalog
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.gameCatalog = gameCatalog;
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) ->
+            onMessage(new String(message.getBody(), StandardCharsets.UTF_8)), CHANNEL);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        container.destroy();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameCatalogChanged(GameCatalogChangedEvent event) {
+        String gameCode = event.gameCode() != null ? event.gameCode() : "*";
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), instanceId + " " + gameCode);
+        } catch (RuntimeException e) {
+            // The change is committed; other instances still get it on their next refresh
+            log.warn("Could not announce game catalog change of {}: {}", gameCode, e.getMessage());
+        }
+    }
+
+    private void onMessage(String message) {
+        int separator = message.indexOf(' ');
+        if (separator < 0 || message.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        log.info("Game catalog changed on another instance ({}), refreshing", message.substring(separator + 1));
+        try {
+            gameCatalog.refresh();
+        } catch (RuntimeException e) {
+            log.error("Game catalog refresh failed", e);
+        }
+    }
+}
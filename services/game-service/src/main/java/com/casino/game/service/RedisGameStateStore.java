@@ -0,0 +1,79 @@
+package com.casino.game.service;
+
+import com.casino.game.exception.GameStateNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Redis game state store, for running several instances without sticky sessions.
+ * States are JSON with annotations disabled, so the fields hidden from API responses
+ * (@JsonIgnore deck and cards) are kept.
+ */
+@Component
+@ConditionalOnProperty(name = "game.state.store", havingValue = "redis")
+public class RedisGameStateStore implements GameStateStore {
+
+    private static final String KEY_PREFIX = "game:state:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .disable(MapperFeature.USE_ANNOTATIONS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    public RedisGameStateStore(
+        StringRedisTemplate redisTemplate,
+        @Value("${game.state.ttl:30m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String create(String userId, Object state) {
+        String stateId = UUID.randomUUID().toString();
+        put(userId, stateId, state);
+        return stateId;
+    }
+
+    @Override
+    public <T> T take(String userId, String stateId, Class<T> type) {
+        // GETDEL: atomic, so only one concurrent action gets the state
+        String json = redisTemplate.opsForValue().getAndDelete(key(type, userId, stateId));
+        if (json == null) {
+            throw new GameStateNotFoundException("Game state not found or expired: " + stateId);
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable game state " + stateId, e);
+        }
+    }
+
+    @Override
+    public void put(String userId, String stateId, Object state) {
+        try {
+            redisTemplate.opsForValue().set(key(state.getClass(), userId, stateId), objectMapper.writeValueAsString(state), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize game state " + stateId, e);
+        }
+    }
+
+    /**
+     * Keyed by state type too, so a handle only resolves for the game it belongs to
+     */
+    private static String key(Class<?> type, String userId, String stateId) {
+        return KEY_PREFIX + type.getSimpleName() + ":" + userId + ":" + stateId;
+    }
+}
@@ -0,0 +1,46 @@
+package com.casino.game.service;
+
+import java.util.Arrays;
+
+/**
+ * Versioned provably fair algorithms. Every engine draws its outcomes from an
+ * {@link RngStream} of the configured algorithm, and the id is stored with every round
+ * (GameResult.rngVersion) so a round verifies with the algorithm it was played with.
+ */
+public enum RngAlgorithm {
+
+    /**
+     * Original algorithm: one HMAC-SHA256(serverSeed, "serverSeed:clientSeed:nonce")
+     * per outcome, consecutive outcomes use consecutive nonces.
+     */
+    HMAC_SHA256_V1(1),
+
+    /**
+     * Byte stream: HMAC-SHA256(serverSeed, "clientSeed:nonce:cursor") digests are
+     * consumed 4 bytes per outcome, 8 outcomes per digest, cursor counting digests from 0.
+     */
+    HMAC_SHA256_STREAM_V2(2);
+
+    private final int id;
+
+    RngAlgorithm(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Resolve a stored algorithm id; rounds saved before versioning (null) are V1
+     */
+    public static RngAlgorithm fromId(Integer id) {
+        if (id == null) {
+            return HMAC_SHA256_V1;
+        }
+        return Arrays.stream(values())
+            .filter(algorithm -> algorithm.id == id)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown RNG algorithm id: " + id));
+    }
+}
@@ -1,9 +1,11 @@
 package com.casino.game.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
@@ -15,7 +17,9 @@ import java.util.List;
 
 /**
  * Random Number Generator Service for Provably Fair Gaming
- * Uses HMAC-SHA256 for generating deterministic but unpredictable results
+ * Uses HMAC-SHA256 for generating deterministic but unpredictable results.
+ * Engines draw their outcomes from a {@link RngStream} (see {@link #stream}),
+ * which uses the configured {@link RngAlgorithm}.
  */
 @Slf4j
 @Service
@@ -24,6 +28,36 @@ public class RngService {
     private final SecureRandom secureRandom = new SecureRandom();
     private static final String HMAC_ALGORITHM = "HmacSHA256";
 
+    // Mac.getInstance is a provider lookup; keep one Mac per thread, re-keyed only when the seed changes
+    private static final ThreadLocal<KeyedMac> KEYED_MAC = ThreadLocal.withInitial(KeyedMac::new);
+
+    @Value("${game.rng.algorithm:HMAC_SHA256_V1}")
+    private RngAlgorithm algorithm = RngAlgorithm.HMAC_SHA256_V1;
+
+    /**
+     * Algorithm used for new rounds
+     */
+    public RngAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Open an outcome stream for a round with the configured algorithm
+     */
+    public RngStream stream(String serverSeed, String clientSeed, long nonce) {
+        return stream(algorithm, serverSeed, clientSeed, nonce);
+    }
+
+    /**
+     * Open an outcome stream for a round with a specific algorithm (e.g. to verify a stored round)
+     */
+    public RngStream stream(RngAlgorithm rngAlgorithm, String serverSeed, String clientSeed, long nonce) {
+        return switch (rngAlgorithm) {
+            case HMAC_SHA256_V1 -> new LegacyStream(serverSeed, clientSeed, nonce);
+            case HMAC_SHA256_STREAM_V2 -> new HmacByteStream(serverSeed, clientSeed, nonce);
+        };
+    }
+
     /**
      * Generate a server seed for a game round
      */
@@ -100,15 +134,10 @@ public class RngService {
         try {
             String message = serverSeed + ":" + (clientSeed != null ? clientSeed : "") + ":" + nonce;
 
-            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(
-                serverSeed.getBytes(StandardCharsets.UTF_8),
-                HMAC_ALGORITHM
-            );
-            hmac.init(keySpec);
+            Mac hmac = KEYED_MAC.get().keyedWith(serverSeed);
 
             return hmac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+        } catch (InvalidKeyException e) {
             log.error("Error generating hash: {}", e.getMessage());
             throw new RuntimeException("Failed to generate random number", e);
         }
@@ -178,4 +207,238 @@ public class RngService {
 
         return result;
     }
+
+    /**
+     * V1 outcomes as a stream: each draw uses the next nonce, exactly like the
+     * per-call methods above, so engines switched to streams replay old rounds unchanged
+     */
+    private final class LegacyStream implements RngStream {
+
+        private final String serverSeed;
+        private final String clientSeed;
+        private final long nonce;
+        private long cursor;
+
+        LegacyStream(String serverSeed, String clientSeed, long nonce) {
+            this.serverSeed = serverSeed;
+            this.clientSeed = clientSeed;
+            this.nonce = nonce;
+        }
+
+        @Override
+        public RngAlgorithm getAlgorithm() {
+            return RngAlgorithm.HMAC_SHA256_V1;
+        }
+
+        @Override
+        public int nextInt(int max) {
+            return generateRandomNumber(serverSeed, clientSeed, nonce + cursor++, max);
+        }
+
+        @Override
+        public double nextDouble() {
+            return generateRandomDecimal(serverSeed, clientSeed, nonce + cursor++);
+        }
+
+        @Override
+        public int nextWeighted(double[] weights) {
+            return generateWeightedRandom(serverSeed, clientSeed, nonce + cursor++, weights);
+        }
+
+        @Override
+        public int nextWeighted(WeightedSampler sampler) {
+            return sampler.sampleCumulative(generateRandomDecimal(serverSeed, clientSeed, nonce + cursor++));
+        }
+
+        @Override
+        public <T> List<T> shuffle(List<T> items) {
+            List<T> result = RngService.this.shuffle(items, serverSeed, clientSeed, nonce + cursor);
+            cursor += items.size();
+            return result;
+        }
+
+        @Override
+        public void shuffle(byte[] items) {
+            // Same per-index nonces as the list shuffle: position i swaps with draw(nonce + i)
+            for (int i = items.length - 1; i > 0; i--) {
+                int j = generateRandomNumber(serverSeed, clientSeed, nonce + cursor + i, i + 1);
+                byte temp = items[i];
+                items[i] = items[j];
+                items[j] = temp;
+            }
+            cursor += items.length;
+        }
+    }
+
+    /**
+     * V2 byte stream: digest k is HMAC-SHA256(serverSeed, "clientSeed:nonce:k") and each
+     * outcome consumes the next 4 bytes as a fraction of 2^32. The message is encoded
+     * into a reused per-thread buffer and the digest written into a per-stream array.
+     */
+    private static final class HmacByteStream implements RngStream {
+
+        private static final int DIGEST_LENGTH = 32;
+        private static final double TWO_POW_32 = 4294967296.0;
+
+        private final String serverSeed;
+        private final byte[] clientSeed;
+        private final long nonce;
+        private final byte[] digest = new byte[DIGEST_LENGTH];
+        private long digestCursor;
+        private int offset = DIGEST_LENGTH;
+
+        HmacByteStream(String serverSeed, String clientSeed, long nonce) {
+            if (nonce < 0) {
+                throw new IllegalArgumentException("Nonce must not be negative");
+            }
+            this.serverSeed = serverSeed;
+            this.clientSeed = clientSeed != null ? clientSeed.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            this.nonce = nonce;
+        }
+
+        @Override
+        public RngAlgorithm getAlgorithm() {
+            return RngAlgorithm.HMAC_SHA256_STREAM_V2;
+        }
+
+        @Override
+        public int nextInt(int max) {
+            if (max <= 0) {
+                throw new IllegalArgumentException("Max must be positive");
+            }
+            return (int) (nextDouble() * max);
+        }
+
+        @Override
+        public double nextDouble() {
+            if (offset == DIGEST_LENGTH) {
+                nextDigest();
+            }
+            long value = ((digest[offset] & 0xFFL) << 24)
+                | ((digest[offset + 1] & 0xFFL) << 16)
+                | ((digest[offset + 2] & 0xFFL) << 8)
+                | (digest[offset + 3] & 0xFFL);
+            offset += 4;
+            return value / TWO_POW_32;
+        }
+
+        @Override
+        public int nextWeighted(double[] weights) {
+            double totalWeight = 0;
+            for (double weight : weights) {
+                totalWeight += weight;
+            }
+
+            double random = nextDouble() * totalWeight;
+
+            double cumulative = 0;
+            for (int i = 0; i < weights.length; i++) {
+                cumulative += weights[i];
+                if (random < cumulative) {
+                    return i;
+                }
+            }
+
+            return weights.length - 1;
+        }
+
+        @Override
+        public int nextWeighted(WeightedSampler sampler) {
+            return sampler.sampleAlias(nextInt(sampler.getAliasRange()));
+        }
+
+        @Override
+        public <T> List<T> shuffle(List<T> items) {
+            List<T> result = new ArrayList<>(items);
+
+            for (int i = result.size() - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                T temp = result.get(i);
+                result.set(i, result.get(j));
+                result.set(j, temp);
+            }
+
+            return result;
+        }
+
+        @Override
+        public void shuffle(byte[] items) {
+            for (int i = items.length - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                byte temp = items[i];
+                items[i] = items[j];
+                items[j] = temp;
+            }
+        }
+
+        private void nextDigest() {
+            KeyedMac keyedMac = KEYED_MAC.get();
+            try {
+                Mac hmac = keyedMac.keyedWith(serverSeed);
+                int length = keyedMac.encode(clientSeed, nonce, digestCursor++);
+                hmac.update(keyedMac.message, 0, length);
+                hmac.doFinal(digest, 0);
+            } catch (InvalidKeyException | ShortBufferException e) {
+                log.error("Error generating hash: {}", e.getMessage());
+                throw new RuntimeException("Failed to generate random number", e);
+            }
+            offset = 0;
+        }
+    }
+
+    /**
+     * Per-thread HMAC instance plus the message buffer reused by byte streams
+     */
+    private static final class KeyedMac {
+
+        private final Mac mac;
+        private String seed;
+        private byte[] message = new byte[64];
+
+        KeyedMac() {
+            try {
+                mac = Mac.getInstance(HMAC_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        }
+
+        Mac keyedWith(String serverSeed) throws InvalidKeyException {
+            if (!serverSeed.equals(seed)) {
+                mac.init(new SecretKeySpec(serverSeed.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+                seed = serverSeed;
+            }
+            return mac;
+        }
+
+        /**
+         * Write "clientSeed:nonce:cursor" as UTF-8/ASCII into the message buffer, returning its length
+         */
+        int encode(byte[] clientSeed, long nonce, long cursor) {
+            // two separators and up to 19 digits per non-negative long
+            int required = clientSeed.length + 2 + 2 * 19;
+            if (message.length < required) {
+                message = new byte[required];
+            }
+            System.arraycopy(clientSeed, 0, message, 0, clientSeed.length);
+            int pos = clientSeed.length;
+            message[pos++] = ':';
+            pos = writeDecimal(nonce, pos);
+            message[pos++] = ':';
+            return writeDecimal(cursor, pos);
+        }
+
+        private int writeDecimal(long value, int pos) {
+            int digits = 1;
+            for (long v = value / 10; v > 0; v /= 10) {
+                digits++;
+            }
+            int end = pos + digits;
+            for (int i = end - 1; i >= pos; i--) {
+                message[i] = (byte) ('0' + (value % 10));
+                value /= 10;
+            }
+            return end;
+        }
+    }
 }
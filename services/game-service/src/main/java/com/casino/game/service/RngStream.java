@@ -0,0 +1,42 @@
+package com.casino.game.service;
+
+import java.util.List;
+
+/**
+ * Sequence of provably fair outcomes for one round (server seed, client seed, nonce).
+ * Obtained from {@link RngService#stream}; not thread-safe, use it on one thread per round.
+ */
+public interface RngStream {
+
+    RngAlgorithm getAlgorithm();
+
+    /**
+     * Next integer between 0 and max (exclusive)
+     */
+    int nextInt(int max);
+
+    /**
+     * Next decimal between 0.0 and 1.0
+     */
+    double nextDouble();
+
+    /**
+     * Next weighted selection, returns the index of the selected option
+     */
+    int nextWeighted(double[] weights);
+
+    /**
+     * Next weighted selection from a precomputed sampler, returns the index of the selected option
+     */
+    int nextWeighted(WeightedSampler sampler);
+
+    /**
+     * Fisher-Yates shuffle of a copy of the items
+     */
+    <T> List<T> shuffle(List<T> items);
+
+    /**
+     * Fisher-Yates shuffle in place; gives the same permutation as {@link #shuffle(List)}
+     */
+    void shuffle(byte[] items);
+}
@@ -43,7 +43,7 @@ public class RouletteEngine {
     ) {
         // Generate winning number
         int maxNumber = type == RouletteType.EUROPEAN ? EUROPEAN_MAX : AMERICAN_MAX;
-        int winningNumber = rngService.generateRandomNumber(serverSeed, clientSeed, nonce, maxNumber);
+        int winningNumber = rngService.stream(serverSeed, clientSeed, nonce).nextInt(maxNumber);
 
         // Calculate total bet and payout
         BigDecimal totalBet = bets.values().stream()
@@ -0,0 +1,56 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameResult;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Accumulated session statistics for one or more settled rounds.
+ * Applied to the session row with a single UPDATE (see GameSessionRepository.settleRounds).
+ */
+@Getter
+public class SessionStatsDelta {
+
+    private int rounds;
+    private int roundsWon;
+    private int roundsLost;
+    private BigDecimal totalBet = BigDecimal.ZERO;
+    private BigDecimal totalWon = BigDecimal.ZERO;
+    private BigDecimal netProfit = BigDecimal.ZERO;
+    private BigDecimal biggestWin = BigDecimal.ZERO;
+    private BigDecimal biggestLoss = BigDecimal.ZERO;
+
+    public static SessionStatsDelta of(BigDecimal betAmount, BigDecimal winAmount, GameResult.RoundOutcome outcome) {
+        SessionStatsDelta delta = new SessionStatsDelta();
+        delta.add(betAmount, winAmount, outcome);
+        return delta;
+    }
+
+    /**
+     * Add one round, keeping the same win/loss rules the per-round stats update used
+     */
+    public void add(BigDecimal betAmount, BigDecimal winAmount, GameResult.RoundOutcome outcome) {
+        rounds++;
+        if (outcome == GameResult.RoundOutcome.WIN) {
+            roundsWon++;
+        } else {
+            roundsLost++;
+        }
+
+        totalBet = totalBet.add(betAmount);
+        totalWon = totalWon.add(winAmount);
+        netProfit = netProfit.add(winAmount.subtract(betAmount));
+
+        if (winAmount.compareTo(biggestWin) > 0) {
+            biggestWin = winAmount;
+        }
+        if (winAmount.signum() == 0 && betAmount.compareTo(biggestLoss) > 0) {
+            biggestLoss = betAmount;
+        }
+    }
+
+    public boolean isEmpty() {
+        return rounds == 0;
+    }
+}
@@ -1,7 +1,9 @@
 package com.casino.game.service;
 
 import com.casino.game.dto.SlotResultData;
+import com.casino.game.dto.SlotRtpReport;
 import com.casino.game.entity.GameConfig;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,19 +23,27 @@ public class SlotGameEngine {
     private final RngService rngService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // Standard slot symbols with their weights (probability of appearing)
-    private static final Map<String, Double> SYMBOL_WEIGHTS = Map.of(
-        "SEVEN", 2.0,      // Rarest - highest payout
-        "BAR", 5.0,
-        "CHERRY", 10.0,
-        "BELL", 15.0,
-        "LEMON", 20.0,
-        "ORANGE", 20.0,
-        "PLUM", 20.0,
-        "GRAPE", 25.0,
-        "WATERMELON", 25.0,
-        "STAR", 8.0        // Scatter/Bonus symbol
-    );
+    // Reel symbols and sampler per game code, rebuilt when the game's configJson changes
+    private final Map<String, ReelSymbols> reelSymbolsCache = new ConcurrentHashMap<>();
+
+    // Standard slot symbols with their weights (probability of appearing).
+    // Insertion order is the draw order and must not change, or past spins stop verifying.
+    private static final Map<String, Integer> SYMBOL_WEIGHTS = createSymbolWeights();
+
+    private static Map<String, Integer> createSymbolWeights() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("SEVEN", 2);        // Rarest - highest payout
+        weights.put("BAR", 5);
+        weights.put("CHERRY", 10);
+        weights.put("BELL", 15);
+        weights.put("LEMON", 20);
+        weights.put("ORANGE", 20);
+        weights.put("PLUM", 20);
+        weights.put("GRAPE", 25);
+        weights.put("WATERMELON", 25);
+        weights.put("STAR", 8);         // Scatter/Bonus symbol
+        return Collections.unmodifiableMap(weights);
+    }
 
     // Payout multipliers for matching symbols (based on count)
     private static final Map<String, Map<Integer, Integer>> SYMBOL_PAYOUTS = Map.of(
@@ -53,6 +64,9 @@ public class SlotGameEngine {
     private static final int DEFAULT_ROWS = 3;
     private static final int DEFAULT_PAYLINES = 20;
 
+    // Free spins awarded for 3+ scatters
+    private static final int BONUS_FREE_SPINS = 10;
+
     /**
      * Spin the slot machine and generate result
      */
@@ -68,7 +82,9 @@ public class SlotGameEngine {
         int paylines = gameConfig.getPaylines() != null ? gameConfig.getPaylines() : DEFAULT_PAYLINES;
 
         // Generate reel results
-        List<List<String>> reelResults = generateReels(reels, rows, serverSeed, clientSeed, nonce);
+        List<List<String>> reelResults = generateReels(
+            reelSymbolsFor(gameConfig), reels, rows, serverSeed, clientSeed, nonce
+        );
 
         // Check for wins on all paylines
         List<SlotResultData.WinLine> winLines = checkWinLines(reelResults, betAmount, paylines);
@@ -78,7 +94,7 @@ public class SlotGameEngine {
 
         // Check if bonus feature is triggered (3+ scatter symbols)
         boolean bonusTriggered = countScatters(reelResults) >= 3;
-        Integer freeSpinsAwarded = bonusTriggered ? 10 : null;
+        Integer freeSpinsAwarded = bonusTriggered ? BONUS_FREE_SPINS : null;
 
         return SlotResultData.builder()
             .reels(reelResults)
@@ -92,29 +108,23 @@ public class SlotGameEngine {
      * Generate random symbols for all reels
      */
     private List<List<String>> generateReels(
+        ReelSymbols symbols,
         int reelCount,
         int rowCount,
         String serverSeed,
         String clientSeed,
         long baseNonce
     ) {
-        List<List<String>> reels = new ArrayList<>();
-        List<String> symbols = new ArrayList<>(SYMBOL_WEIGHTS.keySet());
-        double[] weights = symbols.stream()
-            .mapToDouble(SYMBOL_WEIGHTS::get)
-            .toArray();
+        List<List<String>> reels = new ArrayList<>(reelCount);
+
+        // One stream per spin; draws are taken reel by reel, row by row
+        RngStream rng = rngService.stream(serverSeed, clientSeed, baseNonce);
 
         for (int reel = 0; reel < reelCount; reel++) {
-            List<String> reelSymbols = new ArrayList<>();
+            List<String> reelSymbols = new ArrayList<>(rowCount);
             for (int row = 0; row < rowCount; row++) {
-                long currentNonce = baseNonce + (reel * rowCount) + row;
-                int symbolIndex = rngService.generateWeightedRandom(
-                    serverSeed,
-                    clientSeed,
-                    currentNonce,
-                    weights
-                );
-                reelSymbols.add(symbols.get(symbolIndex));
+                int symbolIndex = rng.nextWeighted(symbols.sampler());
+                reelSymbols.add(symbols.symbols().get(symbolIndex));
             }
             reels.add(reelSymbols);
         }
@@ -122,6 +132,58 @@ public class SlotGameEngine {
         return reels;
     }
 
+    /**
+     * Symbols and sampler for a game, built once per configuration.
+     * configJson may override the default weights with {"symbolWeights": {"SEVEN": 2, ...}}
+     */
+    private ReelSymbols reelSymbolsFor(GameConfig gameConfig) {
+        ReelSymbols cached = reelSymbolsCache.get(gameConfig.getGameCode());
+        if (cached != null && Objects.equals(cached.configJson(), gameConfig.getConfigJson())) {
+            return cached;
+        }
+
+        Map<String, Integer> weights = symbolWeightsFor(gameConfig);
+        ReelSymbols reelSymbols = new ReelSymbols(
+            gameConfig.getConfigJson(),
+            List.copyOf(weights.keySet()),
+            WeightedSampler.of(weights.values().stream().mapToInt(Integer::intValue).toArray())
+        );
+        reelSymbolsCache.put(gameConfig.getGameCode(), reelSymbols);
+        return reelSymbols;
+    }
+
+    private Map<String, Integer> symbolWeightsFor(GameConfig gameConfig) {
+        if (gameConfig.getConfigJson() == null || gameConfig.getConfigJson().isBlank()) {
+            return SYMBOL_WEIGHTS;
+        }
+
+        try {
+            JsonNode symbolWeights = objectMapper.readTree(gameConfig.getConfigJson()).path("symbolWeights");
+            if (!symbolWeights.isObject()) {
+                return SYMBOL_WEIGHTS;
+            }
+
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = symbolWeights.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!SYMBOL_PAYOUTS.containsKey(field.getKey())
+                    || !field.getValue().canConvertToInt() || field.getValue().intValue() < 0) {
+                    throw new IllegalArgumentException("Invalid symbol weight: " + field.getKey());
+                }
+                weights.put(field.getKey(), field.getValue().intValue());
+            }
+            if (weights.values().stream().mapToLong(Integer::longValue).sum() <= 0) {
+                throw new IllegalArgumentException("No symbol has a positive weight");
+            }
+            return weights;
+        } catch (Exception e) {
+            log.error("Invalid symbol weights for game {}, using defaults: {}",
+                gameConfig.getGameCode(), e.getMessage());
+            return SYMBOL_WEIGHTS;
+        }
+    }
+
     /**
      * Check all paylines for winning combinations
      */
@@ -272,18 +334,6 @@ public class SlotGameEngine {
             .setScale(2, RoundingMode.DOWN);
     }
 
-    /**
-     * Convert SlotResultData to JSON string
-     */
-    public String toJson(SlotResultData data) {
-        try {
-            return objectMapper.writeValueAsString(data);
-        } catch (Exception e) {
-            log.error("Error converting slot result to JSON: {}", e.getMessage());
-            return "{}";
-        }
-    }
-
     /**
      * Calculate RTP (Return to Player) percentage for verification
      */
@@ -298,4 +348,99 @@ public class SlotGameEngine {
         return totalWin.divide(totalBet, 4, RoundingMode.HALF_UP)
             .multiply(BigDecimal.valueOf(100));
     }
+
+    /**
+     * Exact expected return per unit bet of a game's paytable. Reel positions are drawn
+     * independently with probability weight / total weight, so each payline's return
+     * follows from left-run probabilities and the scatter's from a binomial count.
+     * Every line pays the full bet times its multiplier, as in {@link #spin}.
+     */
+    public SlotRtpReport calculateExactRtp(GameConfig gameConfig) {
+        int reels = gameConfig.getReels() != null ? gameConfig.getReels() : DEFAULT_REELS;
+        int rows = gameConfig.getRows() != null ? gameConfig.getRows() : DEFAULT_ROWS;
+        int paylines = gameConfig.getPaylines() != null ? gameConfig.getPaylines() : DEFAULT_PAYLINES;
+
+        Map<String, Integer> weights = symbolWeightsFor(gameConfig);
+        double totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+
+        // Each line reads the cells of its row pattern that exist on this grid
+        List<SlotRtpReport.LineContribution> lines = new ArrayList<>();
+        Map<String, Double> symbolRtp = new LinkedHashMap<>();
+        Map<String, Map<Integer, Double>> symbolHits = new LinkedHashMap<>();
+        double lineRtp = 0;
+        for (int line = 0; line < Math.min(paylines, 20); line++) {
+            int[] rowPattern = getRowPattern(line);
+            int length = 0;
+            for (int i = 0; i < Math.min(reels, rowPattern.length); i++) {
+                if (rowPattern[i] < rows) {
+                    length++;
+                }
+            }
+
+            double lineReturn = 0;
+            for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+                String symbol = weight.getKey();
+                if ("STAR".equals(symbol)) {
+                    continue; // Scatters don't pay on lines
+                }
+                double probability = weight.getValue() / totalWeight;
+                double[] runs = PaylineOdds.leftRuns(probability, probability, length);
+                for (Map.Entry<Integer, Integer> pay : SYMBOL_PAYOUTS.get(symbol).entrySet()) {
+                    int count = pay.getKey();
+                    if (count <= length) {
+                        lineReturn += runs[count] * pay.getValue();
+                        symbolRtp.merge(symbol, runs[count] * pay.getValue(), Double::sum);
+                        symbolHits.computeIfAbsent(symbol, k -> new TreeMap<>()).merge(count, runs[count], Double::sum);
+                    }
+                }
+            }
+            lines.add(SlotRtpReport.LineContribution.builder()
+                .lineNumber(line)
+                .rows(Arrays.copyOf(rowPattern, Math.min(reels, rowPattern.length)))
+                .rtp(lineReturn)
+                .build());
+            lineRtp += lineReturn;
+        }
+
+        // Scatter pays on the number of stars anywhere on the grid
+        double starProbability = weights.getOrDefault("STAR", 0) / totalWeight;
+        double[] starCounts = PaylineOdds.counts(reels * rows, starProbability);
+        double scatterRtp = 0;
+        double bonusProbability = 0;
+        for (int count = 3; count < starCounts.length; count++) {
+            bonusProbability += starCounts[count];
+            Integer multiplier = SYMBOL_PAYOUTS.get("STAR").get(count);
+            if (multiplier != null) {
+                scatterRtp += starCounts[count] * multiplier;
+                symbolHits.computeIfAbsent("STAR", k -> new TreeMap<>()).put(count, starCounts[count]);
+            }
+        }
+        symbolRtp.put("STAR", scatterRtp);
+
+        List<SlotRtpReport.SymbolContribution> symbols = new ArrayList<>();
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            String symbol = weight.getKey();
+            symbols.add(SlotRtpReport.SymbolContribution.builder()
+                .symbol(symbol)
+                .probability(weight.getValue() / totalWeight)
+                .hitProbabilities(symbolHits.getOrDefault(symbol, Map.of()))
+                .rtp(symbolRtp.getOrDefault(symbol, 0.0))
+                .build());
+        }
+
+        return SlotRtpReport.builder()
+            .game(gameConfig.getGameCode())
+            .rtp(lineRtp + scatterRtp)
+            .lineRtp(lineRtp)
+            .scatterRtp(scatterRtp)
+            .configuredRtpPercentage(gameConfig.getRtpPercentage())
+            .bonusProbability(bonusProbability)
+            .expectedFreeSpins(bonusProbability * BONUS_FREE_SPINS)
+            .symbols(symbols)
+            .lines(lines)
+            .build();
+    }
+
+    private record ReelSymbols(String configJson, List<String> symbols, WeightedSampler sampler) {
+    }
 }
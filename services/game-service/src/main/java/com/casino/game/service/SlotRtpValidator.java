@@ -0,0 +1,75 @@
+package com.casino.game.service;
+
+import com.casino.game.dto.SlotRtpReport;
+import com.casino.game.engine.SlotsGameEngine;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.repository.GameConfigRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks at startup that every slot paytable returns what it is configured to:
+ * GameConfig.rtpPercentage for config driven slots, the engine's target for the
+ * classic slots. Mismatches are logged, or stop the startup with game.slots.rtp-check=fail.
+ */
+@Slf4j
+@Component
+public class SlotRtpValidator {
+
+    private final SlotGameEngine slotGameEngine;
+    private final SlotsGameEngine slotsGameEngine;
+    private final GameConfigRepository gameConfigRepository;
+    private final double tolerance;
+    private final boolean failOnMismatch;
+
+    public SlotRtpValidator(
+        SlotGameEngine slotGameEngine,
+        SlotsGameEngine slotsGameEngine,
+        GameConfigRepository gameConfigRepository,
+        @Value("${game.slots.rtp-tolerance:0.5}") double tolerance,
+        @Value("${game.slots.rtp-check:warn}") String rtpCheck
+    ) {
+        this.slotGameEngine = slotGameEngine;
+        this.slotsGameEngine = slotsGameEngine;
+        this.gameConfigRepository = gameConfigRepository;
+        this.tolerance = tolerance;
+        this.failOnMismatch = "fail".equalsIgnoreCase(rtpCheck);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        List<String> mismatches = new ArrayList<>();
+
+        for (GameConfig game : gameConfigRepository.findByGameType(GameConfig.GameType.SLOTS)) {
+            SlotRtpReport report = slotGameEngine.calculateExactRtp(game);
+            check(game.getGameCode(), report.getRtp() * 100, game.getRtpPercentage().doubleValue(), mismatches);
+        }
+
+        SlotRtpReport classic = slotsGameEngine.calculateExactRtp();
+        check(classic.getGame(), classic.getRtp() * 100, slotsGameEngine.getTargetRtp() * 100, mismatches);
+
+        if (!mismatches.isEmpty() && failOnMismatch) {
+            throw new IllegalStateException("Slot paytables do not match their RTP: " + String.join("; ", mismatches));
+        }
+    }
+
+    private void check(String game, double actual, double configured, List<String> mismatches) {
+        if (Math.abs(actual - configured) <= tolerance) {
+            log.info("Slot {} paytable RTP {}% (configured {}%)", game, format(actual), format(configured));
+            return;
+        }
+        String mismatch = String.format("%s pays %s%%, configured %s%%", game, format(actual), format(configured));
+        log.warn("Slot paytable mismatch: {}", mismatch);
+        mismatches.add(mismatch);
+    }
+
+    private static String format(double percentage) {
+        return String.format("%.2f", percentage);
+    }
+}
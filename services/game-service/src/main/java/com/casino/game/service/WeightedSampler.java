@@ -0,0 +1,156 @@
+package com.casino.game.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Immutable weighted sampler over integer weights, built once per weight configuration.
+ * Draw through {@link RngStream#nextWeighted(WeightedSampler)}; the stream's algorithm
+ * decides which lookup is used, so rounds stay verifiable:
+ * <ul>
+ *   <li>V1: cumulative lookup of a decimal, identical to RngService.generateWeightedRandom
+ *       (binary search over the precomputed prefix sums instead of a linear scan)</li>
+ *   <li>V2: Vose alias table, O(1) per draw. Probabilities are kept as integers, so
+ *       P(i) is exactly weights[i] / totalWeight</li>
+ * </ul>
+ */
+public final class WeightedSampler {
+
+    private final int[] weights;
+    private final double[] cumulative;
+    private final int totalWeight;
+
+    // Alias table: column c keeps itself when coin < threshold[c], otherwise alias[c]
+    private final int[] threshold;
+    private final int[] alias;
+
+    private WeightedSampler(int[] weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        this.weights = weights.clone();
+        this.cumulative = new double[weights.length];
+
+        long total = 0;
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            total += weights[i];
+            // Same summation order as the legacy scan, so boundaries match bit for bit
+            running += weights[i];
+            cumulative[i] = running;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        if (total * weights.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total weight too large for an alias table");
+        }
+        this.totalWeight = (int) total;
+
+        this.threshold = new int[weights.length];
+        this.alias = new int[weights.length];
+        buildAliasTable();
+    }
+
+    public static WeightedSampler of(int... weights) {
+        return new WeightedSampler(weights);
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public int getWeight(int index) {
+        return weights[index];
+    }
+
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Number of equally likely values {@link #sampleAlias} accepts: size * totalWeight
+     */
+    public int getAliasRange() {
+        return weights.length * totalWeight;
+    }
+
+    /**
+     * V1 lookup: first index whose cumulative weight is &gt;= unit * totalWeight
+     */
+    public int sampleCumulative(double unit) {
+        double random = unit * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (random <= cumulative[mid]) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * V2 lookup: value in [0, aliasRange) selects a column and a coin within it
+     */
+    public int sampleAlias(int value) {
+        int column = value / totalWeight;
+        int coin = value % totalWeight;
+        return coin < threshold[column] ? column : alias[column];
+    }
+
+    /**
+     * Vose's method on integers: every weight is scaled by n, so each column holds exactly
+     * totalWeight units split between itself and one alias
+     */
+    private void buildAliasTable() {
+        int n = weights.length;
+        long[] scaled = new long[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (long) weights[i] * n;
+            if (scaled[i] < totalWeight) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            threshold[less] = (int) scaled[less];
+            alias[less] = more;
+            scaled[more] -= totalWeight - scaled[less];
+            if (scaled[more] < totalWeight) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+
+        // Remaining columns are exactly full
+        for (int i : large) {
+            threshold[i] = totalWeight;
+            alias[i] = i;
+        }
+        for (int i : small) {
+            threshold[i] = totalWeight;
+            alias[i] = i;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedSampler" + Arrays.toString(weights);
+    }
+}
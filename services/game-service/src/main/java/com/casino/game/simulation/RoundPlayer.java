@@ -0,0 +1,11 @@
+package com.casino.game.simulation;
+
+import java.math.BigDecimal;
+
+/**
+ * One round of a game at a fixed bet, returning the total payout
+ */
+@FunctionalInterface
+interface RoundPlayer {
+    BigDecimal play(String serverSeed, String clientSeed, long nonce);
+}
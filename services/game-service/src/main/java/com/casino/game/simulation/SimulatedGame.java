@@ -0,0 +1,15 @@
+package com.casino.game.simulation;
+
+/**
+ * Games the simulation service can play, each with its own bet parameters
+ */
+public enum SimulatedGame {
+    SLOT,       // gameCode (required)
+    SLOTS,
+    KENO,       // picks (default 1,2,3,4,5)
+    SIC_BO,     // betType (default BIG)
+    BACCARAT,   // betType (default BANKER)
+    ROULETTE,   // betType (default red), type (default EUROPEAN)
+    DICE,       // target (default 50), rollOver (default true)
+    MINES       // mines (default 3), reveal (default 1)
+}
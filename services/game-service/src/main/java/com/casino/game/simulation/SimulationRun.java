@@ -0,0 +1,173 @@
+package com.casino.game.simulation;
+
+import com.casino.game.dto.SimulationReport;
+import com.casino.game.dto.SimulationRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A simulation split into fixed size chunks of consecutive rounds.
+ * <p>
+ * Round {@code r} is played with the run's seeds and nonce {@code r * NONCE_STRIDE},
+ * so every round is reproducible on its own and no two rounds share RNG draws (engines
+ * draw from {@code nonce + i}). Chunk totals are merged in chunk order, so a run gives
+ * the same report whatever the parallelism.
+ */
+@Slf4j
+final class SimulationRun {
+
+    static final long NONCE_STRIDE = 1024;
+
+    private static final double Z_95 = 1.959964;
+    private static final int CANCEL_CHECK_ROUNDS = 1024;
+
+    @Getter
+    private final String id;
+    private final SimulationRequest request;
+    private final RoundPlayer player;
+    private final int chunkSize;
+    private final AtomicReferenceArray<SimulationStats> chunks;
+    private final AtomicInteger remainingChunks;
+    private final long startedNanos = System.nanoTime();
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile String status = "RUNNING";
+    private volatile String error;
+    private volatile boolean cancelled;
+    private volatile long finishedNanos;
+
+    SimulationRun(String id, SimulationRequest request, RoundPlayer player, int chunkSize) {
+        this.id = id;
+        this.request = request;
+        this.player = player;
+        this.chunkSize = chunkSize;
+        int chunkCount = (int) ((request.getRounds() + chunkSize - 1) / chunkSize);
+        this.chunks = new AtomicReferenceArray<>(chunkCount);
+        this.remainingChunks = new AtomicInteger(chunkCount);
+    }
+
+    /**
+     * Fork/join task over all chunks of this run
+     */
+    RecursiveAction task() {
+        return new ChunkTask(0, chunks.length());
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isFinished() {
+        return !"RUNNING".equals(status);
+    }
+
+    List<SseEmitter> getSubscribers() {
+        return subscribers;
+    }
+
+    /**
+     * Totals of the chunks finished so far
+     */
+    SimulationReport report() {
+        SimulationStats stats = new SimulationStats();
+        for (int i = 0; i < chunks.length(); i++) {
+            SimulationStats chunk = chunks.get(i);
+            if (chunk != null) {
+                stats.merge(chunk);
+            }
+        }
+        long elapsedNanos = (isFinished() ? finishedNanos : System.nanoTime()) - startedNanos;
+        double rtp = stats.getRtp();
+        double margin = stats.getRtpMargin(Z_95);
+
+        return SimulationReport.builder()
+            .id(id)
+            .game(request.getGame())
+            .params(Map.copyOf(request.getParams()))
+            .betAmount(request.getBetAmount())
+            .serverSeed(request.getServerSeed())
+            .clientSeed(request.getClientSeed())
+            .status(status)
+            .error(error)
+            .roundsRequested(request.getRounds())
+            .roundsCompleted(stats.getRounds())
+            .totalBet(stats.getTotalBet())
+            .totalWon(stats.getTotalWon())
+            .rtp(rtp)
+            .rtpLower(rtp - margin)
+            .rtpUpper(rtp + margin)
+            .hitFrequency(stats.getHitFrequency())
+            .volatility(stats.getVolatility())
+            .maxMultiple(stats.getMaxMultiple())
+            .histogram(stats.getHistogram())
+            .elapsedMs(elapsedNanos / 1_000_000)
+            .roundsPerSecond(elapsedNanos == 0 ? 0 : stats.getRounds() * 1_000_000_000L / elapsedNanos)
+            .build();
+    }
+
+    private void runChunk(int index) {
+        if (cancelled || error != null) {
+            chunkDone();
+            return;
+        }
+        long first = (long) index * chunkSize;
+        long last = Math.min(first + chunkSize, request.getRounds());
+        BigDecimal bet = request.getBetAmount();
+        String serverSeed = request.getServerSeed();
+        String clientSeed = request.getClientSeed();
+
+        SimulationStats stats = new SimulationStats();
+        try {
+            for (long round = first; round < last; round++) {
+                if ((round - first) % CANCEL_CHECK_ROUNDS == 0 && cancelled) {
+                    break;
+                }
+                stats.add(bet, player.play(serverSeed, clientSeed, round * NONCE_STRIDE));
+            }
+            chunks.set(index, stats);
+        } catch (RuntimeException e) {
+            log.error("Simulation {} failed in chunk {}", id, index, e);
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+        chunkDone();
+    }
+
+    private void chunkDone() {
+        if (remainingChunks.decrementAndGet() == 0) {
+            finishedNanos = System.nanoTime();
+            status = error != null ? "FAILED" : cancelled ? "CANCELLED" : "COMPLETED";
+            log.info("Simulation {} {}: {} rounds of {} in {}ms",
+                id, status, request.getRounds(), request.getGame(), (finishedNanos - startedNanos) / 1_000_000);
+        }
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        ChunkTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                runChunk(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle), new ChunkTask(middle, to));
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.casino.game.simulation;
+
+import com.casino.game.dto.SimulationReport;
+import com.casino.game.dto.SimulationRequest;
+import com.casino.game.engine.BaccaratGameEngine;
+import com.casino.game.engine.KenoGameEngine;
+import com.casino.game.engine.SicBoGameEngine;
+import com.casino.game.engine.SlotsGameEngine;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.exception.GameNotFoundException;
+import com.casino.game.exception.InvalidBetException;
+import com.casino.game.service.DiceGameEngine;
+import com.casino.game.service.GameCatalog;
+import com.casino.game.service.MinesGameEngine;
+import com.casino.game.service.RngService;
+import com.casino.game.service.RouletteEngine;
+import com.casino.game.service.SlotGameEngine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo RTP measurement: plays millions of rounds of a game engine on a
+ * dedicated fork/join pool, with deterministic seeds so a run can be repeated and
+ * audited. Reports stream to subscribers while the run is in progress.
+ */
+@Slf4j
+@Service
+public class SimulationService {
+
+    private static final int MINES_GRID_SIZE = 25;
+
+    private final SlotGameEngine slotGameEngine;
+    private final SlotsGameEngine slotsGameEngine;
+    private final KenoGameEngine kenoGameEngine;
+    private final SicBoGameEngine sicBoGameEngine;
+    private final BaccaratGameEngine baccaratGameEngine;
+    private final RouletteEngine rouletteEngine;
+    private final DiceGameEngine diceGameEngine;
+    private final MinesGameEngine minesGameEngine;
+    private final GameCatalog gameCatalog;
+    private final RngService rngService;
+
+    private final int chunkSize;
+    private final int retained;
+    private final long streamTimeoutMs;
+    private final ForkJoinPool pool;
+    private final ScheduledExecutorService publisher;
+
+    // Insertion ordered, finished runs beyond the retained count are dropped oldest first
+    private final Map<String, SimulationRun> runs = new LinkedHashMap<>();
+
+    public SimulationService(
+        SlotGameEngine slotGameEngine,
+        SlotsGameEngine slotsGameEngine,
+        KenoGameEngine kenoGameEngine,
+        SicBoGameEngine sicBoGameEngine,
+        BaccaratGameEngine baccaratGameEngine,
+        RouletteEngine rouletteEngine,
+        DiceGameEngine diceGameEngine,
+        MinesGameEngine minesGameEngine,
+        GameCatalog gameCatalog,
+        RngService rngService,
+        @Value("${game.simulation.parallelism:0}") int parallelism,
+        @Value("${game.simulation.chunk-size:10000}") int chunkSize,
+        @Value("${game.simulation.retained:20}") int retained,
+        @Value("${game.simulation.progress-interval:1s}") Duration progressInterval,
+        @Value("${game.simulation.stream-timeout:30m}") Duration streamTimeout
+    ) {
+        this.slotGameEngine = slotGameEngine;
+        this.slotsGameEngine = slotsGameEngine;
+        this.kenoGameEngine = kenoGameEngine;
+        this.sicBoGameEngine = sicBoGameEngine;
+        this.baccaratGameEngine = baccaratGameEngine;
+        this.rouletteEngine = rouletteEngine;
+        this.diceGameEngine = diceGameEngine;
+        this.minesGameEngine = minesGameEngine;
+        this.gameCatalog = gameCatalog;
+        this.rngService = rngService;
+        this.chunkSize = chunkSize;
+        this.retained = retained;
+        this.streamTimeoutMs = streamTimeout.toMillis();
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "simulation-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = progressInterval.toMillis();
+        publisher.scheduleWithFixedDelay(this::publish, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        publisher.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Validate the bet by playing the first round, then run the rest in the background
+     */
+    public SimulationReport start(SimulationRequest request) {
+        if (request.getServerSeed() == null || request.getServerSeed().isBlank()) {
+            request.setServerSeed(rngService.generateServerSeed());
+        }
+        if (request.getClientSeed() == null) {
+            request.setClientSeed("simulation");
+        }
+        if (request.getParams() == null) {
+            request.setParams(Map.of());
+        }
+        RoundPlayer player = player(request.getGame(), request.getParams(), request.getBetAmount());
+        try {
+            player.play(request.getServerSeed(), request.getClientSeed(), 0);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBetException(e.getMessage());
+        }
+
+        SimulationRun run = new SimulationRun(UUID.randomUUID().toString(), request, player, chunkSize);
+        synchronized (runs) {
+            runs.put(run.getId(), run);
+            evictFinished();
+        }
+        log.info("Simulation {} started: {} rounds of {} {}",
+            run.getId(), request.getRounds(), request.getGame(), request.getParams());
+        pool.execute(run.task());
+        return run.report();
+    }
+
+    public SimulationReport getReport(String id) {
+        return getRun(id).report();
+    }
+
+    public List<SimulationReport> getReports() {
+        synchronized (runs) {
+            return runs.values().stream().map(SimulationRun::report).toList();
+        }
+    }
+
+    /**
+     * Stop a run; rounds already played stay in its report
+     */
+    public SimulationReport cancel(String id) {
+        SimulationRun run = getRun(id);
+        run.cancel();
+        return run.report();
+    }
+
+    /**
+     * Reports of the run every progress interval until it finishes
+     */
+    public SseEmitter subscribe(String id) {
+        SimulationRun run = getRun(id);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        emitter.onCompletion(() -> run.getSubscribers().remove(emitter));
+        emitter.onTimeout(() -> run.getSubscribers().remove(emitter));
+        run.getSubscribers().add(emitter);
+        return emitter;
+    }
+
+    private SimulationRun getRun(String id) {
+        synchronized (runs) {
+            SimulationRun run = runs.get(id);
+            if (run == null) {
+                throw new GameNotFoundException("Simulation not found: " + id);
+            }
+            return run;
+        }
+    }
+
+    private void evictFinished() {
+        int excess = runs.size() - retained;
+        Iterator<SimulationRun> iterator = runs.values().iterator();
+        while (excess > 0 && iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+
+    private void publish() {
+        List<SimulationRun> watched;
+        synchronized (runs) {
+            watched = runs.values().stream().filter(run -> !run.getSubscribers().isEmpty()).toList();
+        }
+        for (SimulationRun run : watched) {
+            // Read the state before the report so the final report is always sent
+            boolean finished = run.isFinished();
+            SimulationReport report = run.report();
+            for (SseEmitter emitter : run.getSubscribers()) {
+                try {
+                    emitter.send(SseEmitter.event().name("progress").data(report));
+                    if (finished) {
+                        emitter.complete();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    run.getSubscribers().remove(emitter);
+                }
+            }
+        }
+    }
+
+    /**
+     * The engine call for one round of the requested game and bet
+     */
+    private RoundPlayer player(SimulatedGame game, Map<String, String> params, BigDecimal bet) {
+        return switch (game) {
+            case SLOT -> {
+                String gameCode = params.get("gameCode");
+                if (gameCode == null) {
+                    throw new InvalidBetException("SLOT simulations need a gameCode");
+                }
+                GameConfig config = gameCatalog.findGame(gameCode)
+                    .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameCode));
+                yield (s, c, n) -> slotGameEngine.calculateTotalPayout(slotGameEngine.spin(config, bet, s, c, n));
+            }
+            case SLOTS -> (s, c, n) -> slotsGameEngine.spin(s, c, n, bet).getTotalPayout();
+            case KENO -> {
+                List<Integer> picks = parsePicks(params.getOrDefault("picks", "1,2,3,4,5"));
+                yield (s, c, n) -> kenoGameEngine.play(s, c, n, picks, bet).getPayout();
+            }
+            case SIC_BO -> {
+                Map<SicBoGameEngine.BetType, BigDecimal> bets =
+                    Map.of(parseEnum(SicBoGameEngine.BetType.class, params.getOrDefault("betType", "BIG")), bet);
+                yield (s, c, n) -> sicBoGameEngine.play(s, c, n, bets).getTotalPayout();
+            }
+            case BACCARAT -> {
+                BaccaratGameEngine.BetType betType =
+                    parseEnum(BaccaratGameEngine.BetType.class, params.getOrDefault("betType", "BANKER"));
+                yield (s, c, n) -> baccaratGameEngine.play(s, c, n, betType, bet).getPayout();
+            }
+            case ROULETTE -> {
+                String betType = params.getOrDefault("betType", "red");
+                if (!RouletteEngine.getBetTypes().containsKey(betType)) {
+                    throw new InvalidBetException("Unknown roulette bet type: " + betType);
+                }
+                RouletteEngine.RouletteType type =
+                    parseEnum(RouletteEngine.RouletteType.class, params.getOrDefault("type", "EUROPEAN"));
+                Map<String, BigDecimal> bets = Map.of(betType, bet);
+                yield (s, c, n) -> rouletteEngine.spin(s, c, n, bets, type).getTotalPayout();
+            }
+            case DICE -> {
+                int target = parseInt(params.getOrDefault("target", "50"), "target");
+                boolean rollOver = Boolean.parseBoolean(params.getOrDefault("rollOver", "true"));
+                yield (s, c, n) -> diceGameEngine.roll(s, c, n, bet, target, rollOver).getPayout();
+            }
+            case MINES -> {
+                int mines = parseInt(params.getOrDefault("mines", "3"), "mines");
+                int reveal = parseInt(params.getOrDefault("reveal", "1"), "reveal");
+                if (reveal < 1 || reveal > MINES_GRID_SIZE - mines) {
+                    throw new InvalidBetException("reveal must be between 1 and " + (MINES_GRID_SIZE - mines));
+                }
+                // Mines are placed at random, so revealing the first tiles in grid order is as good as any
+                List<Integer> positions = IntStream.range(0, reveal).boxed().toList();
+                yield (s, c, n) -> minesGameEngine.revealTiles(
+                    minesGameEngine.startGame(s, c, n, bet, mines), positions, false).getCurrentPayout();
+            }
+        };
+    }
+
+    private static List<Integer> parsePicks(String picks) {
+        List<Integer> numbers = new ArrayList<>();
+        for (String pick : picks.split(",")) {
+            numbers.add(parseInt(pick.trim(), "picks"));
+        }
+        return List.copyOf(numbers);
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidBetException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBetException("Invalid bet type " + value + ", expected one of "
+                + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+}
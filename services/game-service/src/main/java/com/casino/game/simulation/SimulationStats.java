@@ -0,0 +1,129 @@
+package com.casino.game.simulation;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running totals of simulated rounds at a fixed bet, kept per chunk and merged in
+ * chunk order so the totals do not depend on how chunks were scheduled.
+ * <p>
+ * Money is summed in exact cents; the per-round win multiple (payout / bet) feeds
+ * the variance and the histogram.
+ */
+final class SimulationStats {
+
+    /**
+     * Lower bounds of the win multiple histogram buckets; the first bucket holds
+     * losing rounds
+     */
+    private static final double[] BUCKET_BOUNDS = {0, 0.000001, 1, 2, 5, 10, 50, 100, 1000};
+    private static final String[] BUCKET_LABELS = {
+        "0x", "<1x", "1-2x", "2-5x", "5-10x", "10-50x", "50-100x", "100-1000x", "1000x+"
+    };
+
+    private long rounds;
+    private long betCents;
+    private long wonCents;
+    private long hits;
+    private double multipleSum;
+    private double multipleSquareSum;
+    private double maxMultiple;
+    private final long[] histogram = new long[BUCKET_BOUNDS.length];
+
+    void add(BigDecimal bet, BigDecimal payout) {
+        long bet100 = cents(bet);
+        long payout100 = cents(payout);
+        double multiple = (double) payout100 / bet100;
+
+        rounds++;
+        betCents += bet100;
+        wonCents += payout100;
+        if (payout100 > 0) {
+            hits++;
+        }
+        multipleSum += multiple;
+        multipleSquareSum += multiple * multiple;
+        maxMultiple = Math.max(maxMultiple, multiple);
+        histogram[bucket(multiple)]++;
+    }
+
+    void merge(SimulationStats other) {
+        rounds += other.rounds;
+        betCents += other.betCents;
+        wonCents += other.wonCents;
+        hits += other.hits;
+        multipleSum += other.multipleSum;
+        multipleSquareSum += other.multipleSquareSum;
+        maxMultiple = Math.max(maxMultiple, other.maxMultiple);
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    long getRounds() {
+        return rounds;
+    }
+
+    BigDecimal getTotalBet() {
+        return BigDecimal.valueOf(betCents, 2);
+    }
+
+    BigDecimal getTotalWon() {
+        return BigDecimal.valueOf(wonCents, 2);
+    }
+
+    /**
+     * Paid out per unit bet, exact from the cent totals
+     */
+    double getRtp() {
+        return betCents == 0 ? 0 : (double) wonCents / betCents;
+    }
+
+    double getHitFrequency() {
+        return rounds == 0 ? 0 : (double) hits / rounds;
+    }
+
+    /**
+     * Standard deviation of the win multiple of one round
+     */
+    double getVolatility() {
+        if (rounds < 2) {
+            return 0;
+        }
+        double mean = multipleSum / rounds;
+        double variance = (multipleSquareSum - rounds * mean * mean) / (rounds - 1);
+        return Math.sqrt(Math.max(variance, 0));
+    }
+
+    /**
+     * Half width of the normal approximation confidence interval of the RTP
+     */
+    double getRtpMargin(double z) {
+        return rounds == 0 ? 0 : z * getVolatility() / Math.sqrt(rounds);
+    }
+
+    double getMaxMultiple() {
+        return maxMultiple;
+    }
+
+    Map<String, Long> getHistogram() {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < histogram.length; i++) {
+            buckets.put(BUCKET_LABELS[i], histogram[i]);
+        }
+        return buckets;
+    }
+
+    private static int bucket(double multiple) {
+        int bucket = 0;
+        while (bucket + 1 < BUCKET_BOUNDS.length && multiple >= BUCKET_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValue();
+    }
+}
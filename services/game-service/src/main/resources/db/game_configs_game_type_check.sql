@@ -0,0 +1,28 @@
+-- Widen the game_type CHECK constraint of game_configs to the current GameConfig.GameType
+-- values (PostgreSQL). Hibernate 6 creates the constraint with the table from the enum
+-- values of the day, and ddl-auto=update never rewrites it, so on a database created
+-- before KENO was added a Keno game config fails to insert. Run it before deploying a
+-- version with a new game type, after adding the type to the list below; databases
+-- created by that version already have the full list.
+
+BEGIN;
+
+-- The generated constraint is unnamed in the mapping; drop whatever CHECK covers game_type
+DO $$
+DECLARE
+    con record;
+BEGIN
+    FOR con IN SELECT c.conname FROM pg_constraint c
+               JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+               WHERE c.conrelid = 'game_configs'::regclass AND c.contype = 'c'
+                 AND a.attname = 'game_type' LOOP
+        EXECUTE format('ALTER TABLE game_configs DROP CONSTRAINT %I', con.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE game_configs ADD CONSTRAINT game_configs_game_type_check CHECK (game_type IN (
+    'SLOTS', 'BLACKJACK', 'ROULETTE', 'POKER', 'VIDEO_POKER', 'CRAPS', 'SIC_BO',
+    'BACCARAT', 'KENO', 'DICE', 'MINES', 'CRASH', 'COIN_FLIP'
+));
+
+COMMIT;
@@ -0,0 +1,51 @@
+-- One-time conversion of game_results to monthly range partitions on created_at
+-- (PostgreSQL 12+). Run during a maintenance window with the game services stopped,
+-- then set game.results.partitioning.enabled=true; ResultPartitionManager creates the
+-- following months and detaches, archives and drops expired ones.
+--
+-- Existing rows stay in their table, attached as game_results_legacy for everything
+-- before next month. It is never archived automatically: once it is past retention,
+-- detach it and export it by hand.
+--
+-- The partitioned table has no primary key on id alone (a unique constraint must
+-- include the partition key); ids are UUIDs generated by the application.
+
+BEGIN;
+
+ALTER TABLE game_results RENAME TO game_results_legacy;
+
+-- Free the index names for the partitioned table
+DO $$
+DECLARE
+    idx record;
+BEGIN
+    FOR idx IN SELECT indexname FROM pg_indexes
+               WHERE tablename = 'game_results_legacy' AND indexname NOT LIKE '%pkey' LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname, 'legacy_' || idx.indexname);
+    END LOOP;
+END $$;
+
+CREATE TABLE game_results (LIKE game_results_legacy INCLUDING DEFAULTS)
+    PARTITION BY RANGE (created_at);
+
+-- Indexes on the parent are created on every partition, current and future
+CREATE INDEX idx_results_session_id ON game_results (session_id);
+CREATE INDEX idx_results_game_code ON game_results (game_code);
+CREATE INDEX idx_results_created_at ON game_results (created_at);
+CREATE INDEX idx_user_created_at ON game_results (user_id, created_at);
+CREATE INDEX idx_user_game_created_at ON game_results (user_id, game_code, created_at);
+
+DO $$
+DECLARE
+    next_month date := (date_trunc('month', now()) + interval '1 month')::date;
+BEGIN
+    EXECUTE format(
+        'ALTER TABLE game_results ATTACH PARTITION game_results_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        next_month);
+END $$;
+
+-- Catches rows outside every monthly partition, so an insert never fails; it stays
+-- empty as long as the manager runs (it creates months ahead)
+CREATE TABLE game_results_default PARTITION OF game_results DEFAULT;
+
+COMMIT;
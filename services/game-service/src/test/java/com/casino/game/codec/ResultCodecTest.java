@@ -0,0 +1,142 @@
+package com.casino.game.codec;
+
+import com.casino.game.dto.BlackjackResultData;
+import com.casino.game.dto.SlotResultData;
+import com.casino.game.dto.VideoPokerResultData;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.entity.GameResult;
+import com.casino.game.service.BlackjackEngine;
+import com.casino.game.service.RngService;
+import com.casino.game.service.SlotGameEngine;
+import com.casino.game.service.VideoPokerEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Result Codec Tests")
+class ResultCodecTest {
+
+    private static final int ROUNDS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ResultCodecRegistry registry = new ResultCodecRegistry(
+        List.of(new SlotResultCodec(), new BlackjackResultCodec(), new VideoPokerResultCodec()), true);
+    private final RngService rngService = new RngService();
+
+    @Test
+    @DisplayName("Should decode slot spins to the JSON they were stored as before")
+    void testSlotRoundTrip() throws Exception {
+        SlotGameEngine engine = new SlotGameEngine(rngService);
+        GameConfig config = GameConfig.builder().gameCode("slot").reels(5).rows(3).paylines(20).build();
+        for (long nonce = 0; nonce < ROUNDS; nonce++) {
+            assertRoundTrip(engine.spin(config, new BigDecimal("1.00"), "server", "client", nonce), ResultFormat.SLOT_V1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode blackjack hands to the JSON they were stored as before")
+    void testBlackjackRoundTrip() throws Exception {
+        BlackjackEngine engine = new BlackjackEngine(rngService);
+        for (long nonce = 0; nonce < ROUNDS; nonce++) {
+            BlackjackResultData game = engine.startGame("server", "client", nonce, new BigDecimal("2.50"));
+            assertRoundTrip(game, ResultFormat.BLACKJACK_V1);
+            if ("PLAYING".equals(game.getGameState())) {
+                assertRoundTrip(engine.stand(game), ResultFormat.BLACKJACK_V1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode video poker hands to the JSON they were stored as before")
+    void testVideoPokerRoundTrip() throws Exception {
+        VideoPokerEngine engine = new VideoPokerEngine(rngService);
+        for (long nonce = 0; nonce < ROUNDS; nonce++) {
+            VideoPokerResultData deal = engine.deal("server", "client", nonce, BigDecimal.ONE);
+            assertRoundTrip(deal, ResultFormat.VIDEO_POKER_V1);
+            assertRoundTrip(engine.draw(deal, new boolean[]{true, false, true, false, false}), ResultFormat.VIDEO_POKER_V1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the SLOT_V1 byte layout")
+    void testSlotGoldenBytes() {
+        SlotResultData result = SlotResultData.builder()
+            .reels(List.of(List.of("SEVEN", "BAR"), List.of("CHERRY", "STAR")))
+            .winLines(List.of(SlotResultData.WinLine.builder()
+                .lineNumber(1).symbol("SEVEN").count(3).payout(new BigDecimal("5.00")).build()))
+            .bonusTriggered(true)
+            .freeSpinsAwarded(10)
+            .build();
+
+        assertGolden(result, "02020203" + "02040b" + "01" + "02020403e807" + "010b",
+            "{\"reels\":[[\"SEVEN\",\"BAR\"],[\"CHERRY\",\"STAR\"]],"
+                + "\"winLines\":[{\"lineNumber\":1,\"symbol\":\"SEVEN\",\"count\":3,\"payout\":5.00}],"
+                + "\"bonusTriggered\":true,\"freeSpinsAwarded\":10}");
+    }
+
+    @Test
+    @DisplayName("Should keep the BLACKJACK_V1 byte layout")
+    void testBlackjackGoldenBytes() {
+        BlackjackResultData result = BlackjackResultData.builder()
+            .playerHand(List.of("A♠", "10♥"))
+            .dealerHand(List.of("K♣", "5♦"))
+            .dealerVisible(List.of("K♣"))
+            .playerValue(21)
+            .dealerValue(15)
+            .gameState("BLACKJACK")
+            .betAmount(new BigDecimal("2.50"))
+            .payout(new BigDecimal("6.25"))
+            .canHit(false)
+            .canStand(false)
+            .build();
+
+        assertGolden(result, "033021" + "032f0e" + "022f" + "1610" + "03" + "03f403" + "03e209" + "05",
+            "{\"stateId\":null,\"playerHand\":[\"A♠\",\"10♥\"],\"dealerHand\":[\"K♣\",\"5♦\"],"
+                + "\"dealerVisible\":[\"K♣\"],\"playerValue\":21,\"dealerValue\":15,\"gameState\":\"BLACKJACK\","
+                + "\"betAmount\":2.50,\"payout\":6.25,\"canHit\":false,\"canStand\":false,"
+                + "\"canDouble\":null,\"canSplit\":null}");
+    }
+
+    @Test
+    @DisplayName("Should keep the VIDEO_POKER_V1 byte layout")
+    void testVideoPokerGoldenBytes() {
+        VideoPokerResultData result = VideoPokerResultData.builder()
+            .hand(List.of("J♠", "J♥", "2♣", "7♦", "A♠"))
+            .heldCards(new boolean[]{true, true, false, false, false})
+            .handRank(VideoPokerEngine.HandRank.JACKS_OR_BETTER)
+            .betAmount(new BigDecimal("1.00"))
+            .payout(new BigDecimal("1.00"))
+            .gameState("COMPLETE")
+            .build();
+
+        assertGolden(result, "062425031630" + "830b" + "02" + "03c801" + "03c801" + "03",
+            "{\"stateId\":null,\"hand\":[\"J♠\",\"J♥\",\"2♣\",\"7♦\",\"A♠\"],"
+                + "\"heldCards\":[true,true,false,false,false],\"handRank\":\"JACKS_OR_BETTER\","
+                + "\"betAmount\":1.00,\"payout\":1.00,\"gameState\":\"COMPLETE\"}");
+    }
+
+    private void assertRoundTrip(Object result, ResultFormat format) throws Exception {
+        EncodedResult encoded = registry.encode(result);
+        assertEquals(format, encoded.getFormat());
+        assertEquals(objectMapper.writeValueAsString(result), registry.toJson(stored(encoded)));
+    }
+
+    private void assertGolden(Object result, String hex, String json) {
+        EncodedResult encoded = registry.encode(result);
+        assertEquals(hex, HexFormat.of().formatHex(encoded.getData()));
+        assertEquals(json, registry.toJson(stored(encoded)));
+    }
+
+    private static GameResult stored(EncodedResult encoded) {
+        return GameResult.builder()
+            .resultData(encoded.getData())
+            .resultFormat(encoded.getFormat().getId())
+            .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.casino.game.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Result Output/Input Tests")
+class ResultOutputTest {
+
+    private static final List<String> DICTIONARY = List.of("RED", "BLACK");
+
+    @Test
+    @DisplayName("Should read back every primitive written")
+    void testRoundTrip() {
+        ResultOutput out = new ResultOutput();
+        out.writeByte(0xFF);
+        out.writeVarint(0);
+        out.writeVarint(Long.MAX_VALUE);
+        out.writeSignedVarint(Long.MIN_VALUE);
+        out.writeSignedVarint(-1);
+        out.writeOptionalVarint(null);
+        out.writeOptionalVarint(0);
+        out.writeString(null);
+        out.writeString("");
+        out.writeString("10♥ é");
+        out.writeDictionary(DICTIONARY, null);
+        out.writeDictionary(DICTIONARY, "BLACK");
+        out.writeDictionary(DICTIONARY, "GREEN");
+        out.writeDecimal(null);
+        out.writeDecimal(new BigDecimal("-123.4500"));
+        out.writeDecimal(new BigDecimal("1E+3"));
+        out.writeBooleans(true, null, false);
+        out.writeCards(null);
+        out.writeCards(List.of());
+        out.writeCards(List.of("2♠", "A♣", "10♥"));
+        out.writeBytes(new byte[]{1, 2, 3});
+
+        ResultInput in = new ResultInput(out.toByteArray());
+        assertEquals(0xFF, in.readByte());
+        assertEquals(0, in.readVarint());
+        assertEquals(Long.MAX_VALUE, in.readVarint());
+        assertEquals(Long.MIN_VALUE, in.readSignedVarint());
+        assertEquals(-1, in.readSignedVarint());
+        assertNull(in.readOptionalVarint());
+        assertEquals(0, in.readOptionalVarint());
+        assertNull(in.readString());
+        assertEquals("", in.readString());
+        assertEquals("10♥ é", in.readString());
+        assertNull(in.readDictionary(DICTIONARY));
+        assertEquals("BLACK", in.readDictionary(DICTIONARY));
+        assertEquals("GREEN", in.readDictionary(DICTIONARY));
+        assertNull(in.readDecimal());
+        assertEquals(new BigDecimal("-123.4500"), in.readDecimal());
+        assertEquals(new BigDecimal("1000"), in.readDecimal());
+        assertArrayEquals(new Boolean[]{true, null, false}, in.readBooleans(3));
+        assertNull(in.readCards());
+        assertEquals(List.of(), in.readCards());
+        assertEquals(List.of("2♠", "A♣", "10♥"), in.readCards());
+        assertArrayEquals(new byte[]{1, 2, 3}, in.readBytes());
+        assertThrows(IllegalArgumentException.class, in::readByte);
+    }
+
+    @Test
+    @DisplayName("Should keep the byte layout of the primitives")
+    void testGoldenBytes() {
+        ResultOutput out = new ResultOutput();
+        out.writeVarint(300);
+        out.writeSignedVarint(-2);
+        out.writeOptionalVarint(5);
+        out.writeString("ab");
+        out.writeDictionary(DICTIONARY, "RED");
+        out.writeDictionary(DICTIONARY, "X");
+        out.writeDecimal(new BigDecimal("2.50"));
+        out.writeBooleans(true, false, null);
+        out.writeCards(List.of("A♠", "10♥"));
+
+        assertEquals("ac02" + "03" + "06" + "036162" + "02" + "01" + "0258" + "03f403" + "06" + "033021",
+            HexFormat.of().formatHex(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should reject truncated data")
+    void testTruncated() {
+        ResultOutput out = new ResultOutput();
+        out.writeString("truncated");
+        byte[] data = out.toByteArray();
+
+        ResultInput in = new ResultInput(Arrays.copyOf(data, data.length - 1));
+        assertThrows(IllegalArgumentException.class, in::readString);
+        assertThrows(IllegalArgumentException.class, () -> new ResultInput(new byte[]{(byte) 0x80}).readVarint());
+    }
+}
@@ -0,0 +1,48 @@
+package com.casino.game.controller;
+
+import com.casino.game.exception.GlobalExceptionHandler;
+import com.casino.game.service.GameCatalog;
+import com.casino.game.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Game Controller Tests")
+class GameControllerTest {
+
+    private final GameService gameService = mock(GameService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new GameController(gameService, mock(GameCatalog.class), new ObjectMapper()))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a page limit out of range")
+    void testLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/games/sessions/history").header("X-User-Id", "user-1").param("limit", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.limit").exists());
+        mockMvc.perform(get("/games/rounds/history").header("X-User-Id", "user-1").param("limit", "501"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.limit").exists());
+
+        verify(gameService, never()).getSessionHistory(any(), any(), anyInt());
+    }
+}
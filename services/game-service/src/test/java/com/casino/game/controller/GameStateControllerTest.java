@@ -0,0 +1,107 @@
+package com.casino.game.controller;
+
+import com.casino.game.dto.BlackjackResultData;
+import com.casino.game.dto.CrashGameResultData;
+import com.casino.game.dto.MinesGameResultData;
+import com.casino.game.exception.GlobalExceptionHandler;
+import com.casino.game.service.BlackjackEngine;
+import com.casino.game.service.CrashGameEngine;
+import com.casino.game.service.GameStateStore;
+import com.casino.game.service.InMemoryGameStateStore;
+import com.casino.game.service.MinesGameEngine;
+import com.casino.game.service.RngService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Game State Controller Tests")
+class GameStateControllerTest {
+
+    private static final String USER = "user-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RngService rngService = new RngService();
+    private final BlackjackEngine blackjackEngine = new BlackjackEngine(rngService);
+    private final GameStateStore gameStateStore = new InMemoryGameStateStore(Duration.ofMinutes(1), 100);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(
+                new BlackjackController(blackjackEngine, gameStateStore),
+                new MinesController(new MinesGameEngine(rngService), gameStateStore),
+                new CrashController(new CrashGameEngine(rngService), gameStateStore))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should not reveal mine positions while a mines game is in progress")
+    void testMinesHidden() throws Exception {
+        JsonNode started = post("/games/mines/start", Map.of(
+            "betAmount", 1, "numberOfMines", 5, "serverSeed", "server-seed", "clientSeed", "client-seed", "nonce", 1));
+
+        assertEquals("PLAYING", started.path("gameState").asText());
+        assertTrue(started.path("mineMask").isNull());
+        assertTrue(started.path("minePositions").isNull());
+        MinesGameResultData stored = gameStateStore.take(USER, started.path("stateId").asText(), MinesGameResultData.class);
+        assertEquals(5, Integer.bitCount(stored.getMineMask()));
+    }
+
+    @Test
+    @DisplayName("Should not reveal the dealer's hole card or the deck while a hand is in progress")
+    void testHoleCardHidden() throws Exception {
+        long nonce = 0;
+        while (!"PLAYING".equals(blackjackEngine.startGame("server-seed", "client-seed", nonce, BigDecimal.ONE).getGameState())) {
+            nonce++;
+        }
+
+        JsonNode started = post("/games/blackjack/start", Map.of(
+            "betAmount", 1, "serverSeed", "server-seed", "clientSeed", "client-seed", "nonce", nonce));
+
+        assertEquals("PLAYING", started.path("gameState").asText());
+        assertEquals(1, started.path("dealerHand").size());
+        assertEquals(started.path("dealerVisible"), started.path("dealerHand"));
+        assertTrue(started.path("deck").isMissingNode());
+        assertTrue(started.path("dealerCards").isMissingNode());
+        BlackjackResultData stored = gameStateStore.take(USER, started.path("stateId").asText(), BlackjackResultData.class);
+        assertEquals(2, stored.getDealerHand().size());
+    }
+
+    @Test
+    @DisplayName("Should not reveal the crash point of a manual round before the cashout")
+    void testCrashPointHidden() throws Exception {
+        JsonNode started = post("/games/crash/play", Map.of(
+            "betAmount", 1, "serverSeed", "server-seed", "clientSeed", "client-seed", "nonce", 1));
+
+        assertEquals("RUNNING", started.path("gameState").asText());
+        assertTrue(started.path("crashPoint").isNull());
+        assertTrue(started.path("payout").isNull());
+        CrashGameResultData stored = gameStateStore.take(USER, started.path("stateId").asText(), CrashGameResultData.class);
+        assertNotNull(stored.getCrashPoint());
+    }
+
+    private JsonNode post(String path, Map<String, Object> body) throws Exception {
+        String response = mockMvc.perform(MockMvcRequestBuilders.post(path)
+                .header("X-User-Id", USER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
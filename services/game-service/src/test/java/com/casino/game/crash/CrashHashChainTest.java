@@ -0,0 +1,82 @@
+package com.casino.game.crash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Crash Hash Chain Tests")
+class CrashHashChainTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should hand out rounds whose hashes chain back to the commitment")
+    void testRoundsChainToCommitment() {
+        try (CrashHashChain chain = new CrashHashChain(directory, 50)) {
+            String commitment = chain.getTerminalHash();
+            byte[] previous = null;
+            for (int round = 0; round < 10; round++) {
+                byte[] hash = chain.next();
+                String expected = previous == null ? commitment : CrashHashChain.toHex(previous);
+                assertEquals(expected, CrashHashChain.toHex(CrashHashChain.sha256(hash)));
+                previous = hash;
+            }
+
+            List<byte[]> walked = CrashHashChain.walk(previous, 11);
+            assertEquals(commitment, CrashHashChain.toHex(walked.get(10)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should continue after a restart without reusing a hash")
+    void testRestart() {
+        byte[] last;
+        try (CrashHashChain chain = new CrashHashChain(directory, 50)) {
+            chain.next();
+            last = chain.next();
+        }
+        try (CrashHashChain chain = new CrashHashChain(directory, 50)) {
+            assertEquals(47, chain.getRemaining());
+            byte[] next = chain.next();
+            assertFalse(Arrays.equals(last, next));
+            assertArrayEquals(last, CrashHashChain.sha256(next));
+        }
+    }
+
+    @Test
+    @DisplayName("Should switch to the pre-generated chain when the current one runs out")
+    void testChainRollover() throws Exception {
+        try (CrashHashChain chain = new CrashHashChain(directory, 20)) {
+            String firstCommitment = chain.getTerminalHash();
+            chain.prepareNext();
+            assertEquals(1, chainFiles(), "Not running low yet");
+
+            while (chain.getRemaining() > 1) {
+                chain.next();
+            }
+            chain.prepareNext();
+            assertEquals(2, chainFiles());
+
+            chain.next();
+            byte[] hash = chain.next();
+            assertNotEquals(firstCommitment, chain.getTerminalHash());
+            assertEquals(chain.getTerminalHash(), CrashHashChain.toHex(CrashHashChain.sha256(hash)));
+            assertEquals(1, chainFiles());
+        }
+    }
+
+    private long chainFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
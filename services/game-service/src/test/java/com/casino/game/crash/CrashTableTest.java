@@ -0,0 +1,117 @@
+package com.casino.game.crash;
+
+import com.casino.game.dto.CrashTableBet;
+import com.casino.game.dto.CrashTableEvent;
+import com.casino.game.service.CrashGameEngine;
+import com.casino.game.service.RngService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Crash Table Tests")
+class CrashTableTest {
+
+    private static final long TICK_MS = 100;
+    private static final long BETTING_MS = 1000;
+    private static final long COOLDOWN_MS = 500;
+
+    @TempDir
+    Path chainDirectory;
+
+    private CrashHashChain chain;
+    private CrashTable table;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        chain = new CrashHashChain(chainDirectory, 100);
+        table = new CrashTable("test", new CrashGameEngine(new RngService()), chain, new ObjectMapper(),
+            TICK_MS, BETTING_MS, COOLDOWN_MS, 60_000);
+        // The table starts in cooldown; the first tick after it opens round 1
+        now = System.currentTimeMillis() + COOLDOWN_MS;
+        table.tick(now);
+    }
+
+    @Test
+    @DisplayName("Should accept one bet per player while betting and queue later bets")
+    void testBetting() throws Exception {
+        CompletableFuture<CrashTableBet> first = table.bet("alice", new BigDecimal("10"), null);
+        CompletableFuture<CrashTableBet> second = table.bet("alice", new BigDecimal("10"), null);
+        tick(TICK_MS);
+
+        assertEquals("PLACED", first.get().getStatus());
+        assertEquals(1L, first.get().getRoundId());
+        assertTrue(second.isCompletedExceptionally());
+
+        tick(BETTING_MS);
+        assertEquals("STARTED", table.getLastEvent().getType());
+
+        CompletableFuture<CrashTableBet> late = table.bet("bob", new BigDecimal("5"), null);
+        tick(TICK_MS);
+        assertEquals("QUEUED", late.get().getStatus());
+        assertNull(late.get().getRoundId());
+    }
+
+    @Test
+    @DisplayName("Should pay cashouts at the server multiplier and reveal a chained hash on crash")
+    void testRound() throws Exception {
+        CompletableFuture<CrashTableBet> bet = table.bet("alice", new BigDecimal("10"), null);
+        tick(TICK_MS);
+        assertTrue(bet.isDone());
+        tick(BETTING_MS);
+
+        BigDecimal lastMultiplier = BigDecimal.ONE;
+        CompletableFuture<CrashTableBet> cashout = null;
+        while (!"CRASHED".equals(table.getLastEvent().getType())) {
+            if (cashout == null && lastMultiplier.compareTo(new BigDecimal("1.10")) >= 0) {
+                cashout = table.cashout("alice");
+            }
+            tick(TICK_MS);
+            CrashTableEvent event = table.getLastEvent();
+            if ("TICK".equals(event.getType())) {
+                assertTrue(event.getMultiplier().compareTo(lastMultiplier) >= 0);
+                lastMultiplier = event.getMultiplier();
+            }
+        }
+
+        CrashTableEvent crashed = table.getLastEvent();
+        if (cashout != null && !cashout.isCompletedExceptionally()) {
+            CrashTableBet result = cashout.get();
+            assertEquals("CASHED_OUT", result.getStatus());
+            assertTrue(result.getCashedOutAt().compareTo(crashed.getCrashPoint()) < 0);
+            assertEquals(0, result.getPayout().compareTo(new BigDecimal("10").multiply(result.getCashedOutAt())));
+        }
+
+        // SHA-256 of round 1's hash is the chain's published terminal hash
+        byte[] roundHash = HexFormat.of().parseHex(crashed.getRoundHash());
+        assertEquals(chain.getTerminalHash(), CrashHashChain.toHex(CrashHashChain.sha256(roundHash)));
+        assertEquals(1, table.getHistory().size());
+    }
+
+    @Test
+    @DisplayName("Should only accept auto cashouts above 1.00x in whole cents")
+    void testAutoCashoutPrecision() throws Exception {
+        CompletableFuture<CrashTableBet> fractional = table.bet("alice", new BigDecimal("10"), new BigDecimal("1.019"));
+        CompletableFuture<CrashTableBet> even = table.bet("bob", new BigDecimal("10"), new BigDecimal("1.00"));
+        CompletableFuture<CrashTableBet> cents = table.bet("carol", new BigDecimal("10"), new BigDecimal("1.500"));
+        tick(TICK_MS);
+
+        assertTrue(fractional.isCompletedExceptionally());
+        assertTrue(even.isCompletedExceptionally());
+        assertEquals("PLACED", cents.get().getStatus());
+    }
+
+    private void tick(long advanceMs) {
+        now += advanceMs;
+        table.tick(now);
+    }
+}
@@ -0,0 +1,62 @@
+package com.casino.game.engine;
+
+import com.casino.game.dto.KenoResultData;
+import com.casino.game.service.RngService;
+import com.casino.game.service.RngStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Keno Game Engine Tests")
+class KenoGameEngineTest {
+
+    private static final List<Integer> PICKS = List.of(3, 11, 27, 40, 58, 72);
+
+    private final RngService rngService = new RngService();
+    private final KenoGameEngine engine = new KenoGameEngine(rngService);
+
+    @Test
+    @DisplayName("Should draw 20 distinct numbers from 1 to 80 in rounds with duplicate outcomes")
+    void testDrawCompletes() {
+        // Most rounds draw a duplicate along the way, which used to redraw the same number forever
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (long nonce = 1; nonce <= 500; nonce++) {
+                KenoResultData result = engine.play("server", "client", nonce, PICKS, BigDecimal.ONE);
+
+                assertEquals(20, Set.copyOf(result.getDrawnNumbers()).size(), "nonce " + nonce);
+                assertTrue(result.getDrawnNumbers().stream().allMatch(n -> n >= 1 && n <= 80), "nonce " + nonce);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should draw the first 20 distinct outcomes of the round's stream")
+    void testDrawFollowsStream() {
+        KenoResultData result = engine.play("server", "client", 42, PICKS, BigDecimal.ONE);
+
+        RngStream rng = rngService.stream("server", "client", 42);
+        Set<Integer> expected = new TreeSet<>();
+        while (expected.size() < 20) {
+            expected.add(rng.nextInt(80) + 1);
+        }
+        assertEquals(List.copyOf(expected), result.getDrawnNumbers());
+        assertEquals(result.getDrawnNumbers(), engine.play("server", "client", 42, PICKS, BigDecimal.ONE).getDrawnNumbers());
+    }
+
+    @Test
+    @DisplayName("Should count the picks that were drawn")
+    void testMatches() {
+        KenoResultData result = engine.play("server", "client", 7, PICKS, BigDecimal.ONE);
+
+        List<Integer> matched = PICKS.stream().filter(result.getDrawnNumbers()::contains).sorted().toList();
+        assertEquals(matched, result.getMatchedNumbers());
+        assertEquals(matched.size(), result.getMatchCount());
+    }
+}
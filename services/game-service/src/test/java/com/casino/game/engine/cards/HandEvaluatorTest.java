@@ -0,0 +1,218 @@
+package com.casino.game.engine.cards;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Hand Evaluator Tests")
+class HandEvaluatorTest {
+
+    // Legacy categories, as PokerGameEngine.HandRank values (1 = high card .. 10 = royal flush)
+    private static final int LEGACY_STRAIGHT_FLUSH = 9;
+    private static final int LEGACY_ROYAL_FLUSH = 10;
+
+    @Test
+    @DisplayName("Should agree with the previous evaluator on all 2,598,960 five-card hands")
+    void testAllFiveCardHandsMatchLegacyEvaluator() {
+        Map<Integer, Integer> legacyByStrength = new HashMap<>();
+        Map<Integer, Integer> strengthByLegacy = new HashMap<>();
+        Map<HandEvaluator.Category, Integer> categoryCounts = new EnumMap<>(HandEvaluator.Category.class);
+        byte[] hand = new byte[5];
+        int hands = 0;
+
+        for (int a = 0; a < Cards.DECK_SIZE; a++) {
+            for (int b = a + 1; b < Cards.DECK_SIZE; b++) {
+                for (int c = b + 1; c < Cards.DECK_SIZE; c++) {
+                    for (int d = c + 1; d < Cards.DECK_SIZE; d++) {
+                        for (int e = d + 1; e < Cards.DECK_SIZE; e++) {
+                            hand[0] = (byte) a;
+                            hand[1] = (byte) b;
+                            hand[2] = (byte) c;
+                            hand[3] = (byte) d;
+                            hand[4] = (byte) e;
+                            hands++;
+
+                            int strength = HandEvaluator.evaluate(hand);
+                            int legacyScore = legacyScore(hand);
+                            HandEvaluator.Category category = HandEvaluator.category(strength);
+                            categoryCounts.merge(category, 1, Integer::sum);
+
+                            int legacyCategory = legacyScore >>> 20;
+                            if (legacyCategory == LEGACY_ROYAL_FLUSH) {
+                                // The old check called A-2-3-4-5 suited a royal flush
+                                assertEquals(HandEvaluator.Category.STRAIGHT_FLUSH, category);
+                            } else {
+                                assertEquals(legacyCategory - 1, category.ordinal(), "Category of " + Cards.toStrings(hand));
+                            }
+
+                            // Same equivalence classes: one legacy score per strength and vice versa
+                            assertEquals(legacyScore, legacyByStrength.computeIfAbsent(strength, s -> legacyScore));
+                            assertEquals(strength, strengthByLegacy.computeIfAbsent(legacyScore, s -> strength));
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals(2_598_960, hands);
+        assertEquals(7462, legacyByStrength.size(), "Distinct hand values");
+
+        assertEquals(40, categoryCounts.get(HandEvaluator.Category.STRAIGHT_FLUSH));
+        assertEquals(624, categoryCounts.get(HandEvaluator.Category.FOUR_OF_A_KIND));
+        assertEquals(3744, categoryCounts.get(HandEvaluator.Category.FULL_HOUSE));
+        assertEquals(5108, categoryCounts.get(HandEvaluator.Category.FLUSH));
+        assertEquals(10200, categoryCounts.get(HandEvaluator.Category.STRAIGHT));
+        assertEquals(54912, categoryCounts.get(HandEvaluator.Category.THREE_OF_A_KIND));
+        assertEquals(123552, categoryCounts.get(HandEvaluator.Category.TWO_PAIR));
+        assertEquals(1098240, categoryCounts.get(HandEvaluator.Category.PAIR));
+        assertEquals(1302540, categoryCounts.get(HandEvaluator.Category.HIGH_CARD));
+    }
+
+    @Test
+    @DisplayName("Should rank 6 and 7 cards as their best five-card subset")
+    void testSevenCardsMatchBestSubset() {
+        Random random = new Random(42);
+        byte[] deck = DeckOrder.ACE_LAST.newDeck();
+
+        for (int round = 0; round < 100_000; round++) {
+            for (int i = 0; i < 7; i++) {
+                int j = i + random.nextInt(deck.length - i);
+                byte card = deck[i];
+                deck[i] = deck[j];
+                deck[j] = card;
+            }
+            int size = round % 2 == 0 ? 7 : 6;
+            byte[] cards = new byte[size];
+            System.arraycopy(deck, 0, cards, 0, size);
+
+            int best = bestSubsetStrength(cards);
+            assertEquals(best, HandEvaluator.evaluate(cards), "Strength of " + Cards.toStrings(cards));
+            assertEquals(best, HandEvaluator.evaluate(HandEvaluator.bestFive(cards)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should order hands by deciding ranks before kickers")
+    void testOrdering() {
+        // Cases the previous evaluator ordered by sorted card values
+        assertTrue(strength("A♠", "2♥", "3♦", "4♣", "5♠") < strength("2♠", "3♥", "4♦", "5♣", "6♠"));
+        assertTrue(strength("2♠", "2♥", "2♦", "A♣", "A♠") < strength("3♠", "3♥", "3♦", "K♣", "K♠"));
+        assertTrue(strength("2♠", "2♥", "A♦", "K♣", "Q♠") < strength("3♠", "3♥", "K♦", "Q♣", "J♠"));
+        assertTrue(strength("A♥", "2♥", "3♥", "4♥", "5♥") < strength("10♥", "J♥", "Q♥", "K♥", "A♥"));
+
+        // Kickers still decide within the same pair
+        assertTrue(strength("J♠", "J♥", "9♦", "5♣", "3♠") < strength("J♦", "J♣", "9♠", "6♣", "2♠"));
+        assertEquals(strength("J♠", "J♥", "9♦", "5♣", "3♠"), strength("J♦", "J♣", "9♠", "5♥", "3♦"));
+
+        int pairOfQueens = strength("Q♠", "Q♥", "9♦", "5♣", "3♠");
+        assertEquals(HandEvaluator.Category.PAIR, HandEvaluator.category(pairOfQueens));
+        assertEquals(Cards.QUEEN, HandEvaluator.primaryRank(pairOfQueens));
+    }
+
+    @Test
+    @DisplayName("Should reject hands outside 5 to 7 cards")
+    void testInvalidHandSize() {
+        assertThrows(IllegalArgumentException.class, () -> HandEvaluator.evaluate(new byte[4]));
+        assertThrows(IllegalArgumentException.class, () -> HandEvaluator.evaluate(new byte[8]));
+    }
+
+    private static int strength(String... names) {
+        byte[] cards = new byte[names.length];
+        for (int i = 0; i < names.length; i++) {
+            cards[i] = Cards.parse(names[i]);
+        }
+        return HandEvaluator.evaluate(cards);
+    }
+
+    private static int bestSubsetStrength(byte[] cards) {
+        int best = -1;
+        byte[] five = new byte[5];
+        for (int skip = 0; skip < (1 << cards.length); skip++) {
+            if (Integer.bitCount(skip) != cards.length - 5) {
+                continue;
+            }
+            int n = 0;
+            for (int i = 0; i < cards.length; i++) {
+                if ((skip & 1 << i) == 0) {
+                    five[n++] = cards[i];
+                }
+            }
+            best = Math.max(best, HandEvaluator.evaluate(five));
+        }
+        return best;
+    }
+
+    /**
+     * The evaluator PokerGameEngine used before the lookup tables: category in the high
+     * bits, then the five values (2-14) sorted descending
+     */
+    private static int legacyScore(byte[] hand) {
+        int[] values = new int[5];
+        int suit = Cards.suit(hand[0]);
+        boolean isFlush = true;
+        int[] valueCounts = new int[15];
+        for (int i = 0; i < 5; i++) {
+            values[i] = Cards.rank(hand[i]) + 2;
+            isFlush &= Cards.suit(hand[i]) == suit;
+            valueCounts[values[i]]++;
+        }
+        Arrays.sort(values);
+
+        boolean isStraight = true;
+        for (int i = 4; i > 0; i--) {
+            if (values[i] - values[i - 1] != 1) {
+                // A-2-3-4-5 (wheel)
+                if (i == 4 && values[4] == 14 && values[3] == 5) {
+                    continue;
+                }
+                isStraight = false;
+                break;
+            }
+        }
+
+        int first = 0;
+        int second = 0;
+        for (int count : valueCounts) {
+            if (count > first) {
+                second = first;
+                first = count;
+            } else if (count > second) {
+                second = count;
+            }
+        }
+
+        int category;
+        if (isStraight && isFlush) {
+            category = values[4] == 14 ? LEGACY_ROYAL_FLUSH : LEGACY_STRAIGHT_FLUSH;
+        } else if (first == 4) {
+            category = 8;
+        } else if (first == 3 && second == 2) {
+            category = 7;
+        } else if (isFlush) {
+            category = 6;
+        } else if (isStraight) {
+            category = 5;
+        } else if (first == 3) {
+            category = 4;
+        } else if (first == 2 && second == 2) {
+            category = 3;
+        } else if (first == 2) {
+            category = 2;
+        } else {
+            category = 1;
+        }
+
+        int score = category;
+        for (int i = 4; i >= 0; i--) {
+            score = score << 4 | values[i];
+        }
+        return score;
+    }
+}
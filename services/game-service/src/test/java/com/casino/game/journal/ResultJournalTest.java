@@ -0,0 +1,104 @@
+package com.casino.game.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Result Journal Tests")
+class ResultJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should drain records in order and stop at pending transactions")
+    void testReadStopsAtPending() {
+        try (ResultJournal journal = open()) {
+            List<Long> positions = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                positions.add(journal.append(payload(i), ResultJournal.PENDING));
+            }
+            assertTrue(journal.getSegmentCount() > 1, "Records should span several segments");
+            assertTrue(journal.read(100, true).isEmpty());
+
+            journal.setStatus(positions.get(0), ResultJournal.COMMITTED);
+            journal.setStatus(positions.get(1), ResultJournal.ROLLED_BACK);
+            List<ResultJournal.Entry> entries = journal.read(100, true);
+            assertEquals(2, entries.size());
+            assertEquals(ResultJournal.COMMITTED, entries.get(0).status());
+            assertEquals(ResultJournal.ROLLED_BACK, entries.get(1).status());
+            assertEquals(20, journal.read(100, false).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep undrained records across a restart and delete drained segments")
+    void testReopen() throws Exception {
+        int segments;
+        try (ResultJournal journal = open()) {
+            for (int i = 0; i < 20; i++) {
+                journal.append(payload(i), ResultJournal.COMMITTED);
+            }
+            List<ResultJournal.Entry> entries = journal.read(15, false);
+            journal.markDrained(entries.get(14).next(), 15);
+            segments = journal.getSegmentCount();
+        }
+        assertEquals(segments, segmentFiles().size());
+
+        try (ResultJournal journal = new ResultJournal(directory, SEGMENT_SIZE, true)) {
+            journal.open();
+            assertEquals(5, journal.getUndrainedRecords());
+            List<ResultJournal.Entry> entries = journal.read(100, false);
+            assertEquals(5, entries.size());
+            assertEquals(15, entries.get(0).payload()[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn record on open and append after the last valid one")
+    void testTornRecord() throws Exception {
+        long torn;
+        try (ResultJournal journal = open()) {
+            journal.append(payload(1), ResultJournal.COMMITTED);
+            torn = journal.append(payload(2), ResultJournal.COMMITTED);
+        }
+        Path file = segmentFiles().get(0);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[(int) torn + 9] ^= 0x7F;
+        Files.write(file, bytes);
+
+        try (ResultJournal journal = open()) {
+            assertEquals(1, journal.getUndrainedRecords());
+            assertEquals(torn, journal.append(payload(3), ResultJournal.COMMITTED));
+            List<ResultJournal.Entry> entries = journal.read(100, false);
+            assertEquals(2, entries.size());
+            assertEquals(3, entries.get(1).payload()[0]);
+        }
+    }
+
+    private ResultJournal open() {
+        ResultJournal journal = new ResultJournal(directory, SEGMENT_SIZE, true);
+        journal.open();
+        return journal;
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static byte[] payload(int id) {
+        return new byte[]{(byte) id, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    }
+}
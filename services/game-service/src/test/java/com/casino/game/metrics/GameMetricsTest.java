@@ -0,0 +1,77 @@
+package com.casino.game.metrics;
+
+import com.casino.game.entity.GameConfig;
+import com.casino.game.event.RoundSettledEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Metrics Tests")
+class GameMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private GameMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new GameMetrics(registry, Duration.ofHours(1), 60);
+    }
+
+    @Test
+    @DisplayName("Settled rounds are counted per game type and result")
+    void countsSettledRounds() {
+        metrics.onRoundSettled(new RoundSettledEvent("dice", GameConfig.GameType.DICE, 10, 4,
+            new BigDecimal("10.00"), new BigDecimal("7.92")));
+
+        assertEquals(4, registry.get("game_plays_total").tags("game_type", "DICE", "result", "win").counter().count());
+        assertEquals(6, registry.get("game_plays_total").tags("game_type", "DICE", "result", "loss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Bet, payout and profit summaries add up the settled amounts")
+    void amountSummaries() {
+        metrics.onRoundSettled(new RoundSettledEvent("dice", GameConfig.GameType.DICE, 10, 4,
+            new BigDecimal("10.00"), new BigDecimal("7.92")));
+        metrics.onRoundSettled(new RoundSettledEvent("dice", GameConfig.GameType.DICE, 1, 1,
+            new BigDecimal("5.00"), new BigDecimal("9.90")));
+
+        assertEquals(15.00, registry.get("game_bet_amount").summary().totalAmount(), 1e-9);
+        assertEquals(17.82, registry.get("game_payout_amount").summary().totalAmount(), 1e-9);
+        assertEquals(4.90, registry.get("game_profit").tag("result", "win").summary().totalAmount(), 1e-9);
+        assertEquals(2.08, registry.get("game_profit").tag("result", "loss").summary().totalAmount(), 1e-9);
+        assertEquals(5, registry.get("game_results_total").tags("game_type", "DICE", "result", "win").counter().count());
+        assertEquals(6, registry.get("game_results_total").tags("game_type", "DICE", "result", "loss").counter().count());
+    }
+
+    @Test
+    @DisplayName("RTP and house edge gauges follow the settled totals of the game")
+    void rollingRtp() {
+        metrics.onRoundSettled(new RoundSettledEvent("dice", GameConfig.GameType.DICE, 1, 1,
+            new BigDecimal("100.00"), new BigDecimal("150.00")));
+        metrics.onRoundSettled(new RoundSettledEvent("dice", GameConfig.GameType.DICE, 1, 0,
+            new BigDecimal("100.00"), BigDecimal.ZERO));
+
+        assertEquals(0.75, registry.get("game_rtp_ratio").tag("game_code", "dice").gauge().value(), 1e-9);
+        assertEquals(0.25, registry.get("game_house_edge").tag("game_code", "dice").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Buckets older than the window no longer count")
+    void expiredBuckets() throws InterruptedException {
+        GameMetrics.RollingRtp rtp = new GameMetrics.RollingRtp(10, 3);
+        rtp.record(100, 50);
+        assertEquals(0.5, rtp.rtp(), 1e-9);
+
+        Thread.sleep(50);
+        assertTrue(Double.isNaN(rtp.rtp()));
+        rtp.record(100, 200);
+        assertEquals(2.0, rtp.rtp(), 1e-9);
+    }
+}
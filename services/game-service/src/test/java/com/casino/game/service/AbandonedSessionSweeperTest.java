@@ -0,0 +1,189 @@
+package com.casino.game.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Abandoned Session Sweeper Tests")
+class AbandonedSessionSweeperTest {
+
+    private static final LocalDateTime IDLE_SINCE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final GameSessionCache gameSessionCache = mock(GameSessionCache.class);
+    private final GameConfigStatsAggregator aggregator = mock(GameConfigStatsAggregator.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    // Chunks the UPDATE ... RETURNING hands back, and the cursor each chunk was asked for
+    private final Deque<List<Row>> chunks = new ArrayDeque<>();
+    private final List<Object[]> cursors = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                cursors.add(new Object[]{invocation.getArgument(4), invocation.getArgument(5)});
+                RowMapper<Object> mapper = invocation.getArgument(1);
+                List<Object> rows = new ArrayList<>();
+                for (Row row : chunks.isEmpty() ? List.<Row>of() : chunks.poll()) {
+                    rows.add(mapper.mapRow(row(row), rows.size()));
+                }
+                return rows;
+            });
+    }
+
+    @Test
+    @DisplayName("Should sweep in chunks, each after the last session of the previous one")
+    void testChunksAndCursor() {
+        chunks.add(List.of(swept("s2", "DICE", 2), swept("s1", "DICE", 1)));
+        chunks.add(List.of(swept("s3", "DICE", 3)));
+
+        assertEquals(3, sweeper("none", 10).sweep());
+
+        assertEquals(3, cursors.size());
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)), cursors.get(0)[0]);
+        assertEquals("", cursors.get(0)[1]);
+        assertEquals(Timestamp.valueOf(IDLE_SINCE.plusMinutes(2)), cursors.get(1)[0]);
+        assertEquals("s2", cursors.get(1)[1]);
+        assertEquals(Timestamp.valueOf(IDLE_SINCE.plusMinutes(3)), cursors.get(2)[0]);
+        assertEquals("s3", cursors.get(2)[1]);
+    }
+
+    @Test
+    @DisplayName("Should stop after max-batches chunks")
+    void testMaxBatches() {
+        chunks.add(List.of(swept("s1", "DICE", 1)));
+        chunks.add(List.of(swept("s2", "DICE", 2)));
+        chunks.add(List.of(swept("s3", "DICE", 3)));
+
+        assertEquals(2, sweeper("none", 2).sweep());
+        assertEquals(2, cursors.size());
+    }
+
+    @Test
+    @DisplayName("Should hand the aggregator one decrement per game and chunk, and evict every swept session")
+    void testAggregationAndEviction() {
+        chunks.add(List.of(swept("s1", "DICE", 1), swept("s2", "MINES", 2), swept("s3", "DICE", 3)));
+
+        sweeper("none", 10).sweep();
+
+        verify(aggregator).recordSessionsEnded("DICE", 2L);
+        verify(aggregator).recordSessionsEnded("MINES", 1L);
+        verify(gameSessionCache).evict("s1");
+        verify(gameSessionCache).evict("s2");
+        verify(gameSessionCache).evict("s3");
+    }
+
+    @Test
+    @DisplayName("Should release the Redis lease only with the token it was taken with")
+    @SuppressWarnings("unchecked")
+    void testLeaseCompareAndDelete() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(eq(AbandonedSessionSweeper.LOCK_NAME), anyString(), any(Duration.class)))
+            .thenReturn(true, false);
+        chunks.add(List.of(swept("s1", "DICE", 1)));
+        AbandonedSessionSweeper sweeper = sweeper("redis", 10);
+
+        assertEquals(1, sweeper.sweep());
+        // Another instance holds the lease now
+        assertEquals(0, sweeper.sweep());
+
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(values, times(2))
+            .setIfAbsent(eq(AbandonedSessionSweeper.LOCK_NAME), token.capture(), eq(Duration.ofMinutes(5)));
+        verify(redisTemplate).execute(LeaderLock.RELEASE_SCRIPT, List.of(AbandonedSessionSweeper.LOCK_NAME),
+            token.getAllValues().get(0));
+        assertTrue(LeaderLock.RELEASE_SCRIPT.getScriptAsString().contains("redis.call('get', KEYS[1]) == ARGV[1]"));
+        assertEquals(2, cursors.size());
+    }
+
+    @Test
+    @DisplayName("Should sweep only while holding the Postgres advisory lock, and unlock afterwards")
+    @SuppressWarnings("unchecked")
+    void testAdvisoryLock() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement tryLock = statement(false, true);
+        PreparedStatement unlock = statement(true);
+        when(connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")).thenReturn(tryLock);
+        when(connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")).thenReturn(unlock);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenAnswer(invocation -> ((ConnectionCallback<?>) invocation.getArgument(0)).doInConnection(connection));
+        chunks.add(List.of(swept("s1", "DICE", 1)));
+        AbandonedSessionSweeper sweeper = sweeper("postgres", 10);
+
+        // Held by another instance: nothing is swept and nothing unlocked
+        assertEquals(0, sweeper.sweep());
+        assertTrue(cursors.isEmpty());
+        verify(unlock, never()).executeQuery();
+
+        assertEquals(1, sweeper.sweep());
+        verify(tryLock, times(2)).setString(1, AbandonedSessionSweeper.LOCK_NAME);
+        verify(unlock).setString(1, AbandonedSessionSweeper.LOCK_NAME);
+        verify(unlock).executeQuery();
+    }
+
+    private AbandonedSessionSweeper sweeper(String lock, int maxBatches) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(redisTemplate);
+        return new AbandonedSessionSweeper(jdbcTemplate, transactionManager, gameSessionCache, aggregator,
+            provider, new SimpleMeterRegistry(), Duration.ofMinutes(30), 100, maxBatches, lock, Duration.ofMinutes(5));
+    }
+
+    private static Row swept(String id, String gameCode, int minutes) {
+        return new Row(id, gameCode, IDLE_SINCE.plusMinutes(minutes));
+    }
+
+    private static ResultSet row(Row row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("id")).thenReturn(row.id());
+        when(rs.getString("game_code")).thenReturn(row.gameCode());
+        when(rs.getTimestamp("last_activity_at")).thenReturn(Timestamp.valueOf(row.lastActivityAt()));
+        return rs;
+    }
+
+    private static PreparedStatement statement(Boolean first, Boolean... rest) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(first, rest);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(rs);
+        return statement;
+    }
+
+    private record Row(String id, String gameCode, LocalDateTime lastActivityAt) {}
+}
@@ -0,0 +1,80 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameConfig;
+import com.casino.game.repository.GameConfigRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Game Catalog Tests")
+class GameCatalogTest {
+
+    private final GameConfigRepository gameConfigRepository = mock(GameConfigRepository.class);
+    private final GameCatalog gameCatalog = new GameCatalog(gameConfigRepository, new ObjectMapper());
+
+    @Test
+    @DisplayName("Should look up an unknown game code once until the next refresh")
+    void testUnknownCodeCached() {
+        when(gameConfigRepository.findAll()).thenReturn(List.of(game("DICE", 10L, "1.00")));
+
+        assertTrue(gameCatalog.findGame("NOPE").isEmpty());
+        assertTrue(gameCatalog.findGame("NOPE").isEmpty());
+        verify(gameConfigRepository, times(1)).existsByGameCode("NOPE");
+
+        gameCatalog.refresh();
+        assertTrue(gameCatalog.findGame("NOPE").isEmpty());
+        verify(gameConfigRepository, times(2)).existsByGameCode("NOPE");
+    }
+
+    @Test
+    @DisplayName("Should keep the ETag when only play counters change, and serve the new counters")
+    void testEtagIgnoresCounters() {
+        when(gameConfigRepository.findAll()).thenReturn(List.of(game("DICE", 10L, "1.00"), game("MINES", 5L, "1.00")));
+        GameCatalog.Snapshot first = gameCatalog.refresh();
+
+        when(gameConfigRepository.findAll()).thenReturn(List.of(game("DICE", 12L, "1.00"), game("MINES", 7L, "1.00")));
+        GameCatalog.Snapshot counted = gameCatalog.refresh();
+        assertEquals(first.getEtag(), counted.getEtag());
+        assertEquals(first.getVersion(), counted.getVersion());
+        assertEquals(12L, counted.getGame("DICE").orElseThrow().getTotalPlays());
+
+        // A new popularity order does move it
+        when(gameConfigRepository.findAll()).thenReturn(List.of(game("DICE", 12L, "1.00"), game("MINES", 20L, "1.00")));
+        GameCatalog.Snapshot reordered = gameCatalog.refresh();
+        assertNotEquals(counted.getEtag(), reordered.getEtag());
+        assertEquals("MINES", reordered.getPopularGames().get(0).getGameCode());
+
+        // So does a configuration change
+        when(gameConfigRepository.findAll()).thenReturn(List.of(game("DICE", 12L, "2.00"), game("MINES", 20L, "1.00")));
+        GameCatalog.Snapshot configured = gameCatalog.refresh();
+        assertNotEquals(reordered.getEtag(), configured.getEtag());
+        assertEquals(reordered.getVersion() + 1, configured.getVersion());
+    }
+
+    private static GameConfig game(String gameCode, long totalPlays, String minBet) {
+        return GameConfig.builder()
+            .id(gameCode.toLowerCase())
+            .gameCode(gameCode)
+            .gameName(gameCode)
+            .gameType(GameConfig.GameType.valueOf(gameCode))
+            .description(gameCode)
+            .active(true)
+            .rtpPercentage(new BigDecimal("97.00"))
+            .minBet(new BigDecimal(minBet))
+            .maxBet(new BigDecimal("100.00"))
+            .totalPlays(totalPlays)
+            .activePlayers(totalPlays / 2)
+            .totalWagered(BigDecimal.valueOf(totalPlays))
+            .totalPaidOut(BigDecimal.valueOf(totalPlays))
+            .build();
+    }
+}
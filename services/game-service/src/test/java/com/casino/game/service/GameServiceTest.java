@@ -0,0 +1,289 @@
+package com.casino.game.service;
+
+import com.casino.game.codec.BlackjackResultCodec;
+import com.casino.game.codec.ResultCodecRegistry;
+import com.casino.game.codec.SlotResultCodec;
+import com.casino.game.codec.VideoPokerResultCodec;
+import com.casino.game.dto.AutoBetRequest;
+import com.casino.game.dto.AutoBetResponse;
+import com.casino.game.engine.KenoGameEngine;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.entity.GameResult;
+import com.casino.game.entity.GameSession;
+import com.casino.game.exception.InvalidBetException;
+import com.casino.game.exception.RoundConflictException;
+import com.casino.game.metrics.GameMetrics;
+import com.casino.game.metrics.RoundStageTimer;
+import com.casino.game.repository.GameConfigRepository;
+import com.casino.game.repository.GameResultRepository;
+import com.casino.game.repository.GameSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "eureka.client.enabled=false"
+})
+@Import({
+    GameService.class, GameSessionCache.class, GameCatalog.class, DirectGameResultWriter.class,
+    GameMetrics.class, RoundStageTimer.class, SimpleMeterRegistry.class, ObjectMapper.class,
+    ResultCodecRegistry.class, SlotResultCodec.class, BlackjackResultCodec.class, VideoPokerResultCodec.class,
+    RngService.class, SlotGameEngine.class, BlackjackEngine.class, RouletteEngine.class, VideoPokerEngine.class,
+    DiceGameEngine.class, MinesGameEngine.class, CrashGameEngine.class, CoinFlipEngine.class, KenoGameEngine.class
+})
+// Rounds commit for real, as they would in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Game Service Tests")
+class GameServiceTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameSessionCache gameSessionCache;
+
+    @Autowired
+    private GameSessionRepository gameSessionRepository;
+
+    @Autowired
+    private GameConfigRepository gameConfigRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private GameConfigStatsAggregator gameConfigStatsAggregator;
+
+    @SpyBean
+    private RngService rngService;
+
+    // A fixed server seed makes every run play the same flips
+    @BeforeEach
+    void setUp() {
+        doReturn("server-seed").when(rngService).generateServerSeed();
+    }
+
+    @Test
+    @DisplayName("Should settle all rounds of an auto-bet with one UPDATE and consecutive nonces")
+    void testAutoBetSettlesOnce() {
+        GameSession session = startSession("COIN_FLIP_BATCH", new BigDecimal("1000.00"));
+        long version = gameSessionRepository.findById(session.getId()).orElseThrow().getVersion();
+
+        AutoBetResponse response = gameService.autoBet(USER_ID, autoBet(session).count(25).build());
+
+        assertEquals("COUNT", response.getStopReason());
+        assertEquals(25, response.getRoundsPlayed());
+        GameSession settled = gameSessionRepository.findById(session.getId()).orElseThrow();
+        assertEquals(version + 1, settled.getVersion());
+        assertEquals(25L, settled.getLastRoundNumber());
+        assertEquals(0, response.getBalanceAfter().compareTo(settled.getCurrentBalance()));
+
+        List<GameResult> results = gameResultRepository.findSessionRoundsPage(
+            session.getId(), settled.getStartedAt(), 0L, Pageable.unpaged());
+        assertEquals(25, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1L, results.get(i).getRoundNumber());
+            assertEquals(i + 1L, results.get(i).getNonce());
+        }
+
+        AutoBetResponse next = gameService.autoBet(USER_ID, autoBet(session).count(5).build());
+        assertEquals(26L, next.getFirstRound());
+        assertEquals(30L, next.getLastRound());
+    }
+
+    @Test
+    @DisplayName("Should double after a loss and reset after a win with MARTINGALE")
+    void testMartingale() {
+        GameSession session = startSession("COIN_FLIP_MARTINGALE", new BigDecimal("10000.00"), new BigDecimal("10000.00"));
+        List<AutoBetResponse.Round> rounds = gameService.autoBet(USER_ID, autoBet(session)
+            .count(40)
+            .betStrategy(AutoBetRequest.BetStrategy.MARTINGALE)
+            .includeRounds(true)
+            .build()).getRounds();
+
+        assertBothOutcomes(rounds);
+        for (int i = 1; i < rounds.size(); i++) {
+            BigDecimal previous = rounds.get(i - 1).getBetAmount();
+            BigDecimal expected = won(rounds.get(i - 1)) ? BigDecimal.ONE : previous.multiply(BigDecimal.valueOf(2));
+            assertEquals(0, expected.compareTo(rounds.get(i).getBetAmount()), "round " + (i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should double after a win and reset after a loss with PAROLI")
+    void testParoli() {
+        GameSession session = startSession("COIN_FLIP_PAROLI", new BigDecimal("10000.00"), new BigDecimal("10000.00"));
+        List<AutoBetResponse.Round> rounds = gameService.autoBet(USER_ID, autoBet(session)
+            .count(40)
+            .betStrategy(AutoBetRequest.BetStrategy.PAROLI)
+            .includeRounds(true)
+            .build()).getRounds();
+
+        assertBothOutcomes(rounds);
+        for (int i = 1; i < rounds.size(); i++) {
+            BigDecimal previous = rounds.get(i - 1).getBetAmount();
+            BigDecimal expected = won(rounds.get(i - 1)) ? previous.multiply(BigDecimal.valueOf(2)) : BigDecimal.ONE;
+            assertEquals(0, expected.compareTo(rounds.get(i).getBetAmount()), "round " + (i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop on the first round that reaches the profit limit")
+    void testStopOnProfit() {
+        GameSession session = startSession("COIN_FLIP_PROFIT", new BigDecimal("1000.00"));
+        AutoBetResponse response = gameService.autoBet(USER_ID, autoBet(session)
+            .count(200)
+            .stopOnProfit(new BigDecimal("0.50"))
+            .includeRounds(true)
+            .build());
+
+        assertEquals("PROFIT", response.getStopReason());
+        assertTrue(response.getNetProfit().compareTo(new BigDecimal("0.50")) >= 0);
+        assertTrue(netProfit(response.getRounds().subList(0, response.getRoundsPlayed() - 1))
+            .compareTo(new BigDecimal("0.50")) < 0);
+    }
+
+    @Test
+    @DisplayName("Should stop on the first round that reaches the loss limit")
+    void testStopOnLoss() {
+        GameSession session = startSession("COIN_FLIP_LOSS", new BigDecimal("1000.00"));
+        AutoBetResponse response = gameService.autoBet(USER_ID, autoBet(session)
+            .count(200)
+            .stopOnLoss(new BigDecimal("3.00"))
+            .includeRounds(true)
+            .build());
+
+        assertEquals("LOSS", response.getStopReason());
+        assertTrue(response.getNetProfit().negate().compareTo(new BigDecimal("3.00")) >= 0);
+        assertTrue(netProfit(response.getRounds().subList(0, response.getRoundsPlayed() - 1)).negate()
+            .compareTo(new BigDecimal("3.00")) < 0);
+    }
+
+    @Test
+    @DisplayName("Should reject a first bet below the minimum and stop before a bet above the maximum")
+    void testBetLimits() {
+        GameSession session = startSession("COIN_FLIP_LIMITS", new BigDecimal("1000.00"));
+        assertThrows(InvalidBetException.class, () -> gameService.autoBet(USER_ID, autoBet(session)
+            .betAmount(new BigDecimal("0.05"))
+            .count(10)
+            .build()));
+
+        // Any loss doubles 60 past the maximum of 100
+        AutoBetResponse response = gameService.autoBet(USER_ID, autoBet(session)
+            .betAmount(new BigDecimal("60.00"))
+            .count(200)
+            .betStrategy(AutoBetRequest.BetStrategy.MARTINGALE)
+            .includeRounds(true)
+            .build());
+
+        assertEquals("BET_LIMIT", response.getStopReason());
+        assertFalse(won(response.getRounds().get(response.getRoundsPlayed() - 1)));
+        assertTrue(response.getRounds().stream().allMatch(round -> round.getBetAmount().compareTo(new BigDecimal("60.00")) == 0));
+    }
+
+    @Test
+    @DisplayName("Should stop before a bet the balance does not cover")
+    void testStopOnBalance() {
+        GameSession session = startSession("COIN_FLIP_BALANCE", new BigDecimal("5.00"));
+        AutoBetResponse response = gameService.autoBet(USER_ID, autoBet(session)
+            .betAmount(new BigDecimal("2.00"))
+            .count(200)
+            .build());
+
+        assertEquals("BALANCE", response.getStopReason());
+        assertTrue(response.getBalanceAfter().compareTo(new BigDecimal("2.00")) < 0);
+        assertEquals(0, new BigDecimal("5.00").add(response.getNetProfit()).compareTo(response.getBalanceAfter()));
+    }
+
+    @Test
+    @DisplayName("Should evict a stale session copy and reject its round as a conflict")
+    void testStaleSessionCopy() {
+        GameSession session = startSession("COIN_FLIP_STALE", new BigDecimal("1000.00"));
+        gameService.autoBet(USER_ID, autoBet(session).count(1).build());
+        assertEquals(1L, gameSessionCache.get(session.getId(), USER_ID).orElseThrow().getVersion());
+
+        // Another instance writes the row; the cached copy still has version 1
+        jdbcTemplate.update("UPDATE game_sessions SET current_balance = ?, version = version + 1 WHERE id = ?",
+            new BigDecimal("500.00"), session.getId());
+
+        long cached = gameSessionCache.size();
+        assertThrows(RoundConflictException.class, () -> gameService.autoBet(USER_ID, autoBet(session).count(1).build()));
+        assertEquals(cached - 1, gameSessionCache.size());
+
+        // The next round reads the row again and settles on top of the other write
+        AutoBetResponse response = gameService.autoBet(USER_ID, autoBet(session).count(1).build());
+        assertEquals(2L, response.getFirstRound());
+        assertEquals(0, new BigDecimal("500.00").add(response.getNetProfit()).compareTo(response.getBalanceAfter()));
+        assertEquals(0, response.getBalanceAfter()
+            .compareTo(gameSessionRepository.findById(session.getId()).orElseThrow().getCurrentBalance()));
+    }
+
+    private GameSession startSession(String gameCode, BigDecimal balance) {
+        return startSession(gameCode, balance, new BigDecimal("100.00"));
+    }
+
+    private GameSession startSession(String gameCode, BigDecimal balance, BigDecimal maxBet) {
+        gameConfigRepository.save(GameConfig.builder()
+            .gameCode(gameCode)
+            .gameName(gameCode)
+            .gameType(GameConfig.GameType.COIN_FLIP)
+            .description(gameCode)
+            .active(true)
+            .rtpPercentage(new BigDecimal("98.00"))
+            .minBet(new BigDecimal("0.10"))
+            .maxBet(maxBet)
+            .build());
+        return gameSessionRepository.save(GameSession.builder()
+            .userId(USER_ID)
+            .gameCode(gameCode)
+            .startingBalance(balance)
+            .currentBalance(balance)
+            .balanceType(GameSession.BalanceType.VIRTUAL)
+            .build());
+    }
+
+    private static void assertBothOutcomes(List<AutoBetResponse.Round> rounds) {
+        assertTrue(rounds.stream().anyMatch(GameServiceTest::won), "no round won");
+        assertTrue(rounds.stream().anyMatch(round -> !won(round)), "no round lost");
+    }
+
+    private static boolean won(AutoBetResponse.Round round) {
+        return round.getWinAmount().compareTo(round.getBetAmount()) > 0;
+    }
+
+    private static BigDecimal netProfit(List<AutoBetResponse.Round> rounds) {
+        return rounds.stream()
+            .map(round -> round.getWinAmount().subtract(round.getBetAmount()))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static AutoBetRequest.AutoBetRequestBuilder autoBet(GameSession session) {
+        return AutoBetRequest.builder()
+            .sessionId(session.getId())
+            .betAmount(BigDecimal.ONE)
+            .clientSeed("client-seed");
+    }
+}
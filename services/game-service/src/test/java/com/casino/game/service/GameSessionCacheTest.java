@@ -0,0 +1,117 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameSession;
+import com.casino.game.repository.GameSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Game Session Cache Tests")
+class GameSessionCacheTest {
+
+    private final GameSessionRepository gameSessionRepository = mock(GameSessionRepository.class);
+    private final GameSessionCache cache = new GameSessionCache(gameSessionRepository, true, Duration.ofMinutes(30), 100);
+
+    private GameSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = GameSession.builder()
+            .id("session-1")
+            .userId("user-1")
+            .gameCode("DICE_CLASSIC")
+            .status(GameSession.SessionStatus.ACTIVE)
+            .currentBalance(new BigDecimal("100.00"))
+            .lastRoundNumber(0L)
+            .version(0L)
+            .build();
+        when(gameSessionRepository.findByIdAndUserId("session-1", "user-1")).thenReturn(Optional.of(session));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a committed settlement from memory")
+    void testCommitReplacesCopy() {
+        GameSession cached = cache.get("session-1", "user-1").orElseThrow();
+        complete(settle(cached, 5, "90.00"), TransactionSynchronization.STATUS_COMMITTED);
+
+        GameSession settled = cache.get("session-1", "user-1").orElseThrow();
+        assertEquals(1L, settled.getVersion());
+        assertEquals(5L, settled.getLastRoundNumber());
+        assertEquals(new BigDecimal("90.00"), settled.getCurrentBalance());
+        assertTrue(cache.get("session-1", "user-2").isEmpty());
+        verify(gameSessionRepository, times(1)).findByIdAndUserId("session-1", "user-1");
+    }
+
+    @Test
+    @DisplayName("Should evict the copy when the settling transaction rolls back")
+    void testRollbackEvicts() {
+        GameSession cached = cache.get("session-1", "user-1").orElseThrow();
+        complete(settle(cached, 1, "99.00"), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.get("session-1", "user-1").orElseThrow().getVersion());
+        verify(gameSessionRepository, times(2)).findByIdAndUserId("session-1", "user-1");
+    }
+
+    @Test
+    @DisplayName("Should never replace a copy with an older commit")
+    void testOlderCommitKeepsNewerCopy() {
+        GameSession version0 = cache.get("session-1", "user-1").orElseThrow();
+        List<TransactionSynchronization> first = settle(version0, 1, "99.00");
+        GameSession version1 = version0.toBuilder()
+            .version(1L)
+            .lastRoundNumber(1L)
+            .currentBalance(new BigDecimal("99.00"))
+            .build();
+        List<TransactionSynchronization> second = settle(version1, 2, "98.00");
+
+        // The second round's commit completes before the first one's
+        complete(second, TransactionSynchronization.STATUS_COMMITTED);
+        complete(first, TransactionSynchronization.STATUS_COMMITTED);
+
+        GameSession cached = cache.get("session-1", "user-1").orElseThrow();
+        assertEquals(2L, cached.getVersion());
+        assertEquals(2L, cached.getLastRoundNumber());
+        assertEquals(new BigDecimal("98.00"), cached.getCurrentBalance());
+
+        // Same outside a transaction
+        cache.settled(version0, 1, new BigDecimal("99.00"));
+        assertEquals(2L, cache.get("session-1", "user-1").orElseThrow().getVersion());
+    }
+
+    // Settle inside a simulated transaction and return its synchronizations
+    private List<TransactionSynchronization> settle(GameSession copy, long lastRoundNumber, String balanceAfter) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.settled(copy, lastRoundNumber, new BigDecimal(balanceAfter));
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
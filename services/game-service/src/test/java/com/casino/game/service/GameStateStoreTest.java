@@ -0,0 +1,178 @@
+package com.casino.game.service;
+
+import com.casino.game.dto.BlackjackResultData;
+import com.casino.game.dto.MinesGameResultData;
+import com.casino.game.exception.GameStateNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Game State Store Tests")
+class GameStateStoreTest {
+
+    private static final int THREADS = 8;
+
+    private final BlackjackEngine blackjackEngine = new BlackjackEngine(new RngService());
+
+    @Test
+    @DisplayName("Should hand an in-memory state to exactly one of several concurrent takes")
+    void testInMemoryTakeIsAtomic() throws Exception {
+        InMemoryGameStateStore store = new InMemoryGameStateStore(Duration.ofMinutes(1), 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 200; round++) {
+                String stateId = store.create("user-1", mines());
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> takes = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    takes.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            store.take("user-1", stateId, MinesGameResultData.class);
+                            return true;
+                        } catch (GameStateNotFoundException e) {
+                            return false;
+                        }
+                    }));
+                }
+                start.countDown();
+
+                int winners = 0;
+                for (Future<Boolean> take : takes) {
+                    if (take.get(5, TimeUnit.SECONDS)) {
+                        winners++;
+                    }
+                }
+                assertEquals(1, winners, "round " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should take a Redis state with a single GETDEL")
+    @SuppressWarnings("unchecked")
+    void testRedisTakeUsesGetDel() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        RedisGameStateStore store = new RedisGameStateStore(redisTemplate, Duration.ofMinutes(1));
+
+        assertThrows(GameStateNotFoundException.class,
+            () -> store.take("user-1", "state-1", MinesGameResultData.class));
+        verify(values).getAndDelete("game:state:MinesGameResultData:user-1:state-1");
+        verify(values, never()).get(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("Should only resolve a handle for the user and the game it was created for")
+    void testUserScoping() {
+        for (GameStateStore store : stores()) {
+            String stateId = store.create("user-1", mines());
+
+            assertThrows(GameStateNotFoundException.class,
+                () -> store.take("user-2", stateId, MinesGameResultData.class), store.getClass().getSimpleName());
+            assertThrows(GameStateNotFoundException.class,
+                () -> store.take("user-1", stateId, BlackjackResultData.class), store.getClass().getSimpleName());
+            // A miss by another user does not consume the state
+            assertNotNull(store.take("user-1", stateId, MinesGameResultData.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Should put the previous state back when an action fails")
+    void testPutBackOnFailure() {
+        for (GameStateStore store : stores()) {
+            BlackjackResultData game = playing();
+            String stateId = store.create("user-1", game);
+
+            assertThrows(IllegalStateException.class, () -> store.advance("user-1", stateId, BlackjackResultData.class,
+                current -> {
+                    throw new IllegalStateException("engine failure");
+                }, this::isPlaying));
+
+            BlackjackResultData restored = store.take("user-1", stateId, BlackjackResultData.class);
+            assertEquals(game.getPlayerHand(), restored.getPlayerHand(), store.getClass().getSimpleName());
+            assertArrayEquals(game.getDeck(), restored.getDeck(), store.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a game in progress and drop a finished one")
+    void testAdvance() {
+        for (GameStateStore store : stores()) {
+            String stateId = store.create("user-1", playing());
+
+            BlackjackResultData finished = store.advance("user-1", stateId, BlackjackResultData.class,
+                blackjackEngine::stand, this::isPlaying);
+
+            assertFalse(isPlaying(finished));
+            assertThrows(GameStateNotFoundException.class,
+                () -> store.take("user-1", stateId, BlackjackResultData.class), store.getClass().getSimpleName());
+        }
+    }
+
+    private List<GameStateStore> stores() {
+        return List.of(new InMemoryGameStateStore(Duration.ofMinutes(1), 100), redisStore());
+    }
+
+    // Redis store over a map standing in for the server
+    @SuppressWarnings("unchecked")
+    private static RedisGameStateStore redisStore() {
+        Map<String, String> server = new ConcurrentHashMap<>();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.getAndDelete(anyString())).thenAnswer(invocation -> server.remove(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> server.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(values).set(anyString(), anyString(), any(Duration.class));
+        return new RedisGameStateStore(redisTemplate, Duration.ofMinutes(1));
+    }
+
+    private BlackjackResultData playing() {
+        for (long nonce = 0; ; nonce++) {
+            BlackjackResultData game = blackjackEngine.startGame("server-seed", "client-seed", nonce, BigDecimal.ONE);
+            if (isPlaying(game)) {
+                return game;
+            }
+        }
+    }
+
+    private boolean isPlaying(BlackjackResultData game) {
+        return "PLAYING".equals(game.getGameState());
+    }
+
+    private static MinesGameResultData mines() {
+        return MinesGameResultData.builder()
+            .betAmount(BigDecimal.ONE)
+            .numberOfMines(3)
+            .mineMask(0b111)
+            .revealedMask(0)
+            .gameState("PLAYING")
+            .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.casino.game.service;
+
+import com.casino.game.entity.GameResult;
+import com.casino.game.entity.GameSession;
+import com.casino.game.journal.ResultJournal;
+import com.casino.game.repository.GameResultRepository;
+import com.casino.game.repository.GameSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "eureka.client.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Journal Game Result Writer Tests")
+class JournalGameResultWriterTest {
+
+    @Autowired
+    private GameSessionRepository gameSessionRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should roll back a pending record of a round replayed and stored under another record")
+    void testRecoverReplayedRound() {
+        GameSession session = session(1L);
+
+        // The replay of round 1 commits and is drained
+        JournalGameResultWriter writer = open();
+        GameResult stored = new TransactionTemplate(transactionManager).execute(status -> writer.write(result(session)));
+        writer.flush();
+        writer.close();
+
+        // The first attempt's record was left pending by a crash before its rollback was noted
+        GameResult firstAttempt = result(session);
+        firstAttempt.setId(UUID.randomUUID().toString());
+        firstAttempt.setCreatedAt(stored.getCreatedAt().minusSeconds(1));
+        try (ResultJournal journal = new ResultJournal(directory, 64 * 1024, true)) {
+            journal.open();
+            journal.append(JournalGameResultWriter.encode(firstAttempt), ResultJournal.PENDING);
+        }
+
+        JournalGameResultWriter restarted = open();
+        restarted.flush();
+        restarted.close();
+
+        List<GameResult> rounds = gameResultRepository.findSessionRoundsPage(
+            session.getId(), session.getStartedAt(), 0L, Pageable.unpaged());
+        assertEquals(1, rounds.size());
+        assertEquals(stored.getId(), rounds.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should keep a record with an unknown transaction outcome pending until the session decides it")
+    void testUnknownOutcome() {
+        GameSession settled = session(1L);
+        GameSession notSettled = session(0L);
+        JournalGameResultWriter writer = open();
+
+        GameResult committed = writeWithUnknownOutcome(writer, result(settled));
+        GameResult rolledBack = writeWithUnknownOutcome(writer, result(notSettled));
+        writer.flush();
+        writer.close();
+
+        List<GameResult> rounds = gameResultRepository.findSessionRoundsPage(
+            settled.getId(), settled.getStartedAt(), 0L, Pageable.unpaged());
+        assertEquals(1, rounds.size());
+        assertEquals(committed.getId(), rounds.get(0).getId());
+        assertTrue(gameResultRepository.findById(rolledBack.getId()).isEmpty());
+    }
+
+    private GameResult writeWithUnknownOutcome(JournalGameResultWriter writer, GameResult result) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            GameResult written = writer.write(result);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_UNKNOWN);
+            }
+            return written;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private GameSession session(long lastRoundNumber) {
+        return gameSessionRepository.save(GameSession.builder()
+            .userId("user-1")
+            .gameCode("SLOT_CLASSIC")
+            .startingBalance(BigDecimal.TEN)
+            .currentBalance(BigDecimal.TEN)
+            .balanceType(GameSession.BalanceType.VIRTUAL)
+            .lastRoundNumber(lastRoundNumber)
+            .build());
+    }
+
+    private JournalGameResultWriter open() {
+        JournalGameResultWriter writer = new JournalGameResultWriter(jdbcTemplate, transactionManager,
+            gameSessionRepository, gameResultRepository, new SimpleMeterRegistry(),
+            directory, DataSize.ofKilobytes(64), true, 10);
+        writer.open();
+        return writer;
+    }
+
+    private GameResult result(GameSession session) {
+        return GameResult.builder()
+            .sessionId(session.getId())
+            .userId(session.getUserId())
+            .gameCode(session.getGameCode())
+            .roundNumber(1L)
+            .outcome(GameResult.RoundOutcome.LOSS)
+            .betAmount(BigDecimal.ONE)
+            .winAmount(BigDecimal.ZERO)
+            .netProfit(BigDecimal.ONE.negate())
+            .multiplier(BigDecimal.ZERO)
+            .balanceBefore(BigDecimal.TEN)
+            .balanceAfter(new BigDecimal("9.00"))
+            .resultData(new byte[]{1})
+            .resultFormat(1)
+            .serverSeed("server-seed")
+            .nonce(1L)
+            .rngVersion(2)
+            .build();
+    }
+}
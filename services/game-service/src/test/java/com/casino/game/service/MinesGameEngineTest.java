@@ -0,0 +1,71 @@
+package com.casino.game.service;
+
+import com.casino.game.dto.MinesGameResultData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mines Game Engine Tests")
+class MinesGameEngineTest {
+
+    private final RngService rngService = new RngService();
+    private final MinesGameEngine engine = new MinesGameEngine(rngService);
+
+    @Test
+    @DisplayName("Should place mines on the first tiles of the shuffled grid")
+    void testMinePlacement() {
+        MinesGameResultData game = engine.startGame("server", "client", 7, BigDecimal.TEN, 5);
+
+        List<Integer> shuffled = rngService.stream("server", "client", 7)
+            .shuffle(IntStream.range(0, 25).boxed().toList());
+        assertEquals(Set.copyOf(shuffled.subList(0, 5)), game.getMinePositions());
+        assertEquals(5, Integer.bitCount(game.getMineMask()));
+    }
+
+    @Test
+    @DisplayName("Should reveal tiles in order, stop at a mine and cash out only when safe")
+    void testRevealTiles() {
+        MinesGameResultData game = engine.startGame("server", "client", 1, BigDecimal.TEN, 3);
+        List<Integer> safe = new ArrayList<>();
+        int mine = -1;
+        for (int position = 0; position < 25; position++) {
+            if (game.getMinePositions().contains(position)) {
+                mine = position;
+            } else if (safe.size() < 4) {
+                safe.add(position);
+            }
+        }
+
+        MinesGameResultData cashedOut = engine.revealTiles(game, safe, true);
+        assertEquals("CASHED_OUT", cashedOut.getGameState());
+        assertEquals(4, cashedOut.getGemsFound());
+        assertEquals(engine.getMultiplierTable(3).get(4), cashedOut.getCurrentMultiplier());
+        assertEquals(0, cashedOut.getCurrentPayout().compareTo(BigDecimal.TEN.multiply(cashedOut.getCurrentMultiplier())));
+
+        MinesGameResultData busted = engine.revealTiles(game, List.of(safe.get(0), mine, safe.get(1)), true);
+        assertEquals("BUSTED", busted.getGameState());
+        assertEquals(Set.of(safe.get(0), mine), busted.getRevealedPositions());
+        assertEquals(0, busted.getCurrentPayout().signum());
+
+        assertThrows(IllegalArgumentException.class, () -> engine.revealTiles(game, List.of(1, 1), false));
+    }
+
+    @Test
+    @DisplayName("Should read game state stored with position sets")
+    void testPositionSetJson() throws Exception {
+        MinesGameResultData game = new ObjectMapper().readValue(
+            "{\"numberOfMines\":2,\"minePositions\":[3,17],\"revealedPositions\":[0],\"gameState\":\"PLAYING\"}",
+            MinesGameResultData.class);
+
+        assertEquals((1 << 3) | (1 << 17), game.getMineMask());
+        assertEquals(1, game.getRevealedMask());
+    }
+}
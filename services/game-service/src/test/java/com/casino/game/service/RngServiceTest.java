@@ -3,7 +3,13 @@ package com.casino.game.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -270,4 +276,153 @@ class RngServiceTest {
                     i, counts[i], expected, ratio));
         }
     }
+
+    @Test
+    @DisplayName("V1 stream should reproduce the per-call legacy results")
+    void testLegacyStreamMatchesLegacyMethods() {
+        String serverSeed = "test-server-seed";
+        String clientSeed = "client-seed";
+        long nonce = 7L;
+        double[] weights = {70.0, 20.0, 10.0};
+
+        RngStream stream = rngService.stream(RngAlgorithm.HMAC_SHA256_V1, serverSeed, clientSeed, nonce);
+        for (int i = 0; i < 15; i++) {
+            assertEquals(rngService.generateWeightedRandom(serverSeed, clientSeed, nonce + i, weights),
+                stream.nextWeighted(weights), "V1 stream draw " + i + " should use nonce + " + i);
+        }
+
+        List<Integer> deck = new ArrayList<>();
+        for (int i = 0; i < 52; i++) {
+            deck.add(i);
+        }
+        assertEquals(rngService.shuffle(deck, serverSeed, clientSeed, nonce),
+            rngService.stream(RngAlgorithm.HMAC_SHA256_V1, serverSeed, clientSeed, nonce).shuffle(deck),
+            "V1 stream shuffle should match the legacy shuffle");
+    }
+
+    @Test
+    @DisplayName("V2 stream should take 4-byte outcomes from HMAC(serverSeed, clientSeed:nonce:cursor)")
+    void testByteStreamIsVerifiable() throws Exception {
+        String serverSeed = "test-server-seed";
+        String clientSeed = "client-seed";
+        long nonce = 42L;
+
+        // Independent reference: first two digests, 8 outcomes each
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(serverSeed.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        RngStream stream = rngService.stream(RngAlgorithm.HMAC_SHA256_STREAM_V2, serverSeed, clientSeed, nonce);
+
+        for (int cursor = 0; cursor < 2; cursor++) {
+            byte[] digest = mac.doFinal((clientSeed + ":" + nonce + ":" + cursor).getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < 32; i += 4) {
+                long value = ((digest[i] & 0xFFL) << 24) | ((digest[i + 1] & 0xFFL) << 16)
+                    | ((digest[i + 2] & 0xFFL) << 8) | (digest[i + 3] & 0xFFL);
+                assertEquals((int) (value / 4294967296.0 * 52), stream.nextInt(52),
+                    "Outcome " + (cursor * 8 + i / 4) + " should match the reference digest");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("V2 stream should shuffle deterministically and keep all items")
+    void testByteStreamShuffle() {
+        List<Integer> deck = new ArrayList<>();
+        for (int i = 0; i < 52; i++) {
+            deck.add(i);
+        }
+        String serverSeed = rngService.generateServerSeed();
+
+        List<Integer> shuffled1 = rngService.stream(RngAlgorithm.HMAC_SHA256_STREAM_V2, serverSeed, null, 1L).shuffle(deck);
+        List<Integer> shuffled2 = rngService.stream(RngAlgorithm.HMAC_SHA256_STREAM_V2, serverSeed, null, 1L).shuffle(deck);
+
+        assertEquals(shuffled1, shuffled2, "Same seeds should produce same shuffle");
+        assertEquals(new HashSet<>(deck), new HashSet<>(shuffled1), "Shuffle should keep every card once");
+        assertNotEquals(deck, shuffled1, "Shuffled deck should be different from original");
+    }
+
+    @Test
+    @DisplayName("Sampler on a V1 stream should match the legacy weighted random")
+    void testSamplerMatchesLegacyWeightedRandom() {
+        String serverSeed = rngService.generateServerSeed();
+        int[] weights = {2, 5, 10, 15, 20, 20, 20, 25, 25, 8};
+        double[] legacyWeights = {2, 5, 10, 15, 20, 20, 20, 25, 25, 8};
+        WeightedSampler sampler = WeightedSampler.of(weights);
+
+        for (long nonce = 0; nonce < 1000; nonce++) {
+            RngStream stream = rngService.stream(RngAlgorithm.HMAC_SHA256_V1, serverSeed, "client-seed", nonce);
+            assertEquals(rngService.generateWeightedRandom(serverSeed, "client-seed", nonce, legacyWeights),
+                stream.nextWeighted(sampler), "Nonce " + nonce + " should select the same symbol");
+        }
+    }
+
+    @Test
+    @DisplayName("Alias table should give every option exactly its weight")
+    void testAliasTableIsExact() {
+        int[] weights = {2, 5, 10, 15, 20, 20, 20, 25, 25, 8, 0, 1};
+        WeightedSampler sampler = WeightedSampler.of(weights);
+
+        int[] counts = new int[weights.length];
+        for (int value = 0; value < sampler.getAliasRange(); value++) {
+            counts[sampler.sampleAlias(value)]++;
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] * weights.length, counts[i],
+                "Option " + i + " should cover weight * size alias values");
+        }
+    }
+
+    @Test
+    @DisplayName("In-place byte shuffle should match the list shuffle for every algorithm")
+    void testByteShuffleMatchesListShuffle() {
+        String serverSeed = rngService.generateServerSeed();
+        List<Integer> deck = new ArrayList<>();
+        byte[] cards = new byte[52];
+        for (int i = 0; i < 52; i++) {
+            deck.add(i);
+            cards[i] = (byte) i;
+        }
+
+        for (RngAlgorithm algorithm : RngAlgorithm.values()) {
+            List<Integer> expected = rngService.stream(algorithm, serverSeed, "client-seed", 3L).shuffle(deck);
+            byte[] shuffled = cards.clone();
+            rngService.stream(algorithm, serverSeed, "client-seed", 3L).shuffle(shuffled);
+
+            for (int i = 0; i < 52; i++) {
+                assertEquals(expected.get(i).intValue(), shuffled[i], algorithm + " position " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Rounds saved without an algorithm id should verify as V1")
+    void testAlgorithmFromId() {
+        assertEquals(RngAlgorithm.HMAC_SHA256_V1, RngAlgorithm.fromId(null));
+        assertEquals(RngAlgorithm.HMAC_SHA256_STREAM_V2, RngAlgorithm.fromId(2));
+        assertThrows(IllegalArgumentException.class, () -> RngAlgorithm.fromId(99));
+    }
+
+    @Test
+    @DisplayName("Single-outcome rounds should verify with the algorithm they were stamped with")
+    void testSingleOutcomeRoundsFollowConfiguredAlgorithm() {
+        String serverSeed = rngService.generateServerSeed();
+        ReflectionTestUtils.setField(rngService, "algorithm", RngAlgorithm.HMAC_SHA256_STREAM_V2);
+        RngAlgorithm stamped = RngAlgorithm.fromId(rngService.getAlgorithm().getId());
+        CoinFlipEngine coinFlip = new CoinFlipEngine(rngService);
+        CrashGameEngine crash = new CrashGameEngine(rngService);
+
+        int coinMismatches = 0;
+        for (long nonce = 0; nonce < 200; nonce++) {
+            String side = coinFlip.flip(serverSeed, "client-seed", nonce, BigDecimal.ONE,
+                CoinFlipEngine.CoinSide.HEADS).getResult();
+            assertTrue(coinFlip.verifyResult(stamped, serverSeed, "client-seed", nonce, side));
+            if (!coinFlip.verifyResult(RngAlgorithm.HMAC_SHA256_V1, serverSeed, "client-seed", nonce, side)) {
+                coinMismatches++;
+            }
+
+            BigDecimal crashPoint = crash.play(serverSeed, "client-seed", nonce, BigDecimal.ONE, null).getCrashPoint();
+            assertTrue(crash.verifyResult(stamped, serverSeed, "client-seed", nonce, crashPoint));
+        }
+        assertTrue(coinMismatches > 0, "V2 flips should not all match the V1 derivation");
+    }
 }
@@ -0,0 +1,64 @@
+package com.casino.game.simulation;
+
+import com.casino.game.dto.SimulationReport;
+import com.casino.game.dto.SimulationRequest;
+import com.casino.game.service.DiceGameEngine;
+import com.casino.game.service.RngService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Simulation Run Tests")
+class SimulationRunTest {
+
+    private static final long ROUNDS = 200_000;
+
+    private final DiceGameEngine diceGameEngine = new DiceGameEngine(new RngService());
+    private final RoundPlayer dice = (s, c, n) ->
+        diceGameEngine.roll(s, c, n, BigDecimal.ONE, 50, true).getPayout();
+
+    @Test
+    @DisplayName("Should report the same totals whatever the parallelism")
+    void testDeterministic() {
+        SimulationReport single = run(1, 1_000);
+        SimulationReport parallel = run(4, 7_000);
+
+        assertEquals("COMPLETED", single.getStatus());
+        assertEquals(ROUNDS, single.getRoundsCompleted());
+        assertEquals(single.getTotalWon(), parallel.getTotalWon());
+        assertEquals(single.getHistogram(), parallel.getHistogram());
+        assertEquals(single.getVolatility(), parallel.getVolatility(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should measure the dice RTP within its confidence interval")
+    void testDiceRtp() {
+        SimulationReport report = run(4, 10_000);
+
+        // Roll over 50 wins on 51-99, 49 of the 100 results, at 1.98x: RTP 0.9702
+        assertTrue(report.getRtpLower() < 0.9702 && 0.9702 < report.getRtpUpper(),
+            "RTP interval " + report.getRtpLower() + " - " + report.getRtpUpper());
+        assertEquals(0.49, report.getHitFrequency(), 0.01);
+        assertEquals(ROUNDS, report.getHistogram().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private SimulationReport run(int parallelism, int chunkSize) {
+        SimulationRequest request = SimulationRequest.builder()
+            .game(SimulatedGame.DICE)
+            .rounds(ROUNDS)
+            .serverSeed("simulation-test")
+            .build();
+        SimulationRun run = new SimulationRun("test", request, dice, chunkSize);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(run.task());
+        } finally {
+            pool.shutdown();
+        }
+        return run.report();
+    }
+}
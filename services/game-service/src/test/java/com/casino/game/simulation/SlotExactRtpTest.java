@@ -0,0 +1,99 @@
+package com.casino.game.simulation;
+
+import com.casino.game.dto.SimulationReport;
+import com.casino.game.dto.SimulationRequest;
+import com.casino.game.dto.SlotRtpReport;
+import com.casino.game.engine.SlotsGameEngine;
+import com.casino.game.entity.GameConfig;
+import com.casino.game.service.RngService;
+import com.casino.game.service.SlotGameEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Slot Exact RTP Tests")
+class SlotExactRtpTest {
+
+    private static final long ROUNDS = 300_000;
+
+    private final RngService rngService = new RngService();
+
+    @Test
+    @DisplayName("Should match the simulated return of the classic slots")
+    void testClassicSlots() {
+        SlotsGameEngine engine = new SlotsGameEngine(rngService);
+        SlotRtpReport exact = engine.calculateExactRtp();
+
+        SimulationReport simulated = simulate((s, c, n) -> engine.spin(s, c, n, BigDecimal.ONE).getTotalPayout());
+        assertWithinInterval(exact.getRtp(), simulated);
+        assertEquals(exact.getRtp(), exact.getSymbols().stream().mapToDouble(SlotRtpReport.SymbolContribution::getRtp).sum(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Should match the simulated return of a configured slot game")
+    void testConfiguredSlot() {
+        SlotGameEngine engine = new SlotGameEngine(rngService);
+        GameConfig game = GameConfig.builder()
+            .gameCode("test-slot")
+            .gameType(GameConfig.GameType.SLOTS)
+            .paylines(5)
+            .configJson("{\"symbolWeights\": {\"SEVEN\": 10, \"CHERRY\": 20, \"LEMON\": 30, \"STAR\": 10}}")
+            .build();
+        SlotRtpReport exact = engine.calculateExactRtp(game);
+
+        SimulationReport simulated = simulate((s, c, n) ->
+            engine.calculateTotalPayout(engine.spin(game, BigDecimal.ONE, s, c, n)));
+        assertWithinInterval(exact.getRtp(), simulated);
+        assertEquals(5, exact.getLines().size());
+        assertEquals(exact.getRtp(), exact.getLineRtp() + exact.getScatterRtp(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default weights when none of the configured weights is positive")
+    void testEmptySymbolWeights() {
+        SlotGameEngine engine = new SlotGameEngine(rngService);
+        double defaultRtp = engine.calculateExactRtp(slot("empty-default", null)).getRtp();
+
+        for (String weights : new String[]{"{}", "{\"SEVEN\": 0, \"CHERRY\": 0}"}) {
+            GameConfig game = slot("empty-" + weights.length(), "{\"symbolWeights\": " + weights + "}");
+            assertEquals(defaultRtp, engine.calculateExactRtp(game).getRtp(), 1e-12, weights);
+            assertNotNull(engine.spin(game, BigDecimal.ONE, "server", "client", 1L), weights);
+        }
+    }
+
+    private static GameConfig slot(String gameCode, String configJson) {
+        return GameConfig.builder()
+            .gameCode(gameCode)
+            .gameType(GameConfig.GameType.SLOTS)
+            .paylines(5)
+            .configJson(configJson)
+            .build();
+    }
+
+    private static void assertWithinInterval(double exact, SimulationReport simulated) {
+        // Four standard errors either side rather than the reported 95%, to keep the test stable
+        double margin = 2 * (simulated.getRtpUpper() - simulated.getRtp());
+        assertEquals(exact, simulated.getRtp(), margin,
+            "exact " + exact + ", simulated " + simulated.getRtp() + " +- " + margin);
+    }
+
+    private static SimulationReport simulate(RoundPlayer player) {
+        SimulationRequest request = SimulationRequest.builder()
+            .game(SimulatedGame.SLOTS)
+            .rounds(ROUNDS)
+            .serverSeed("exact-rtp-test")
+            .build();
+        SimulationRun run = new SimulationRun("test", request, player, 10_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.invoke(run.task());
+        } finally {
+            pool.shutdown();
+        }
+        return run.report();
+    }
+}